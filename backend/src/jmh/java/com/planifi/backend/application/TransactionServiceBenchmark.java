@@ -0,0 +1,101 @@
+package com.planifi.backend.application;
+
+import com.planifi.backend.domain.Tag;
+import com.planifi.backend.domain.Transaction;
+import com.planifi.backend.domain.TransactionTag;
+import com.planifi.backend.domain.TransactionTagId;
+import com.planifi.backend.infrastructure.persistence.TagRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionTagRepository;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Lives in the service package to reach the package-private helpers. The repositories are plain
+// proxies returning prebuilt rows, so attachTags measures the in-memory join and not a mock.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionServiceBenchmark {
+
+    @Param({"50", "200"})
+    private int transactions;
+
+    private TransactionService service;
+    private List<Transaction> page;
+    private List<String> rawTags;
+    private String[] requestValues;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        OffsetDateTime now = OffsetDateTime.of(2024, 6, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        UUID userId = UUID.randomUUID();
+        UUID accountId = UUID.randomUUID();
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tags.add(new Tag(UUID.randomUUID(), userId, "etiqueta-" + i, now));
+        }
+        page = new ArrayList<>(transactions);
+        List<TransactionTag> mappings = new ArrayList<>();
+        for (int i = 0; i < transactions; i++) {
+            Transaction transaction = new Transaction(UUID.randomUUID(), accountId,
+                    BigDecimal.valueOf(random.nextInt(500_000), 2), LocalDate.of(2024, 5, 1).plusDays(i % 30),
+                    "Compra " + i, now.minusMinutes(i));
+            page.add(transaction);
+            for (int j = 0; j < 3; j++) {
+                Tag tag = tags.get(random.nextInt(tags.size()));
+                mappings.add(new TransactionTag(new TransactionTagId(transaction.getId(), tag.getId()), now));
+            }
+        }
+        service = new TransactionService(null,
+                stub(TransactionTagRepository.class, "findByIdTransactionIdIn", mappings),
+                null, null,
+                stub(TagRepository.class, "findAllById", tags),
+                null, null, null, null);
+        rawTags = List.of(" Supermercado ", "hogar", "SUPERMERCADO", "", "Hogar ", "despensa", "  ");
+        requestValues = new String[] {userId.toString(), accountId.toString(), "1234.50", "2024-05-01",
+                "Compra en tienda de barrio", "despensa,hogar,supermercado"};
+    }
+
+    @Benchmark
+    public String hashRequest() {
+        return service.hashRequest("create-transaction", requestValues);
+    }
+
+    @Benchmark
+    public List<String> normalizeTags() {
+        return service.normalizeTags(rawTags);
+    }
+
+    @Benchmark
+    public List<TransactionResult> attachTags() {
+        return service.attachTags(page);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, String method, Object result) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, invoked, args) -> invoked.getName().equals(method) ? result : null);
+    }
+}
@@ -0,0 +1,56 @@
+package com.planifi.backend.bench;
+
+import com.planifi.backend.application.ApiKeyHasher;
+import com.planifi.backend.application.JwtService;
+import com.planifi.backend.application.JwtUserClaims;
+import com.planifi.backend.config.JwtProperties;
+import com.planifi.backend.domain.User;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Work done on every authenticated request before any controller runs.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CredentialBenchmark {
+
+    private JwtService jwtService;
+    private ApiKeyHasher apiKeyHasher;
+    private String token;
+    private String apiKey;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-with-at-least-32-bytes!!");
+        jwtService = new JwtService(properties);
+        token = jwtService.issueToken(new User(UUID.randomUUID(), "bench@planifi.app", "hash",
+                "Bench", OffsetDateTime.now())).token();
+        apiKeyHasher = new ApiKeyHasher();
+        apiKey = "pk_live_" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    @Benchmark
+    public JwtUserClaims parseToken() {
+        return jwtService.parseToken(token);
+    }
+
+    @Benchmark
+    public String hashApiKey() {
+        return apiKeyHasher.hash(apiKey);
+    }
+}
@@ -0,0 +1,85 @@
+package com.planifi.backend.bench;
+
+import com.planifi.backend.infrastructure.ratelimit.ClientKeyHasher;
+import com.planifi.backend.infrastructure.ratelimit.CompactRateLimitStore;
+import com.planifi.backend.infrastructure.ratelimit.RateLimitPolicy;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Credential-stuffing shape: many threads, each request from a random client key. Run with
+// -prof gc to compare allocation and GC time between the compact store and the Bucket4j map.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class RateLimitStoreBenchmark {
+
+    private static final int REQUESTS_PER_MINUTE = 60;
+    private static final int BURST = 20;
+
+    @Param({"compact", "bucket4j-map"})
+    private String store;
+
+    @Param({"10000", "1000000"})
+    private int clients;
+
+    private String[] addresses;
+    private ClientKeyHasher keyHasher;
+    private CompactRateLimitStore compactStore;
+    private RateLimitPolicy policy;
+    private Map<String, Bucket> buckets;
+
+    @Setup
+    public void setUp() {
+        addresses = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            addresses[i] = "10." + ((i >>> 16) & 0xff) + "." + ((i >>> 8) & 0xff) + "." + (i & 0xff);
+        }
+        keyHasher = new ClientKeyHasher();
+        compactStore = new CompactRateLimitStore(clients, Duration.ofMinutes(15), Duration.ofMinutes(1));
+        policy = RateLimitPolicy.perMinute(REQUESTS_PER_MINUTE, BURST);
+        buckets = new ConcurrentHashMap<>();
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        private final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Benchmark
+    public boolean tryConsume(Client client) {
+        String address = addresses[client.random.nextInt(addresses.length)];
+        if ("compact".equals(store)) {
+            return compactStore.tryConsume(keyHasher.hash('i', address), policy).allowed();
+        }
+        return buckets.computeIfAbsent("ip:" + address, ignored -> newBucket())
+                .tryConsumeAndReturnRemaining(1)
+                .isConsumed();
+    }
+
+    private static Bucket newBucket() {
+        Refill refill = Refill.greedy(REQUESTS_PER_MINUTE, Duration.ofMinutes(1));
+        return Bucket.builder().addLimit(Bandwidth.classic(REQUESTS_PER_MINUTE + BURST, refill)).build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.planifi.backend.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.config.ErrorResponseWriter;
+import com.planifi.backend.config.RateLimitingFilter;
+import com.planifi.backend.config.RouteClassifier;
+import com.planifi.backend.config.SecurityProperties;
+import com.planifi.backend.infrastructure.ratelimit.ClientKeyHasher;
+import com.planifi.backend.infrastructure.ratelimit.CompactRateLimitStore;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+// The whole sensitive-route path of the filter (classification, key hashing, bucket CAS and the
+// 429 body once a client runs dry) with eight threads. A handful of clients means every thread
+// fights over the same slots; many clients spreads them over the table.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RateLimitingFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    @Param({"16", "100000"})
+    private int clients;
+
+    private RateLimitingFilter filter;
+    private String[] addresses;
+
+    @Setup
+    public void setUp() {
+        SecurityProperties properties = new SecurityProperties();
+        ObjectMapper mapper = new ObjectMapper();
+        filter = new RateLimitingFilter(
+                properties,
+                new CompactRateLimitStore(clients, Duration.ofMinutes(15), Duration.ofMinutes(1)),
+                new ClientKeyHasher(),
+                RouteClassifier.builder().rateLimited(properties.getRateLimit().getSensitivePaths()).build(),
+                new ErrorResponseWriter(mapper, mapper, mapper),
+                Tracer.NOOP);
+        addresses = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            addresses[i] = "10." + ((i >>> 16) & 0xff) + "." + ((i >>> 8) & 0xff) + "." + (i & 0xff);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        private final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Benchmark
+    public int login(Client client) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setRemoteAddr(addresses[client.random.nextInt(addresses.length)]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NOOP_CHAIN);
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,117 @@
+package com.planifi.backend.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.planifi.backend.api.dto.TagResponse;
+import com.planifi.backend.api.dto.TransactionPageResponse;
+import com.planifi.backend.api.dto.TransactionResponse;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"50", "200"})
+    private int items;
+
+    private ObjectMapper mapper;
+    private TransactionPageResponse page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = mapper(format);
+        page = page(items);
+        encoded = mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serialize(Payload payload) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(page);
+        payload.bytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public TransactionPageResponse deserialize() throws IOException {
+        return mapper.readValue(encoded, TransactionPageResponse.class);
+    }
+
+    // Reported next to the timings as serialize:bytes. Assigned rather than accumulated, so with
+    // one thread it reads as the size of one payload.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long bytes;
+    }
+
+    // Same settings Spring Boot applies to the mappers behind the HTTP converters.
+    static ObjectMapper mapper(String format) {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filters(new SimpleFilterProvider().setFailOnUnknownId(false))
+                .build();
+    }
+
+    static TransactionPageResponse page(int size) {
+        Random random = new Random(42);
+        OffsetDateTime now = OffsetDateTime.of(2024, 6, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        List<TagResponse> tags = List.of(
+                new TagResponse(UUID.randomUUID(), "supermercado", now),
+                new TagResponse(UUID.randomUUID(), "hogar", now)
+        );
+        UUID accountId = UUID.randomUUID();
+        List<TransactionResponse> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            transactions.add(new TransactionResponse(
+                    UUID.randomUUID(),
+                    accountId,
+                    BigDecimal.valueOf(random.nextInt(500_000), 2),
+                    LocalDate.of(2024, 5, 1).plusDays(i % 30),
+                    "Compra " + i + " en tienda de barrio",
+                    now.minusMinutes(i),
+                    tags
+            ));
+        }
+        return new TransactionPageResponse(transactions, 0, size, size, 1);
+    }
+}
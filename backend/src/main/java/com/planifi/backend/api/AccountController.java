@@ -7,6 +7,7 @@ import com.planifi.backend.application.InvalidCredentialsException;
 import com.planifi.backend.config.AuthenticatedApiKey;
 import com.planifi.backend.config.AuthenticatedUser;
 import com.planifi.backend.domain.Account;
+import com.planifi.backend.domain.AccountView;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import java.util.List;
@@ -35,6 +36,8 @@ public class AccountController {
     }
 
     @GetMapping
+    @ConditionalGet
+    @SparseFields(AccountResponse.class)
     public List<AccountResponse> listAccounts(Authentication authentication) {
         UUID userId = requireUserId(authentication);
         return accountService.listActiveAccounts(userId).stream()
@@ -65,12 +68,16 @@ public class AccountController {
     }
 
     private AccountResponse toResponse(Account account) {
+        return toResponse(AccountView.of(account));
+    }
+
+    private AccountResponse toResponse(AccountView account) {
         return new AccountResponse(
-                account.getId(),
-                account.getName(),
-                account.getType(),
-                account.getCurrency(),
-                account.getCreatedAt()
+                account.id(),
+                account.name(),
+                account.type(),
+                account.currency(),
+                account.createdAt()
         );
     }
 
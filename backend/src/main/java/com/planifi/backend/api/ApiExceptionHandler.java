@@ -6,9 +6,12 @@ import com.planifi.backend.application.EmailAlreadyRegisteredException;
 import com.planifi.backend.application.IdempotencyKeyReuseException;
 import com.planifi.backend.application.InvalidDateRangeException;
 import com.planifi.backend.application.InvalidCredentialsException;
+import com.planifi.backend.application.PasswordHashingSaturatedException;
+import com.planifi.backend.application.ShardMigrationInProgressException;
 import com.planifi.backend.application.TagNotFoundException;
 import com.planifi.backend.api.dto.ErrorResponse;
 import io.micrometer.tracing.Tracer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -38,6 +41,21 @@ public class ApiExceptionHandler {
                 .body(new ErrorResponse("AUTH_INVALID_CREDENTIALS", ex.getMessage(), traceId()));
     }
 
+    @ExceptionHandler(PasswordHashingSaturatedException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingSaturated(PasswordHashingSaturatedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse("AUTH_BUSY", ex.getMessage(), traceId()));
+    }
+
+    @ExceptionHandler(ShardMigrationInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleShardMigrationInProgress(
+            ShardMigrationInProgressException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(new ErrorResponse("SHARD_MIGRATION_IN_PROGRESS", ex.getMessage(), traceId()));
+    }
+
     @ExceptionHandler(ApiKeyNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleApiKeyNotFound(ApiKeyNotFoundException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -68,6 +86,12 @@ public class ApiExceptionHandler {
                 .body(new ErrorResponse("TAG_NOT_FOUND", ex.getMessage(), traceId()));
     }
 
+    @ExceptionHandler(InvalidFieldsetException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFieldset(InvalidFieldsetException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("INVALID_FIELDS", ex.getMessage(), traceId()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex) {
         String message = ex.getBindingResult().getFieldErrors().stream()
@@ -0,0 +1,24 @@
+package com.planifi.backend.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    Scope value() default Scope.USER;
+
+    String accountParam() default "accountId";
+
+    // The response may come from the expense read model, which lags the commit that bumps the
+    // data version; such routes go without an ETag while the read model is enabled.
+    boolean readModel() default false;
+
+    enum Scope {
+        USER,
+        ACCOUNT
+    }
+}
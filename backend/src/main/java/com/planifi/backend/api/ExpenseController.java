@@ -3,6 +3,8 @@ package com.planifi.backend.api;
 import com.planifi.backend.api.dto.CreateExpenseRequest;
 import com.planifi.backend.api.dto.ExpenseResponse;
 import com.planifi.backend.api.dto.TagResponse;
+import com.planifi.backend.application.ExpenseQueryService;
+import com.planifi.backend.application.ExpenseSearchCriteria;
 import com.planifi.backend.application.ExpenseService;
 import com.planifi.backend.application.InvalidCredentialsException;
 import com.planifi.backend.application.TransactionResult;
@@ -10,16 +12,18 @@ import com.planifi.backend.application.TransactionService;
 import com.planifi.backend.config.AuthenticatedApiKey;
 import com.planifi.backend.config.AuthenticatedUser;
 import com.planifi.backend.domain.Expense;
+import com.planifi.backend.domain.ExpenseView;
 import com.planifi.backend.domain.Tag;
 import com.planifi.backend.domain.Transaction;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
-import java.util.ArrayList;
-import java.util.Comparator;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
@@ -28,6 +32,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -38,44 +43,44 @@ public class ExpenseController {
 
     private final TransactionService transactionService;
     private final ExpenseService expenseService;
+    private final ExpenseQueryService expenseQueryService;
 
-    public ExpenseController(TransactionService transactionService, ExpenseService expenseService) {
+    public ExpenseController(TransactionService transactionService,
+                             ExpenseService expenseService,
+                             ExpenseQueryService expenseQueryService) {
         this.transactionService = transactionService;
         this.expenseService = expenseService;
+        this.expenseQueryService = expenseQueryService;
     }
 
     @GetMapping
+    @ConditionalGet(readModel = true)
+    @SparseFields(ExpenseResponse.class)
     public List<ExpenseResponse> listExpenses(Authentication authentication) {
         UUID userId = requireUserId(authentication);
-        List<TransactionResult> transactions = transactionService.listTransactions(userId);
-        Set<UUID> transactionIds = transactions.stream()
-                .map(result -> result.transaction().getId())
-                .collect(Collectors.toSet());
-        List<Expense> legacyExpenses = expenseService.findAll().stream()
-                .filter(expense -> !transactionIds.contains(expense.getId()))
+        return expenseQueryService.listExpenses(userId, SparseFieldset.current().includes("tags"))
+                .stream()
+                .map(this::toResponse)
                 .toList();
+    }
 
-        List<ExpenseEntry> entries = new ArrayList<>();
-        for (TransactionResult result : transactions) {
-            Transaction transaction = result.transaction();
-            entries.add(new ExpenseEntry(
-                    toResponse(transaction, result.tags()),
-                    transaction.getOccurredOn(),
-                    transaction.getCreatedAt()
-            ));
-        }
-        for (Expense legacyExpense : legacyExpenses) {
-            entries.add(new ExpenseEntry(
-                    toResponse(legacyExpense),
-                    legacyExpense.getOccurredOn(),
-                    legacyExpense.getCreatedAt()
-            ));
-        }
-        return entries.stream()
-                .sorted(Comparator.comparing(ExpenseEntry::occurredOn)
-                        .thenComparing(ExpenseEntry::createdAt)
-                        .reversed())
-                .map(ExpenseEntry::response)
+    @GetMapping("/search")
+    @ConditionalGet(readModel = true)
+    @SparseFields(ExpenseResponse.class)
+    public List<ExpenseResponse> searchExpenses(
+            Authentication authentication,
+            @RequestParam(value = "q", required = false) @Size(max = 100) String text,
+            @RequestParam(value = "tag", required = false) @Size(max = 80) String tag,
+            @RequestParam(value = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "limit", defaultValue = "50") @Min(1) @Max(200) int limit) {
+        UUID userId = requireUserId(authentication);
+        return expenseQueryService.search(userId, new ExpenseSearchCriteria(text, tag, from, to, limit),
+                        SparseFieldset.current().includes("tags"))
+                .stream()
+                .map(this::toResponse)
                 .toList();
     }
 
@@ -122,15 +127,18 @@ public class ExpenseController {
         );
     }
 
-    private ExpenseResponse toResponse(Expense expense) {
+    private ExpenseResponse toResponse(ExpenseView expense) {
+        List<TagResponse> tagResponses = expense.tags().stream()
+                .map(tag -> new TagResponse(tag.id(), tag.name(), tag.createdAt()))
+                .toList();
         return new ExpenseResponse(
-                expense.getId(),
-                null,
-                expense.getAmount(),
-                expense.getOccurredOn(),
-                expense.getDescription(),
-                expense.getCreatedAt(),
-                List.of()
+                expense.id(),
+                expense.accountId(),
+                expense.amount(),
+                expense.occurredOn(),
+                expense.description(),
+                expense.createdAt(),
+                tagResponses
         );
     }
 
@@ -150,9 +158,4 @@ public class ExpenseController {
         }
         throw new InvalidCredentialsException();
     }
-
-    private record ExpenseEntry(ExpenseResponse response,
-                                java.time.LocalDate occurredOn,
-                                java.time.OffsetDateTime createdAt) {
-    }
 }
@@ -0,0 +1,10 @@
+package com.planifi.backend.api;
+
+import java.util.Collection;
+
+public class InvalidFieldsetException extends RuntimeException {
+
+    public InvalidFieldsetException(String field, Collection<String> allowed) {
+        super("Campo no soportado en fields: " + field + " (permitidos: " + String.join(", ", allowed) + ")");
+    }
+}
@@ -0,0 +1,67 @@
+package com.planifi.backend.api;
+
+import com.planifi.backend.infrastructure.openapi.OpenApiDocument;
+import io.swagger.v3.oas.annotations.Hidden;
+import java.util.Locale;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+// Serves the contract precomputed at build time. Clients revalidate with If-None-Match and get a
+// 304 while the build has not changed; gzip-capable clients get the stored gzip as is.
+@Hidden
+@RestController
+@ConditionalOnResource(resources = "classpath:" + OpenApiDocument.JSON_RESOURCE)
+public class OpenApiDocumentController {
+
+    private final OpenApiDocument document;
+
+    public OpenApiDocumentController(OpenApiDocument document) {
+        this.document = document;
+    }
+
+    @GetMapping(path = "/api/v1/openapi", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> openApi(
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (request.checkNotModified(document.etag(gzip))) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(document.gzip());
+        }
+        return response.body(document.json());
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equals("gzip") && !name.equals("x-gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].replace(" ", "");
+                if (parameter.startsWith("q=") && parameter.substring(2).matches("0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,50 @@
+package com.planifi.backend.api;
+
+import com.planifi.backend.api.dto.TransactionPageResponse;
+import java.util.Collection;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Records how many rows a listing returned so the API rate limiter can bill heavy reads.
+@RestControllerAdvice
+public class ResponseRowCountAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String ROWS_ATTRIBUTE = ResponseRowCountAdvice.class.getName() + ".rows";
+
+    @Override
+    public boolean supports(MethodParameter returnType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        int rows = rows(body instanceof MappingJacksonValue container ? container.getValue() : body);
+        if (rows > 0 && request instanceof ServletServerHttpRequest servletRequest) {
+            servletRequest.getServletRequest().setAttribute(ROWS_ATTRIBUTE, rows);
+        }
+        return body;
+    }
+
+    private static int rows(Object body) {
+        if (body instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (body instanceof TransactionPageResponse page) {
+            return page.items().size();
+        }
+        return 0;
+    }
+}
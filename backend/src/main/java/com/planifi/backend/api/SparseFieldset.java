@@ -0,0 +1,122 @@
+package com.planifi.backend.api;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+public final class SparseFieldset {
+
+    public static final String REQUEST_ATTRIBUTE = SparseFieldset.class.getName();
+
+    public static final SparseFieldset ALL = new SparseFieldset(null, Map.of());
+
+    private final String rootFilterId;
+    // filter id -> properties to keep; ids without an entry serialize everything.
+    private final Map<String, Set<String>> selections;
+
+    private SparseFieldset(String rootFilterId, Map<String, Set<String>> selections) {
+        this.rootFilterId = rootFilterId;
+        this.selections = selections;
+    }
+
+    public static SparseFieldset current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return ALL;
+        }
+        Object fieldset = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return fieldset instanceof SparseFieldset sparseFieldset ? sparseFieldset : ALL;
+    }
+
+    public static SparseFieldset parse(String fields, Class<? extends Record> type) {
+        if (!StringUtils.hasText(fields)) {
+            return ALL;
+        }
+        Map<String, Class<?>> components = components(type);
+        Set<String> topLevel = new LinkedHashSet<>();
+        Map<String, Set<String>> nested = new LinkedHashMap<>();
+        for (String raw : fields.split(",")) {
+            String field = raw.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            int dot = field.indexOf('.');
+            String name = dot < 0 ? field : field.substring(0, dot);
+            if (!components.containsKey(name)) {
+                throw new InvalidFieldsetException(field, components.keySet());
+            }
+            topLevel.add(name);
+            if (dot >= 0) {
+                Class<?> element = components.get(name);
+                String child = field.substring(dot + 1);
+                if (element == null || !components(element).containsKey(child)) {
+                    throw new InvalidFieldsetException(field, components.keySet());
+                }
+                nested.computeIfAbsent(filterId(element), ignored -> new LinkedHashSet<>()).add(child);
+            }
+        }
+        if (topLevel.isEmpty()) {
+            return ALL;
+        }
+        Map<String, Set<String>> selections = new LinkedHashMap<>(nested);
+        selections.put(filterId(type), topLevel);
+        return new SparseFieldset(filterId(type), selections);
+    }
+
+    public boolean isAll() {
+        return selections.isEmpty();
+    }
+
+    public boolean includes(String field) {
+        return isAll() || selections.get(rootFilterId).contains(field);
+    }
+
+    public FilterProvider filterProvider() {
+        SimpleFilterProvider provider = new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+        selections.forEach((id, properties) ->
+                provider.addFilter(id, SimpleBeanPropertyFilter.filterOutAllExcept(properties)));
+        return provider;
+    }
+
+    private static String filterId(Class<?> type) {
+        JsonFilter filter = type.getAnnotation(JsonFilter.class);
+        if (filter == null) {
+            throw new IllegalArgumentException(type.getName() + " is not annotated with @JsonFilter");
+        }
+        return filter.value();
+    }
+
+    // Component name -> element type for lists of filterable records, null for plain values.
+    private static Map<String, Class<?>> components(Class<?> type) {
+        RecordComponent[] recordComponents = type.getRecordComponents();
+        if (recordComponents == null) {
+            return Map.of();
+        }
+        Map<String, Class<?>> components = new LinkedHashMap<>();
+        Arrays.stream(recordComponents).forEach(component -> components.put(
+                component.getName(), filterableElement(component)));
+        return components;
+    }
+
+    private static Class<?> filterableElement(RecordComponent component) {
+        if (component.getGenericType() instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments().length == 1
+                && parameterized.getActualTypeArguments()[0] instanceof Class<?> element
+                && element.isAnnotationPresent(JsonFilter.class)) {
+            return element;
+        }
+        return null;
+    }
+}
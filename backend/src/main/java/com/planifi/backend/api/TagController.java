@@ -7,6 +7,7 @@ import com.planifi.backend.application.TagService;
 import com.planifi.backend.config.AuthenticatedApiKey;
 import com.planifi.backend.config.AuthenticatedUser;
 import com.planifi.backend.domain.Tag;
+import com.planifi.backend.domain.TagView;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import java.util.List;
@@ -34,6 +35,8 @@ public class TagController {
     }
 
     @GetMapping
+    @ConditionalGet
+    @SparseFields(TagResponse.class)
     public List<TagResponse> listTags(Authentication authentication) {
         UUID userId = requireUserId(authentication);
         return tagService.listTags(userId).stream()
@@ -52,7 +55,11 @@ public class TagController {
     }
 
     private TagResponse toResponse(Tag tag) {
-        return new TagResponse(tag.getId(), tag.getName(), tag.getCreatedAt());
+        return toResponse(TagView.of(tag));
+    }
+
+    private TagResponse toResponse(TagView tag) {
+        return new TagResponse(tag.id(), tag.name(), tag.createdAt());
     }
 
     private UUID requireUserId(Authentication authentication) {
@@ -10,8 +10,7 @@ import com.planifi.backend.application.TransactionResult;
 import com.planifi.backend.application.TransactionService;
 import com.planifi.backend.config.AuthenticatedApiKey;
 import com.planifi.backend.config.AuthenticatedUser;
-import com.planifi.backend.domain.Tag;
-import com.planifi.backend.domain.Transaction;
+import com.planifi.backend.domain.TransactionView;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -45,6 +44,8 @@ public class TransactionController {
     }
 
     @GetMapping
+    @ConditionalGet(ConditionalGet.Scope.ACCOUNT)
+    @SparseFields(TransactionResponse.class)
     public TransactionPageResponse listTransactions(
             Authentication authentication,
             @RequestParam("accountId") @NotNull UUID accountId,
@@ -56,7 +57,8 @@ public class TransactionController {
             @RequestParam(value = "size", defaultValue = "50") @Min(1) @Max(200) int size) {
         UUID userId = requireUserId(authentication);
         TransactionPageResult result = transactionService
-                .listTransactions(userId, accountId, from, to, page, size);
+                .listTransactions(userId, accountId, from, to, page, size,
+                        SparseFieldset.current().includes("tags"));
         return toPageResponse(result);
     }
 
@@ -78,12 +80,12 @@ public class TransactionController {
                 createMissingTags,
                 idempotencyKey
         );
-        return toResponse(result.transaction(), result.tags());
+        return toResponse(TransactionView.of(result.transaction(), result.tags()));
     }
 
     private TransactionPageResponse toPageResponse(TransactionPageResult result) {
         List<TransactionResponse> items = result.items().stream()
-                .map(entry -> toResponse(entry.transaction(), entry.tags()))
+                .map(this::toResponse)
                 .toList();
         return new TransactionPageResponse(
                 items,
@@ -94,17 +96,17 @@ public class TransactionController {
         );
     }
 
-    private TransactionResponse toResponse(Transaction transaction, List<Tag> tags) {
-        List<TagResponse> tagResponses = tags.stream()
-                .map(tag -> new TagResponse(tag.getId(), tag.getName(), tag.getCreatedAt()))
+    private TransactionResponse toResponse(TransactionView transaction) {
+        List<TagResponse> tagResponses = transaction.tags().stream()
+                .map(tag -> new TagResponse(tag.id(), tag.name(), tag.createdAt()))
                 .toList();
         return new TransactionResponse(
-                transaction.getId(),
-                transaction.getAccountId(),
-                transaction.getAmount(),
-                transaction.getOccurredOn(),
-                transaction.getDescription(),
-                transaction.getCreatedAt(),
+                transaction.id(),
+                transaction.accountId(),
+                transaction.amount(),
+                transaction.occurredOn(),
+                transaction.description(),
+                transaction.createdAt(),
                 tagResponses
         );
     }
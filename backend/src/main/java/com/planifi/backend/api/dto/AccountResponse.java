@@ -1,9 +1,11 @@
 package com.planifi.backend.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.planifi.backend.domain.AccountType;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+@JsonFilter("account")
 public record AccountResponse(
         UUID id,
         String name,
@@ -1,11 +1,13 @@
 package com.planifi.backend.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
+@JsonFilter("expense")
 public record ExpenseResponse(
         UUID id,
         UUID accountId,
@@ -1,8 +1,10 @@
 package com.planifi.backend.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+@JsonFilter("tag")
 public record TagResponse(
         UUID id,
         String name,
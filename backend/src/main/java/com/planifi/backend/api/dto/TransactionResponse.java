@@ -1,11 +1,13 @@
 package com.planifi.backend.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
+@JsonFilter("transaction")
 public record TransactionResponse(
         UUID id,
         UUID accountId,
@@ -0,0 +1,141 @@
+package com.planifi.backend.api.grpc;
+
+import com.planifi.backend.application.ApiKeyService;
+import com.planifi.backend.application.JwtService;
+import com.planifi.backend.config.SecurityProperties;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardContext;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardDirectory;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardPlacement;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.jsonwebtoken.JwtException;
+import java.util.Locale;
+import java.util.UUID;
+import org.springframework.util.StringUtils;
+
+public class GrpcAuthInterceptor implements ServerInterceptor {
+
+    public static final Context.Key<UUID> USER_ID = Context.key("planifi-user-id");
+    // Set only when the caller authenticated with an API key.
+    public static final Context.Key<UUID> API_KEY_ID = Context.key("planifi-api-key-id");
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final JwtService jwtService;
+    private final ApiKeyService apiKeyService;
+    private final SecurityProperties securityProperties;
+    private final ShardDirectory shardDirectory;
+    private final Metadata.Key<String> apiKeyHeader;
+
+    public GrpcAuthInterceptor(JwtService jwtService,
+                               ApiKeyService apiKeyService,
+                               SecurityProperties securityProperties,
+                               ShardDirectory shardDirectory) {
+        this.jwtService = jwtService;
+        this.apiKeyService = apiKeyService;
+        this.securityProperties = securityProperties;
+        this.shardDirectory = shardDirectory;
+        this.apiKeyHeader = Metadata.Key.of(
+                securityProperties.getApiKeyHeader().toLowerCase(Locale.ROOT),
+                Metadata.ASCII_STRING_MARSHALLER);
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call,
+                                                                 Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        Caller caller;
+        String shardId = null;
+        try {
+            caller = resolveCaller(headers);
+            if (shardDirectory != null) {
+                ShardPlacement placement = shardDirectory.resolve(caller.userId());
+                if (placement.isMigrating()) {
+                    throw GrpcErrors.error(Status.UNAVAILABLE, "SHARD_MIGRATION_IN_PROGRESS",
+                            "Los datos del usuario se están migrando. Intenta de nuevo en unos segundos.");
+                }
+                shardId = placement.shardId();
+            }
+        } catch (StatusRuntimeException ex) {
+            call.close(ex.getStatus(), ex.getTrailers() == null ? new Metadata() : ex.getTrailers());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        Context context = Context.current()
+                .withValue(USER_ID, caller.userId())
+                .withValue(API_KEY_ID, caller.apiKeyId());
+        ServerCall.Listener<ReqT> listener = Contexts.interceptCall(context, call, headers, next);
+        return shardId == null ? listener : new ShardBoundListener<>(listener, shardId);
+    }
+
+    // Mirrors the REST chain: a bearer token always wins, API keys only count with security enabled.
+    private Caller resolveCaller(Metadata headers) {
+        String authorization = headers.get(AUTHORIZATION);
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            try {
+                UUID userId = jwtService.parseToken(authorization.substring("Bearer ".length())).userId();
+                return new Caller(userId, null);
+            } catch (JwtException ex) {
+                throw GrpcErrors.error(Status.UNAUTHENTICATED, "AUTH_INVALID_TOKEN",
+                        "Token JWT inválido o expirado");
+            }
+        }
+        String apiKey = headers.get(apiKeyHeader);
+        if (securityProperties.isEnabled() && StringUtils.hasText(apiKey)) {
+            if (securityProperties.getStaticKeys() != null
+                    && securityProperties.getStaticKeys().contains(apiKey)) {
+                throw GrpcErrors.error(Status.UNAUTHENTICATED, "AUTH_INVALID_CREDENTIALS",
+                        "La API key no está asociada a un usuario");
+            }
+            Caller caller = apiKeyService.findActiveKey(apiKey)
+                    .map(key -> new Caller(key.getUserId(), key.getId()))
+                    .orElse(null);
+            if (caller != null) {
+                return caller;
+            }
+            throw GrpcErrors.error(Status.UNAUTHENTICATED, "AUTH_API_KEY_INVALID",
+                    "API key inválida o ausente");
+        }
+        throw GrpcErrors.error(Status.UNAUTHENTICATED, "AUTH_INVALID_CREDENTIALS",
+                "Credenciales inválidas o ausentes");
+    }
+
+    private record Caller(UUID userId, UUID apiKeyId) {
+    }
+
+    // Handlers run on gRPC executor threads, so the shard binding is applied around each callback.
+    private static final class ShardBoundListener<ReqT>
+            extends ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT> {
+
+        private final String shardId;
+
+        private ShardBoundListener(ServerCall.Listener<ReqT> delegate, String shardId) {
+            super(delegate);
+            this.shardId = shardId;
+        }
+
+        @Override
+        public void onMessage(ReqT message) {
+            ShardContext.runOn(shardId, () -> super.onMessage(message));
+        }
+
+        @Override
+        public void onHalfClose() {
+            ShardContext.runOn(shardId, super::onHalfClose);
+        }
+
+        @Override
+        public void onReady() {
+            ShardContext.runOn(shardId, super::onReady);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.planifi.backend.api.grpc;
+
+import com.planifi.backend.application.AccountNotFoundException;
+import com.planifi.backend.application.IdempotencyKeyReuseException;
+import com.planifi.backend.application.InvalidCredentialsException;
+import com.planifi.backend.application.InvalidDateRangeException;
+import com.planifi.backend.application.ShardMigrationInProgressException;
+import com.planifi.backend.application.TagNotFoundException;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import jakarta.validation.ConstraintViolation;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class GrpcErrors {
+
+    public static final Metadata.Key<String> ERROR_CODE =
+            Metadata.Key.of("planifi-error-code", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final Logger log = LoggerFactory.getLogger(GrpcErrors.class);
+
+    private GrpcErrors() {
+    }
+
+    public static StatusRuntimeException error(Status status, String errorCode, String message) {
+        Metadata trailers = new Metadata();
+        trailers.put(ERROR_CODE, errorCode);
+        return status.withDescription(message).asRuntimeException(trailers);
+    }
+
+    public static StatusRuntimeException invalidArgument(String message) {
+        return error(Status.INVALID_ARGUMENT, "VALIDATION_ERROR", message);
+    }
+
+    public static StatusRuntimeException invalidArgument(Set<? extends ConstraintViolation<?>> violations) {
+        String message = violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        return invalidArgument(message);
+    }
+
+    public static StatusRuntimeException translate(RuntimeException ex) {
+        if (ex instanceof StatusRuntimeException statusException) {
+            return statusException;
+        }
+        if (ex instanceof InvalidCredentialsException) {
+            return error(Status.UNAUTHENTICATED, "AUTH_INVALID_CREDENTIALS", ex.getMessage());
+        }
+        if (ex instanceof AccountNotFoundException) {
+            return error(Status.NOT_FOUND, "ACCOUNT_NOT_FOUND", ex.getMessage());
+        }
+        if (ex instanceof TagNotFoundException) {
+            return error(Status.NOT_FOUND, "TAG_NOT_FOUND", ex.getMessage());
+        }
+        if (ex instanceof IdempotencyKeyReuseException) {
+            return error(Status.ALREADY_EXISTS, "IDEMPOTENCY_KEY_REUSED", ex.getMessage());
+        }
+        if (ex instanceof InvalidDateRangeException) {
+            return error(Status.INVALID_ARGUMENT, "INVALID_DATE_RANGE", ex.getMessage());
+        }
+        if (ex instanceof ShardMigrationInProgressException) {
+            return error(Status.UNAVAILABLE, "SHARD_MIGRATION_IN_PROGRESS", ex.getMessage());
+        }
+        log.error("Error no controlado en llamada gRPC", ex);
+        return error(Status.INTERNAL, "INTERNAL_ERROR", "Error interno del servidor");
+    }
+}
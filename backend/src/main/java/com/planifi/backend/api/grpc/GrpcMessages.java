@@ -0,0 +1,97 @@
+package com.planifi.backend.api.grpc;
+
+import com.google.protobuf.Timestamp;
+import com.planifi.backend.api.grpc.v1.Transaction;
+import com.planifi.backend.domain.Tag;
+import com.planifi.backend.domain.TagView;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.util.StringUtils;
+
+final class GrpcMessages {
+
+    private GrpcMessages() {
+    }
+
+    static String requireIdempotencyKey(String value) {
+        if (!StringUtils.hasText(value)) {
+            throw GrpcErrors.invalidArgument("idempotency_key: must not be blank");
+        }
+        return value;
+    }
+
+    static UUID uuid(String field, String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException ex) {
+            throw GrpcErrors.invalidArgument(field + ": must be a valid UUID");
+        }
+    }
+
+    static BigDecimal decimal(String field, String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException ex) {
+            throw GrpcErrors.invalidArgument(field + ": must be a decimal number");
+        }
+    }
+
+    static LocalDate date(String field, String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw GrpcErrors.invalidArgument(field + ": must be an ISO-8601 date");
+        }
+    }
+
+    static <T> T required(String field, T value) {
+        if (value == null) {
+            throw GrpcErrors.invalidArgument(field + ": must not be null");
+        }
+        return value;
+    }
+
+    static com.planifi.backend.api.grpc.v1.Tag tag(Tag tag) {
+        return tag(TagView.of(tag));
+    }
+
+    static com.planifi.backend.api.grpc.v1.Tag tag(TagView tag) {
+        return com.planifi.backend.api.grpc.v1.Tag.newBuilder()
+                .setId(tag.id().toString())
+                .setName(tag.name())
+                .setCreatedAt(timestamp(tag.createdAt()))
+                .build();
+    }
+
+    static Transaction transaction(com.planifi.backend.domain.Transaction transaction, List<Tag> tags) {
+        Transaction.Builder builder = Transaction.newBuilder()
+                .setId(transaction.getId().toString())
+                .setAccountId(transaction.getAccountId().toString())
+                .setAmount(transaction.getAmount().toPlainString())
+                .setOccurredOn(transaction.getOccurredOn().toString())
+                .setDescription(transaction.getDescription())
+                .setCreatedAt(timestamp(transaction.getCreatedAt()));
+        tags.forEach(tag -> builder.addTags(tag(tag)));
+        return builder.build();
+    }
+
+    private static Timestamp timestamp(OffsetDateTime value) {
+        return Timestamp.newBuilder()
+                .setSeconds(value.toEpochSecond())
+                .setNanos(value.getNano())
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.planifi.backend.api.grpc;
+
+import com.planifi.backend.config.ApiRateLimitProperties;
+import com.planifi.backend.config.ApiRateLimitingFilter;
+import com.planifi.backend.config.RateLimitProperties;
+import com.planifi.backend.config.SecurityProperties;
+import com.planifi.backend.infrastructure.ratelimit.ClientKeyHasher;
+import com.planifi.backend.infrastructure.ratelimit.RateLimitDecision;
+import com.planifi.backend.infrastructure.ratelimit.RateLimitPolicy;
+import com.planifi.backend.infrastructure.ratelimit.RateLimitStore;
+import com.planifi.backend.observability.jfr.RateLimitRejectionEvent;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.UUID;
+
+// Registered inside GrpcAuthInterceptor, so the caller is known. Applies the tier limits of
+// ApiRateLimitingFilter to the same buckets: a client cannot dodge its REST budget over gRPC.
+public class GrpcRateLimitInterceptor implements ServerInterceptor {
+
+    public static final Metadata.Key<String> RETRY_AFTER =
+            Metadata.Key.of("retry-after", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final SecurityProperties securityProperties;
+    private final RateLimitStore rateLimitStore;
+    private final ClientKeyHasher keyHasher;
+
+    public GrpcRateLimitInterceptor(SecurityProperties securityProperties,
+                                    RateLimitStore rateLimitStore,
+                                    ClientKeyHasher keyHasher) {
+        this.securityProperties = securityProperties;
+        this.rateLimitStore = rateLimitStore;
+        this.keyHasher = keyHasher;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call,
+                                                                 Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        RateLimitProperties rateLimit = securityProperties.getRateLimit();
+        ApiRateLimitProperties api = rateLimit == null ? null : rateLimit.getApi();
+        if (!securityProperties.isEnabled()
+                || api == null
+                || !Boolean.TRUE.equals(rateLimit.isEnabled())
+                || !api.isEnabled()) {
+            return next.startCall(call, headers);
+        }
+
+        // Listings are server streams and writes are unary calls, which maps onto the REST lanes.
+        boolean read = call.getMethodDescriptor().getType() == MethodDescriptor.MethodType.SERVER_STREAMING;
+        UUID apiKeyId = GrpcAuthInterceptor.API_KEY_ID.get();
+        ApiRateLimitProperties.Tier tier = apiKeyId != null ? api.getApiKey() : api.getUser();
+        long key = apiKeyId != null
+                ? ApiRateLimitingFilter.apiKeyKey(keyHasher, apiKeyId, read)
+                : ApiRateLimitingFilter.userKey(keyHasher, GrpcAuthInterceptor.USER_ID.get(), read);
+        RateLimitDecision decision = rateLimitStore.tryConsume(key,
+                RateLimitPolicy.perMinute(tier.getRequestsPerMinute(), tier.getBurst()));
+        if (decision.allowed()) {
+            return next.startCall(call, headers);
+        }
+
+        RateLimitRejectionEvent.emit("grpc", call.getMethodDescriptor().getBareMethodName(),
+                decision.retryAfterMillis());
+        StatusRuntimeException error = GrpcErrors.error(Status.RESOURCE_EXHAUSTED, "RATE_LIMIT_EXCEEDED",
+                "Se excedió el límite de solicitudes. Intenta más tarde.");
+        error.getTrailers().put(RETRY_AFTER,
+                String.valueOf(Math.max(1, (decision.retryAfterMillis() + 999) / 1_000)));
+        call.close(error.getStatus(), error.getTrailers());
+        return new ServerCall.Listener<>() {
+        };
+    }
+}
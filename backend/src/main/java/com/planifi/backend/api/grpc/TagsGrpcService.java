@@ -0,0 +1,62 @@
+package com.planifi.backend.api.grpc;
+
+import com.planifi.backend.api.grpc.v1.CreateTagRequest;
+import com.planifi.backend.api.grpc.v1.ListTagsRequest;
+import com.planifi.backend.api.grpc.v1.Tag;
+import com.planifi.backend.api.grpc.v1.TagsGrpc;
+import com.planifi.backend.application.TagService;
+import com.planifi.backend.domain.TagView;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import java.util.UUID;
+
+public class TagsGrpcService extends TagsGrpc.TagsImplBase {
+
+    private final TagService tagService;
+    private final Validator validator;
+
+    public TagsGrpcService(TagService tagService, Validator validator) {
+        this.tagService = tagService;
+        this.validator = validator;
+    }
+
+    @Override
+    public void createTag(CreateTagRequest request, StreamObserver<Tag> responseObserver) {
+        try {
+            UUID userId = GrpcAuthInterceptor.USER_ID.get();
+            String idempotencyKey = GrpcMessages.requireIdempotencyKey(request.getIdempotencyKey());
+            com.planifi.backend.api.dto.CreateTagRequest body =
+                    new com.planifi.backend.api.dto.CreateTagRequest(request.getName());
+            Set<ConstraintViolation<com.planifi.backend.api.dto.CreateTagRequest>> violations =
+                    validator.validate(body);
+            if (!violations.isEmpty()) {
+                throw GrpcErrors.invalidArgument(violations);
+            }
+            responseObserver.onNext(GrpcMessages.tag(
+                    tagService.createTag(userId, body.name(), idempotencyKey)));
+            responseObserver.onCompleted();
+        } catch (RuntimeException ex) {
+            responseObserver.onError(GrpcErrors.translate(ex));
+        }
+    }
+
+    @Override
+    public void listTags(ListTagsRequest request, StreamObserver<Tag> responseObserver) {
+        ServerCallStreamObserver<Tag> observer = (ServerCallStreamObserver<Tag>) responseObserver;
+        try {
+            UUID userId = GrpcAuthInterceptor.USER_ID.get();
+            for (TagView tag : tagService.listTags(userId)) {
+                if (observer.isCancelled()) {
+                    return;
+                }
+                observer.onNext(GrpcMessages.tag(tag));
+            }
+            observer.onCompleted();
+        } catch (RuntimeException ex) {
+            observer.onError(GrpcErrors.translate(ex));
+        }
+    }
+}
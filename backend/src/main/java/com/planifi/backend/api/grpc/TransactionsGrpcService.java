@@ -0,0 +1,150 @@
+package com.planifi.backend.api.grpc;
+
+import com.planifi.backend.api.grpc.v1.CreateTransactionRequest;
+import com.planifi.backend.api.grpc.v1.ListTransactionsRequest;
+import com.planifi.backend.api.grpc.v1.Transaction;
+import com.planifi.backend.api.grpc.v1.TransactionsGrpc;
+import com.planifi.backend.application.TransactionCursor;
+import com.planifi.backend.application.TransactionResult;
+import com.planifi.backend.application.TransactionService;
+import com.planifi.backend.application.TransactionStreamPage;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+
+public class TransactionsGrpcService extends TransactionsGrpc.TransactionsImplBase {
+
+    private final TransactionService transactionService;
+    private final Validator validator;
+    private final int streamPageSize;
+
+    public TransactionsGrpcService(TransactionService transactionService,
+                                   Validator validator,
+                                   int streamPageSize) {
+        this.transactionService = transactionService;
+        this.validator = validator;
+        this.streamPageSize = streamPageSize;
+    }
+
+    @Override
+    public void createTransaction(CreateTransactionRequest request,
+                                  StreamObserver<Transaction> responseObserver) {
+        try {
+            UUID userId = GrpcAuthInterceptor.USER_ID.get();
+            String idempotencyKey = GrpcMessages.requireIdempotencyKey(request.getIdempotencyKey());
+            com.planifi.backend.api.dto.CreateTransactionRequest body =
+                    new com.planifi.backend.api.dto.CreateTransactionRequest(
+                            GrpcMessages.uuid("account_id", request.getAccountId()),
+                            GrpcMessages.decimal("amount", request.getAmount()),
+                            GrpcMessages.date("occurred_on", request.getOccurredOn()),
+                            request.getDescription(),
+                            request.getTagsList(),
+                            request.getCreateMissingTags()
+                    );
+            Set<ConstraintViolation<com.planifi.backend.api.dto.CreateTransactionRequest>> violations =
+                    validator.validate(body);
+            if (!violations.isEmpty()) {
+                throw GrpcErrors.invalidArgument(violations);
+            }
+            TransactionResult result = transactionService.createTransaction(
+                    userId,
+                    body.accountId(),
+                    body.amount(),
+                    body.occurredOn(),
+                    body.description(),
+                    body.tags(),
+                    body.createMissingTags(),
+                    idempotencyKey
+            );
+            responseObserver.onNext(GrpcMessages.transaction(result.transaction(), result.tags()));
+            responseObserver.onCompleted();
+        } catch (RuntimeException ex) {
+            responseObserver.onError(GrpcErrors.translate(ex));
+        }
+    }
+
+    // Streams the range page by page, fetching the next keyset page only while the client keeps
+    // up (isReady), so a slow reader holds at most one page in memory and no open transaction.
+    // Rows created after the call started stay out; the rest are sent exactly once.
+    @Override
+    public void listTransactions(ListTransactionsRequest request,
+                                 StreamObserver<Transaction> responseObserver) {
+        ServerCallStreamObserver<Transaction> observer =
+                (ServerCallStreamObserver<Transaction>) responseObserver;
+        try {
+            UUID userId = GrpcAuthInterceptor.USER_ID.get();
+            UUID accountId = GrpcMessages.required("account_id",
+                    GrpcMessages.uuid("account_id", request.getAccountId()));
+            LocalDate from = GrpcMessages.required("from", GrpcMessages.date("from", request.getFrom()));
+            LocalDate to = GrpcMessages.required("to", GrpcMessages.date("to", request.getTo()));
+            TransactionStream stream = new TransactionStream(observer, userId, accountId, from, to,
+                    TransactionCursor.start(to, OffsetDateTime.now()));
+            observer.setOnCancelHandler(stream::cancel);
+            observer.setOnReadyHandler(stream);
+        } catch (RuntimeException ex) {
+            observer.onError(GrpcErrors.translate(ex));
+        }
+    }
+
+    // gRPC serializes onReady callbacks for a call, so the state below is only touched by one
+    // thread at a time; cancellation may arrive from another.
+    private final class TransactionStream implements Runnable {
+
+        private final ServerCallStreamObserver<Transaction> observer;
+        private final UUID userId;
+        private final UUID accountId;
+        private final LocalDate from;
+        private final LocalDate to;
+        private TransactionCursor cursor;
+        private Iterator<TransactionResult> page = Collections.emptyIterator();
+        private volatile boolean done;
+
+        private TransactionStream(ServerCallStreamObserver<Transaction> observer,
+                                  UUID userId,
+                                  UUID accountId,
+                                  LocalDate from,
+                                  LocalDate to,
+                                  TransactionCursor cursor) {
+            this.observer = observer;
+            this.userId = userId;
+            this.accountId = accountId;
+            this.from = from;
+            this.to = to;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!done && observer.isReady()) {
+                    if (page.hasNext()) {
+                        TransactionResult item = page.next();
+                        observer.onNext(GrpcMessages.transaction(item.transaction(), item.tags()));
+                    } else if (cursor == null) {
+                        done = true;
+                        observer.onCompleted();
+                    } else {
+                        TransactionStreamPage next = transactionService.streamTransactions(userId,
+                                accountId, from, to, cursor, streamPageSize);
+                        page = next.items().iterator();
+                        cursor = next.next();
+                    }
+                }
+            } catch (RuntimeException ex) {
+                done = true;
+                observer.onError(GrpcErrors.translate(ex));
+            }
+        }
+
+        private void cancel() {
+            done = true;
+        }
+    }
+}
@@ -4,9 +4,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.planifi.backend.domain.Account;
 import com.planifi.backend.domain.AccountType;
+import com.planifi.backend.domain.AccountView;
 import com.planifi.backend.domain.IdempotencyKey;
+import com.planifi.backend.domain.OutboxEventType;
 import com.planifi.backend.infrastructure.persistence.AccountRepository;
 import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
+import com.planifi.backend.observability.jfr.IdempotencyEvent;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.OffsetDateTime;
@@ -21,41 +24,54 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class AccountService {
 
+    private static final String IDEMPOTENCY_SERVICE = "accounts";
+
     private static final String DEFAULT_CURRENCY = "MXN";
 
     private final AccountRepository accountRepository;
     private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final OutboxRecorder outboxRecorder;
+    private final DataVersionRegistry dataVersionRegistry;
     private final ObjectMapper objectMapper;
 
     public AccountService(AccountRepository accountRepository,
                           IdempotencyKeyRepository idempotencyKeyRepository,
+                          OutboxRecorder outboxRecorder,
+                          DataVersionRegistry dataVersionRegistry,
                           ObjectMapper objectMapper) {
         this.accountRepository = accountRepository;
         this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.outboxRecorder = outboxRecorder;
+        this.dataVersionRegistry = dataVersionRegistry;
         this.objectMapper = objectMapper;
     }
 
     @Transactional
     public Account createAccount(UUID userId, String name, AccountType type, String idempotencyKey) {
         String requestHash = hashRequest("create-account", userId.toString(), name, type.name());
-        return executeIdempotent(idempotencyKey, requestHash, Account.class,
+        return executeIdempotent(userId, idempotencyKey, requestHash, Account.class,
                 () -> createAccountInternal(userId, name, type));
     }
 
     @Transactional(readOnly = true)
-    public List<Account> listActiveAccounts(UUID userId) {
-        return accountRepository.findByUserIdAndDisabledAtIsNullOrderByCreatedAtAsc(userId);
+    @CoalescedRead
+    public List<AccountView> listActiveAccounts(UUID userId) {
+        return accountRepository.findByUserIdAndDisabledAtIsNullOrderByCreatedAtAsc(userId).stream()
+                .map(AccountView::of)
+                .toList();
     }
 
     @Transactional
     public void disableAccount(UUID userId, UUID accountId, String idempotencyKey) {
         String requestHash = hashRequest("disable-account", userId.toString(), accountId.toString());
-        executeIdempotent(idempotencyKey, requestHash, Void.class, () -> {
+        executeIdempotent(userId, idempotencyKey, requestHash, Void.class, () -> {
             Account account = accountRepository.findByIdAndUserId(accountId, userId)
                     .orElseThrow(() -> new AccountNotFoundException(accountId));
             if (account.getDisabledAt() == null) {
                 account.disable(OffsetDateTime.now());
                 accountRepository.save(account);
+                outboxRecorder.record(OutboxEventType.ACCOUNT_DISABLED, account.getId(), userId, account);
+                dataVersionRegistry.recordChange(userId, account.getId());
             }
             return null;
         });
@@ -71,10 +87,14 @@ public class AccountService {
                 OffsetDateTime.now(),
                 null
         );
-        return accountRepository.save(account);
+        Account saved = accountRepository.save(account);
+        outboxRecorder.record(OutboxEventType.ACCOUNT_CREATED, saved.getId(), userId, saved);
+        dataVersionRegistry.recordChange(userId, saved.getId());
+        return saved;
     }
 
-    private <T> T executeIdempotent(String idempotencyKey,
+    private <T> T executeIdempotent(UUID userId,
+                                    String idempotencyKey,
                                     String requestHash,
                                     Class<T> responseType,
                                     Supplier<T> action) {
@@ -84,8 +104,10 @@ public class AccountService {
         if (existing.isPresent()) {
             IdempotencyKey stored = existing.get();
             if (!stored.getRequestHash().equals(requestHash)) {
+                IdempotencyEvent.emit(IDEMPOTENCY_SERVICE, IdempotencyEvent.CONFLICT);
                 throw new IdempotencyKeyReuseException(idempotencyKey);
             }
+            IdempotencyEvent.emit(IDEMPOTENCY_SERVICE, IdempotencyEvent.REPLAY);
             if (responseType == Void.class || stored.getResponseBody() == null) {
                 return null;
             }
@@ -96,6 +118,7 @@ public class AccountService {
             }
         }
 
+        IdempotencyEvent.emit(IDEMPOTENCY_SERVICE, IdempotencyEvent.MISS);
         T response = action.get();
         String responseBody = null;
         if (responseType != Void.class) {
@@ -111,7 +134,8 @@ public class AccountService {
                 requestHash,
                 responseBody,
                 "COMPLETED",
-                OffsetDateTime.now());
+                OffsetDateTime.now(),
+                userId);
         idempotencyKeyRepository.save(record);
         return response;
     }
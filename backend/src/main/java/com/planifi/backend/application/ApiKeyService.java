@@ -7,6 +7,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.planifi.backend.domain.IdempotencyKey;
 import com.planifi.backend.infrastructure.persistence.ApiKeyRepository;
 import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
+import com.planifi.backend.observability.jfr.ApiKeyLookupEvent;
+import com.planifi.backend.observability.jfr.IdempotencyEvent;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.SecureRandom;
@@ -22,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class ApiKeyService {
 
+    private static final String IDEMPOTENCY_SERVICE = "api-keys";
     private static final int SECRET_BYTES = 32;
 
     private final ApiKeyRepository apiKeyRepository;
@@ -78,8 +81,15 @@ public class ApiKeyService {
     }
 
     public Optional<ApiKey> findActiveKey(String rawKey) {
+        ApiKeyLookupEvent event = new ApiKeyLookupEvent();
+        event.begin();
         String keyHash = apiKeyHasher.hash(rawKey);
-        return apiKeyRepository.findByKeyHashAndRevokedAtIsNull(keyHash);
+        Optional<ApiKey> found = apiKeyRepository.findByKeyHashAndRevokedAtIsNull(keyHash);
+        if (event.shouldCommit()) {
+            event.setFound(found.isPresent());
+            event.commit();
+        }
+        return found;
     }
 
     private ApiKeySecret rotateKeyInternal(UUID userId, UUID apiKeyId) {
@@ -124,8 +134,10 @@ public class ApiKeyService {
         if (existing.isPresent()) {
             IdempotencyKey stored = existing.get();
             if (!stored.getRequestHash().equals(requestHash)) {
+                IdempotencyEvent.emit(IDEMPOTENCY_SERVICE, IdempotencyEvent.CONFLICT);
                 throw new IdempotencyKeyReuseException(idempotencyKey);
             }
+            IdempotencyEvent.emit(IDEMPOTENCY_SERVICE, IdempotencyEvent.REPLAY);
             if (responseType == Void.class || stored.getResponseBody() == null) {
                 return null;
             }
@@ -136,6 +148,7 @@ public class ApiKeyService {
             }
         }
 
+        IdempotencyEvent.emit(IDEMPOTENCY_SERVICE, IdempotencyEvent.MISS);
         T response = action.get();
         String responseBody = null;
         if (responseType != Void.class) {
@@ -5,24 +5,28 @@ import com.planifi.backend.api.dto.LoginRequest;
 import com.planifi.backend.api.dto.RegisterUserRequest;
 import com.planifi.backend.domain.User;
 import com.planifi.backend.infrastructure.persistence.UserRepository;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardDirectory;
 import java.time.OffsetDateTime;
 import java.util.UUID;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 @Service
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtService jwtService;
+    private final ObjectProvider<ShardDirectory> shardDirectory;
 
     public AuthService(UserRepository userRepository,
-                       PasswordEncoder passwordEncoder,
-                       JwtService jwtService) {
+                       PasswordHasher passwordHasher,
+                       JwtService jwtService,
+                       ObjectProvider<ShardDirectory> shardDirectory) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.jwtService = jwtService;
+        this.shardDirectory = shardDirectory;
     }
 
     public AuthResponse register(RegisterUserRequest request) {
@@ -31,7 +35,7 @@ public class AuthService {
             throw new EmailAlreadyRegisteredException(normalizedEmail);
         }
 
-        String passwordHash = passwordEncoder.encode(request.password());
+        String passwordHash = passwordHasher.hash(request.password());
         User user = new User(
                 UUID.randomUUID(),
                 normalizedEmail,
@@ -40,6 +44,8 @@ public class AuthService {
                 OffsetDateTime.now()
         );
         User saved = userRepository.save(user);
+        // Placing the user here keeps the directory writes out of every later request.
+        shardDirectory.ifAvailable(directory -> directory.assign(saved.getId()));
         return toAuthResponse(saved);
     }
 
@@ -48,13 +54,27 @@ public class AuthService {
         User user = userRepository.findByEmail(normalizedEmail)
                 .orElseThrow(InvalidCredentialsException::new);
 
-        if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+        if (!passwordHasher.matches(request.password(), user.getPasswordHash())) {
             throw new InvalidCredentialsException();
         }
+        rehashIfOutdated(user, request.password());
 
         return toAuthResponse(user);
     }
 
+    // Raising the BCrypt cost only reaches existing users when they log in with the plain password.
+    private void rehashIfOutdated(User user, String rawPassword) {
+        if (!passwordHasher.needsRehash(user.getPasswordHash())) {
+            return;
+        }
+        try {
+            user.changePasswordHash(passwordHasher.hash(rawPassword));
+            userRepository.save(user);
+        } catch (PasswordHashingSaturatedException ex) {
+            // The login already succeeded; the upgrade waits for a quieter moment.
+        }
+    }
+
     private AuthResponse toAuthResponse(User user) {
         JwtToken token = jwtService.issueToken(user);
         return new AuthResponse(
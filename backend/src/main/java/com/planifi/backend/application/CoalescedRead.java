@@ -0,0 +1,16 @@
+package com.planifi.backend.application;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks a read-only service method whose concurrent identical calls may share one computation.
+// The first parameter must be the caller's user id: it scopes the key and its data version makes
+// a committed write start a fresh computation. Return immutable views (see ExpenseView), not
+// entities: callers that join a computation get a JSON copy made from the leader's result, so the
+// type must round-trip through the application ObjectMapper.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CoalescedRead {
+}
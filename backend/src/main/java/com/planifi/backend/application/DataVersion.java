@@ -0,0 +1,10 @@
+package com.planifi.backend.application;
+
+public record DataVersion(long version, long changedAtEpochMillis) {
+
+    public static final DataVersion INITIAL = new DataVersion(0, 0);
+
+    DataVersion next(long changedAtEpochMillis) {
+        return new DataVersion(version + 1, changedAtEpochMillis);
+    }
+}
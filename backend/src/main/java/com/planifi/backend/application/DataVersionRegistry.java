@@ -0,0 +1,52 @@
+package com.planifi.backend.application;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class DataVersionRegistry {
+
+    private final String bootId = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+    private final Map<UUID, DataVersion> userVersions = new ConcurrentHashMap<>();
+    private final Map<UUID, DataVersion> accountVersions = new ConcurrentHashMap<>();
+
+    public String bootId() {
+        return bootId;
+    }
+
+    public DataVersion userVersion(UUID userId) {
+        return userVersions.getOrDefault(userId, DataVersion.INITIAL);
+    }
+
+    public DataVersion accountVersion(UUID accountId) {
+        return accountVersions.getOrDefault(accountId, DataVersion.INITIAL);
+    }
+
+    public void recordChange(UUID userId, UUID accountId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(userId, accountId);
+                }
+            });
+            return;
+        }
+        bump(userId, accountId);
+    }
+
+    private void bump(UUID userId, UUID accountId) {
+        long now = System.currentTimeMillis();
+        userVersions.compute(userId, (id, current) ->
+                (current == null ? DataVersion.INITIAL : current).next(now));
+        if (accountId != null) {
+            accountVersions.compute(accountId, (id, current) ->
+                    (current == null ? DataVersion.INITIAL : current).next(now));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.planifi.backend.application;
+
+import com.planifi.backend.domain.ExpenseView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ExpenseQueryService {
+
+    private final TransactionService transactionService;
+    private final ExpenseService expenseService;
+    private final ObjectProvider<ExpenseReadModelService> readModel;
+    private final Counter readModelReads;
+    private final Counter databaseReads;
+
+    public ExpenseQueryService(TransactionService transactionService,
+                               ExpenseService expenseService,
+                               ObjectProvider<ExpenseReadModelService> readModel,
+                               MeterRegistry meterRegistry) {
+        this.transactionService = transactionService;
+        this.expenseService = expenseService;
+        this.readModel = readModel;
+        this.readModelReads = Counter.builder("planifi.expenses.reads")
+                .tag("source", "read-model")
+                .register(meterRegistry);
+        this.databaseReads = Counter.builder("planifi.expenses.reads")
+                .tag("source", "database")
+                .register(meterRegistry);
+    }
+
+    @CoalescedRead
+    public List<ExpenseView> listExpenses(UUID userId, boolean includeTags) {
+        ExpenseReadModelService service = readModel.getIfAvailable();
+        if (service != null) {
+            Optional<List<ExpenseView>> projected = service.listExpenses(userId);
+            if (projected.isPresent()) {
+                readModelReads.increment();
+                return projected.get();
+            }
+        }
+        databaseReads.increment();
+        List<ExpenseView> expenses = new ArrayList<>(transactionExpenses(userId, includeTags));
+        Set<UUID> expenseIds = expenses.stream()
+                .map(ExpenseView::id)
+                .collect(Collectors.toSet());
+        expenseService.findUnlinked().stream()
+                .filter(expense -> !expenseIds.contains(expense.getId()))
+                .map(ExpenseView::of)
+                .forEach(expenses::add);
+        expenses.sort(ExpenseView.NEWEST_FIRST);
+        return expenses;
+    }
+
+    @CoalescedRead
+    public List<ExpenseView> search(UUID userId, ExpenseSearchCriteria criteria, boolean includeTags) {
+        if (criteria.from() != null && criteria.to() != null && criteria.from().isAfter(criteria.to())) {
+            throw new InvalidDateRangeException(criteria.from(), criteria.to());
+        }
+        ExpenseReadModelService service = readModel.getIfAvailable();
+        if (service != null) {
+            Optional<List<ExpenseView>> projected = service.search(userId, criteria);
+            if (projected.isPresent()) {
+                readModelReads.increment();
+                return projected.get();
+            }
+        }
+        databaseReads.increment();
+        // Filtering by tag needs the tags even when the caller will not render them.
+        return transactionExpenses(userId, includeTags || criteria.tag() != null).stream()
+                .filter(criteria::matches)
+                .sorted(ExpenseView.NEWEST_FIRST)
+                .limit(criteria.limit())
+                .toList();
+    }
+
+    private List<ExpenseView> transactionExpenses(UUID userId, boolean includeTags) {
+        return transactionService.listTransactions(userId, includeTags).stream()
+                .map(result -> ExpenseView.of(result.transaction(), result.tags()))
+                .toList();
+    }
+}
@@ -0,0 +1,12 @@
+package com.planifi.backend.application;
+
+import java.time.Instant;
+
+public record ExpenseReadModelRebuild(
+        int users,
+        int expenses,
+        long removedDocuments,
+        Instant startedAt,
+        Instant completedAt
+) {
+}
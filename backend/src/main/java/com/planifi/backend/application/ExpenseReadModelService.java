@@ -0,0 +1,163 @@
+package com.planifi.backend.application;
+
+import com.planifi.backend.domain.ExpenseView;
+import com.planifi.backend.infrastructure.outbox.OutboxRelay;
+import com.planifi.backend.infrastructure.persistence.AccountRepository;
+import com.planifi.backend.infrastructure.persistence.OutboxEventRepository;
+import com.planifi.backend.infrastructure.persistence.routing.ReadConsistencyContext;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardContext;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardTopology;
+import com.planifi.backend.infrastructure.readmodel.ExpenseReadModelStore;
+import java.time.Clock;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ExpenseReadModelService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExpenseReadModelService.class);
+
+    private final ExpenseReadModelStore store;
+    private final TransactionService transactionService;
+    private final ExpenseService expenseService;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final AccountRepository accountRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelay outboxRelay;
+    private final ShardTopology shardTopology;
+    private final long maxLagMillis;
+    private final Clock clock;
+
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+    private volatile Instant lastRebuildAt;
+
+    public ExpenseReadModelService(ExpenseReadModelStore store,
+                                   TransactionService transactionService,
+                                   ExpenseService expenseService,
+                                   DataVersionRegistry dataVersionRegistry,
+                                   AccountRepository accountRepository,
+                                   OutboxEventRepository outboxEventRepository,
+                                   OutboxRelay outboxRelay,
+                                   ShardTopology shardTopology,
+                                   long maxLagMillis,
+                                   boolean initiallyReady,
+                                   Clock clock) {
+        this.store = store;
+        this.transactionService = transactionService;
+        this.expenseService = expenseService;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.accountRepository = accountRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxRelay = outboxRelay;
+        this.shardTopology = shardTopology;
+        this.maxLagMillis = maxLagMillis;
+        this.ready = initiallyReady;
+        this.clock = clock;
+    }
+
+    // The user's expenses plus the legacy rows of the user's shard, as the database listing does.
+    public Optional<List<ExpenseView>> listExpenses(UUID userId) {
+        if (!isFresh(userId)) {
+            return Optional.empty();
+        }
+        List<ExpenseView> expenses = new ArrayList<>(store.findByUser(userId));
+        expenses.addAll(store.findByUser(legacyOwner(ShardContext.current())));
+        expenses.sort(ExpenseView.NEWEST_FIRST);
+        return Optional.of(expenses);
+    }
+
+    public Optional<List<ExpenseView>> search(UUID userId, ExpenseSearchCriteria criteria) {
+        if (!isFresh(userId)) {
+            return Optional.empty();
+        }
+        return Optional.of(store.search(userId, criteria));
+    }
+
+    public synchronized ExpenseReadModelRebuild rebuild() {
+        rebuilding = true;
+        Instant startedAt = clock.instant();
+        AtomicInteger users = new AtomicInteger();
+        AtomicInteger expenses = new AtomicInteger();
+        try {
+            Runnable rebuildShard = () -> {
+                for (UUID userId : accountRepository.findActiveUserIds()) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new IllegalStateException("Reconstrucción del read model de gastos interrumpida");
+                    }
+                    List<ExpenseView> views = transactionService.listTransactions(userId).stream()
+                            .map(result -> ExpenseView.of(result.transaction(), result.tags()))
+                            .toList();
+                    store.upsert(userId, views, clock.instant());
+                    users.incrementAndGet();
+                    expenses.addAndGet(views.size());
+                }
+                // Expense rows without a transaction belong to no user and are listed to everyone
+                // on their shard; they only change through migrations, so the rebuild projects them.
+                List<ExpenseView> legacy = expenseService.findUnlinked().stream().map(ExpenseView::of).toList();
+                store.upsert(legacyOwner(ShardContext.current()), legacy, clock.instant());
+                expenses.addAndGet(legacy.size());
+            };
+            if (shardTopology == null) {
+                rebuildShard.run();
+            } else {
+                shardTopology.forEachShard(rebuildShard);
+            }
+            long removed = store.removeProjectedBefore(startedAt);
+            lastRebuildAt = clock.instant();
+            ready = true;
+            logger.info("Read model de gastos reconstruido: {} usuarios, {} gastos, {} obsoletos eliminados.",
+                    users.get(), expenses.get(), removed);
+            return new ExpenseReadModelRebuild(users.get(), expenses.get(), removed, startedAt, lastRebuildAt);
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding;
+    }
+
+    public Instant getLastRebuildAt() {
+        return lastRebuildAt;
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMillis;
+    }
+
+    public long currentLagMillis() {
+        return outboxRelay.currentLagMillis();
+    }
+
+    // Everything committed before the relay last found the outbox empty is projected, so the
+    // per-user lookup is only needed right after a write this caller must see (its own, through
+    // the data version, or another instance's, through the consistency token).
+    private boolean isFresh(UUID userId) {
+        if (!ready || rebuilding || outboxRelay.currentLagMillis() > maxLagMillis) {
+            return false;
+        }
+        long mustSee = Math.max(dataVersionRegistry.userVersion(userId).changedAtEpochMillis(),
+                Objects.requireNonNullElse(ReadConsistencyContext.minCommitEpochMillis(), 0L));
+        if (mustSee < outboxRelay.drainedAtEpochMillis()) {
+            return true;
+        }
+        return !outboxEventRepository.existsByUserIdAndPublishedAtIsNull(userId);
+    }
+
+    static UUID legacyOwner(String shardId) {
+        return UUID.nameUUIDFromBytes(("legacy-expenses:" + Objects.requireNonNullElse(shardId, ""))
+                .getBytes(StandardCharsets.UTF_8));
+    }
+}
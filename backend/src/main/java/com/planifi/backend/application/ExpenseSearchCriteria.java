@@ -0,0 +1,34 @@
+package com.planifi.backend.application;
+
+import com.planifi.backend.domain.ExpenseView;
+import java.time.LocalDate;
+import java.util.Locale;
+
+public record ExpenseSearchCriteria(
+        String text,
+        String tag,
+        LocalDate from,
+        LocalDate to,
+        int limit
+) {
+
+    public boolean matches(ExpenseView expense) {
+        if (from != null && expense.occurredOn().isBefore(from)) {
+            return false;
+        }
+        if (to != null && expense.occurredOn().isAfter(to)) {
+            return false;
+        }
+        if (text != null && !text.isBlank()) {
+            String description = expense.description() == null ? "" : expense.description();
+            if (!description.toLowerCase(Locale.ROOT).contains(text.trim().toLowerCase(Locale.ROOT))) {
+                return false;
+            }
+        }
+        if (tag != null && !tag.isBlank()) {
+            return expense.tags().stream()
+                    .anyMatch(candidate -> candidate.name().equalsIgnoreCase(tag.trim()));
+        }
+        return true;
+    }
+}
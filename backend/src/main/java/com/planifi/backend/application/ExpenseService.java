@@ -20,6 +20,10 @@ public class ExpenseService {
         return expenseRepository.findAll();
     }
 
+    public List<Expense> findUnlinked() {
+        return expenseRepository.findUnlinked();
+    }
+
     public Expense create(Expense expense) {
         UUID expenseId = expense.getId() == null ? UUID.randomUUID() : expense.getId();
         OffsetDateTime createdAt = expense.getCreatedAt() == null
@@ -0,0 +1,51 @@
+package com.planifi.backend.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.domain.OutboxEvent;
+import com.planifi.backend.domain.OutboxEventType;
+import com.planifi.backend.infrastructure.persistence.OutboxEventRepository;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardWriteFence;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class OutboxRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<ShardWriteFence> shardWriteFence;
+
+    public OutboxRecorder(OutboxEventRepository outboxEventRepository,
+                          ObjectMapper objectMapper,
+                          ObjectProvider<ShardWriteFence> shardWriteFence) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.shardWriteFence = shardWriteFence;
+    }
+
+    // Every shard-local write records an event in its own transaction, so this is also where a
+    // write is fenced against a user being moved to another shard.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OutboxEventType eventType, UUID aggregateId, UUID userId, Object payload) {
+        shardWriteFence.ifAvailable(fence -> fence.check(userId));
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize outbox event", ex);
+        }
+        outboxEventRepository.save(new OutboxEvent(
+                UUID.randomUUID(),
+                eventType,
+                aggregateId,
+                userId,
+                body,
+                OffsetDateTime.now()
+        ));
+    }
+}
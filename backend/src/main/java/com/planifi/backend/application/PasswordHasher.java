@@ -0,0 +1,113 @@
+package com.planifi.backend.application;
+
+import com.planifi.backend.observability.RequestPhase;
+import com.planifi.backend.observability.RequestTimings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// BCrypt is deliberately slow, so it runs on its own small pool instead of request threads: a
+// login storm can saturate these workers but never the threads serving the rest of the API.
+// When the queue is full callers fail fast rather than wait.
+public class PasswordHasher implements AutoCloseable {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejections;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          int threads,
+                          int queueCapacity,
+                          Duration maxWait,
+                          MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.maxWaitMillis = maxWait.toMillis();
+        this.hashTimer = Timer.builder("planifi.auth.password.duration")
+                .description("Tiempo de cálculo de hashes de contraseña")
+                .tag("operation", "hash")
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("planifi.auth.password.duration")
+                .description("Tiempo de cálculo de hashes de contraseña")
+                .tag("operation", "verify")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("planifi.auth.password.rejected")
+                .description("Operaciones de contraseña rechazadas por saturación")
+                .register(meterRegistry);
+        Gauge.builder("planifi.auth.password.queue", executor, pool -> pool.getQueue().size())
+                .description("Operaciones de contraseña en espera")
+                .register(meterRegistry);
+        Gauge.builder("planifi.auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Operaciones de contraseña en curso")
+                .register(meterRegistry);
+    }
+
+    public String hash(String rawPassword) {
+        return run(hashTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String passwordHash) {
+        return run(verifyTimer, () -> passwordEncoder.matches(rawPassword, passwordHash));
+    }
+
+    // True when the hash was made with a lower cost factor than the one configured now.
+    public boolean needsRehash(String passwordHash) {
+        return passwordEncoder.upgradeEncoding(passwordHash);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Timer timer, Callable<T> operation) {
+        long startedNanos = System.nanoTime();
+        Future<T> pending;
+        try {
+            pending = executor.submit(() -> timer.recordCallable(operation));
+        } catch (RejectedExecutionException ex) {
+            rejections.increment();
+            throw new PasswordHashingSaturatedException();
+        }
+        try {
+            return pending.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            pending.cancel(true);
+            throw new PasswordHashingSaturatedException();
+        } catch (TimeoutException ex) {
+            pending.cancel(true);
+            rejections.increment();
+            throw new PasswordHashingSaturatedException();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            // The request thread's view: queue wait plus hashing.
+            RequestTimings.record(RequestPhase.PASSWORD, startedNanos);
+        }
+    }
+}
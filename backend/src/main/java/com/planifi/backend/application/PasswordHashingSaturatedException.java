@@ -0,0 +1,8 @@
+package com.planifi.backend.application;
+
+public class PasswordHashingSaturatedException extends RuntimeException {
+
+    public PasswordHashingSaturatedException() {
+        super("El servicio de autenticación está saturado. Intenta más tarde.");
+    }
+}
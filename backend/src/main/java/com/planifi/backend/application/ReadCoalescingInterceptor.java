@@ -0,0 +1,86 @@
+package com.planifi.backend.application;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.infrastructure.coalescing.ReadCoalescer;
+import com.planifi.backend.infrastructure.persistence.routing.ReadConsistencyContext;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+// Collaborators are looked up lazily: advisors are created before regular beans, and resolving
+// them eagerly would keep them (and the meter registry) from being post-processed.
+public class ReadCoalescingInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<ReadCoalescer> coalescer;
+    private final ObjectProvider<DataVersionRegistry> dataVersionRegistry;
+    private final ObjectProvider<ObjectMapper> objectMapper;
+
+    public ReadCoalescingInterceptor(ObjectProvider<ReadCoalescer> coalescer,
+                                     ObjectProvider<DataVersionRegistry> dataVersionRegistry,
+                                     ObjectProvider<ObjectMapper> objectMapper) {
+        this.coalescer = coalescer;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object[] arguments = invocation.getArguments();
+        if (arguments.length == 0 || !(arguments[0] instanceof UUID userId)) {
+            return invocation.proceed();
+        }
+        // The caller's consistency requirement decides whether the replica may answer, so a read
+        // that must see a given commit (or the primary) never shares a result read without it.
+        Key key = new Key(invocation.getMethod(), Arrays.asList(arguments.clone()),
+                dataVersionRegistry.getObject().userVersion(userId).version(),
+                ReadConsistencyContext.minCommitEpochMillis(), ReadConsistencyContext.requiresPrimary());
+        // The leader keeps the object it computed. Callers that join it get their own copy through
+        // JSON, written only once somebody joins, so a read nobody shares costs no serialization.
+        ObjectMapper mapper = objectMapper.getObject();
+        boolean[] led = new boolean[1];
+        SharedResult shared = (SharedResult) coalescer.getObject().execute(key, () -> {
+            led[0] = true;
+            return new SharedResult(invocation.proceed(), mapper);
+        });
+        if (led[0]) {
+            return shared.value;
+        }
+        return shared.copy(mapper.constructType(invocation.getMethod().getGenericReturnType()));
+    }
+
+    private record Key(Method method, List<Object> arguments, long dataVersion, Long minCommitEpochMillis,
+                       boolean requirePrimary) {
+    }
+
+    // Joiners serialize the leader's value while its caller may still be using it, which is only
+    // safe because coalesced methods return immutable views, never entities.
+    private static final class SharedResult {
+        private final Object value;
+        private final ObjectMapper mapper;
+        private volatile byte[] json;
+
+        private SharedResult(Object value, ObjectMapper mapper) {
+            this.value = value;
+            this.mapper = mapper;
+        }
+
+        private Object copy(JavaType type) throws IOException {
+            byte[] bytes = json;
+            if (bytes == null) {
+                synchronized (this) {
+                    if (json == null) {
+                        json = mapper.writeValueAsBytes(value);
+                    }
+                    bytes = json;
+                }
+            }
+            return mapper.readValue(bytes, type);
+        }
+    }
+}
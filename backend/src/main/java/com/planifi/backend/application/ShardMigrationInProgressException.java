@@ -0,0 +1,8 @@
+package com.planifi.backend.application;
+
+public class ShardMigrationInProgressException extends RuntimeException {
+
+    public ShardMigrationInProgressException() {
+        super("Los datos del usuario se están migrando. Intenta de nuevo en unos segundos.");
+    }
+}
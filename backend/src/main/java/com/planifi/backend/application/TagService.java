@@ -3,9 +3,13 @@ package com.planifi.backend.application;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.planifi.backend.domain.IdempotencyKey;
+import com.planifi.backend.domain.OutboxEventType;
 import com.planifi.backend.domain.Tag;
+import com.planifi.backend.domain.TagView;
 import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
 import com.planifi.backend.infrastructure.persistence.TagRepository;
+import com.planifi.backend.observability.jfr.IdempotencyEvent;
+import com.planifi.backend.observability.jfr.TagResolutionEvent;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.OffsetDateTime;
@@ -25,28 +29,39 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class TagService {
 
+    private static final String IDEMPOTENCY_SERVICE = "tags";
+
     private final TagRepository tagRepository;
     private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final OutboxRecorder outboxRecorder;
+    private final DataVersionRegistry dataVersionRegistry;
     private final ObjectMapper objectMapper;
 
     public TagService(TagRepository tagRepository,
                       IdempotencyKeyRepository idempotencyKeyRepository,
+                      OutboxRecorder outboxRecorder,
+                      DataVersionRegistry dataVersionRegistry,
                       ObjectMapper objectMapper) {
         this.tagRepository = tagRepository;
         this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.outboxRecorder = outboxRecorder;
+        this.dataVersionRegistry = dataVersionRegistry;
         this.objectMapper = objectMapper;
     }
 
     @Transactional(readOnly = true)
-    public List<Tag> listTags(UUID userId) {
-        return tagRepository.findByUserIdOrderByNameAsc(userId);
+    @CoalescedRead
+    public List<TagView> listTags(UUID userId) {
+        return tagRepository.findByUserIdOrderByNameAsc(userId).stream()
+                .map(TagView::of)
+                .toList();
     }
 
     @Transactional
     public Tag createTag(UUID userId, String name, String idempotencyKey) {
         String normalized = normalize(name);
         String requestHash = hashRequest("create-tag", userId.toString(), normalized.toLowerCase(Locale.ROOT));
-        return executeIdempotent(idempotencyKey, requestHash, Tag.class,
+        return executeIdempotent(userId, idempotencyKey, requestHash, Tag.class,
                 () -> findOrCreate(userId, normalized));
     }
 
@@ -55,8 +70,11 @@ public class TagService {
         if (names == null || names.isEmpty()) {
             return List.of();
         }
+        TagResolutionEvent event = new TagResolutionEvent();
+        event.begin();
         Map<String, Tag> resolved = new LinkedHashMap<>();
         List<String> missing = new ArrayList<>();
+        int createdCount = 0;
         for (String name : names) {
             String normalized = normalize(name);
             String key = normalized.toLowerCase(Locale.ROOT);
@@ -80,12 +98,19 @@ public class TagService {
                         normalized,
                         OffsetDateTime.now()
                 ));
+                outboxRecorder.record(OutboxEventType.TAG_CREATED, created.getId(), userId, created);
+                dataVersionRegistry.recordChange(userId, null);
+                createdCount++;
             } catch (DataIntegrityViolationException ex) {
                 created = tagRepository.findByUserIdAndNameIgnoreCase(userId, normalized)
                         .orElseThrow(() -> ex);
             }
             resolved.put(key, created);
         }
+        if (event.shouldCommit()) {
+            event.set(String.join(",", resolved.keySet()), names.size(), createdCount);
+            event.commit();
+        }
         if (!missing.isEmpty()) {
             throw new TagNotFoundException(missing);
         }
@@ -96,12 +121,15 @@ public class TagService {
         return tagRepository.findByUserIdAndNameIgnoreCase(userId, normalizedName)
                 .orElseGet(() -> {
                     try {
-                        return tagRepository.saveAndFlush(new Tag(
+                        Tag created = tagRepository.saveAndFlush(new Tag(
                                 UUID.randomUUID(),
                                 userId,
                                 normalizedName,
                                 OffsetDateTime.now()
                         ));
+                        outboxRecorder.record(OutboxEventType.TAG_CREATED, created.getId(), userId, created);
+                        dataVersionRegistry.recordChange(userId, null);
+                        return created;
                     } catch (DataIntegrityViolationException ex) {
                         return tagRepository.findByUserIdAndNameIgnoreCase(userId, normalizedName)
                                 .orElseThrow(() -> ex);
@@ -113,7 +141,8 @@ public class TagService {
         return name == null ? "" : name.trim();
     }
 
-    private <T> T executeIdempotent(String idempotencyKey,
+    private <T> T executeIdempotent(UUID userId,
+                                    String idempotencyKey,
                                     String requestHash,
                                     Class<T> responseType,
                                     Supplier<T> action) {
@@ -123,8 +152,10 @@ public class TagService {
         if (existing.isPresent()) {
             IdempotencyKey stored = existing.get();
             if (!stored.getRequestHash().equals(requestHash)) {
+                IdempotencyEvent.emit(IDEMPOTENCY_SERVICE, IdempotencyEvent.CONFLICT);
                 throw new IdempotencyKeyReuseException(idempotencyKey);
             }
+            IdempotencyEvent.emit(IDEMPOTENCY_SERVICE, IdempotencyEvent.REPLAY);
             if (stored.getResponseBody() == null) {
                 return null;
             }
@@ -135,6 +166,7 @@ public class TagService {
             }
         }
 
+        IdempotencyEvent.emit(IDEMPOTENCY_SERVICE, IdempotencyEvent.MISS);
         T response = action.get();
         String responseBody = null;
         if (responseType != Void.class) {
@@ -150,7 +182,8 @@ public class TagService {
                 requestHash,
                 responseBody,
                 "COMPLETED",
-                OffsetDateTime.now());
+                OffsetDateTime.now(),
+                userId);
         idempotencyKeyRepository.save(record);
         return response;
     }
@@ -0,0 +1,25 @@
+package com.planifi.backend.application;
+
+import com.planifi.backend.domain.Transaction;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Position in a streamed listing: the sort key of the last row sent, plus the creation cut-off
+// fixed when the stream started. Rows written after that cut-off stay out of the stream.
+public record TransactionCursor(
+        OffsetDateTime asOf,
+        LocalDate occurredOn,
+        OffsetDateTime createdAt,
+        UUID id
+) {
+
+    public static TransactionCursor start(LocalDate to, OffsetDateTime asOf) {
+        return new TransactionCursor(asOf, to.plusDays(1), asOf, new UUID(0, 0));
+    }
+
+    public TransactionCursor after(Transaction transaction) {
+        return new TransactionCursor(asOf, transaction.getOccurredOn(), transaction.getCreatedAt(),
+                transaction.getId());
+    }
+}
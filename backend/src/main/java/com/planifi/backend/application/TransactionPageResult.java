@@ -1,9 +1,10 @@
 package com.planifi.backend.application;
 
+import com.planifi.backend.domain.TransactionView;
 import java.util.List;
 
 public record TransactionPageResult(
-        List<TransactionResult> items,
+        List<TransactionView> items,
         int page,
         int size,
         long totalItems,
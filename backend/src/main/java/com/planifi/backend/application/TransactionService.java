@@ -3,15 +3,18 @@ package com.planifi.backend.application;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.planifi.backend.domain.IdempotencyKey;
+import com.planifi.backend.domain.OutboxEventType;
 import com.planifi.backend.domain.Tag;
 import com.planifi.backend.domain.Transaction;
 import com.planifi.backend.domain.TransactionTag;
 import com.planifi.backend.domain.TransactionTagId;
+import com.planifi.backend.domain.TransactionView;
 import com.planifi.backend.infrastructure.persistence.AccountRepository;
 import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
 import com.planifi.backend.infrastructure.persistence.TagRepository;
 import com.planifi.backend.infrastructure.persistence.TransactionRepository;
 import com.planifi.backend.infrastructure.persistence.TransactionTagRepository;
+import com.planifi.backend.observability.jfr.IdempotencyEvent;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -39,12 +42,16 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class TransactionService {
 
+    private static final String IDEMPOTENCY_SERVICE = "transactions";
+
     private final TransactionRepository transactionRepository;
     private final TransactionTagRepository transactionTagRepository;
     private final AccountRepository accountRepository;
     private final TagService tagService;
     private final TagRepository tagRepository;
     private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final OutboxRecorder outboxRecorder;
+    private final DataVersionRegistry dataVersionRegistry;
     private final ObjectMapper objectMapper;
 
     public TransactionService(TransactionRepository transactionRepository,
@@ -53,6 +60,8 @@ public class TransactionService {
                               TagService tagService,
                               TagRepository tagRepository,
                               IdempotencyKeyRepository idempotencyKeyRepository,
+                              OutboxRecorder outboxRecorder,
+                              DataVersionRegistry dataVersionRegistry,
                               ObjectMapper objectMapper) {
         this.transactionRepository = transactionRepository;
         this.transactionTagRepository = transactionTagRepository;
@@ -60,11 +69,18 @@ public class TransactionService {
         this.tagService = tagService;
         this.tagRepository = tagRepository;
         this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.outboxRecorder = outboxRecorder;
+        this.dataVersionRegistry = dataVersionRegistry;
         this.objectMapper = objectMapper;
     }
 
     @Transactional(readOnly = true)
     public List<TransactionResult> listTransactions(UUID userId) {
+        return listTransactions(userId, true);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TransactionResult> listTransactions(UUID userId, boolean includeTags) {
         List<UUID> accountIds = accountRepository
                 .findByUserIdAndDisabledAtIsNullOrderByCreatedAtAsc(userId)
                 .stream()
@@ -78,16 +94,18 @@ public class TransactionService {
         if (transactions.isEmpty()) {
             return List.of();
         }
-        return attachTags(transactions);
+        return includeTags ? attachTags(transactions) : withoutTags(transactions);
     }
 
     @Transactional(readOnly = true)
+    @CoalescedRead
     public TransactionPageResult listTransactions(UUID userId,
                                                   UUID accountId,
                                                   LocalDate from,
                                                   LocalDate to,
                                                   int page,
-                                                  int size) {
+                                                  int size,
+                                                  boolean includeTags) {
         ensureAccountExists(userId, accountId);
         validateDateRange(from, to);
         PageRequest pageRequest = PageRequest.of(
@@ -97,9 +115,13 @@ public class TransactionService {
         );
         Page<Transaction> transactions = transactionRepository
                 .findByAccountIdAndOccurredOnBetween(accountId, from, to, pageRequest);
-        List<TransactionResult> results = attachTags(transactions.getContent());
+        List<TransactionResult> results = includeTags
+                ? attachTags(transactions.getContent())
+                : withoutTags(transactions.getContent());
         return new TransactionPageResult(
-                results,
+                results.stream()
+                        .map(result -> TransactionView.of(result.transaction(), result.tags()))
+                        .toList(),
                 transactions.getNumber(),
                 transactions.getSize(),
                 transactions.getTotalElements(),
@@ -107,6 +129,26 @@ public class TransactionService {
         );
     }
 
+    // Keyset page for streamed listings. Sort keys never change once written, so resuming from the
+    // cursor neither skips nor repeats rows, however many pages run in between.
+    @Transactional(readOnly = true)
+    public TransactionStreamPage streamTransactions(UUID userId,
+                                                    UUID accountId,
+                                                    LocalDate from,
+                                                    LocalDate to,
+                                                    TransactionCursor cursor,
+                                                    int size) {
+        ensureAccountExists(userId, accountId);
+        validateDateRange(from, to);
+        List<Transaction> transactions = transactionRepository.findPageAfter(accountId, from, to,
+                cursor.asOf(), cursor.occurredOn(), cursor.createdAt(), cursor.id(),
+                PageRequest.of(0, size));
+        TransactionCursor next = transactions.size() < size
+                ? null
+                : cursor.after(transactions.get(transactions.size() - 1));
+        return new TransactionStreamPage(attachTags(transactions), next);
+    }
+
     @Transactional
     public TransactionResult createTransaction(UUID userId,
                                                UUID accountId,
@@ -128,7 +170,7 @@ public class TransactionService {
                 hashTagsComponent(normalizedTags)
         );
 
-        return executeIdempotent(idempotencyKey, requestHash, TransactionResult.class, () -> {
+        return executeIdempotent(userId, idempotencyKey, requestHash, TransactionResult.class, () -> {
             ensureAccountExists(userId, accountId);
             List<Tag> resolvedTags = tagService.resolveTags(userId, normalizedTags, createMissingTags);
             Transaction transaction = transactionRepository.save(new Transaction(
@@ -149,7 +191,10 @@ public class TransactionService {
                 transactionTagRepository.saveAll(mappings);
             }
 
-            return new TransactionResult(transaction, resolvedTags);
+            TransactionResult result = new TransactionResult(transaction, resolvedTags);
+            outboxRecorder.record(OutboxEventType.TRANSACTION_CREATED, transaction.getId(), userId, result);
+            dataVersionRegistry.recordChange(userId, accountId);
+            return result;
         });
     }
 
@@ -159,7 +204,7 @@ public class TransactionService {
         }
     }
 
-    private List<String> normalizeTags(List<String> tags) {
+    List<String> normalizeTags(List<String> tags) {
         if (tags == null) {
             return List.of();
         }
@@ -181,7 +226,13 @@ public class TransactionService {
         }
     }
 
-    private List<TransactionResult> attachTags(List<Transaction> transactions) {
+    private List<TransactionResult> withoutTags(List<Transaction> transactions) {
+        return transactions.stream()
+                .map(transaction -> new TransactionResult(transaction, List.of()))
+                .toList();
+    }
+
+    List<TransactionResult> attachTags(List<Transaction> transactions) {
         if (transactions.isEmpty()) {
             return List.of();
         }
@@ -225,7 +276,8 @@ public class TransactionService {
                 .orElse("");
     }
 
-    private <T> T executeIdempotent(String idempotencyKey,
+    private <T> T executeIdempotent(UUID userId,
+                                    String idempotencyKey,
                                     String requestHash,
                                     Class<T> responseType,
                                     Supplier<T> action) {
@@ -235,8 +287,10 @@ public class TransactionService {
         if (existing.isPresent()) {
             IdempotencyKey stored = existing.get();
             if (!stored.getRequestHash().equals(requestHash)) {
+                IdempotencyEvent.emit(IDEMPOTENCY_SERVICE, IdempotencyEvent.CONFLICT);
                 throw new IdempotencyKeyReuseException(idempotencyKey);
             }
+            IdempotencyEvent.emit(IDEMPOTENCY_SERVICE, IdempotencyEvent.REPLAY);
             if (responseType == Void.class) {
                 return null;
             }
@@ -250,6 +304,7 @@ public class TransactionService {
             }
         }
 
+        IdempotencyEvent.emit(IDEMPOTENCY_SERVICE, IdempotencyEvent.MISS);
         T response = action.get();
         String responseBody = null;
         if (responseType != Void.class) {
@@ -265,7 +320,8 @@ public class TransactionService {
                 requestHash,
                 responseBody,
                 "COMPLETED",
-                OffsetDateTime.now());
+                OffsetDateTime.now(),
+                userId);
         idempotencyKeyRepository.save(record);
         return response;
     }
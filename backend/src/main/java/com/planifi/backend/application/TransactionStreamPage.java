@@ -0,0 +1,9 @@
+package com.planifi.backend.application;
+
+import java.util.List;
+
+public record TransactionStreamPage(
+        List<TransactionResult> items,
+        TransactionCursor next
+) {
+}
@@ -2,6 +2,7 @@ package com.planifi.backend.application.bootstrap;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.application.PasswordHasher;
 import com.planifi.backend.domain.Account;
 import com.planifi.backend.domain.AccountType;
 import com.planifi.backend.domain.SystemSetting;
@@ -13,7 +14,6 @@ import java.time.OffsetDateTime;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,18 +23,18 @@ public class BootstrapService {
     private final UserRepository userRepository;
     private final AccountRepository accountRepository;
     private final SystemSettingRepository systemSettingRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final ObjectMapper objectMapper;
 
     public BootstrapService(UserRepository userRepository,
                             AccountRepository accountRepository,
                             SystemSettingRepository systemSettingRepository,
-                            PasswordEncoder passwordEncoder,
+                            PasswordHasher passwordHasher,
                             ObjectMapper objectMapper) {
         this.userRepository = userRepository;
         this.accountRepository = accountRepository;
         this.systemSettingRepository = systemSettingRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.objectMapper = objectMapper;
     }
 
@@ -95,7 +95,7 @@ public class BootstrapService {
             return config.passwordHash();
         }
         if (config.password() != null && !config.password().isBlank()) {
-            return passwordEncoder.encode(config.password());
+            return passwordHasher.hash(config.password());
         }
         if (existing != null) {
             return existing.getPasswordHash();
@@ -1,8 +1,9 @@
 package com.planifi.backend.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.planifi.backend.api.dto.ErrorResponse;
 import com.planifi.backend.application.ApiKeyService;
+import com.planifi.backend.observability.RequestPhase;
+import com.planifi.backend.observability.RequestTimings;
 import io.micrometer.tracing.Tracer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,7 +11,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,16 +22,19 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
 
     private final SecurityProperties securityProperties;
     private final ApiKeyService apiKeyService;
-    private final ObjectMapper objectMapper;
+    private final RouteClassifier routeClassifier;
+    private final ErrorResponseWriter errorResponseWriter;
     private final Tracer tracer;
 
     public ApiKeyAuthenticationFilter(SecurityProperties securityProperties,
                                       ApiKeyService apiKeyService,
-                                      ObjectMapper objectMapper,
+                                      RouteClassifier routeClassifier,
+                                      ErrorResponseWriter errorResponseWriter,
                                       Tracer tracer) {
         this.securityProperties = securityProperties;
         this.apiKeyService = apiKeyService;
-        this.objectMapper = objectMapper;
+        this.routeClassifier = routeClassifier;
+        this.errorResponseWriter = errorResponseWriter;
         this.tracer = tracer;
     }
 
@@ -41,12 +44,25 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
+        // Checked before the enabled flag: operator endpoints require the role either way.
+        String operatorKey = request.getHeader(securityProperties.getApiKeyHeader());
+        if (isOperatorKey(operatorKey)) {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    new AuthenticatedApiKey(null, null),
+                    operatorKey,
+                    AuthorityUtils.createAuthorityList("ROLE_" + SecurityConfig.OPERATOR_ROLE)
+            ));
+            filterChain.doFilter(request, response);
+            return;
+        }
         if (!securityProperties.isEnabled()) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        if (shouldBypass(request) || hasAuthentication() || hasBearerToken(request)) {
+        if (routeClassifier.classify(request).authBypass()
+                || hasAuthentication()
+                || hasBearerToken(request)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -54,9 +70,16 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
         String headerName = securityProperties.getApiKeyHeader();
         String apiKey = request.getHeader(headerName);
 
-        AuthenticatedApiKey principal = resolvePrincipal(apiKey);
+        long startedNanos = System.nanoTime();
+        AuthenticatedApiKey principal;
+        try {
+            principal = resolvePrincipal(apiKey);
+        } finally {
+            RequestTimings.record(RequestPhase.AUTH, startedNanos);
+        }
         if (principal == null) {
-            writeUnauthorized(response, "AUTH_API_KEY_INVALID", "API key inválida o ausente");
+            writeUnauthorized(request, response, "AUTH_API_KEY_INVALID",
+                    "API key inválida o ausente");
             return;
         }
         Authentication authentication = new UsernamePasswordAuthenticationToken(
@@ -68,18 +91,6 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private boolean shouldBypass(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        return path.startsWith("/actuator/health")
-                || path.startsWith("/actuator/info")
-                || path.startsWith("/api/v1/auth")
-                || path.startsWith("/api/v1/api-keys")
-                || path.startsWith("/swagger-ui")
-                || path.equals("/swagger-ui.html")
-                || path.startsWith("/v3/api-docs")
-                || path.startsWith("/api/v1/openapi");
-    }
-
     private boolean hasAuthentication() {
         return SecurityContextHolder.getContext().getAuthentication() != null;
     }
@@ -97,6 +108,14 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
                 .anyMatch(candidate -> candidate.equals(apiKey));
     }
 
+    private boolean isOperatorKey(String apiKey) {
+        if (!StringUtils.hasText(apiKey) || securityProperties.getOperatorKeys() == null) {
+            return false;
+        }
+        return securityProperties.getOperatorKeys().stream()
+                .anyMatch(candidate -> candidate.equals(apiKey));
+    }
+
     private AuthenticatedApiKey resolvePrincipal(String apiKey) {
         if (!StringUtils.hasText(apiKey)) {
             return null;
@@ -109,13 +128,14 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
                 .orElse(null);
     }
 
-    private void writeUnauthorized(HttpServletResponse response, String errorCode, String message)
-            throws IOException {
+    private void writeUnauthorized(HttpServletRequest request,
+                                   HttpServletResponse response,
+                                   String errorCode,
+                                   String message) throws IOException {
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
         response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "ApiKey");
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         ErrorResponse error = new ErrorResponse(errorCode, message, traceId());
-        response.getWriter().write(objectMapper.writeValueAsString(error));
+        errorResponseWriter.write(request, response, error);
     }
 
     private String traceId() {
@@ -0,0 +1,203 @@
+package com.planifi.backend.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ApiRateLimitProperties {
+
+    public enum DynamicCost {
+        NONE,
+        LATENCY,
+        ROWS
+    }
+
+    private boolean enabled = true;
+
+    private List<String> paths = List.of("/api/v1/**");
+
+    @Valid
+    private List<RouteCost> routes = new ArrayList<>();
+
+    @NotNull
+    private DynamicCost dynamicCost = DynamicCost.ROWS;
+
+    @Min(1)
+    private long latencyMillisPerToken = 100;
+
+    @Min(1)
+    private int rowsPerToken = 50;
+
+    @Min(0)
+    private int maxDynamicCost = 100;
+
+    @Valid
+    private Tier anonymous = new Tier(60, 30);
+
+    @Valid
+    private Tier user = new Tier(600, 300);
+
+    @Valid
+    private Tier apiKey = new Tier(1200, 600);
+
+    @Valid
+    private Tier staticKey = new Tier(6000, 3000);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+
+    public List<RouteCost> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<RouteCost> routes) {
+        this.routes = routes;
+    }
+
+    public DynamicCost getDynamicCost() {
+        return dynamicCost;
+    }
+
+    public void setDynamicCost(DynamicCost dynamicCost) {
+        this.dynamicCost = dynamicCost;
+    }
+
+    public long getLatencyMillisPerToken() {
+        return latencyMillisPerToken;
+    }
+
+    public void setLatencyMillisPerToken(long latencyMillisPerToken) {
+        this.latencyMillisPerToken = latencyMillisPerToken;
+    }
+
+    public int getRowsPerToken() {
+        return rowsPerToken;
+    }
+
+    public void setRowsPerToken(int rowsPerToken) {
+        this.rowsPerToken = rowsPerToken;
+    }
+
+    public int getMaxDynamicCost() {
+        return maxDynamicCost;
+    }
+
+    public void setMaxDynamicCost(int maxDynamicCost) {
+        this.maxDynamicCost = maxDynamicCost;
+    }
+
+    public Tier getAnonymous() {
+        return anonymous;
+    }
+
+    public void setAnonymous(Tier anonymous) {
+        this.anonymous = anonymous;
+    }
+
+    public Tier getUser() {
+        return user;
+    }
+
+    public void setUser(Tier user) {
+        this.user = user;
+    }
+
+    public Tier getApiKey() {
+        return apiKey;
+    }
+
+    public void setApiKey(Tier apiKey) {
+        this.apiKey = apiKey;
+    }
+
+    public Tier getStaticKey() {
+        return staticKey;
+    }
+
+    public void setStaticKey(Tier staticKey) {
+        this.staticKey = staticKey;
+    }
+
+    public static class Tier {
+        @Min(1)
+        private int requestsPerMinute;
+
+        @Min(0)
+        private int burst;
+
+        public Tier() {
+        }
+
+        public Tier(int requestsPerMinute, int burst) {
+            this.requestsPerMinute = requestsPerMinute;
+            this.burst = burst;
+        }
+
+        public int getRequestsPerMinute() {
+            return requestsPerMinute;
+        }
+
+        public void setRequestsPerMinute(int requestsPerMinute) {
+            this.requestsPerMinute = requestsPerMinute;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+
+    public static class RouteCost {
+        @NotBlank
+        private String pattern;
+
+        @Min(1)
+        private int cost = 1;
+
+        @NotBlank
+        private String costClass = "weighted";
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public int getCost() {
+            return cost;
+        }
+
+        public void setCost(int cost) {
+            this.cost = cost;
+        }
+
+        public String getCostClass() {
+            return costClass;
+        }
+
+        public void setCostClass(String costClass) {
+            this.costClass = costClass;
+        }
+    }
+}
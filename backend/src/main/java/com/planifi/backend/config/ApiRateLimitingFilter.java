@@ -0,0 +1,239 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.api.ResponseRowCountAdvice;
+import com.planifi.backend.api.dto.ErrorResponse;
+import com.planifi.backend.infrastructure.ratelimit.ClientKeyHasher;
+import com.planifi.backend.infrastructure.ratelimit.RateLimitDecision;
+import com.planifi.backend.infrastructure.ratelimit.RateLimitPolicy;
+import com.planifi.backend.infrastructure.ratelimit.RateLimitStore;
+import com.planifi.backend.observability.RequestPhase;
+import com.planifi.backend.observability.RequestTimings;
+import com.planifi.backend.observability.jfr.RateLimitRejectionEvent;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.UUID;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// Runs after authentication so the bucket belongs to the caller, not to its IP. Reads and writes
+// draw from separate buckets: a client syncing heavy listings cannot spend the budget its writes need.
+public class ApiRateLimitingFilter extends OncePerRequestFilter {
+
+    private static final String RATE_LIMIT_ERROR = "RATE_LIMIT_EXCEEDED";
+
+    private final SecurityProperties securityProperties;
+    private final RateLimitStore rateLimitStore;
+    private final ClientKeyHasher keyHasher;
+    private final RouteClassifier routeClassifier;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final Tracer tracer;
+
+    public ApiRateLimitingFilter(SecurityProperties securityProperties,
+                                 RateLimitStore rateLimitStore,
+                                 ClientKeyHasher keyHasher,
+                                 RouteClassifier routeClassifier,
+                                 ErrorResponseWriter errorResponseWriter,
+                                 Tracer tracer) {
+        this.securityProperties = securityProperties;
+        this.rateLimitStore = rateLimitStore;
+        this.keyHasher = keyHasher;
+        this.routeClassifier = routeClassifier;
+        this.errorResponseWriter = errorResponseWriter;
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        RateLimitProperties rateLimit = securityProperties.getRateLimit();
+        ApiRateLimitProperties api = rateLimit == null ? null : rateLimit.getApi();
+        if (!securityProperties.isEnabled()
+                || api == null
+                || !Boolean.TRUE.equals(rateLimit.isEnabled())
+                || !api.isEnabled()
+                || "OPTIONS".equalsIgnoreCase(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        RouteClassification classification = routeClassifier.classify(request);
+        // Sensitive routes already went through the pre-authentication limiter.
+        if (!classification.apiLimited() || classification.rateLimited()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Caller caller = resolveCaller(request);
+        ApiRateLimitProperties.Tier tier = caller.tier().limits(api);
+        RateLimitPolicy policy = RateLimitPolicy.perMinute(tier.getRequestsPerMinute(), tier.getBurst());
+        long key = caller.key(keyHasher, isRead(request));
+        long decidingNanos = System.nanoTime();
+        RateLimitDecision decision;
+        try {
+            decision = rateLimitStore.tryConsume(key, policy, classification.cost());
+        } finally {
+            RequestTimings.record(RequestPhase.RATE_LIMIT, decidingNanos);
+        }
+        if (!decision.allowed()) {
+            reject(request, response, decision);
+            return;
+        }
+
+        response.setHeader("X-RateLimit-Limit",
+                String.valueOf(tier.getRequestsPerMinute() + tier.getBurst()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
+        long startedNanos = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int extra = dynamicCost(api, request, System.nanoTime() - startedNanos);
+            if (extra > 0) {
+                rateLimitStore.charge(key, policy, extra);
+            }
+        }
+    }
+
+    // gRPC calls draw from the same buckets as the caller's REST requests (see GrpcRateLimitInterceptor).
+    public static long userKey(ClientKeyHasher keyHasher, UUID userId, boolean read) {
+        return Caller.user(userId).key(keyHasher, read);
+    }
+
+    public static long apiKeyKey(ClientKeyHasher keyHasher, UUID apiKeyId, boolean read) {
+        return Caller.apiKey(apiKeyId).key(keyHasher, read);
+    }
+
+    // Billed after the fact, once the real price of the request is known; it only slows down the
+    // caller's next requests.
+    private static int dynamicCost(ApiRateLimitProperties api, HttpServletRequest request, long elapsedNanos) {
+        long extra = switch (api.getDynamicCost()) {
+            case NONE -> 0;
+            case LATENCY -> elapsedNanos / 1_000_000 / api.getLatencyMillisPerToken();
+            case ROWS -> request.getAttribute(ResponseRowCountAdvice.ROWS_ATTRIBUTE) instanceof Integer rows
+                    ? rows / api.getRowsPerToken()
+                    : 0;
+        };
+        return (int) Math.min(extra, api.getMaxDynamicCost());
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return "GET".equalsIgnoreCase(request.getMethod()) || "HEAD".equalsIgnoreCase(request.getMethod());
+    }
+
+    private Caller resolveCaller(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            Object principal = authentication.getPrincipal();
+            if (principal instanceof AuthenticatedApiKey apiKey) {
+                if (apiKey.apiKeyId() != null) {
+                    return Caller.apiKey(apiKey.apiKeyId());
+                }
+                if (authentication.getCredentials() instanceof String staticKey
+                        && StringUtils.hasText(staticKey)) {
+                    return Caller.staticKey(staticKey);
+                }
+            } else if (principal instanceof AuthenticatedUser user && user.userId() != null) {
+                return Caller.user(user.userId());
+            }
+        }
+        return Caller.anonymous(clientIp(request));
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (securityProperties.getRateLimit().isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwardedFor)) {
+                int comma = forwardedFor.indexOf(',');
+                String ip = (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+                if (StringUtils.hasText(ip)) {
+                    return ip;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request,
+                        HttpServletResponse response,
+                        RateLimitDecision decision) throws IOException {
+        RateLimitRejectionEvent.emit("api", routeClassifier.classify(request).costClass(),
+                decision.retryAfterMillis());
+        long retryAfterSeconds = Math.max(1, (decision.retryAfterMillis() + 999) / 1_000);
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        ErrorResponse error = new ErrorResponse(
+                RATE_LIMIT_ERROR,
+                "Se excedió el límite de solicitudes. Intenta más tarde.",
+                traceId()
+        );
+        errorResponseWriter.write(request, response, error);
+    }
+
+    private String traceId() {
+        if (tracer.currentSpan() == null) {
+            return "unknown";
+        }
+        return tracer.currentSpan().context().traceId();
+    }
+
+    // Each tier and lane hashes with its own kind, so buckets never collide with each other or
+    // with the sensitive-route limiter ('k', 'u', 'i').
+    private enum Tier {
+        STATIC_KEY('S', 's'),
+        API_KEY('A', 'a'),
+        USER('U', 'w'),
+        ANONYMOUS('N', 'n');
+
+        private final char readKind;
+        private final char writeKind;
+
+        Tier(char readKind, char writeKind) {
+            this.readKind = readKind;
+            this.writeKind = writeKind;
+        }
+
+        private ApiRateLimitProperties.Tier limits(ApiRateLimitProperties api) {
+            return switch (this) {
+                case STATIC_KEY -> api.getStaticKey();
+                case API_KEY -> api.getApiKey();
+                case USER -> api.getUser();
+                case ANONYMOUS -> api.getAnonymous();
+            };
+        }
+    }
+
+    private record Caller(Tier tier, String value, UUID id) {
+
+        private static Caller staticKey(String key) {
+            return new Caller(Tier.STATIC_KEY, key, null);
+        }
+
+        private static Caller apiKey(UUID id) {
+            return new Caller(Tier.API_KEY, null, id);
+        }
+
+        private static Caller user(UUID id) {
+            return new Caller(Tier.USER, null, id);
+        }
+
+        private static Caller anonymous(String ip) {
+            return new Caller(Tier.ANONYMOUS, ip, null);
+        }
+
+        private long key(ClientKeyHasher hasher, boolean read) {
+            char kind = read ? tier.readKind : tier.writeKind;
+            if (id != null) {
+                return hasher.hash(kind, id.getMostSignificantBits(), id.getLeastSignificantBits());
+            }
+            return hasher.hash(kind, value == null ? "" : value);
+        }
+    }
+}
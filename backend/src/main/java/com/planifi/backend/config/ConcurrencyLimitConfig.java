@@ -0,0 +1,56 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import com.planifi.backend.infrastructure.concurrency.RequestPriority;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(prefix = "planifi.concurrency-limit", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties,
+                                                                 MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter(
+                properties.getInitialLimit(),
+                properties.getMinLimit(),
+                properties.getMaxLimit(),
+                properties.getRttTolerance(),
+                properties.getSmoothing(),
+                properties.getLongWindowSamples(),
+                Duration.ofMillis(properties.getWindowMillis()).toNanos(),
+                properties.getMinWindowSamples(),
+                Map.of(
+                        RequestPriority.WRITE, 1.0,
+                        RequestPriority.READ, properties.getReadShare(),
+                        RequestPriority.SHEDDABLE, properties.getSheddableShare()
+                ),
+                meterRegistry,
+                System::nanoTime
+        );
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(
+            AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter,
+            RouteClassifier routeClassifier,
+            ErrorResponseWriter errorResponseWriter,
+            Tracer tracer,
+            ConcurrencyLimitProperties properties) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(adaptiveConcurrencyLimiter, routeClassifier, errorResponseWriter,
+                        tracer, properties.getRetryAfterSeconds()));
+        // After the observation filter, so shed requests still carry a trace id.
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
@@ -0,0 +1,89 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.api.dto.ErrorResponse;
+import com.planifi.backend.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import com.planifi.backend.infrastructure.concurrency.RequestPriority;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// Registered ahead of the security chain: a shed request costs a classification and a short
+// error body, never a database connection.
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String OVERLOADED_ERROR = "SERVICE_OVERLOADED";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final RouteClassifier routeClassifier;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final Tracer tracer;
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter,
+                                  RouteClassifier routeClassifier,
+                                  ErrorResponseWriter errorResponseWriter,
+                                  Tracer tracer,
+                                  long retryAfterSeconds) {
+        this.limiter = limiter;
+        this.routeClassifier = routeClassifier;
+        this.errorResponseWriter = errorResponseWriter;
+        this.tracer = tracer;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!limiter.tryAcquire(priority(request))) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            ErrorResponse error = new ErrorResponse(
+                    OVERLOADED_ERROR,
+                    "El servicio está saturado. Intenta más tarde.",
+                    traceId()
+            );
+            errorResponseWriter.write(request, response, error);
+            return;
+        }
+
+        long startedNanos = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = false;
+        } finally {
+            limiter.release(System.nanoTime() - startedNanos, dropped);
+        }
+    }
+
+    private RequestPriority priority(HttpServletRequest request) {
+        RouteClassification classification = routeClassifier.classify(request);
+        if (classification.probe()) {
+            return RequestPriority.CRITICAL;
+        }
+        String method = request.getMethod();
+        if (!"GET".equalsIgnoreCase(method) && !"HEAD".equalsIgnoreCase(method)) {
+            return RequestPriority.WRITE;
+        }
+        return classification.sheddable() ? RequestPriority.SHEDDABLE : RequestPriority.READ;
+    }
+
+    private String traceId() {
+        if (tracer.currentSpan() == null) {
+            return "unknown";
+        }
+        return tracer.currentSpan().context().traceId();
+    }
+}
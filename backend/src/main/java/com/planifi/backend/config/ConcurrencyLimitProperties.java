@@ -0,0 +1,171 @@
+package com.planifi.backend.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "planifi.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    @Min(1)
+    private int initialLimit = 20;
+
+    @Min(1)
+    private int minLimit = 4;
+
+    @Min(1)
+    private int maxLimit = 200;
+
+    @DecimalMin("1.0")
+    private double rttTolerance = 1.5;
+
+    @DecimalMin("0.01")
+    @DecimalMax("1.0")
+    private double smoothing = 0.2;
+
+    @Min(1)
+    private int longWindowSamples = 600;
+
+    @Min(1)
+    private long windowMillis = 250;
+
+    @Min(1)
+    private int minWindowSamples = 10;
+
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double readShare = 0.9;
+
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double sheddableShare = 0.5;
+
+    @Min(1)
+    private long retryAfterSeconds = 1;
+
+    private List<String> probePaths = List.of("/actuator/health/**");
+
+    private List<String> sheddablePaths = List.of(
+            "/api/v1/expenses",
+            "/api/v1/expenses/search",
+            "/api/v1/transactions"
+    );
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public double getRttTolerance() {
+        return rttTolerance;
+    }
+
+    public void setRttTolerance(double rttTolerance) {
+        this.rttTolerance = rttTolerance;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    public int getLongWindowSamples() {
+        return longWindowSamples;
+    }
+
+    public void setLongWindowSamples(int longWindowSamples) {
+        this.longWindowSamples = longWindowSamples;
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    public void setWindowMillis(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public int getMinWindowSamples() {
+        return minWindowSamples;
+    }
+
+    public void setMinWindowSamples(int minWindowSamples) {
+        this.minWindowSamples = minWindowSamples;
+    }
+
+    public double getReadShare() {
+        return readShare;
+    }
+
+    public void setReadShare(double readShare) {
+        this.readShare = readShare;
+    }
+
+    public double getSheddableShare() {
+        return sheddableShare;
+    }
+
+    public void setSheddableShare(double sheddableShare) {
+        this.sheddableShare = sheddableShare;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public List<String> getProbePaths() {
+        return probePaths;
+    }
+
+    public void setProbePaths(List<String> probePaths) {
+        this.probePaths = probePaths;
+    }
+
+    public List<String> getSheddablePaths() {
+        return sheddablePaths;
+    }
+
+    public void setSheddablePaths(List<String> sheddablePaths) {
+        this.sheddablePaths = sheddablePaths;
+    }
+}
@@ -0,0 +1,89 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.api.ConditionalGet;
+import com.planifi.backend.application.DataVersion;
+import com.planifi.backend.application.DataVersionRegistry;
+import com.planifi.backend.infrastructure.persistence.routing.ReadConsistencyContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.UUID;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final DataVersionRegistry dataVersionRegistry;
+    private final boolean readModelEnabled;
+
+    public ConditionalGetInterceptor(DataVersionRegistry dataVersionRegistry, boolean readModelEnabled) {
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.readModelEnabled = readModelEnabled;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null || (conditionalGet.readModel() && readModelEnabled)) {
+            return true;
+        }
+        UUID userId = resolveUserId();
+        if (userId == null) {
+            return true;
+        }
+        String etag;
+        DataVersion version;
+        if (conditionalGet.value() == ConditionalGet.Scope.ACCOUNT) {
+            UUID accountId = parseUuid(request.getParameter(conditionalGet.accountParam()));
+            if (accountId == null) {
+                return true;
+            }
+            version = dataVersionRegistry.accountVersion(accountId);
+            etag = dataVersionRegistry.bootId() + "-a" + version.version();
+        } else {
+            version = dataVersionRegistry.userVersion(userId);
+            etag = dataVersionRegistry.bootId() + "-u" + version.version();
+        }
+        // Sparse fieldsets are different representations of the same data version.
+        String fields = request.getParameter(SparseFieldsetInterceptor.FIELDS_PARAMETER);
+        if (StringUtils.hasText(fields)) {
+            etag += "-f" + Integer.toHexString(fields.replace(" ", "").hashCode());
+        }
+        if (version.changedAtEpochMillis() > 0) {
+            ReadConsistencyContext.requireCommittedAtLeast(version.changedAtEpochMillis());
+        }
+        return !new ServletWebRequest(request, response).checkNotModified("W/\"" + etag + "\"");
+    }
+
+    private UUID resolveUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getPrincipal() == null) {
+            return null;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof AuthenticatedUser user) {
+            return user.userId();
+        }
+        if (principal instanceof AuthenticatedApiKey apiKey) {
+            return apiKey.userId();
+        }
+        return null;
+    }
+
+    private UUID parseUuid(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.infrastructure.persistence.routing.ReadConsistencyContext;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Clock;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+public class ConsistencyTokenIssuer implements TransactionExecutionListener {
+
+    private final Clock clock;
+
+    public ConsistencyTokenIssuer(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()) {
+            return;
+        }
+        long committedAt = clock.millis();
+        ReadConsistencyContext.recordWrite(committedAt);
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletResponse response = servletAttributes.getResponse();
+            if (response != null && !response.isCommitted()) {
+                response.setHeader(ReadConsistencyFilter.CONSISTENCY_TOKEN_HEADER,
+                        String.valueOf(committedAt));
+            }
+        }
+    }
+}
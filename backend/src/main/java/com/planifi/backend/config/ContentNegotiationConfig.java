@@ -0,0 +1,88 @@
+package com.planifi.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.planifi.backend.observability.RequestPhase;
+import com.planifi.backend.observability.RequestTimings;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+public class ContentNegotiationConfig {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    // Every converter below only overrides writeInternal to time body writes into the request's
+    // serialize phase; Boot's JSON converter is replaced for that reason alone.
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                    throws IOException {
+                timedWrite(() -> super.writeInternal(object, type, outputMessage));
+            }
+        };
+    }
+
+    // Built from Boot's builder so both formats share the JSON mapper's modules and features.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(
+                builder.factory(new CBORFactory()).build()) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                    throws IOException {
+                timedWrite(() -> super.writeInternal(object, type, outputMessage));
+            }
+        };
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(
+                builder.factory(new SmileFactory()).build()) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                    throws IOException {
+                timedWrite(() -> super.writeInternal(object, type, outputMessage));
+            }
+        };
+    }
+
+    private static void timedWrite(BodyWrite write) throws IOException {
+        long startedNanos = System.nanoTime();
+        try {
+            write.run();
+        } finally {
+            RequestTimings.record(RequestPhase.SERIALIZATION, startedNanos);
+        }
+    }
+
+    @Bean
+    public ErrorResponseWriter errorResponseWriter(
+            ObjectMapper objectMapper,
+            MappingJackson2CborHttpMessageConverter cborHttpMessageConverter,
+            MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter) {
+        return new ErrorResponseWriter(
+                objectMapper,
+                cborHttpMessageConverter.getObjectMapper(),
+                smileHttpMessageConverter.getObjectMapper());
+    }
+
+    @FunctionalInterface
+    private interface BodyWrite {
+        void run() throws IOException;
+    }
+}
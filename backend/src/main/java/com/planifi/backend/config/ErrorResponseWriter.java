@@ -0,0 +1,60 @@
+package com.planifi.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.api.dto.ErrorResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+public class ErrorResponseWriter {
+
+    private final Map<MediaType, ObjectMapper> mappers = new LinkedHashMap<>();
+
+    public ErrorResponseWriter(ObjectMapper jsonMapper,
+                               ObjectMapper cborMapper,
+                               ObjectMapper smileMapper) {
+        mappers.put(MediaType.APPLICATION_JSON, jsonMapper);
+        mappers.put(MediaType.APPLICATION_CBOR, cborMapper);
+        mappers.put(ContentNegotiationConfig.APPLICATION_SMILE, smileMapper);
+    }
+
+    public void write(HttpServletRequest request,
+                      HttpServletResponse response,
+                      ErrorResponse error) throws IOException {
+        MediaType mediaType = negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        response.setContentType(mediaType.toString());
+        response.getOutputStream().write(mappers.get(mediaType).writeValueAsBytes(error));
+    }
+
+    MediaType negotiate(String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType candidate : accepted) {
+            if (candidate.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType supported : mappers.keySet()) {
+                if (candidate.includes(supported)) {
+                    return supported;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+}
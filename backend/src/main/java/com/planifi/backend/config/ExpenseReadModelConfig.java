@@ -0,0 +1,91 @@
+package com.planifi.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.application.DataVersionRegistry;
+import com.planifi.backend.application.ExpenseReadModelService;
+import com.planifi.backend.application.ExpenseService;
+import com.planifi.backend.application.TransactionService;
+import com.planifi.backend.infrastructure.outbox.OutboxRelay;
+import com.planifi.backend.infrastructure.persistence.AccountRepository;
+import com.planifi.backend.infrastructure.persistence.OutboxEventRepository;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardTopology;
+import com.planifi.backend.infrastructure.readmodel.ExpenseProjection;
+import com.planifi.backend.infrastructure.readmodel.ExpenseReadModelEndpoint;
+import com.planifi.backend.infrastructure.readmodel.ExpenseReadModelRebuilder;
+import com.planifi.backend.infrastructure.readmodel.ExpenseReadModelStore;
+import com.planifi.backend.infrastructure.readmodel.InMemoryExpenseReadModelStore;
+import com.planifi.backend.infrastructure.readmodel.MongoExpenseReadModelStore;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+@Configuration
+@ConditionalOnProperty(prefix = "planifi.read-model.expenses", name = "enabled", havingValue = "true")
+public class ExpenseReadModelConfig {
+
+    @Bean
+    public ExpenseReadModelStore expenseReadModelStore(ExpenseReadModelProperties properties,
+                                                       ObjectProvider<MongoTemplate> mongoTemplate) {
+        if (properties.getStore() == ExpenseReadModelProperties.Store.MEMORY) {
+            return new InMemoryExpenseReadModelStore();
+        }
+        MongoTemplate template = mongoTemplate.getIfAvailable();
+        if (template == null) {
+            throw new IllegalStateException("El read model de gastos en Mongo requiere spring.data.mongodb");
+        }
+        MongoExpenseReadModelStore store = new MongoExpenseReadModelStore(template);
+        store.ensureIndexes();
+        return store;
+    }
+
+    @Bean
+    public ExpenseProjection expenseProjection(ExpenseReadModelStore expenseReadModelStore,
+                                               ObjectMapper objectMapper) {
+        return new ExpenseProjection(expenseReadModelStore, objectMapper, Clock.systemUTC());
+    }
+
+    @Bean
+    public ExpenseReadModelService expenseReadModelService(ExpenseReadModelStore expenseReadModelStore,
+                                                           TransactionService transactionService,
+                                                           ExpenseService expenseService,
+                                                           DataVersionRegistry dataVersionRegistry,
+                                                           AccountRepository accountRepository,
+                                                           OutboxEventRepository outboxEventRepository,
+                                                           ObjectProvider<OutboxRelay> outboxRelay,
+                                                           ObjectProvider<ShardTopology> shardTopology,
+                                                           ExpenseReadModelProperties properties) {
+        OutboxRelay relay = outboxRelay.getIfAvailable();
+        if (relay == null) {
+            throw new IllegalStateException("El read model de gastos requiere planifi.outbox.relay-enabled=true");
+        }
+        return new ExpenseReadModelService(
+                expenseReadModelStore,
+                transactionService,
+                expenseService,
+                dataVersionRegistry,
+                accountRepository,
+                outboxEventRepository,
+                relay,
+                shardTopology.getIfAvailable(),
+                properties.getMaxLagMillis(),
+                !properties.isRebuildOnStartup(),
+                Clock.systemUTC()
+        );
+    }
+
+    @Bean
+    public ExpenseReadModelEndpoint expenseReadModelEndpoint(ExpenseReadModelService expenseReadModelService) {
+        return new ExpenseReadModelEndpoint(expenseReadModelService);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "planifi.read-model.expenses", name = "rebuild-on-startup",
+            havingValue = "true", matchIfMissing = true)
+    public ExpenseReadModelRebuilder expenseReadModelRebuilder(ExpenseReadModelService expenseReadModelService) {
+        return new ExpenseReadModelRebuilder(expenseReadModelService, Duration.ofSeconds(10));
+    }
+}
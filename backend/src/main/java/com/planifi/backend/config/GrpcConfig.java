@@ -0,0 +1,77 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.api.grpc.GrpcAuthInterceptor;
+import com.planifi.backend.api.grpc.GrpcRateLimitInterceptor;
+import com.planifi.backend.api.grpc.TagsGrpcService;
+import com.planifi.backend.api.grpc.TransactionsGrpcService;
+import com.planifi.backend.application.ApiKeyService;
+import com.planifi.backend.application.JwtService;
+import com.planifi.backend.application.TagService;
+import com.planifi.backend.application.TransactionService;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardDirectory;
+import com.planifi.backend.infrastructure.ratelimit.ClientKeyHasher;
+import com.planifi.backend.infrastructure.ratelimit.RateLimitStore;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import jakarta.validation.Validator;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "planifi.grpc", name = "enabled", havingValue = "true")
+public class GrpcConfig {
+
+    @Bean
+    public GrpcAuthInterceptor grpcAuthInterceptor(JwtService jwtService,
+                                                   ApiKeyService apiKeyService,
+                                                   SecurityProperties securityProperties,
+                                                   ObjectProvider<ShardDirectory> shardDirectory) {
+        return new GrpcAuthInterceptor(jwtService, apiKeyService, securityProperties,
+                shardDirectory.getIfAvailable());
+    }
+
+    @Bean
+    public GrpcRateLimitInterceptor grpcRateLimitInterceptor(SecurityProperties securityProperties,
+                                                             RateLimitStore rateLimitStore,
+                                                             ClientKeyHasher rateLimitKeyHasher) {
+        return new GrpcRateLimitInterceptor(securityProperties, rateLimitStore, rateLimitKeyHasher);
+    }
+
+    @Bean
+    public TransactionsGrpcService transactionsGrpcService(TransactionService transactionService,
+                                                           Validator validator,
+                                                           GrpcProperties grpcProperties) {
+        return new TransactionsGrpcService(transactionService, validator,
+                grpcProperties.getStreamPageSize());
+    }
+
+    @Bean
+    public TagsGrpcService tagsGrpcService(TagService tagService, Validator validator) {
+        return new TagsGrpcService(tagService, validator);
+    }
+
+    @Bean
+    public GrpcServerLifecycle grpcServerLifecycle(GrpcProperties grpcProperties,
+                                                   GrpcAuthInterceptor grpcAuthInterceptor,
+                                                   GrpcRateLimitInterceptor grpcRateLimitInterceptor,
+                                                   TransactionsGrpcService transactionsGrpcService,
+                                                   TagsGrpcService tagsGrpcService) {
+        // The port is plaintext, so it listens on an internal interface unless configured otherwise.
+        NettyServerBuilder builder = NettyServerBuilder.forAddress(
+                        new InetSocketAddress(grpcProperties.getAddress(), grpcProperties.getPort()))
+                .maxInboundMessageSize(grpcProperties.getMaxInboundMessageBytes())
+                .permitKeepAliveTime(grpcProperties.getPermitKeepAliveTime().toMillis(),
+                        TimeUnit.MILLISECONDS)
+                .permitKeepAliveWithoutCalls(true)
+                // The last interceptor runs first: authentication, then the rate limit.
+                .addService(ServerInterceptors.intercept(transactionsGrpcService,
+                        grpcRateLimitInterceptor, grpcAuthInterceptor))
+                .addService(ServerInterceptors.intercept(tagsGrpcService,
+                        grpcRateLimitInterceptor, grpcAuthInterceptor));
+        return new GrpcServerLifecycle(builder.build(), grpcProperties.getShutdownTimeout());
+    }
+}
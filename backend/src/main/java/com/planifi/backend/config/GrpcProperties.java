@@ -0,0 +1,92 @@
+package com.planifi.backend.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "planifi.grpc")
+public class GrpcProperties {
+
+    private boolean enabled = false;
+
+    @NotBlank
+    private String address = "127.0.0.1";
+
+    @Min(0)
+    @Max(65535)
+    private int port = 9090;
+
+    @Min(1024)
+    private int maxInboundMessageBytes = 4 * 1024 * 1024;
+
+    @Min(1)
+    @Max(200)
+    private int streamPageSize = 200;
+
+    @NotNull
+    private Duration permitKeepAliveTime = Duration.ofSeconds(30);
+
+    @NotNull
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public int getMaxInboundMessageBytes() {
+        return maxInboundMessageBytes;
+    }
+
+    public void setMaxInboundMessageBytes(int maxInboundMessageBytes) {
+        this.maxInboundMessageBytes = maxInboundMessageBytes;
+    }
+
+    public int getStreamPageSize() {
+        return streamPageSize;
+    }
+
+    public void setStreamPageSize(int streamPageSize) {
+        this.streamPageSize = streamPageSize;
+    }
+
+    public Duration getPermitKeepAliveTime() {
+        return permitKeepAliveTime;
+    }
+
+    public void setPermitKeepAliveTime(Duration permitKeepAliveTime) {
+        this.permitKeepAliveTime = permitKeepAliveTime;
+    }
+
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+}
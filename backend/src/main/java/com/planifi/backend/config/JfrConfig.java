@@ -0,0 +1,51 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.observability.jfr.JfrMetricsBridge;
+import com.planifi.backend.observability.jfr.JfrRecordingEndpoint;
+import com.planifi.backend.observability.jfr.RepositoryCallInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.Repository;
+
+@Configuration
+@ConditionalOnProperty(prefix = "planifi.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JfrConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor repositoryCallAdvisor() {
+        return new DefaultPointcutAdvisor(
+                new ComposablePointcut(new RootClassFilter(Repository.class)),
+                new RepositoryCallInterceptor());
+    }
+
+    // Pinning only exists with virtual threads, so the JDK event is left off otherwise.
+    @Bean
+    @ConditionalOnProperty(prefix = "planifi.jfr", name = "metrics-enabled", havingValue = "true",
+            matchIfMissing = true)
+    public JfrMetricsBridge jfrMetricsBridge(MeterRegistry meterRegistry, JfrProperties properties,
+                                             Environment environment) {
+        return new JfrMetricsBridge(meterRegistry, Duration.ofMillis(properties.getRepositoryThresholdMillis()),
+                Threading.VIRTUAL.isActive(environment)
+                        ? Duration.ofMillis(properties.getPinnedThresholdMillis())
+                        : null);
+    }
+
+    @Bean
+    public JfrRecordingEndpoint jfrRecordingEndpoint(JfrProperties properties) {
+        return new JfrRecordingEndpoint(properties.getSettings(), properties.getMaxAge(),
+                properties.getMaxSizeMb() * 1024 * 1024,
+                Duration.ofMillis(properties.getRepositoryThresholdMillis()));
+    }
+}
@@ -0,0 +1,88 @@
+package com.planifi.backend.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "planifi.jfr")
+public class JfrProperties {
+
+    private boolean enabled = true;
+
+    private boolean metricsEnabled = true;
+
+    @Min(0)
+    private long repositoryThresholdMillis = 20;
+
+    @Min(0)
+    private long pinnedThresholdMillis = 20;
+
+    @Pattern(regexp = "default|profile")
+    private String settings = "default";
+
+    @NotNull
+    private Duration maxAge = Duration.ofMinutes(30);
+
+    @Min(1)
+    private long maxSizeMb = 256;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    public long getRepositoryThresholdMillis() {
+        return repositoryThresholdMillis;
+    }
+
+    public void setRepositoryThresholdMillis(long repositoryThresholdMillis) {
+        this.repositoryThresholdMillis = repositoryThresholdMillis;
+    }
+
+    public long getPinnedThresholdMillis() {
+        return pinnedThresholdMillis;
+    }
+
+    public void setPinnedThresholdMillis(long pinnedThresholdMillis) {
+        this.pinnedThresholdMillis = pinnedThresholdMillis;
+    }
+
+    public String getSettings() {
+        return settings;
+    }
+
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public long getMaxSizeMb() {
+        return maxSizeMb;
+    }
+
+    public void setMaxSizeMb(long maxSizeMb) {
+        this.maxSizeMb = maxSizeMb;
+    }
+}
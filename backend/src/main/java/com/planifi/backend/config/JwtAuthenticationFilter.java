@@ -1,9 +1,10 @@
 package com.planifi.backend.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.planifi.backend.api.dto.ErrorResponse;
 import com.planifi.backend.application.JwtService;
 import com.planifi.backend.application.JwtUserClaims;
+import com.planifi.backend.observability.RequestPhase;
+import com.planifi.backend.observability.RequestTimings;
 import io.jsonwebtoken.JwtException;
 import io.micrometer.tracing.Tracer;
 import jakarta.servlet.FilterChain;
@@ -12,7 +13,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,12 +21,14 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
     private final Tracer tracer;
 
-    public JwtAuthenticationFilter(JwtService jwtService, ObjectMapper objectMapper, Tracer tracer) {
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   ErrorResponseWriter errorResponseWriter,
+                                   Tracer tracer) {
         this.jwtService = jwtService;
-        this.objectMapper = objectMapper;
+        this.errorResponseWriter = errorResponseWriter;
         this.tracer = tracer;
     }
 
@@ -44,7 +46,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = authorization.substring("Bearer ".length());
         try {
-            JwtUserClaims claims = jwtService.parseToken(token);
+            JwtUserClaims claims = parseToken(token);
             AuthenticatedUser principal = new AuthenticatedUser(claims.userId(), claims.email());
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
@@ -55,20 +57,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             SecurityContextHolder.getContext().setAuthentication(authentication);
             filterChain.doFilter(request, response);
         } catch (JwtException ex) {
-            writeUnauthorized(response);
+            writeUnauthorized(request, response);
         }
     }
 
-    private void writeUnauthorized(HttpServletResponse response) throws IOException {
+    private JwtUserClaims parseToken(String token) {
+        long startedNanos = System.nanoTime();
+        try {
+            return jwtService.parseToken(token);
+        } finally {
+            RequestTimings.record(RequestPhase.AUTH, startedNanos);
+        }
+    }
+
+    private void writeUnauthorized(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
         response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         ErrorResponse error = new ErrorResponse(
                 "AUTH_INVALID_TOKEN",
                 "Token JWT inválido o expirado",
                 traceId()
         );
-        response.getWriter().write(objectMapper.writeValueAsString(error));
+        errorResponseWriter.write(request, response, error);
     }
 
     private String traceId() {
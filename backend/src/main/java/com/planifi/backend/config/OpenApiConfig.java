@@ -1,9 +1,11 @@
 package com.planifi.backend.config;
 
+import com.planifi.backend.infrastructure.openapi.OpenApiDocument;
 import io.swagger.v3.oas.models.ExternalDocumentation;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnResource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -24,4 +26,12 @@ public class OpenApiConfig {
                         .description("Architecture baseline")
                         .url("./docs/ARCHITECTURE.md"));
     }
+
+    // Written by the build from src/main/openapi (see OpenApiDocumentGenerator); springdoc's
+    // runtime document stays on /v3/api-docs only to check the contract against the code.
+    @Bean
+    @ConditionalOnResource(resources = "classpath:" + OpenApiDocument.JSON_RESOURCE)
+    public OpenApiDocument openApiDocument() {
+        return OpenApiDocument.fromClasspath();
+    }
 }
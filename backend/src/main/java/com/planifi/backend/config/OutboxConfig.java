@@ -0,0 +1,42 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.infrastructure.outbox.LoggingOutboxEventSink;
+import com.planifi.backend.infrastructure.outbox.OutboxEventSink;
+import com.planifi.backend.infrastructure.outbox.OutboxRelay;
+import com.planifi.backend.infrastructure.persistence.OutboxEventRepository;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardTopology;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "planifi.outbox", name = "relay-enabled", havingValue = "true",
+        matchIfMissing = true)
+public class OutboxConfig {
+
+    @Bean
+    public OutboxRelay outboxRelay(OutboxEventRepository outboxEventRepository,
+                                   ObjectProvider<OutboxEventSink> outboxEventSinks,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectProvider<ShardTopology> shardTopology,
+                                   OutboxProperties outboxProperties,
+                                   MeterRegistry meterRegistry) {
+        List<OutboxEventSink> sinks = outboxEventSinks.orderedStream().toList();
+        return new OutboxRelay(
+                outboxEventRepository,
+                sinks.isEmpty() ? List.of(new LoggingOutboxEventSink()) : sinks,
+                transactionManager,
+                shardTopology.getIfAvailable(),
+                outboxProperties,
+                meterRegistry,
+                Clock.systemUTC()
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package com.planifi.backend.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public class PasswordHashingProperties {
+
+    @Min(4)
+    @Max(31)
+    private int bcryptStrength = 10;
+
+    // 0 uses half of the available processors.
+    @Min(0)
+    private int threads = 0;
+
+    @Min(1)
+    private int queueCapacity = 32;
+
+    @Min(1)
+    private long maxWaitMillis = 2000;
+
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public void setBcryptStrength(int bcryptStrength) {
+        this.bcryptStrength = bcryptStrength;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    public void setMaxWaitMillis(long maxWaitMillis) {
+        this.maxWaitMillis = maxWaitMillis;
+    }
+}
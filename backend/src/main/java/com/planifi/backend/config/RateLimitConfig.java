@@ -0,0 +1,82 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.infrastructure.ratelimit.ClientKeyHasher;
+import com.planifi.backend.infrastructure.ratelimit.CompactRateLimitStore;
+import com.planifi.backend.infrastructure.ratelimit.JdbcRateLimitStore;
+import com.planifi.backend.infrastructure.ratelimit.RateLimitStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+
+@Configuration
+@EnableScheduling
+public class RateLimitConfig {
+
+    @Bean
+    public ClientKeyHasher rateLimitKeyHasher(SecurityProperties securityProperties) {
+        // Replicas sharing the bucket table must hash a client to the same row, so a random
+        // per-process seed is only acceptable for the local store.
+        RateLimitProperties rateLimit = securityProperties.getRateLimit();
+        if (StringUtils.hasText(rateLimit.getHashSeed())) {
+            return ClientKeyHasher.fromSecret(rateLimit.getHashSeed());
+        }
+        if (rateLimit.getStore() == RateLimitProperties.Store.JDBC) {
+            throw new IllegalStateException("planifi.security.rate-limit.hash-seed es obligatorio con "
+                    + "planifi.security.rate-limit.store=jdbc.");
+        }
+        return new ClientKeyHasher();
+    }
+
+    @Bean
+    public RateLimitStore rateLimitStore(SecurityProperties securityProperties,
+                                         JdbcTemplate jdbcTemplate,
+                                         PlatformTransactionManager transactionManager,
+                                         MeterRegistry meterRegistry) {
+        RateLimitProperties rateLimit = securityProperties.getRateLimit();
+        CompactRateLimitStore localStore = new CompactRateLimitStore(
+                rateLimit.getMaxKeys(),
+                Duration.ofSeconds(rateLimit.getBucketTtlSeconds()),
+                Duration.ofSeconds(rateLimit.getCleanupIntervalSeconds())
+        );
+        if (rateLimit.getStore() == RateLimitProperties.Store.LOCAL) {
+            return localStore;
+        }
+        return new JdbcRateLimitStore(
+                jdbcTemplate,
+                transactionManager,
+                localStore,
+                storeExecutor(rateLimit.getStoreThreads()),
+                Clock.systemUTC(),
+                rateLimit.getLeaseSize(),
+                Duration.ofMillis(rateLimit.getLeaseTtlMillis()),
+                Duration.ofMillis(rateLimit.getStoreTimeoutMillis()),
+                Duration.ofMillis(rateLimit.getStoreFallbackMillis()),
+                Duration.ofSeconds(rateLimit.getBucketTtlSeconds()),
+                rateLimit.getMaxPendingCharges(),
+                meterRegistry
+        );
+    }
+
+    // Bounded on both threads and queue: when Postgres stalls, requests fall back instead of piling up.
+    private static ThreadPoolExecutor storeExecutor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "rate-limit-store-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -1,11 +1,17 @@
 package com.planifi.backend.config;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
 
 public class RateLimitProperties {
 
+    public enum Store {
+        LOCAL,
+        JDBC
+    }
+
     @NotNull
     private Boolean enabled = true;
 
@@ -23,6 +29,38 @@ public class RateLimitProperties {
     @Min(1)
     private long cleanupIntervalSeconds = 60;
 
+    @Min(1)
+    private int maxKeys = 262_144;
+
+    @NotNull
+    private Store store = Store.JDBC;
+
+    @Min(1)
+    private int leaseSize = 5;
+
+    @Min(1)
+    private long leaseTtlMillis = 1000;
+
+    @Min(1)
+    private long storeTimeoutMillis = 50;
+
+    @Min(0)
+    private long storeFallbackMillis = 10_000;
+
+    @Min(1)
+    private int storeThreads = 4;
+
+    private String hashSeed;
+
+    @Min(1)
+    private int maxPendingCharges = 10_000;
+
+    @Min(1)
+    private long chargeFlushMillis = 200;
+
+    @Valid
+    private ApiRateLimitProperties api = new ApiRateLimitProperties();
+
     private List<String> sensitivePaths = List.of(
             "/api/v1/auth/**",
             "/api/v1/api-keys/**"
@@ -76,6 +114,94 @@ public class RateLimitProperties {
         this.cleanupIntervalSeconds = cleanupIntervalSeconds;
     }
 
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public Store getStore() {
+        return store;
+    }
+
+    public void setStore(Store store) {
+        this.store = store;
+    }
+
+    public int getLeaseSize() {
+        return leaseSize;
+    }
+
+    public void setLeaseSize(int leaseSize) {
+        this.leaseSize = leaseSize;
+    }
+
+    public long getLeaseTtlMillis() {
+        return leaseTtlMillis;
+    }
+
+    public void setLeaseTtlMillis(long leaseTtlMillis) {
+        this.leaseTtlMillis = leaseTtlMillis;
+    }
+
+    public long getStoreTimeoutMillis() {
+        return storeTimeoutMillis;
+    }
+
+    public void setStoreTimeoutMillis(long storeTimeoutMillis) {
+        this.storeTimeoutMillis = storeTimeoutMillis;
+    }
+
+    public long getStoreFallbackMillis() {
+        return storeFallbackMillis;
+    }
+
+    public void setStoreFallbackMillis(long storeFallbackMillis) {
+        this.storeFallbackMillis = storeFallbackMillis;
+    }
+
+    public int getStoreThreads() {
+        return storeThreads;
+    }
+
+    public void setStoreThreads(int storeThreads) {
+        this.storeThreads = storeThreads;
+    }
+
+    public String getHashSeed() {
+        return hashSeed;
+    }
+
+    public void setHashSeed(String hashSeed) {
+        this.hashSeed = hashSeed;
+    }
+
+    public int getMaxPendingCharges() {
+        return maxPendingCharges;
+    }
+
+    public void setMaxPendingCharges(int maxPendingCharges) {
+        this.maxPendingCharges = maxPendingCharges;
+    }
+
+    public long getChargeFlushMillis() {
+        return chargeFlushMillis;
+    }
+
+    public void setChargeFlushMillis(long chargeFlushMillis) {
+        this.chargeFlushMillis = chargeFlushMillis;
+    }
+
+    public ApiRateLimitProperties getApi() {
+        return api;
+    }
+
+    public void setApi(ApiRateLimitProperties api) {
+        this.api = api;
+    }
+
     public List<String> getSensitivePaths() {
         return sensitivePaths;
     }
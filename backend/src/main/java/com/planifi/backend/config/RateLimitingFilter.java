@@ -1,48 +1,50 @@
 package com.planifi.backend.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.planifi.backend.api.dto.ErrorResponse;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.ConsumptionProbe;
-import io.github.bucket4j.Refill;
+import com.planifi.backend.infrastructure.ratelimit.ClientKeyHasher;
+import com.planifi.backend.infrastructure.ratelimit.RateLimitDecision;
+import com.planifi.backend.infrastructure.ratelimit.RateLimitPolicy;
+import com.planifi.backend.infrastructure.ratelimit.RateLimitStore;
+import com.planifi.backend.observability.RequestPhase;
+import com.planifi.backend.observability.RequestTimings;
+import com.planifi.backend.observability.jfr.RateLimitRejectionEvent;
 import io.micrometer.tracing.Tracer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.time.Duration;
-import java.util.HexFormat;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 public class RateLimitingFilter extends OncePerRequestFilter {
 
     private static final String RATE_LIMIT_ERROR = "RATE_LIMIT_EXCEEDED";
+    private static final char API_KEY_KIND = 'k';
+    private static final char USER_KIND = 'u';
+    private static final char IP_KIND = 'i';
 
     private final SecurityProperties securityProperties;
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
     private final Tracer tracer;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
-    private final Map<String, BucketState> buckets = new ConcurrentHashMap<>();
-    private final AtomicLong lastCleanupEpochMillis = new AtomicLong(0);
+    private final RouteClassifier routeClassifier;
+    private final RateLimitStore rateLimitStore;
+    private final ClientKeyHasher keyHasher;
 
     public RateLimitingFilter(SecurityProperties securityProperties,
-                              ObjectMapper objectMapper,
+                              RateLimitStore rateLimitStore,
+                              ClientKeyHasher keyHasher,
+                              RouteClassifier routeClassifier,
+                              ErrorResponseWriter errorResponseWriter,
                               Tracer tracer) {
         this.securityProperties = securityProperties;
-        this.objectMapper = objectMapper;
+        this.rateLimitStore = rateLimitStore;
+        this.keyHasher = keyHasher;
+        this.routeClassifier = routeClassifier;
+        this.errorResponseWriter = errorResponseWriter;
         this.tracer = tracer;
     }
 
@@ -61,69 +63,56 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             return;
         }
 
-        String key = resolveClientKey(request, rateLimit);
-        cleanupExpiredBuckets(rateLimit);
-        Bucket bucket = buckets.compute(key, (ignored, existing) -> {
-            long now = System.currentTimeMillis();
-            if (existing == null || isExpired(existing, rateLimit, now)) {
-                return new BucketState(newBucket(rateLimit), now);
-            }
-            existing.touch(now);
-            return existing;
-        }).bucket();
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
-        if (probe.isConsumed()) {
+        long startedNanos = System.nanoTime();
+        RateLimitDecision decision;
+        try {
+            long key = resolveClientKey(request, rateLimit);
+            decision = rateLimitStore.tryConsume(key,
+                    RateLimitPolicy.perMinute(rateLimit.getRequestsPerMinute(), rateLimit.getBurst()));
+        } finally {
+            RequestTimings.record(RequestPhase.RATE_LIMIT, startedNanos);
+        }
+        if (decision.allowed()) {
             response.setHeader("X-RateLimit-Limit",
                     String.valueOf(rateLimit.getRequestsPerMinute() + rateLimit.getBurst()));
-            response.setHeader("X-RateLimit-Remaining", String.valueOf(probe.getRemainingTokens()));
+            response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
             filterChain.doFilter(request, response);
             return;
         }
 
-        long retryAfterSeconds = Math.max(1, probe.getNanosToWaitForRefill() / 1_000_000_000);
+        RateLimitRejectionEvent.emit("sensitive", routeClassifier.classify(request).costClass(),
+                decision.retryAfterMillis());
+        long retryAfterSeconds = Math.max(1, (decision.retryAfterMillis() + 999) / 1_000);
         response.setStatus(429);
         response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         ErrorResponse error = new ErrorResponse(
                 RATE_LIMIT_ERROR,
                 "Se excedió el límite de solicitudes. Intenta más tarde.",
                 traceId()
         );
-        response.getWriter().write(objectMapper.writeValueAsString(error));
+        errorResponseWriter.write(request, response, error);
     }
 
     private boolean isSensitive(HttpServletRequest request) {
         if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
             return false;
         }
-        String path = request.getRequestURI();
-        if (securityProperties.getRateLimit() == null
-                || securityProperties.getRateLimit().getSensitivePaths() == null) {
-            return false;
-        }
-        return securityProperties.getRateLimit().getSensitivePaths().stream()
-                .anyMatch(pattern -> pathMatcher.match(pattern, path));
-    }
-
-    private Bucket newBucket(RateLimitProperties rateLimit) {
-        int capacity = rateLimit.getRequestsPerMinute() + rateLimit.getBurst();
-        Refill refill = Refill.greedy(rateLimit.getRequestsPerMinute(), Duration.ofMinutes(1));
-        Bandwidth limit = Bandwidth.classic(capacity, refill);
-        return Bucket.builder().addLimit(limit).build();
+        return routeClassifier.classify(request).rateLimited();
     }
 
-    private String resolveClientKey(HttpServletRequest request, RateLimitProperties rateLimit) {
+    private long resolveClientKey(HttpServletRequest request, RateLimitProperties rateLimit) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.isAuthenticated()) {
             Object principal = authentication.getPrincipal();
             if (principal instanceof AuthenticatedApiKey) {
                 Object credentials = authentication.getCredentials();
                 if (credentials instanceof String apiKey && StringUtils.hasText(apiKey)) {
-                    return "api-key:" + sha256(apiKey);
+                    return keyHasher.hash(API_KEY_KIND, apiKey);
                 }
             } else if (principal instanceof AuthenticatedUser user) {
                 if (user.userId() != null) {
-                    return "user:" + user.userId();
+                    return keyHasher.hash(USER_KIND, user.userId().getMostSignificantBits(),
+                            user.userId().getLeastSignificantBits());
                 }
             }
         }
@@ -131,18 +120,19 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         String apiKeyHeader = securityProperties.getApiKeyHeader();
         String apiKey = request.getHeader(apiKeyHeader);
         if (StringUtils.hasText(apiKey) && isTrustedApiKey(apiKey)) {
-            return "api-key:" + sha256(apiKey);
+            return keyHasher.hash(API_KEY_KIND, apiKey);
         }
         if (rateLimit.isTrustForwardedFor()) {
             String forwardedFor = request.getHeader("X-Forwarded-For");
             if (StringUtils.hasText(forwardedFor)) {
-                String ip = forwardedFor.split(",")[0].trim();
+                int comma = forwardedFor.indexOf(',');
+                String ip = (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
                 if (StringUtils.hasText(ip)) {
-                    return "ip:" + ip;
+                    return keyHasher.hash(IP_KIND, ip);
                 }
             }
         }
-        return "ip:" + request.getRemoteAddr();
+        return keyHasher.hash(IP_KIND, request.getRemoteAddr());
     }
 
     private boolean isTrustedApiKey(String apiKey) {
@@ -153,60 +143,10 @@ public class RateLimitingFilter extends OncePerRequestFilter {
                 .anyMatch(candidate -> candidate.equals(apiKey));
     }
 
-    private void cleanupExpiredBuckets(RateLimitProperties rateLimit) {
-        long now = System.currentTimeMillis();
-        long cleanupIntervalMillis = Duration.ofSeconds(rateLimit.getCleanupIntervalSeconds()).toMillis();
-        long lastCleanup = lastCleanupEpochMillis.get();
-        if (now - lastCleanup < cleanupIntervalMillis) {
-            return;
-        }
-        if (!lastCleanupEpochMillis.compareAndSet(lastCleanup, now)) {
-            return;
-        }
-        buckets.entrySet().removeIf(entry -> isExpired(entry.getValue(), rateLimit, now));
-    }
-
-    private boolean isExpired(BucketState state, RateLimitProperties rateLimit, long now) {
-        long ttlMillis = Duration.ofSeconds(rateLimit.getBucketTtlSeconds()).toMillis();
-        return now - state.lastAccessEpochMillis() > ttlMillis;
-    }
-
-    private String sha256(String value) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(value.getBytes(StandardCharsets.UTF_8));
-            return HexFormat.of().formatHex(hash);
-        } catch (Exception ex) {
-            return "hash-error";
-        }
-    }
-
     private String traceId() {
         if (tracer.currentSpan() == null) {
             return "unknown";
         }
         return tracer.currentSpan().context().traceId();
     }
-
-    private static final class BucketState {
-        private final Bucket bucket;
-        private volatile long lastAccessEpochMillis;
-
-        private BucketState(Bucket bucket, long lastAccessEpochMillis) {
-            this.bucket = bucket;
-            this.lastAccessEpochMillis = lastAccessEpochMillis;
-        }
-
-        private Bucket bucket() {
-            return bucket;
-        }
-
-        private long lastAccessEpochMillis() {
-            return lastAccessEpochMillis;
-        }
-
-        private void touch(long now) {
-            this.lastAccessEpochMillis = now;
-        }
-    }
 }
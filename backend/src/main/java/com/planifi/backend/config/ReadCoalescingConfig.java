@@ -0,0 +1,45 @@
+package com.planifi.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.application.CoalescedRead;
+import com.planifi.backend.application.DataVersionRegistry;
+import com.planifi.backend.application.ReadCoalescingInterceptor;
+import com.planifi.backend.infrastructure.coalescing.ReadCoalescer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(prefix = "planifi.read-coalescing", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class ReadCoalescingConfig {
+
+    @Bean
+    public ReadCoalescer readCoalescer(ReadCoalescingProperties properties, MeterRegistry meterRegistry) {
+        return new ReadCoalescer(Duration.ofMillis(properties.getResultTtlMillis()).toNanos(),
+                properties.getMaxEntries(), meterRegistry);
+    }
+
+    // Ordered ahead of the transaction advisor, so callers that share a result never open a
+    // transaction or borrow a connection.
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor readCoalescingAdvisor(ObjectProvider<ReadCoalescer> readCoalescer,
+                                                ObjectProvider<DataVersionRegistry> dataVersionRegistry,
+                                                ObjectProvider<ObjectMapper> objectMapper) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(CoalescedRead.class),
+                new ReadCoalescingInterceptor(readCoalescer, dataVersionRegistry, objectMapper));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,42 @@
+package com.planifi.backend.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "planifi.read-coalescing")
+public class ReadCoalescingProperties {
+
+    private boolean enabled = true;
+
+    @Min(0)
+    private long resultTtlMillis = 250;
+
+    @Min(1)
+    private int maxEntries = 10000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getResultTtlMillis() {
+        return resultTtlMillis;
+    }
+
+    public void setResultTtlMillis(long resultTtlMillis) {
+        this.resultTtlMillis = resultTtlMillis;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+}
@@ -0,0 +1,45 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.infrastructure.persistence.routing.ReadConsistencyContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class ReadConsistencyFilter extends OncePerRequestFilter {
+
+    public static final String CONSISTENCY_TOKEN_HEADER = "X-Consistency-Token";
+    public static final String READ_CONSISTENCY_HEADER = "X-Read-Consistency";
+    public static final String STRONG_CONSISTENCY = "strong";
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        boolean requirePrimary = STRONG_CONSISTENCY.equalsIgnoreCase(
+                request.getHeader(READ_CONSISTENCY_HEADER));
+        ReadConsistencyContext.set(parseToken(request.getHeader(CONSISTENCY_TOKEN_HEADER)),
+                requirePrimary);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadConsistencyContext.clear();
+        }
+    }
+
+    private Long parseToken(String headerValue) {
+        if (!StringUtils.hasText(headerValue)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(headerValue.trim());
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
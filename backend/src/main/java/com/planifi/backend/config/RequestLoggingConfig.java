@@ -0,0 +1,42 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.observability.AsyncLogAppenderMetrics;
+import com.planifi.backend.observability.RequestSampler;
+import com.planifi.backend.observability.TraceSamplingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.tracing.SpanExporters;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RequestLoggingConfig {
+
+    @Bean
+    public RequestSampler requestSampler(RequestLoggingProperties properties) {
+        return new RequestSampler(properties.getSampleRatio(),
+                Duration.ofMillis(properties.getSlowThresholdMillis()));
+    }
+
+    // Spans are still recorded at the configured probability, since a request's latency is only
+    // known once its root span ends; every exporter sits behind one trace-level decision so a
+    // trace is exported whole or not at all.
+    @Bean
+    public SpanExporters spanExporters(ObjectProvider<SpanExporter> spanExporters,
+                                       RequestSampler requestSampler,
+                                       RequestLoggingProperties properties) {
+        List<SpanExporter> exporters = spanExporters.orderedStream().toList();
+        if (exporters.isEmpty()) {
+            return SpanExporters.of(List.of());
+        }
+        return SpanExporters.of(List.of(new TraceSamplingSpanExporter(
+                SpanExporter.composite(exporters), requestSampler, properties.getPendingTraceLimit())));
+    }
+
+    @Bean
+    public AsyncLogAppenderMetrics asyncLogAppenderMetrics() {
+        return new AsyncLogAppenderMetrics();
+    }
+}
@@ -0,0 +1,59 @@
+package com.planifi.backend.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "planifi.request-logging")
+public class RequestLoggingProperties {
+
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double sampleRatio = 1.0;
+
+    @Min(0)
+    private long slowThresholdMillis = 500;
+
+    // Traces held by TraceSamplingSpanExporter while waiting for their root span.
+    @Min(1)
+    private int pendingTraceLimit = 10000;
+
+    // Read by logback-spring.xml; kept here so the value is validated and documented with the rest.
+    @Min(64)
+    private int ringBufferSize = 8192;
+
+    public double getSampleRatio() {
+        return sampleRatio;
+    }
+
+    public void setSampleRatio(double sampleRatio) {
+        this.sampleRatio = sampleRatio;
+    }
+
+    public long getSlowThresholdMillis() {
+        return slowThresholdMillis;
+    }
+
+    public void setSlowThresholdMillis(long slowThresholdMillis) {
+        this.slowThresholdMillis = slowThresholdMillis;
+    }
+
+    public int getPendingTraceLimit() {
+        return pendingTraceLimit;
+    }
+
+    public void setPendingTraceLimit(int pendingTraceLimit) {
+        this.pendingTraceLimit = pendingTraceLimit;
+    }
+
+    public int getRingBufferSize() {
+        return ringBufferSize;
+    }
+
+    public void setRingBufferSize(int ringBufferSize) {
+        this.ringBufferSize = ringBufferSize;
+    }
+}
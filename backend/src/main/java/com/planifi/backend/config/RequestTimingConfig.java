@@ -0,0 +1,52 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.infrastructure.persistence.timing.RequestTimingJdbcListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(prefix = "planifi.request-timing", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class RequestTimingConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    // Only the primary "dataSource" bean is wrapped: with replicas or shards it already routes to
+    // the pools underneath, so wrapping those too would count every statement twice.
+    @Bean
+    public static BeanPostProcessor requestTimingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                        && DATA_SOURCE_BEAN.equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(DATA_SOURCE_BEAN)
+                            .listener(new RequestTimingJdbcListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilterRegistration(
+            MeterRegistry meterRegistry,
+            RequestTimingProperties properties) {
+        FilterRegistrationBean<RequestTimingFilter> registration = new FilterRegistrationBean<>(
+                new RequestTimingFilter(meterRegistry, properties.isServerTiming(),
+                        properties.isPercentileHistograms()));
+        // Inside the load-shedding filter: shed requests never reach the database.
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 6);
+        return registration;
+    }
+}
@@ -0,0 +1,136 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.observability.RequestPhase;
+import com.planifi.backend.observability.RequestTimings;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+// Opens the request's phase clock ahead of the security chain. At the end it records one timer per
+// phase that ran, plus statements, DB time and connection wait and hold per route pattern. With
+// server timing on, the phases also go out in a Server-Timing header.
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+    private static final Duration[] ACQUIRE_SLOS = {
+            Duration.ofMillis(1), Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(250)};
+    private static final Duration[] HOLD_SLOS = {
+            Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(250), Duration.ofSeconds(1)};
+
+    private final MeterRegistry meterRegistry;
+    private final boolean serverTiming;
+    private final Map<RequestPhase, Timer> phaseTimers = new EnumMap<>(RequestPhase.class);
+
+    public RequestTimingFilter(MeterRegistry meterRegistry, boolean serverTiming, boolean percentileHistograms) {
+        this.meterRegistry = meterRegistry;
+        this.serverTiming = serverTiming;
+        for (RequestPhase phase : RequestPhase.values()) {
+            phaseTimers.put(phase, Timer.builder("planifi.request.phase")
+                    .description("Tiempo de cada fase de la solicitud")
+                    .tag("phase", phase.metricName())
+                    .publishPercentileHistogram(percentileHistograms)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        request.setAttribute(RequestTimings.REQUEST_ATTRIBUTE, timings);
+        ServerTimingResponse timingResponse = serverTiming ? new ServerTimingResponse(response, timings) : null;
+        try {
+            filterChain.doFilter(request, timingResponse != null ? timingResponse : response);
+        } finally {
+            RequestTimings.stop();
+            if (timingResponse != null) {
+                timingResponse.writeHeader();
+            }
+            record(request, timings);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestTimings timings) {
+        for (Map.Entry<RequestPhase, Timer> entry : phaseTimers.entrySet()) {
+            if (timings.count(entry.getKey()) > 0) {
+                entry.getValue().record(timings.elapsedNanos(entry.getKey()), TimeUnit.NANOSECONDS);
+            }
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+        DistributionSummary.builder("planifi.db.statements")
+                .description("Sentencias SQL ejecutadas por solicitud")
+                .baseUnit("statements")
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(timings.count(RequestPhase.DB));
+        Timer.builder("planifi.db.time")
+                .description("Tiempo en la base de datos por solicitud")
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(timings.elapsedNanos(RequestPhase.DB), TimeUnit.NANOSECONDS);
+        if (timings.count(RequestPhase.DB_HOLD) == 0) {
+            return;
+        }
+        // Fixed SLO buckets rather than full histograms keep these per-route timers cheap while
+        // still answering "how many requests waited more than 50 ms for a connection".
+        Timer.builder("planifi.db.connection.acquire")
+                .description("Espera por conexiones del pool por solicitud")
+                .tag("uri", uri)
+                .tag("method", method)
+                .serviceLevelObjectives(ACQUIRE_SLOS)
+                .register(meterRegistry)
+                .record(timings.elapsedNanos(RequestPhase.DB_CONNECTION), TimeUnit.NANOSECONDS);
+        Timer.builder("planifi.db.connection.hold")
+                .description("Tiempo con una conexión del pool tomada por solicitud")
+                .tag("uri", uri)
+                .tag("method", method)
+                .serviceLevelObjectives(HOLD_SLOS)
+                .register(meterRegistry)
+                .record(timings.elapsedNanos(RequestPhase.DB_HOLD), TimeUnit.NANOSECONDS);
+    }
+
+    // Headers must be set before the body commits the response, which usually happens inside the
+    // chain; the header then carries the phases measured up to that point.
+    private static final class ServerTimingResponse extends OnCommittedResponseWrapper {
+
+        private final RequestTimings timings;
+        private boolean written;
+
+        private ServerTimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeader();
+        }
+
+        private void writeHeader() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            addHeader(SERVER_TIMING_HEADER, timings.serverTiming());
+        }
+    }
+}
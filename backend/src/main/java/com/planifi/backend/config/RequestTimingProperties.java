@@ -0,0 +1,39 @@
+package com.planifi.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "planifi.request-timing")
+public class RequestTimingProperties {
+
+    private boolean enabled = true;
+
+    private boolean serverTiming = true;
+
+    private boolean percentileHistograms = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isServerTiming() {
+        return serverTiming;
+    }
+
+    public void setServerTiming(boolean serverTiming) {
+        this.serverTiming = serverTiming;
+    }
+
+    public boolean isPercentileHistograms() {
+        return percentileHistograms;
+    }
+
+    public void setPercentileHistograms(boolean percentileHistograms) {
+        this.percentileHistograms = percentileHistograms;
+    }
+}
@@ -0,0 +1,13 @@
+package com.planifi.backend.config;
+
+public record RouteClassification(
+        boolean authBypass,
+        boolean rateLimited,
+        boolean shardGlobal,
+        boolean apiLimited,
+        boolean probe,
+        boolean sheddable,
+        String costClass,
+        int cost
+) {
+}
@@ -0,0 +1,214 @@
+package com.planifi.backend.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Path rules compiled once into a segment trie, so classifying a request costs one walk over its
+// path segments no matter how many patterns are configured. Supported patterns are literal
+// segments, "*" for exactly one segment and a trailing "**" for any remainder (including none).
+public final class RouteClassifier {
+
+    public static final String REQUEST_ATTRIBUTE = RouteClassifier.class.getName() + ".classification";
+    public static final String DEFAULT_COST_CLASS = "standard";
+    public static final int DEFAULT_COST = 1;
+
+    private static final int AUTH_BYPASS = 1;
+    private static final int RATE_LIMITED = 1 << 1;
+    private static final int SHARD_GLOBAL = 1 << 2;
+    private static final int API_LIMITED = 1 << 3;
+    private static final int PROBE = 1 << 4;
+    private static final int SHEDDABLE = 1 << 5;
+
+    private final Node root;
+
+    private RouteClassifier(Node root) {
+        this.root = root;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Classifies once per request; the load-shedding, auth, rate-limit, sharding and logging filters
+    // share the result.
+    public RouteClassification classify(HttpServletRequest request) {
+        Object cached = request.getAttribute(REQUEST_ATTRIBUTE);
+        if (cached instanceof RouteClassification classification) {
+            return classification;
+        }
+        RouteClassification classification = classify(request.getRequestURI());
+        request.setAttribute(REQUEST_ATTRIBUTE, classification);
+        return classification;
+    }
+
+    public RouteClassification classify(String path) {
+        Match match = new Match();
+        walk(root, path == null ? "" : path, 0, 0, match);
+        return new RouteClassification(
+                (match.flags & AUTH_BYPASS) != 0,
+                (match.flags & RATE_LIMITED) != 0,
+                (match.flags & SHARD_GLOBAL) != 0,
+                (match.flags & API_LIMITED) != 0,
+                (match.flags & PROBE) != 0,
+                (match.flags & SHEDDABLE) != 0,
+                match.costClass == null ? DEFAULT_COST_CLASS : match.costClass,
+                match.costClass == null ? DEFAULT_COST : match.cost
+        );
+    }
+
+    private static void walk(Node node, String path, int index, int score, Match match) {
+        if (node.remainder != null) {
+            match.add(node.remainder, score);
+        }
+        int start = index;
+        while (start < path.length() && path.charAt(start) == '/') {
+            start++;
+        }
+        if (start >= path.length()) {
+            if (node.exact != null) {
+                match.add(node.exact, score + 1);
+            }
+            return;
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        if (!node.literals.isEmpty()) {
+            Node child = node.literals.get(path.substring(start, end));
+            if (child != null) {
+                walk(child, path, end, score + 4, match);
+            }
+        }
+        if (node.wildcard != null) {
+            walk(node.wildcard, path, end, score + 2, match);
+        }
+    }
+
+    public static final class Builder {
+
+        private final Node root = new Node();
+
+        private Builder() {
+        }
+
+        public Builder authBypass(List<String> patterns) {
+            patterns.forEach(pattern -> add(pattern, AUTH_BYPASS, null, 0));
+            return this;
+        }
+
+        public Builder rateLimited(List<String> patterns) {
+            patterns.forEach(pattern -> add(pattern, RATE_LIMITED, null, 0));
+            return this;
+        }
+
+        public Builder shardGlobal(List<String> patterns) {
+            patterns.forEach(pattern -> add(pattern, SHARD_GLOBAL, null, 0));
+            return this;
+        }
+
+        public Builder apiLimited(List<String> patterns) {
+            patterns.forEach(pattern -> add(pattern, API_LIMITED, null, 0));
+            return this;
+        }
+
+        public Builder probe(List<String> patterns) {
+            patterns.forEach(pattern -> add(pattern, PROBE, null, 0));
+            return this;
+        }
+
+        public Builder sheddable(List<String> patterns) {
+            patterns.forEach(pattern -> add(pattern, SHEDDABLE, null, 0));
+            return this;
+        }
+
+        public Builder costClass(String pattern, String costClass) {
+            return costClass(pattern, costClass, DEFAULT_COST);
+        }
+
+        // Token cost charged by the API rate limiter; the most specific pattern wins, like the class.
+        public Builder costClass(String pattern, String costClass, int cost) {
+            if (cost < 1) {
+                throw new IllegalArgumentException("El costo de la ruta debe ser positivo: " + pattern);
+            }
+            add(pattern, 0, costClass, cost);
+            return this;
+        }
+
+        public RouteClassifier build() {
+            return new RouteClassifier(root);
+        }
+
+        private void add(String pattern, int flags, String costClass, int cost) {
+            if (pattern == null || !pattern.startsWith("/")) {
+                throw new IllegalArgumentException("Patrón de ruta no soportado: " + pattern);
+            }
+            String[] segments = pattern.substring(1).split("/");
+            Node node = root;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (segment.equals("**")) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException(
+                                "'**' solo se admite al final del patrón: " + pattern);
+                    }
+                    node.remainder = Rule.merge(node.remainder, flags, costClass, cost);
+                    return;
+                }
+                if (segment.equals("*")) {
+                    if (node.wildcard == null) {
+                        node.wildcard = new Node();
+                    }
+                    node = node.wildcard;
+                } else if (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0) {
+                    throw new IllegalArgumentException("Patrón de ruta no soportado: " + pattern);
+                } else {
+                    node = node.literals.computeIfAbsent(segment, ignored -> new Node());
+                }
+            }
+            node.exact = Rule.merge(node.exact, flags, costClass, cost);
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node wildcard;
+        private Rule exact;
+        private Rule remainder;
+    }
+
+    private record Rule(int flags, String costClass, int cost) {
+
+        private static Rule merge(Rule existing, int flags, String costClass, int cost) {
+            if (existing == null) {
+                return new Rule(flags, costClass, cost);
+            }
+            if (costClass == null) {
+                return new Rule(existing.flags | flags, existing.costClass, existing.cost);
+            }
+            return new Rule(existing.flags | flags, costClass, cost);
+        }
+    }
+
+    // Flags accumulate across every matching rule; cost class and tokens come from the most specific one.
+    private static final class Match {
+        private int flags;
+        private String costClass;
+        private int cost;
+        private int costScore = -1;
+
+        private void add(Rule rule, int score) {
+            flags |= rule.flags;
+            if (rule.costClass != null && score > costScore) {
+                costClass = rule.costClass;
+                cost = rule.cost;
+                costScore = score;
+            }
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package com.planifi.backend.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.planifi.backend.application.ApiKeyService;
 import com.planifi.backend.application.JwtService;
+import com.planifi.backend.application.PasswordHasher;
+import com.planifi.backend.infrastructure.ratelimit.ClientKeyHasher;
+import com.planifi.backend.infrastructure.ratelimit.RateLimitStore;
 import com.planifi.backend.observability.RequestContextFilter;
+import com.planifi.backend.observability.RequestSampler;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.tracing.Tracer;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -27,21 +34,58 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @EnableConfigurationProperties({SecurityProperties.class, JwtProperties.class})
 public class SecurityConfig {
 
+    static final List<String> AUTH_BYPASS_PATHS = List.of(
+            "/actuator/health/**",
+            "/actuator/info/**",
+            "/api/v1/auth/**",
+            "/api/v1/api-keys/**",
+            "/swagger-ui/**",
+            "/swagger-ui.html",
+            "/v3/api-docs/**",
+            "/v3/api-docs.yaml",
+            "/api/v1/openapi/**"
+    );
+
+    // Actuator endpoints that start JFR recordings, hand out their dumps or describe the startup
+    // internals: only operator keys reach them, whether or not planifi.security is enabled.
+    static final String[] OPERATOR_PATHS = {
+            "/actuator/jfr",
+            "/actuator/jfr/**",
+            "/actuator/startup",
+            "/actuator/startup/**",
+            "/actuator/shards",
+            "/actuator/shards/**",
+            "/actuator/expensereadmodel",
+            "/actuator/expensereadmodel/**"
+    };
+
+    static final String OPERATOR_ROLE = "OPERATOR";
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http,
                                            SecurityProperties securityProperties,
                                            ApiKeyService apiKeyService,
                                            JwtService jwtService,
-                                           ObjectMapper objectMapper,
+                                           ErrorResponseWriter errorResponseWriter,
+                                           RateLimitStore rateLimitStore,
+                                           ClientKeyHasher rateLimitKeyHasher,
+                                           RouteClassifier routeClassifier,
                                            Tracer tracer,
-                                           RequestContextFilter requestContextFilter)
+                                           RequestContextFilter requestContextFilter,
+                                           ObjectProvider<ShardRoutingFilter> shardRoutingFilter)
             throws Exception {
         ApiKeyAuthenticationFilter apiKeyAuthenticationFilter =
-                new ApiKeyAuthenticationFilter(securityProperties, apiKeyService, objectMapper, tracer);
+                new ApiKeyAuthenticationFilter(securityProperties, apiKeyService, routeClassifier,
+                        errorResponseWriter,
+                        tracer);
         JwtAuthenticationFilter jwtAuthenticationFilter =
-                new JwtAuthenticationFilter(jwtService, objectMapper, tracer);
+                new JwtAuthenticationFilter(jwtService, errorResponseWriter, tracer);
         RateLimitingFilter rateLimitingFilter =
-                new RateLimitingFilter(securityProperties, objectMapper, tracer);
+                new RateLimitingFilter(securityProperties, rateLimitStore, rateLimitKeyHasher,
+                        routeClassifier, errorResponseWriter, tracer);
+        ApiRateLimitingFilter apiRateLimitingFilter =
+                new ApiRateLimitingFilter(securityProperties, rateLimitStore, rateLimitKeyHasher,
+                        routeClassifier, errorResponseWriter, tracer);
 
         http.csrf(csrf -> csrf.disable())
                 .cors(Customizer.withDefaults())
@@ -49,6 +93,7 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .headers(headers -> configureHeaders(headers, securityProperties))
                 .authorizeHttpRequests(registry -> {
+                    registry.requestMatchers(OPERATOR_PATHS).hasRole(OPERATOR_ROLE);
                     registry.requestMatchers("/actuator/health", "/actuator/info").permitAll();
                     registry.requestMatchers("/v3/api-docs/**", "/api/v1/openapi/**",
                             "/swagger-ui/**", "/swagger-ui.html").permitAll();
@@ -57,6 +102,8 @@ public class SecurityConfig {
                     if (securityProperties.isEnabled()) {
                         registry.requestMatchers(HttpMethod.POST, "/api/v1/expenses").authenticated();
                         registry.requestMatchers(HttpMethod.GET, "/api/v1/expenses").authenticated();
+                        registry.requestMatchers(HttpMethod.GET, "/api/v1/expenses/search")
+                                .authenticated();
                         registry.requestMatchers(HttpMethod.POST, "/api/v1/accounts").authenticated();
                         registry.requestMatchers(HttpMethod.GET, "/api/v1/accounts").authenticated();
                         registry.requestMatchers(HttpMethod.POST, "/api/v1/accounts/*/disable")
@@ -71,24 +118,65 @@ public class SecurityConfig {
                         registry.anyRequest().permitAll();
                     }
                 })
-                .addFilterBefore(requestContextFilter, ApiKeyAuthenticationFilter.class)
+                .addFilterBefore(requestContextFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(rateLimitingFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(apiKeyAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .httpBasic(Customizer.withDefaults())
-                .formLogin(login -> login.disable());
+                .formLogin(login -> login.disable())
+                .addFilterAfter(apiRateLimitingFilter, UsernamePasswordAuthenticationFilter.class);
+        shardRoutingFilter.ifAvailable(filter ->
+                http.addFilterAfter(filter, UsernamePasswordAuthenticationFilter.class));
 
         return http.build();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public RouteClassifier routeClassifier(SecurityProperties securityProperties,
+                                           ShardingProperties shardingProperties,
+                                           ConcurrencyLimitProperties concurrencyLimitProperties) {
+        List<String> sensitivePaths = securityProperties.getRateLimit().getSensitivePaths() == null
+                ? List.of()
+                : securityProperties.getRateLimit().getSensitivePaths();
+        RouteClassifier.Builder builder = RouteClassifier.builder()
+                .authBypass(AUTH_BYPASS_PATHS)
+                .rateLimited(sensitivePaths)
+                .shardGlobal(shardingProperties.getGlobalPaths())
+                .probe(concurrencyLimitProperties.getProbePaths())
+                .sheddable(concurrencyLimitProperties.getSheddablePaths());
+        AUTH_BYPASS_PATHS.forEach(pattern -> builder.costClass(pattern, "public"));
+        sensitivePaths.forEach(pattern -> builder.costClass(pattern, "sensitive"));
+        ApiRateLimitProperties api = securityProperties.getRateLimit().getApi();
+        if (api != null) {
+            builder.apiLimited(api.getPaths());
+            api.getRoutes().forEach(route ->
+                    builder.costClass(route.getPattern(), route.getCostClass(), route.getCost()));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(SecurityProperties securityProperties) {
+        return new BCryptPasswordEncoder(securityProperties.getPasswordHashing().getBcryptStrength());
+    }
+
+    @Bean
+    public PasswordHasher passwordHasher(PasswordEncoder passwordEncoder,
+                                         SecurityProperties securityProperties,
+                                         MeterRegistry meterRegistry) {
+        PasswordHashingProperties properties = securityProperties.getPasswordHashing();
+        int threads = properties.getThreads() > 0
+                ? properties.getThreads()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new PasswordHasher(passwordEncoder, threads, properties.getQueueCapacity(),
+                Duration.ofMillis(properties.getMaxWaitMillis()), meterRegistry);
     }
 
     @Bean
-    public RequestContextFilter requestContextFilter() {
-        return new RequestContextFilter();
+    public RequestContextFilter planifiRequestContextFilter(RouteClassifier routeClassifier,
+                                                            RequestSampler requestSampler,
+                                                            Tracer tracer) {
+        return new RequestContextFilter(routeClassifier, requestSampler, tracer);
     }
 
     @Bean
@@ -14,12 +14,15 @@ public class SecurityProperties {
     private String apiKeyHeader = "X-MCP-API-Key";
     private String apiKeyPrefix = "pln";
     private List<String> staticKeys = List.of();
+    private List<String> operatorKeys = List.of();
     @Valid
     private CorsProperties cors = new CorsProperties();
     @Valid
     private HeadersProperties headers = new HeadersProperties();
     @Valid
     private RateLimitProperties rateLimit = new RateLimitProperties();
+    @Valid
+    private PasswordHashingProperties passwordHashing = new PasswordHashingProperties();
 
     public boolean isEnabled() {
         return enabled;
@@ -53,6 +56,14 @@ public class SecurityProperties {
         this.staticKeys = staticKeys;
     }
 
+    public List<String> getOperatorKeys() {
+        return operatorKeys;
+    }
+
+    public void setOperatorKeys(List<String> operatorKeys) {
+        this.operatorKeys = operatorKeys;
+    }
+
     public CorsProperties getCors() {
         return cors;
     }
@@ -77,15 +88,24 @@ public class SecurityProperties {
         this.rateLimit = rateLimit;
     }
 
+    public PasswordHashingProperties getPasswordHashing() {
+        return passwordHashing;
+    }
+
+    public void setPasswordHashing(PasswordHashingProperties passwordHashing) {
+        this.passwordHashing = passwordHashing;
+    }
+
     public static class CorsProperties {
         private List<String> allowedOrigins = List.of();
         private List<String> allowedMethods =
                 List.of("GET", "POST", "PUT", "DELETE", "OPTIONS");
         private List<String> allowedHeaders =
                 List.of("Authorization", "Content-Type", "Idempotency-Key",
-                        "correlation-id", "request-id", "X-MCP-API-Key");
+                        "correlation-id", "request-id", "X-MCP-API-Key",
+                        "X-Consistency-Token", "X-Read-Consistency");
         private List<String> exposedHeaders =
-                List.of("correlation-id", "request-id", "traceId");
+                List.of("correlation-id", "request-id", "traceId", "X-Consistency-Token");
         private boolean allowCredentials = false;
         private long maxAge = 3600L;
 
@@ -0,0 +1,96 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.api.dto.ErrorResponse;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardContext;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardDirectory;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardPlacement;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.UUID;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class ShardRoutingFilter extends OncePerRequestFilter {
+
+    private static final String MIGRATION_RETRY_AFTER_SECONDS = "5";
+
+    private final ShardDirectory shardDirectory;
+    private final RouteClassifier routeClassifier;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final Tracer tracer;
+
+    public ShardRoutingFilter(ShardDirectory shardDirectory,
+                              RouteClassifier routeClassifier,
+                              ErrorResponseWriter errorResponseWriter,
+                              Tracer tracer) {
+        this.shardDirectory = shardDirectory;
+        this.routeClassifier = routeClassifier;
+        this.errorResponseWriter = errorResponseWriter;
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        UUID userId = resolveUserId();
+        if (userId == null || routeClassifier.classify(request).shardGlobal()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ShardPlacement placement = shardDirectory.resolve(userId);
+        if (placement.isMigrating()) {
+            writeMigrationInProgress(request, response);
+            return;
+        }
+        ShardContext.set(placement.shardId());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ShardContext.clear();
+        }
+    }
+
+    private UUID resolveUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getPrincipal() == null) {
+            return null;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof AuthenticatedUser user) {
+            return user.userId();
+        }
+        if (principal instanceof AuthenticatedApiKey apiKey) {
+            return apiKey.userId();
+        }
+        return null;
+    }
+
+    private void writeMigrationInProgress(HttpServletRequest request,
+                                          HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, MIGRATION_RETRY_AFTER_SECONDS);
+        ErrorResponse error = new ErrorResponse(
+                "SHARD_MIGRATION_IN_PROGRESS",
+                "Los datos del usuario se están migrando. Intenta de nuevo en unos segundos.",
+                traceId()
+        );
+        errorResponseWriter.write(request, response, error);
+    }
+
+    private String traceId() {
+        if (tracer.currentSpan() == null) {
+            return "unknown";
+        }
+        return tracer.currentSpan().context().traceId();
+    }
+}
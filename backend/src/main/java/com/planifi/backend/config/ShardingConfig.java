@@ -0,0 +1,134 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.infrastructure.persistence.sharding.ConsistentHashRing;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardDirectory;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardEndpoint;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardRebalancer;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardRoutingDataSource;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardTopology;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardWriteFence;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.tracing.Tracer;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "planifi.datasource.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource homeShardDataSource(DataSourceProperties dataSourceProperties,
+                                                ReadReplicaProperties replicaProperties) {
+        if (replicaProperties.isEnabled()) {
+            throw new IllegalStateException(
+                    "El sharding y la réplica de lectura no pueden habilitarse al mismo tiempo");
+        }
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("planifi-shard-home");
+        return dataSource;
+    }
+
+    @Bean
+    public ShardTopology shardTopology(@Qualifier("homeShardDataSource") DataSource homeShardDataSource,
+                                       ShardingProperties shardingProperties,
+                                       FlywayProperties flywayProperties) {
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        shards.put(shardingProperties.getHomeShardId(), homeShardDataSource);
+        for (ShardingProperties.ShardProperties shard : shardingProperties.getShards()) {
+            if (shards.containsKey(shard.getId())) {
+                throw new IllegalStateException("Shard duplicado: " + shard.getId());
+            }
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword())
+                    .driverClassName(shard.getDriverClassName())
+                    .build();
+            dataSource.setPoolName("planifi-" + shard.getId());
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            migrate(dataSource, flywayProperties);
+            shards.put(shard.getId(), dataSource);
+        }
+        return new ShardTopology(shardingProperties.getHomeShardId(), shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardTopology shardTopology) {
+        return new ShardRoutingDataSource(shardTopology);
+    }
+
+    @Bean
+    public ShardDirectory shardDirectory(ShardTopology shardTopology,
+                                         ShardingProperties shardingProperties) {
+        ConsistentHashRing ring = new ConsistentHashRing(
+                shardTopology.shardIds(), shardingProperties.getVirtualNodes());
+        return new ShardDirectory(shardTopology, ring,
+                shardingProperties.getDirectoryCacheTtlMillis(), Clock.systemUTC());
+    }
+
+    @Bean
+    public ShardRebalancer shardRebalancer(ShardTopology shardTopology,
+                                           ShardDirectory shardDirectory,
+                                           ShardingProperties shardingProperties) {
+        return new ShardRebalancer(shardTopology, shardDirectory,
+                shardingProperties.getDirectoryCacheTtlMillis(), Clock.systemUTC());
+    }
+
+    @Bean
+    public ShardWriteFence shardWriteFence(DataSource dataSource) {
+        return new ShardWriteFence(dataSource);
+    }
+
+    @Bean
+    public ShardEndpoint shardEndpoint(ShardTopology shardTopology,
+                                       ShardDirectory shardDirectory,
+                                       ShardRebalancer shardRebalancer) {
+        return new ShardEndpoint(shardTopology, shardDirectory, shardRebalancer);
+    }
+
+    @Bean
+    public ShardRoutingFilter shardRoutingFilter(ShardDirectory shardDirectory,
+                                                 RouteClassifier routeClassifier,
+                                                 ErrorResponseWriter errorResponseWriter,
+                                                 Tracer tracer) {
+        return new ShardRoutingFilter(shardDirectory, routeClassifier, errorResponseWriter, tracer);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ShardRoutingFilter> shardRoutingFilterRegistration(
+            ShardRoutingFilter shardRoutingFilter) {
+        FilterRegistrationBean<ShardRoutingFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(shardRoutingFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    private void migrate(DataSource dataSource, FlywayProperties flywayProperties) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations(flywayProperties.getLocations().toArray(String[]::new))
+                .baselineOnMigrate(flywayProperties.isBaselineOnMigrate())
+                .load()
+                .migrate();
+    }
+}
@@ -0,0 +1,156 @@
+package com.planifi.backend.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "planifi.datasource.sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+
+    @NotBlank
+    private String homeShardId = "shard-0";
+
+    @Min(1)
+    private int virtualNodes = 64;
+
+    @Min(0)
+    private long directoryCacheTtlMillis = 30000;
+
+    @Min(1)
+    private long cleanupIntervalMillis = 60000;
+
+    private List<String> globalPaths = List.of(
+            "/api/v1/auth/**",
+            "/api/v1/api-keys/**"
+    );
+
+    @Valid
+    private List<ShardProperties> shards = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getHomeShardId() {
+        return homeShardId;
+    }
+
+    public void setHomeShardId(String homeShardId) {
+        this.homeShardId = homeShardId;
+    }
+
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    public void setVirtualNodes(int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+    }
+
+    public long getDirectoryCacheTtlMillis() {
+        return directoryCacheTtlMillis;
+    }
+
+    public void setDirectoryCacheTtlMillis(long directoryCacheTtlMillis) {
+        this.directoryCacheTtlMillis = directoryCacheTtlMillis;
+    }
+
+    public long getCleanupIntervalMillis() {
+        return cleanupIntervalMillis;
+    }
+
+    public void setCleanupIntervalMillis(long cleanupIntervalMillis) {
+        this.cleanupIntervalMillis = cleanupIntervalMillis;
+    }
+
+    public List<String> getGlobalPaths() {
+        return globalPaths;
+    }
+
+    public void setGlobalPaths(List<String> globalPaths) {
+        this.globalPaths = globalPaths;
+    }
+
+    public List<ShardProperties> getShards() {
+        return shards;
+    }
+
+    public void setShards(List<ShardProperties> shards) {
+        this.shards = shards;
+    }
+
+    public static class ShardProperties {
+
+        @NotBlank
+        private String id;
+
+        @NotBlank
+        private String url;
+
+        private String username;
+        private String password;
+        private String driverClassName;
+
+        @Min(1)
+        private int maximumPoolSize = 10;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public String getDriverClassName() {
+            return driverClassName;
+        }
+
+        public void setDriverClassName(String driverClassName) {
+            this.driverClassName = driverClassName;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+}
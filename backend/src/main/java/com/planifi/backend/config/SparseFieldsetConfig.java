@@ -0,0 +1,25 @@
+package com.planifi.backend.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class SparseFieldsetConfig implements WebMvcConfigurer {
+
+    // DTOs carry @JsonFilter ids; without a fieldset they must serialize every property.
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsetFilterDefaults() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SparseFieldsetInterceptor())
+                .addPathPatterns("/api/v1/**")
+                .order(-1);
+    }
+}
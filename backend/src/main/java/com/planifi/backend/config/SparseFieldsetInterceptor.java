@@ -0,0 +1,28 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.api.SparseFields;
+import com.planifi.backend.api.SparseFieldset;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+public class SparseFieldsetInterceptor implements HandlerInterceptor {
+
+    public static final String FIELDS_PARAMETER = "fields";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        SparseFields sparseFields = handlerMethod.getMethodAnnotation(SparseFields.class);
+        if (sparseFields == null) {
+            return true;
+        }
+        SparseFieldset fieldset = SparseFieldset.parse(
+                request.getParameter(FIELDS_PARAMETER), sparseFields.value());
+        request.setAttribute(SparseFieldset.REQUEST_ATTRIBUTE, fieldset);
+        return true;
+    }
+}
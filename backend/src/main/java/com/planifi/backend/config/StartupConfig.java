@@ -0,0 +1,60 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.observability.StartupReport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.metrics.ApplicationStartup;
+
+@Configuration
+public class StartupConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupConfig.class);
+
+    // The training run stops right after the context refreshes (spring.context.exit=onRefresh) and
+    // only needs the classes loaded on the way; migrating would need a database the image build
+    // does not have.
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(StartupProperties properties) {
+        return flyway -> {
+            if (properties.isTrainingRun()) {
+                LOGGER.info("Arranque de entrenamiento: se omiten las migraciones de Flyway");
+                return;
+            }
+            flyway.migrate();
+        };
+    }
+
+    // Measured from JVM start rather than from SpringApplication.run like application.ready.time,
+    // so class loading and the JVM's own boot, which CDS shortens, are counted too.
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> startupReport(StartupProperties properties,
+                                                                    MeterRegistry meterRegistry) {
+        return event -> {
+            Duration jvmToReady = Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime());
+            TimeGauge.builder("planifi.startup.ready", jvmToReady, TimeUnit.MILLISECONDS, Duration::toMillis)
+                    .description("Tiempo desde el arranque de la JVM hasta quedar lista")
+                    .register(meterRegistry);
+            ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+            StartupReport report = StartupReport.of(jvmToReady,
+                    startup instanceof BufferingApplicationStartup buffering ? buffering.getBufferedTimeline() : null,
+                    properties.getReportSteps());
+            if (report.slowest().isEmpty()) {
+                LOGGER.info("Aplicación lista en {} ms desde el arranque de la JVM", jvmToReady.toMillis());
+                return;
+            }
+            LOGGER.info("Aplicación lista en {} ms desde el arranque de la JVM; pasos más lentos: {}",
+                    jvmToReady.toMillis(), report.summary());
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.planifi.backend.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "planifi.startup")
+public class StartupProperties {
+
+    // Set only for the CDS training run in the Dockerfile, which has no database to migrate.
+    private boolean trainingRun = false;
+
+    @Min(0)
+    private int reportSteps = 10;
+
+    public boolean isTrainingRun() {
+        return trainingRun;
+    }
+
+    public void setTrainingRun(boolean trainingRun) {
+        this.trainingRun = trainingRun;
+    }
+
+    public int getReportSteps() {
+        return reportSteps;
+    }
+
+    public void setReportSteps(int reportSteps) {
+        this.reportSteps = reportSteps;
+    }
+}
@@ -0,0 +1,110 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.infrastructure.persistence.admission.ConnectionAdmissionDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// spring.threads.virtual.enabled already moves Tomcat, @Scheduled tasks and the application task
+// executor onto virtual threads; this adds what that mode needs around them. The password hashing
+// pool and the rate-limit store executor stay on platform threads on purpose: the first is CPU
+// bound and the second is sized to protect the database.
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadConfig.class);
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    // Declared with its own type so the container sees it is Ordered before creating it.
+    @Bean
+    public static ConnectionAdmissionPostProcessor connectionAdmissionDataSourcePostProcessor(
+            ObjectProvider<VirtualThreadProperties> properties) {
+        return new ConnectionAdmissionPostProcessor(properties);
+    }
+
+    @Bean
+    public MeterBinder connectionAdmissionMetrics(DataSource dataSource) {
+        return registry -> {
+            ConnectionAdmissionDataSource admission;
+            try {
+                if (!dataSource.isWrapperFor(ConnectionAdmissionDataSource.class)) {
+                    return;
+                }
+                admission = dataSource.unwrap(ConnectionAdmissionDataSource.class);
+            } catch (SQLException ex) {
+                return;
+            }
+            Gauge.builder("planifi.db.admission.waiting", admission, ConnectionAdmissionDataSource::waiting)
+                    .description("Hilos esperando permiso para pedir una conexión")
+                    .register(registry);
+            Gauge.builder("planifi.db.admission.available", admission,
+                            ConnectionAdmissionDataSource::availablePermits)
+                    .description("Permisos de conexión libres")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> virtualThreadReadinessCheck(
+            DataSource dataSource,
+            VirtualThreadProperties properties) {
+        return event -> {
+            if (properties.isStartupCheck()) {
+                new VirtualThreadReadinessCheck(dataSource).run();
+            }
+        };
+    }
+
+    // Runs before the request-timing wrapper, so the wait for a permit counts as connection
+    // acquisition (db-conn) like the wait inside Hikari does.
+    static final class ConnectionAdmissionPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<VirtualThreadProperties> properties;
+
+        private ConnectionAdmissionPostProcessor(ObjectProvider<VirtualThreadProperties> properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionAdmissionDataSource
+                    || !DATA_SOURCE_BEAN.equals(beanName)) {
+                return bean;
+            }
+            VirtualThreadProperties settings = properties.getObject();
+            int permits = settings.getConnectionPermits();
+            if (permits == 0 && dataSource instanceof HikariDataSource hikari) {
+                permits = hikari.getMaximumPoolSize();
+            }
+            if (permits == 0) {
+                // Replicas and shards route over several pools; each keeps its own limit unless
+                // a total is configured.
+                LOGGER.info("Sin límite de admisión de conexiones: configura "
+                        + "planifi.virtual-threads.connection-permits para el DataSource enrutado");
+                return bean;
+            }
+            return new ConnectionAdmissionDataSource(dataSource, permits,
+                    Duration.ofMillis(settings.getConnectionWaitMillis()));
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
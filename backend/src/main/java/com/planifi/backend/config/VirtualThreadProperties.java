@@ -0,0 +1,44 @@
+package com.planifi.backend.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+// Only read when spring.threads.virtual.enabled is true.
+@Validated
+@ConfigurationProperties(prefix = "planifi.virtual-threads")
+public class VirtualThreadProperties {
+
+    // 0 uses the maximum pool size of the primary Hikari pool.
+    @Min(0)
+    private int connectionPermits = 0;
+
+    @Min(1)
+    private long connectionWaitMillis = 3000;
+
+    private boolean startupCheck = true;
+
+    public int getConnectionPermits() {
+        return connectionPermits;
+    }
+
+    public void setConnectionPermits(int connectionPermits) {
+        this.connectionPermits = connectionPermits;
+    }
+
+    public long getConnectionWaitMillis() {
+        return connectionWaitMillis;
+    }
+
+    public void setConnectionWaitMillis(long connectionWaitMillis) {
+        this.connectionWaitMillis = connectionWaitMillis;
+    }
+
+    public boolean isStartupCheck() {
+        return startupCheck;
+    }
+
+    public void setStartupCheck(boolean startupCheck) {
+        this.startupCheck = startupCheck;
+    }
+}
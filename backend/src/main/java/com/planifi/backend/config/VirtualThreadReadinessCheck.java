@@ -0,0 +1,110 @@
+package com.planifi.backend.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import javax.sql.DataSource;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+
+// Looks, once the application is up, for the known sources of carrier-thread pinning on the
+// request path. Before JDK 24 a virtual thread that blocks inside a synchronized block keeps its
+// carrier, so old JDBC drivers and pools, and appenders that write on the caller's thread, turn
+// blocking I/O back into platform-thread blocking. It only warns; jdk.VirtualThreadPinned (see
+// JfrMetricsBridge) catches whatever this list misses.
+public class VirtualThreadReadinessCheck {
+
+    private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(VirtualThreadReadinessCheck.class);
+
+    private final DataSource dataSource;
+
+    public VirtualThreadReadinessCheck(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public List<String> run() {
+        int jdk = Runtime.version().feature();
+        String driverName = null;
+        String driverVersion = null;
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            driverName = metaData.getDriverName();
+            driverVersion = metaData.getDriverVersion();
+        } catch (SQLException ex) {
+            LOGGER.warn("No se pudo leer la versión del driver JDBC: {}", ex.getMessage());
+        }
+        List<String> warnings = warnings(jdk, driverName, driverVersion,
+                HikariDataSource.class.getPackage().getImplementationVersion(), synchronousRootAppenders());
+        LOGGER.info("Hilos virtuales activos (JDK {}, {} carriers)", jdk,
+                Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+                        Runtime.getRuntime().availableProcessors()));
+        warnings.forEach(warning -> LOGGER.warn("Hilos virtuales: {}", warning));
+        return warnings;
+    }
+
+    static List<String> warnings(int jdk, String driverName, String driverVersion, String hikariVersion,
+                                 List<String> synchronousAppenders) {
+        List<String> warnings = new ArrayList<>();
+        if (jdk >= 24) {
+            // JEP 491: synchronized no longer pins, only native frames do.
+            return warnings;
+        }
+        String driver = driverName == null ? "" : driverName.toLowerCase(Locale.ROOT);
+        if (driver.contains("postgresql") && !atLeast(driverVersion, 42, 6)) {
+            warnings.add("el driver de PostgreSQL " + driverVersion
+                    + " usa synchronized en la E/S; se requiere 42.6 o posterior");
+        }
+        if (driver.contains("h2")) {
+            warnings.add("H2 sincroniza cada sentencia con synchronized; úsalo solo en pruebas");
+        }
+        if (hikariVersion != null && !atLeast(hikariVersion, 5, 1)) {
+            warnings.add("HikariCP " + hikariVersion + " usa synchronized al prestar conexiones; "
+                    + "se requiere 5.1 o posterior");
+        }
+        for (String appender : synchronousAppenders) {
+            warnings.add("el appender " + appender + " escribe en el hilo de la solicitud; "
+                    + "conéctalo detrás del appender ASYNC");
+        }
+        return warnings;
+    }
+
+    static boolean atLeast(String version, int major, int minor) {
+        if (version == null) {
+            return false;
+        }
+        String[] parts = version.split("[^0-9]+", 3);
+        try {
+            int actualMajor = Integer.parseInt(parts[0]);
+            int actualMinor = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
+            return actualMajor > major || (actualMajor == major && actualMinor >= minor);
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    private static List<String> synchronousRootAppenders() {
+        List<String> names = new ArrayList<>();
+        ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+        if (!(factory instanceof LoggerContext context)) {
+            return names;
+        }
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        for (Iterator<Appender<ILoggingEvent>> it = root.iteratorForAppenders(); it.hasNext(); ) {
+            Appender<ILoggingEvent> appender = it.next();
+            if (appender instanceof OutputStreamAppender) {
+                names.add(appender.getName());
+            }
+        }
+        return names;
+    }
+}
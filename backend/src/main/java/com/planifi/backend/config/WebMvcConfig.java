@@ -0,0 +1,30 @@
+package com.planifi.backend.config;
+
+import com.planifi.backend.application.DataVersionRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+// Data versions live in each instance's memory, so this is opt-in: with several instances behind
+// a balancer without affinity, a client could revalidate against an instance that missed a write.
+@ConditionalOnProperty(prefix = "planifi.http.conditional-get", name = "enabled", havingValue = "true")
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final DataVersionRegistry dataVersionRegistry;
+    private final ExpenseReadModelProperties expenseReadModelProperties;
+
+    public WebMvcConfig(DataVersionRegistry dataVersionRegistry,
+                        ExpenseReadModelProperties expenseReadModelProperties) {
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.expenseReadModelProperties = expenseReadModelProperties;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConditionalGetInterceptor(dataVersionRegistry,
+                        expenseReadModelProperties.isEnabled()))
+                .addPathPatterns("/api/v1/**");
+    }
+}
@@ -0,0 +1,23 @@
+package com.planifi.backend.domain;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record AccountView(
+        UUID id,
+        String name,
+        AccountType type,
+        String currency,
+        OffsetDateTime createdAt
+) {
+
+    public static AccountView of(Account account) {
+        return new AccountView(
+                account.getId(),
+                account.getName(),
+                account.getType(),
+                account.getCurrency(),
+                account.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package com.planifi.backend.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+public record ExpenseView(
+        UUID id,
+        UUID accountId,
+        BigDecimal amount,
+        LocalDate occurredOn,
+        String description,
+        OffsetDateTime createdAt,
+        List<TagView> tags
+) {
+
+    public static final Comparator<ExpenseView> NEWEST_FIRST = Comparator
+            .comparing(ExpenseView::occurredOn)
+            .thenComparing(ExpenseView::createdAt)
+            .reversed();
+
+    public static ExpenseView of(Transaction transaction, List<Tag> tags) {
+        return new ExpenseView(
+                transaction.getId(),
+                transaction.getAccountId(),
+                transaction.getAmount(),
+                transaction.getOccurredOn(),
+                transaction.getDescription(),
+                transaction.getCreatedAt(),
+                tags.stream()
+                        .map(tag -> new TagView(tag.getId(), tag.getName(), tag.getCreatedAt()))
+                        .toList()
+        );
+    }
+
+    public static ExpenseView of(Expense expense) {
+        return new ExpenseView(
+                expense.getId(),
+                null,
+                expense.getAmount(),
+                expense.getOccurredOn(),
+                expense.getDescription(),
+                expense.getCreatedAt(),
+                List.of()
+        );
+    }
+
+    public record TagView(UUID id, String name, OffsetDateTime createdAt) {
+    }
+}
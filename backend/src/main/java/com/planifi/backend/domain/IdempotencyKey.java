@@ -30,6 +30,11 @@ public class IdempotencyKey {
     @Column(nullable = false, name = "created_at")
     private OffsetDateTime createdAt;
 
+    // Set for keys of shard-local writes so they move with the user; keys of shard-global writes
+    // (API keys) stay on the home shard with no owner.
+    @Column(name = "user_id")
+    private UUID userId;
+
     protected IdempotencyKey() {
         // JPA only
     }
@@ -40,12 +45,23 @@ public class IdempotencyKey {
                           String responseBody,
                           String status,
                           OffsetDateTime createdAt) {
+        this(id, idempotencyKey, requestHash, responseBody, status, createdAt, null);
+    }
+
+    public IdempotencyKey(UUID id,
+                          String idempotencyKey,
+                          String requestHash,
+                          String responseBody,
+                          String status,
+                          OffsetDateTime createdAt,
+                          UUID userId) {
         this.id = id;
         this.idempotencyKey = idempotencyKey;
         this.requestHash = requestHash;
         this.responseBody = responseBody;
         this.status = status;
         this.createdAt = createdAt;
+        this.userId = userId;
     }
 
     public UUID getId() {
@@ -71,4 +87,8 @@ public class IdempotencyKey {
     public OffsetDateTime getCreatedAt() {
         return createdAt;
     }
+
+    public UUID getUserId() {
+        return userId;
+    }
 }
@@ -0,0 +1,96 @@
+package com.planifi.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent {
+
+    @Id
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(nullable = false, name = "aggregate_type", length = 32)
+    private String aggregateType;
+
+    @Column(nullable = false, name = "aggregate_id")
+    private UUID aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "event_type", length = 64)
+    private OutboxEventType eventType;
+
+    @Column(nullable = false, name = "user_id")
+    private UUID userId;
+
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false, name = "created_at")
+    private OffsetDateTime createdAt;
+
+    @Column(name = "published_at")
+    private OffsetDateTime publishedAt;
+
+    protected OutboxEvent() {
+        // JPA only
+    }
+
+    public OutboxEvent(UUID id,
+                       OutboxEventType eventType,
+                       UUID aggregateId,
+                       UUID userId,
+                       String payload,
+                       OffsetDateTime createdAt) {
+        this.id = id;
+        this.aggregateType = eventType.aggregateType();
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.userId = userId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public OutboxEventType getEventType() {
+        return eventType;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public OffsetDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void markPublished(OffsetDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+}
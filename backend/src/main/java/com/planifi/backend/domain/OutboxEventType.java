@@ -0,0 +1,18 @@
+package com.planifi.backend.domain;
+
+public enum OutboxEventType {
+    ACCOUNT_CREATED("account"),
+    ACCOUNT_DISABLED("account"),
+    TAG_CREATED("tag"),
+    TRANSACTION_CREATED("transaction");
+
+    private final String aggregateType;
+
+    OutboxEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public String aggregateType() {
+        return aggregateType;
+    }
+}
@@ -0,0 +1,11 @@
+package com.planifi.backend.domain;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record TagView(UUID id, String name, OffsetDateTime createdAt) {
+
+    public static TagView of(Tag tag) {
+        return new TagView(tag.getId(), tag.getName(), tag.getCreatedAt());
+    }
+}
@@ -0,0 +1,30 @@
+package com.planifi.backend.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record TransactionView(
+        UUID id,
+        UUID accountId,
+        BigDecimal amount,
+        LocalDate occurredOn,
+        String description,
+        OffsetDateTime createdAt,
+        List<TagView> tags
+) {
+
+    public static TransactionView of(Transaction transaction, List<Tag> tags) {
+        return new TransactionView(
+                transaction.getId(),
+                transaction.getAccountId(),
+                transaction.getAmount(),
+                transaction.getOccurredOn(),
+                transaction.getDescription(),
+                transaction.getCreatedAt(),
+                tags.stream().map(TagView::of).toList()
+        );
+    }
+}
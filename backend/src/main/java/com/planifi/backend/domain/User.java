@@ -58,4 +58,8 @@ public class User {
     public OffsetDateTime getCreatedAt() {
         return createdAt;
     }
+
+    public void changePasswordHash(String passwordHash) {
+        this.passwordHash = passwordHash;
+    }
 }
@@ -0,0 +1,118 @@
+package com.planifi.backend.infrastructure.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+// Single-flight: the first caller for a key computes, concurrent callers with the same key wait
+// for that result instead of repeating the queries. A finished result is reused for a short TTL
+// so a burst that arrives just after the first answer still collapses. Failures are handed to the
+// callers already waiting but never kept.
+public class ReadCoalescer {
+
+    @FunctionalInterface
+    public interface Computation {
+        Object compute() throws Throwable;
+    }
+
+    private final Map<Object, Flight> flights = new ConcurrentHashMap<>();
+    private final long resultTtlNanos;
+    private final int maxEntries;
+    private final Counter leaders;
+    private final Counter shared;
+
+    public ReadCoalescer(long resultTtlNanos, int maxEntries, MeterRegistry meterRegistry) {
+        this.resultTtlNanos = resultTtlNanos;
+        this.maxEntries = maxEntries;
+        this.leaders = Counter.builder("planifi.coalescing.calls")
+                .description("Lecturas agrupadas por clave")
+                .tag("outcome", "computed")
+                .register(meterRegistry);
+        this.shared = Counter.builder("planifi.coalescing.calls")
+                .description("Lecturas agrupadas por clave")
+                .tag("outcome", "shared")
+                .register(meterRegistry);
+    }
+
+    public Object execute(Object key, Computation computation) throws Throwable {
+        while (true) {
+            Flight existing = flights.get(key);
+            if (existing != null) {
+                if (existing.isUsable(System.nanoTime())) {
+                    shared.increment();
+                    return existing.await();
+                }
+                flights.remove(key, existing);
+                continue;
+            }
+            Flight flight = new Flight();
+            if (flights.putIfAbsent(key, flight) != null) {
+                continue;
+            }
+            leaders.increment();
+            return lead(key, flight, computation);
+        }
+    }
+
+    public int size() {
+        return flights.size();
+    }
+
+    private Object lead(Object key, Flight flight, Computation computation) throws Throwable {
+        try {
+            Object result = computation.compute();
+            flight.complete(result, System.nanoTime() + resultTtlNanos);
+            if (resultTtlNanos <= 0 || !retain()) {
+                flights.remove(key, flight);
+            }
+            return result;
+        } catch (Throwable ex) {
+            flights.remove(key, flight);
+            flight.fail(ex);
+            throw ex;
+        }
+    }
+
+    // Expired results are only dropped when their key comes back, so sweep once the map is full.
+    private boolean retain() {
+        if (flights.size() <= maxEntries) {
+            return true;
+        }
+        long now = System.nanoTime();
+        flights.values().removeIf(flight -> flight.isExpired(now));
+        return flights.size() <= maxEntries;
+    }
+
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long expiresAtNanos;
+
+        private boolean isUsable(long now) {
+            return !result.isDone() || !isExpired(now);
+        }
+
+        private boolean isExpired(long now) {
+            return result.isDone() && now - expiresAtNanos >= 0;
+        }
+
+        private void complete(Object value, long expiresAtNanos) {
+            this.expiresAtNanos = expiresAtNanos;
+            result.complete(value);
+        }
+
+        private void fail(Throwable ex) {
+            result.completeExceptionally(ex);
+        }
+
+        private Object await() throws Throwable {
+            try {
+                return result.get();
+            } catch (ExecutionException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.planifi.backend.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+// Gradient limiter: compares the latency of the last window with its long-term average. While
+// they match the limit keeps growing by sqrt(limit); once requests start queueing somewhere
+// (Hikari, the database) latency rises and the limit shrinks in proportion, so excess load is
+// rejected up front instead of waiting in Tomcat until every request times out together.
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final double longRttWeight;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final Map<RequestPriority, Double> shares;
+    private final Map<RequestPriority, Counter> rejections = new EnumMap<>(RequestPriority.class);
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile int limit;
+
+    // Guarded by this.
+    private double estimatedLimit;
+    private double longRttNanos;
+    private double shortRttNanos;
+    private long windowStartNanos;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInflight;
+    private boolean windowDropped;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit,
+                                      int minLimit,
+                                      int maxLimit,
+                                      double rttTolerance,
+                                      double smoothing,
+                                      int longWindowSamples,
+                                      long windowNanos,
+                                      int minWindowSamples,
+                                      Map<RequestPriority, Double> shares,
+                                      MeterRegistry meterRegistry,
+                                      LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("minLimit must be positive and not above maxLimit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.longRttWeight = 2.0 / (longWindowSamples + 1);
+        this.windowNanos = windowNanos;
+        this.minWindowSamples = minWindowSamples;
+        this.shares = new EnumMap<>(shares);
+        this.nanoClock = nanoClock;
+        this.estimatedLimit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+        this.windowStartNanos = nanoClock.getAsLong();
+        for (RequestPriority priority : RequestPriority.values()) {
+            rejections.put(priority, Counter.builder("planifi.concurrency.rejected")
+                    .description("Solicitudes rechazadas por el límite de concurrencia")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("planifi.concurrency.limit", this, AdaptiveConcurrencyLimiter::limit)
+                .description("Límite de concurrencia estimado")
+                .register(meterRegistry);
+        Gauge.builder("planifi.concurrency.inflight", this, AdaptiveConcurrencyLimiter::inflight)
+                .description("Solicitudes en curso bajo el límite de concurrencia")
+                .register(meterRegistry);
+        Gauge.builder("planifi.concurrency.rtt.short", this, limiter -> limiter.rttMillis(false))
+                .description("Latencia promedio de la última ventana del limitador")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("planifi.concurrency.rtt.long", this, limiter -> limiter.rttMillis(true))
+                .description("Latencia de referencia del limitador")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    // Lower priorities only get a share of the limit, so they are shed first as it shrinks.
+    public boolean tryAcquire(RequestPriority priority) {
+        if (priority == RequestPriority.CRITICAL) {
+            inflight.incrementAndGet();
+            return true;
+        }
+        int allowed = Math.max(1, (int) (limit * shares.getOrDefault(priority, 1.0)));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                rejections.get(priority).increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos, boolean dropped) {
+        int observedInflight = inflight.getAndDecrement();
+        synchronized (this) {
+            windowRttSum += rttNanos;
+            windowSamples++;
+            windowMaxInflight = Math.max(windowMaxInflight, observedInflight);
+            windowDropped |= dropped;
+            long now = nanoClock.getAsLong();
+            if (windowSamples < minWindowSamples || now - windowStartNanos < windowNanos) {
+                return;
+            }
+            updateLimit((double) windowRttSum / windowSamples);
+            windowStartNanos = now;
+            windowRttSum = 0;
+            windowSamples = 0;
+            windowMaxInflight = 0;
+            windowDropped = false;
+        }
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    private void updateLimit(double rtt) {
+        shortRttNanos = rtt;
+        longRttNanos = longRttNanos == 0 ? rtt : longRttNanos + (rtt - longRttNanos) * longRttWeight;
+        // After a slow spell the baseline would stay inflated for a long time; let it follow
+        // latency back down so the limit can recover.
+        if (longRttNanos > rtt * 2) {
+            longRttNanos *= 0.95;
+        }
+        double gradient = windowDropped
+                ? MIN_GRADIENT
+                : Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * longRttNanos / rtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        // Only grow when the current limit was actually used; an idle service proves nothing.
+        if (windowMaxInflight < estimatedLimit / 2) {
+            newLimit = Math.min(newLimit, estimatedLimit);
+        }
+        estimatedLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    private synchronized double rttMillis(boolean longTerm) {
+        return (longTerm ? longRttNanos : shortRttNanos) / 1_000_000.0;
+    }
+}
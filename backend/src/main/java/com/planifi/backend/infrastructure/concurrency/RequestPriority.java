@@ -0,0 +1,10 @@
+package com.planifi.backend.infrastructure.concurrency;
+
+public enum RequestPriority {
+    // Health probes: never shed, a failing probe would restart a pod that is merely busy.
+    CRITICAL,
+    WRITE,
+    READ,
+    // Listings and exports: first to go when the limit tightens.
+    SHEDDABLE
+}
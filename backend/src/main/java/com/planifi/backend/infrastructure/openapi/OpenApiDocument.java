@@ -0,0 +1,63 @@
+package com.planifi.backend.infrastructure.openapi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+// The OpenAPI document as the build left it (see OpenApiDocumentGenerator): minified JSON and its
+// gzip, read once into memory. Serving it is a copy of bytes, whatever the size of the API.
+public final class OpenApiDocument {
+
+    public static final String JSON_RESOURCE = "openapi/planifi-api-v1.json";
+    public static final String GZIP_RESOURCE = "openapi/planifi-api-v1.json.gz";
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+
+    public OpenApiDocument(byte[] json, byte[] gzip) {
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = "\"" + sha256(json) + "\"";
+    }
+
+    public static OpenApiDocument fromClasspath() {
+        return new OpenApiDocument(read(new ClassPathResource(JSON_RESOURCE)),
+                read(new ClassPathResource(GZIP_RESOURCE)));
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    public byte[] gzip() {
+        return gzip;
+    }
+
+    // Strong validator of the JSON. The gzip variant gets its own ("…-gzip") because a strong ETag
+    // must change with the bytes on the wire.
+    public String etag(boolean gzipped) {
+        return gzipped ? etag.substring(0, etag.length() - 1) + "-gzip\"" : etag;
+    }
+
+    private static byte[] read(Resource resource) {
+        try (InputStream input = resource.getInputStream()) {
+            return input.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo leer " + resource.getDescription(), ex);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes), 0, 16);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.planifi.backend.infrastructure.openapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+// Runs at process-classes (exec-maven-plugin): turns the YAML contract into the minified JSON and
+// gzip that OpenApiDocument serves, so the application never builds the document at runtime.
+// It fails the build when the contract is not an OpenAPI 3 document or has a dangling $ref.
+//
+//   OpenApiDocumentGenerator <contrato.yaml> <directorio de salida>
+public final class OpenApiDocumentGenerator {
+
+    private static final String REF_PREFIX = "#/";
+
+    private OpenApiDocumentGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Uso: OpenApiDocumentGenerator <contrato.yaml> <directorio>");
+        }
+        Path source = Path.of(args[0]);
+        Path target = Path.of(args[1]);
+        byte[] json = generate(source);
+        Files.createDirectories(target);
+        String name = source.getFileName().toString().replaceFirst("\\.ya?ml$", "");
+        Files.write(target.resolve(name + ".json"), json);
+        Files.write(target.resolve(name + ".json.gz"), gzip(json));
+    }
+
+    public static byte[] generate(Path source) throws IOException {
+        JsonNode document = new ObjectMapper(new YAMLFactory()).readTree(source.toFile());
+        List<String> errors = validate(document);
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Contrato OpenAPI inválido (" + source + "): " + String.join("; ", errors));
+        }
+        return new ObjectMapper().writeValueAsBytes(document);
+    }
+
+    static List<String> validate(JsonNode document) {
+        List<String> errors = new ArrayList<>();
+        if (document == null || !document.path("openapi").asText().startsWith("3.")) {
+            errors.add("falta \"openapi: 3.x\"");
+            return errors;
+        }
+        if (!document.path("paths").isObject() || document.path("paths").isEmpty()) {
+            errors.add("no hay rutas en \"paths\"");
+        }
+        collectDanglingRefs(document, document, errors);
+        return errors;
+    }
+
+    private static void collectDanglingRefs(JsonNode root, JsonNode node, List<String> errors) {
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if ("$ref".equals(field.getKey()) && field.getValue().isTextual()) {
+                    String ref = field.getValue().asText();
+                    if (ref.startsWith(REF_PREFIX) && root.at(ref.substring(1)).isMissingNode()) {
+                        errors.add("$ref sin destino: " + ref);
+                    }
+                } else {
+                    collectDanglingRefs(root, field.getValue(), errors);
+                }
+            }
+        } else if (node.isArray()) {
+            node.forEach(element -> collectDanglingRefs(root, element, errors));
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(bytes);
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,20 @@
+package com.planifi.backend.infrastructure.outbox;
+
+import com.planifi.backend.domain.OutboxEvent;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LoggingOutboxEventSink implements OutboxEventSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingOutboxEventSink.class);
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        logger.info("Publicando {} eventos de dominio.", events.size());
+        for (OutboxEvent event : events) {
+            logger.debug("Evento de dominio {} {} publicado (aggregateId={}, userId={}).",
+                    event.getEventType(), event.getId(), event.getAggregateId(), event.getUserId());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.planifi.backend.infrastructure.outbox;
+
+import com.planifi.backend.domain.OutboxEvent;
+import java.util.List;
+
+public interface OutboxEventSink {
+
+    void publish(List<OutboxEvent> events);
+}
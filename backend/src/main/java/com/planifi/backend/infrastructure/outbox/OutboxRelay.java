@@ -0,0 +1,157 @@
+package com.planifi.backend.infrastructure.outbox;
+
+import com.planifi.backend.config.OutboxProperties;
+import com.planifi.backend.domain.OutboxEvent;
+import com.planifi.backend.infrastructure.persistence.OutboxEventRepository;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardTopology;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardTopology shardTopology;
+    private final OutboxProperties properties;
+    private final Clock clock;
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong drainedAtMillis = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<OutboxEventSink> sinks,
+                       PlatformTransactionManager transactionManager,
+                       ShardTopology shardTopology,
+                       OutboxProperties properties,
+                       MeterRegistry meterRegistry,
+                       Clock clock) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sinks = List.copyOf(sinks);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardTopology = shardTopology;
+        this.properties = properties;
+        this.clock = clock;
+        this.publishedCounter = Counter.builder("planifi.outbox.published")
+                .description("Eventos de outbox publicados")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("planifi.outbox.failures")
+                .description("Lotes de outbox que fallaron al publicarse")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("planifi.outbox.batch")
+                .description("Duración de publicación de un lote de outbox")
+                .register(meterRegistry);
+        Gauge.builder("planifi.outbox.lag", lagMillis, AtomicLong::get)
+                .description("Antigüedad del evento pendiente más antiguo")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("planifi.outbox.pending", pendingEvents, AtomicLong::get)
+                .description("Eventos de outbox pendientes de publicar")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${planifi.outbox.poll-interval-millis:1000}")
+    public void relay() {
+        if (shardTopology == null) {
+            relayCurrentDatabase();
+            long observedAt = clock.millis();
+            refreshBacklog();
+            markDrained(observedAt);
+            return;
+        }
+        lagMillis.set(0);
+        pendingEvents.set(0);
+        shardTopology.forEachShard(this::relayCurrentDatabase);
+        long observedAt = clock.millis();
+        shardTopology.forEachShard(this::accumulateBacklog);
+        markDrained(observedAt);
+    }
+
+    @Scheduled(fixedDelayString = "${planifi.outbox.purge-interval-millis:3600000}")
+    public void purgePublished() {
+        OffsetDateTime cutoff = OffsetDateTime.now(clock).minus(properties.getRetention());
+        Runnable purge = () -> transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.deletePublishedBefore(cutoff));
+        if (shardTopology == null) {
+            purge.run();
+        } else {
+            shardTopology.forEachShard(purge);
+        }
+    }
+
+    public long currentLagMillis() {
+        return lagMillis.get();
+    }
+
+    // Last time the relay found no pending event: every write committed before it is published.
+    public long drainedAtEpochMillis() {
+        return drainedAtMillis.get();
+    }
+
+    private void relayCurrentDatabase() {
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            int published;
+            try {
+                published = batchTimer.record(() -> transactionTemplate.execute(status -> publishBatch()));
+            } catch (RuntimeException ex) {
+                failureCounter.increment();
+                logger.warn("No se pudo publicar el lote de outbox; se reintentará.", ex);
+                return;
+            }
+            publishedCounter.increment(published);
+            if (published < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    private int publishBatch() {
+        List<OutboxEvent> events = outboxEventRepository
+                .lockPendingBatch(PageRequest.of(0, properties.getBatchSize()));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        sinks.forEach(sink -> sink.publish(events));
+        OffsetDateTime publishedAt = OffsetDateTime.now(clock);
+        events.forEach(event -> event.markPublished(publishedAt));
+        return events.size();
+    }
+
+    private void markDrained(long observedAt) {
+        if (pendingEvents.get() == 0) {
+            drainedAtMillis.accumulateAndGet(observedAt, Math::max);
+        }
+    }
+
+    private void refreshBacklog() {
+        lagMillis.set(0);
+        pendingEvents.set(0);
+        accumulateBacklog();
+    }
+
+    private void accumulateBacklog() {
+        long now = clock.millis();
+        outboxEventRepository.findFirstByPublishedAtIsNullOrderByCreatedAtAsc()
+                .ifPresent(oldest -> lagMillis.accumulateAndGet(
+                        Math.max(0, now - oldest.getCreatedAt().toInstant().toEpochMilli()),
+                        Math::max));
+        pendingEvents.addAndGet(outboxEventRepository.countByPublishedAtIsNull());
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,4 +15,7 @@ public interface AccountRepository extends JpaRepository<Account, UUID> {
     Optional<Account> findByIdAndUserId(UUID id, UUID userId);
 
     List<Account> findByUserIdAndDisabledAtIsNullOrderByCreatedAtAsc(UUID userId);
+
+    @Query("select distinct a.userId from Account a where a.disabledAt is null")
+    List<UUID> findActiveUserIds();
 }
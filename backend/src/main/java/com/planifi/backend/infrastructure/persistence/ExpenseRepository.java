@@ -1,10 +1,16 @@
 package com.planifi.backend.infrastructure.persistence;
 
 import com.planifi.backend.domain.Expense;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
+
+    @Query("select e from Expense e where not exists "
+            + "(select t.id from Transaction t where t.id = e.id)")
+    List<Expense> findUnlinked();
 }
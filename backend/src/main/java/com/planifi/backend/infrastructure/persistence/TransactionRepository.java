@@ -2,11 +2,14 @@ package com.planifi.backend.infrastructure.persistence;
 
 import com.planifi.backend.domain.Transaction;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -19,4 +22,22 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
             LocalDate to,
             Pageable pageable
     );
+
+    // Keyset page strictly after (occurredOn, createdAt, id) in descending order, limited to rows
+    // created up to asOf.
+    @Query("select t from Transaction t where t.accountId = :accountId"
+            + " and t.occurredOn between :from and :to"
+            + " and t.createdAt <= :asOf"
+            + " and (t.occurredOn < :occurredOn"
+            + " or (t.occurredOn = :occurredOn and (t.createdAt < :createdAt"
+            + " or (t.createdAt = :createdAt and t.id < :id))))"
+            + " order by t.occurredOn desc, t.createdAt desc, t.id desc")
+    List<Transaction> findPageAfter(@Param("accountId") UUID accountId,
+                                    @Param("from") LocalDate from,
+                                    @Param("to") LocalDate to,
+                                    @Param("asOf") OffsetDateTime asOf,
+                                    @Param("occurredOn") LocalDate occurredOn,
+                                    @Param("createdAt") OffsetDateTime createdAt,
+                                    @Param("id") UUID id,
+                                    Pageable pageable);
 }
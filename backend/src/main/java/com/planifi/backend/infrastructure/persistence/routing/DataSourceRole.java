@@ -0,0 +1,6 @@
+package com.planifi.backend.infrastructure.persistence.routing;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,47 @@
+package com.planifi.backend.infrastructure.persistence.routing;
+
+public final class ReadConsistencyContext {
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReadConsistencyContext() {
+    }
+
+    public static void set(Long minCommitEpochMillis, boolean requirePrimary) {
+        CURRENT.set(new State(minCommitEpochMillis, requirePrimary));
+    }
+
+    public static void recordWrite(long commitEpochMillis) {
+        State state = CURRENT.get();
+        boolean requirePrimary = state != null && state.requirePrimary();
+        CURRENT.set(new State(commitEpochMillis, requirePrimary));
+    }
+
+    public static void requireCommittedAtLeast(long commitEpochMillis) {
+        State state = CURRENT.get();
+        if (state == null) {
+            return;
+        }
+        Long current = state.minCommitEpochMillis();
+        if (current == null || current < commitEpochMillis) {
+            CURRENT.set(new State(commitEpochMillis, state.requirePrimary()));
+        }
+    }
+
+    public static Long minCommitEpochMillis() {
+        State state = CURRENT.get();
+        return state == null ? null : state.minCommitEpochMillis();
+    }
+
+    public static boolean requiresPrimary() {
+        State state = CURRENT.get();
+        return state != null && state.requirePrimary();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    private record State(Long minCommitEpochMillis, boolean requirePrimary) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.planifi.backend.infrastructure.persistence.routing;
+
+import com.planifi.backend.config.ReadReplicaProperties;
+import java.time.Clock;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReadReplicaProperties properties;
+    private final Clock clock;
+
+    private volatile boolean healthy;
+    private volatile long lagMillis;
+    private volatile long checkedAtEpochMillis;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReadReplicaProperties properties, Clock clock) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(
+                (int) Math.max(1, properties.getLagCheckIntervalMillis() / 1000));
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${planifi.datasource.replica.lag-check-interval-millis:2000}")
+    public void refresh() {
+        long now = clock.millis();
+        try {
+            Number lag = StringUtils.hasText(properties.getLagQuery())
+                    ? replicaJdbcTemplate.queryForObject(properties.getLagQuery(), Number.class)
+                    : replicaJdbcTemplate.queryForObject("SELECT 0", Number.class);
+            recordLag(lag == null ? 0 : lag.longValue(), now);
+        } catch (DataAccessException ex) {
+            if (healthy) {
+                logger.warn("Réplica de lectura no disponible; enrutando lecturas al primario.", ex);
+            }
+            recordFailure(now);
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        if (!healthy || lagMillis > properties.getMaxLagMillis()) {
+            return false;
+        }
+        long staleAfterMillis = properties.getLagCheckIntervalMillis() * 3;
+        return clock.millis() - checkedAtEpochMillis <= staleAfterMillis;
+    }
+
+    public boolean hasReplayedUpTo(long commitEpochMillis) {
+        return checkedAtEpochMillis - lagMillis >= commitEpochMillis;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    void recordLag(long lagMillis, long checkedAtEpochMillis) {
+        this.lagMillis = Math.max(0, lagMillis);
+        this.checkedAtEpochMillis = checkedAtEpochMillis;
+        this.healthy = true;
+    }
+
+    void recordFailure(long checkedAtEpochMillis) {
+        this.checkedAtEpochMillis = checkedAtEpochMillis;
+        this.healthy = false;
+    }
+}
@@ -0,0 +1,44 @@
+package com.planifi.backend.infrastructure.persistence.sharding;
+
+import java.util.function.Supplier;
+
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static void set(String shardId) {
+        CURRENT.set(shardId);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static <T> T callOn(String shardId, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(shardId);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void runOn(String shardId, Runnable action) {
+        callOn(shardId, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,181 @@
+package com.planifi.backend.infrastructure.persistence.sharding;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class ShardDirectory {
+
+    private final ShardTopology topology;
+    private final ConsistentHashRing ring;
+    private final JdbcTemplate homeJdbcTemplate;
+    private final long cacheTtlMillis;
+    private final Clock clock;
+    private final Map<UUID, CachedPlacement> cache = new ConcurrentHashMap<>();
+
+    public ShardDirectory(ShardTopology topology,
+                          ConsistentHashRing ring,
+                          long cacheTtlMillis,
+                          Clock clock) {
+        this.topology = topology;
+        this.ring = ring;
+        this.homeJdbcTemplate = new JdbcTemplate(topology.dataSource(topology.homeShardId()));
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.clock = clock;
+    }
+
+    public ShardPlacement resolve(UUID userId) {
+        long now = clock.millis();
+        CachedPlacement cached = cache.get(userId);
+        if (cached != null && cached.expiresAtMillis() > now) {
+            return cached.placement();
+        }
+        // Users without a row predate sharding (or registration ran without it) and keep their
+        // data on the home shard; new users are placed once, when they register.
+        ShardPlacement placement = lookup(userId)
+                .orElseGet(() -> new ShardPlacement(topology.homeShardId(), ShardPlacementStatus.ACTIVE));
+        cache.put(userId, new CachedPlacement(placement, now + cacheTtlMillis));
+        return placement;
+    }
+
+    public ShardPlacement assign(UUID userId) {
+        String shardId = ring.shardFor(userId);
+        ensureUserMirrored(userId, shardId);
+        try {
+            homeJdbcTemplate.update(
+                    "INSERT INTO user_shards (user_id, shard_id, status, updated_at) VALUES (?, ?, ?, ?)",
+                    userId, shardId, ShardPlacementStatus.ACTIVE.name(),
+                    Timestamp.from(Instant.ofEpochMilli(clock.millis())));
+        } catch (DuplicateKeyException ex) {
+            return lookup(userId).orElseThrow(() -> ex);
+        }
+        cache.remove(userId);
+        return new ShardPlacement(shardId, ShardPlacementStatus.ACTIVE);
+    }
+
+    public Optional<ShardPlacement> lookup(UUID userId) {
+        List<ShardPlacement> rows = homeJdbcTemplate.query(
+                "SELECT shard_id, status, target_shard_id, cleanup_shard_id FROM user_shards "
+                        + "WHERE user_id = ?",
+                (rs, rowNum) -> new ShardPlacement(
+                        rs.getString("shard_id"),
+                        ShardPlacementStatus.valueOf(rs.getString("status")),
+                        rs.getString("target_shard_id"),
+                        rs.getString("cleanup_shard_id")),
+                userId);
+        return rows.stream().findFirst();
+    }
+
+    public void update(UUID userId, String shardId, ShardPlacementStatus status) {
+        Timestamp now = Timestamp.from(Instant.ofEpochMilli(clock.millis()));
+        int updated = homeJdbcTemplate.update(
+                "UPDATE user_shards SET shard_id = ?, status = ?, updated_at = ? WHERE user_id = ?",
+                shardId, status.name(), now, userId);
+        if (updated == 0) {
+            homeJdbcTemplate.update(
+                    "INSERT INTO user_shards (user_id, shard_id, status, updated_at) VALUES (?, ?, ?, ?)",
+                    userId, shardId, status.name(), now);
+        }
+        cache.remove(userId);
+    }
+
+    // Claims the user for a move. Fails when the placement changed since it was read, or while the
+    // rows of an earlier move still wait to be deleted.
+    public boolean beginMove(UUID userId, String sourceShardId, String targetShardId) {
+        Timestamp now = Timestamp.from(Instant.ofEpochMilli(clock.millis()));
+        int updated = homeJdbcTemplate.update(
+                "UPDATE user_shards SET status = ?, target_shard_id = ?, updated_at = ? "
+                        + "WHERE user_id = ? AND shard_id = ? AND status = ? AND cleanup_shard_id IS NULL",
+                ShardPlacementStatus.MIGRATING.name(), targetShardId, now, userId, sourceShardId,
+                ShardPlacementStatus.ACTIVE.name());
+        if (updated == 0 && lookup(userId).isEmpty()) {
+            try {
+                updated = homeJdbcTemplate.update(
+                        "INSERT INTO user_shards (user_id, shard_id, status, target_shard_id, updated_at) "
+                                + "VALUES (?, ?, ?, ?, ?)",
+                        userId, sourceShardId, ShardPlacementStatus.MIGRATING.name(), targetShardId, now);
+            } catch (DuplicateKeyException ex) {
+                updated = 0;
+            }
+        }
+        cache.remove(userId);
+        return updated > 0;
+    }
+
+    // The flip: from here on requests go to the target, and the source rows are left for cleanup.
+    public void completeMove(UUID userId, String sourceShardId, String targetShardId) {
+        int updated = homeJdbcTemplate.update(
+                "UPDATE user_shards SET shard_id = ?, status = ?, target_shard_id = NULL, "
+                        + "cleanup_shard_id = ?, updated_at = ? "
+                        + "WHERE user_id = ? AND status = ? AND target_shard_id = ?",
+                targetShardId, ShardPlacementStatus.ACTIVE.name(), sourceShardId,
+                Timestamp.from(Instant.ofEpochMilli(clock.millis())), userId,
+                ShardPlacementStatus.MIGRATING.name(), targetShardId);
+        cache.remove(userId);
+        if (updated == 0) {
+            throw new IllegalStateException("La migración del usuario ya no está en curso: " + userId);
+        }
+    }
+
+    public void abortMove(UUID userId) {
+        homeJdbcTemplate.update(
+                "UPDATE user_shards SET status = ?, target_shard_id = NULL, updated_at = ? "
+                        + "WHERE user_id = ? AND status = ?",
+                ShardPlacementStatus.ACTIVE.name(), Timestamp.from(Instant.ofEpochMilli(clock.millis())),
+                userId, ShardPlacementStatus.MIGRATING.name());
+        cache.remove(userId);
+    }
+
+    public void finishCleanup(UUID userId, String shardId) {
+        homeJdbcTemplate.update(
+                "UPDATE user_shards SET cleanup_shard_id = NULL WHERE user_id = ? AND cleanup_shard_id = ?",
+                userId, shardId);
+        cache.remove(userId);
+    }
+
+    public List<UUID> pendingCleanups(Instant flippedBefore) {
+        return homeJdbcTemplate.queryForList(
+                "SELECT user_id FROM user_shards WHERE cleanup_shard_id IS NOT NULL AND updated_at <= ?",
+                UUID.class, Timestamp.from(flippedBefore));
+    }
+
+    public void ensureUserMirrored(UUID userId, String shardId) {
+        if (topology.homeShardId().equals(shardId)) {
+            return;
+        }
+        List<Map<String, Object>> users = homeJdbcTemplate.queryForList(
+                "SELECT id, email, full_name, created_at FROM users WHERE id = ?", userId);
+        if (users.isEmpty()) {
+            return;
+        }
+        Map<String, Object> user = users.getFirst();
+        JdbcTemplate shardJdbcTemplate = new JdbcTemplate(topology.dataSource(shardId));
+        Integer existing = shardJdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE id = ?", Integer.class, userId);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        try {
+            shardJdbcTemplate.update(
+                    "INSERT INTO users (id, email, full_name, created_at, password_hash) "
+                            + "VALUES (?, ?, ?, ?, '')",
+                    user.get("id"), user.get("email"), user.get("full_name"), user.get("created_at"));
+        } catch (DuplicateKeyException ex) {
+            // Another node mirrored the same user concurrently.
+        }
+    }
+
+    public void evict(UUID userId) {
+        cache.remove(userId);
+    }
+
+    private record CachedPlacement(ShardPlacement placement, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.planifi.backend.infrastructure.persistence.sharding;
+
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+@Endpoint(id = "shards")
+public class ShardEndpoint {
+
+    private final ShardTopology topology;
+    private final ShardDirectory directory;
+    private final ShardRebalancer rebalancer;
+
+    public ShardEndpoint(ShardTopology topology, ShardDirectory directory, ShardRebalancer rebalancer) {
+        this.topology = topology;
+        this.directory = directory;
+        this.rebalancer = rebalancer;
+    }
+
+    @ReadOperation
+    public Map<String, Object> topology() {
+        return Map.of(
+                "homeShardId", topology.homeShardId(),
+                "shardIds", topology.shardIds()
+        );
+    }
+
+    @ReadOperation
+    public ShardPlacement placement(@Selector UUID userId) {
+        return directory.resolve(userId);
+    }
+
+    @WriteOperation
+    public ShardMoveResult move(@Selector UUID userId, String targetShardId) {
+        return rebalancer.moveUser(userId, targetShardId);
+    }
+}
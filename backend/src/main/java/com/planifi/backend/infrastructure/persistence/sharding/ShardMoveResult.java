@@ -0,0 +1,12 @@
+package com.planifi.backend.infrastructure.persistence.sharding;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record ShardMoveResult(
+        UUID userId,
+        String sourceShardId,
+        String targetShardId,
+        Map<String, Integer> copiedRows
+) {
+}
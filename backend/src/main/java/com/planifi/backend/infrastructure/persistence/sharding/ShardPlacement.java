@@ -0,0 +1,19 @@
+package com.planifi.backend.infrastructure.persistence.sharding;
+
+// targetShardId is set while a move is in progress; cleanupShardId names the shard that still
+// holds the user's rows after a move until ShardRebalancer deletes them.
+public record ShardPlacement(
+        String shardId,
+        ShardPlacementStatus status,
+        String targetShardId,
+        String cleanupShardId
+) {
+
+    public ShardPlacement(String shardId, ShardPlacementStatus status) {
+        this(shardId, status, null, null);
+    }
+
+    public boolean isMigrating() {
+        return status == ShardPlacementStatus.MIGRATING;
+    }
+}
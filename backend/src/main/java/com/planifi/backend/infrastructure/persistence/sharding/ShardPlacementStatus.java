@@ -0,0 +1,6 @@
+package com.planifi.backend.infrastructure.persistence.sharding;
+
+public enum ShardPlacementStatus {
+    ACTIVE,
+    MIGRATING
+}
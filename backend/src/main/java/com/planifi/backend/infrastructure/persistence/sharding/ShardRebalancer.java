@@ -0,0 +1,204 @@
+package com.planifi.backend.infrastructure.persistence.sharding;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Moves a user in three steps recorded in the directory: fence the source and copy (MIGRATING
+// with a target), flip (ACTIVE on the target with the source pending cleanup), delete the source
+// rows. A failure before the flip is rolled back; a move left MIGRATING by a crash is resumed by
+// requesting it again; cleanups that fail are retried by cleanUpMovedUsers.
+public class ShardRebalancer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardRebalancer.class);
+
+    private static final String ACCOUNTS_QUERY = "SELECT * FROM accounts WHERE user_id = ?";
+    private static final String TAGS_QUERY = "SELECT * FROM tags WHERE user_id = ?";
+    private static final String TRANSACTIONS_QUERY = "SELECT t.* FROM transactions t "
+            + "JOIN accounts a ON a.id = t.account_id WHERE a.user_id = ?";
+    private static final String TRANSACTION_TAGS_QUERY = "SELECT tt.* FROM transaction_tags tt "
+            + "JOIN transactions t ON t.id = tt.transaction_id "
+            + "JOIN accounts a ON a.id = t.account_id WHERE a.user_id = ?";
+    // Expense rows share the id of the transaction they mirror and have no user_id or foreign
+    // key, so they are found, and removed, through the user's transactions.
+    private static final String USER_TRANSACTION_IDS = "SELECT t.id FROM transactions t "
+            + "JOIN accounts a ON a.id = t.account_id WHERE a.user_id = ?";
+    private static final String EXPENSES_QUERY = "SELECT * FROM expenses WHERE id IN ("
+            + USER_TRANSACTION_IDS + ")";
+    // Retried writes look their key up on the user's current shard, so keys travel with the data.
+    private static final String IDEMPOTENCY_KEYS_QUERY = "SELECT * FROM idempotency_keys WHERE user_id = ?";
+
+    private final ShardTopology topology;
+    private final ShardDirectory directory;
+    private final long cleanupDelayMillis;
+    private final Clock clock;
+
+    public ShardRebalancer(ShardTopology topology,
+                           ShardDirectory directory,
+                           long cleanupDelayMillis,
+                           Clock clock) {
+        this.topology = topology;
+        this.directory = directory;
+        this.cleanupDelayMillis = cleanupDelayMillis;
+        this.clock = clock;
+    }
+
+    public ShardMoveResult moveUser(UUID userId, String targetShardId) {
+        topology.dataSource(targetShardId);
+        ShardPlacement current = directory.lookup(userId)
+                .orElseGet(() -> new ShardPlacement(topology.homeShardId(), ShardPlacementStatus.ACTIVE));
+        if (current.cleanupShardId() != null) {
+            cleanUp(userId, current.cleanupShardId());
+        }
+        String sourceShardId = current.shardId();
+        if (current.isMigrating()) {
+            if (!targetShardId.equals(current.targetShardId())) {
+                throw new IllegalStateException("El usuario ya se está migrando a "
+                        + current.targetShardId() + ": " + userId);
+            }
+            logger.info("Reanudando la migración del usuario de {} a {}.", sourceShardId, targetShardId);
+        } else if (sourceShardId.equals(targetShardId)) {
+            return new ShardMoveResult(userId, sourceShardId, targetShardId, Map.of());
+        } else if (!directory.beginMove(userId, sourceShardId, targetShardId)) {
+            throw new IllegalStateException("La ubicación del usuario cambió durante la migración: " + userId);
+        }
+
+        Map<String, Integer> copied;
+        try {
+            fenceWrites(userId, sourceShardId);
+            copied = copyUserData(userId, sourceShardId, targetShardId);
+            directory.completeMove(userId, sourceShardId, targetShardId);
+        } catch (RuntimeException ex) {
+            rollBack(userId, sourceShardId, targetShardId, ex);
+            throw ex;
+        }
+        // Other nodes may route reads to the source until their directory cache expires, so its
+        // rows stay readable (writes are fenced) for that long.
+        if (cleanupDelayMillis <= 0) {
+            try {
+                cleanUp(userId, sourceShardId);
+            } catch (RuntimeException ex) {
+                logger.warn("No se pudieron borrar los datos del usuario en {}; se reintentará.",
+                        sourceShardId, ex);
+            }
+        }
+        logger.info("Usuario migrado de {} a {} ({}).", sourceShardId, targetShardId, copied);
+        return new ShardMoveResult(userId, sourceShardId, targetShardId, copied);
+    }
+
+    @Scheduled(fixedDelayString = "${planifi.datasource.sharding.cleanup-interval-millis:60000}")
+    public void cleanUpMovedUsers() {
+        for (UUID userId : directory.pendingCleanups(Instant.ofEpochMilli(clock.millis() - cleanupDelayMillis))) {
+            directory.lookup(userId)
+                    .map(ShardPlacement::cleanupShardId)
+                    .ifPresent(shardId -> {
+                        try {
+                            cleanUp(userId, shardId);
+                        } catch (RuntimeException ex) {
+                            logger.warn("No se pudieron borrar los datos migrados en {}.", shardId, ex);
+                        }
+                    });
+        }
+    }
+
+    // The update waits for the row locks ShardWriteFence takes, so writes already running commit
+    // before the copy reads the source, and every later write there is rejected.
+    private void fenceWrites(UUID userId, String shardId) {
+        JdbcTemplate source = new JdbcTemplate(topology.dataSource(shardId));
+        transaction(shardId).executeWithoutResult(status -> source.update(
+                "UPDATE users SET write_fenced_at = ? WHERE id = ?",
+                Timestamp.from(Instant.ofEpochMilli(clock.millis())), userId));
+    }
+
+    private Map<String, Integer> copyUserData(UUID userId, String sourceShardId, String targetShardId) {
+        JdbcTemplate source = new JdbcTemplate(topology.dataSource(sourceShardId));
+        JdbcTemplate target = new JdbcTemplate(topology.dataSource(targetShardId));
+
+        directory.ensureUserMirrored(userId, targetShardId);
+        Map<String, List<Map<String, Object>>> rowsByTable = new LinkedHashMap<>();
+        rowsByTable.put("accounts", source.queryForList(ACCOUNTS_QUERY, userId));
+        rowsByTable.put("tags", source.queryForList(TAGS_QUERY, userId));
+        rowsByTable.put("transactions", source.queryForList(TRANSACTIONS_QUERY, userId));
+        rowsByTable.put("transaction_tags", source.queryForList(TRANSACTION_TAGS_QUERY, userId));
+        rowsByTable.put("expenses", source.queryForList(EXPENSES_QUERY, userId));
+        rowsByTable.put("idempotency_keys", source.queryForList(IDEMPOTENCY_KEYS_QUERY, userId));
+
+        return transaction(targetShardId).execute(status -> {
+            // A resumed move may find the rows of an earlier attempt; copying starts from scratch.
+            deleteUserRows(target, userId);
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            rowsByTable.forEach((table, rows) -> {
+                insertRows(target, table, rows);
+                counts.put(table, rows.size());
+            });
+            target.update("UPDATE users SET write_fenced_at = NULL WHERE id = ?", userId);
+            return counts;
+        });
+    }
+
+    private void insertRows(JdbcTemplate target, String table, List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = List.copyOf(rows.getFirst().keySet());
+        String sql = "INSERT INTO " + table + " ("
+                + String.join(", ", columns)
+                + ") VALUES ("
+                + columns.stream().map(column -> "?").collect(Collectors.joining(", "))
+                + ")";
+        target.batchUpdate(sql, rows.stream()
+                .map(row -> columns.stream().map(row::get).toArray())
+                .toList());
+    }
+
+    // Only undoes what the directory still shows as in flight: if the flip went through before
+    // the failure surfaced, the target already owns the data.
+    private void rollBack(UUID userId, String sourceShardId, String targetShardId, RuntimeException cause) {
+        try {
+            ShardPlacement placement = directory.lookup(userId).orElse(null);
+            if (placement == null || !placement.isMigrating()) {
+                return;
+            }
+            JdbcTemplate target = new JdbcTemplate(topology.dataSource(targetShardId));
+            transaction(targetShardId).executeWithoutResult(status -> deleteUserRows(target, userId));
+            JdbcTemplate source = new JdbcTemplate(topology.dataSource(sourceShardId));
+            transaction(sourceShardId).executeWithoutResult(status ->
+                    source.update("UPDATE users SET write_fenced_at = NULL WHERE id = ?", userId));
+            directory.abortMove(userId);
+        } catch (RuntimeException ex) {
+            cause.addSuppressed(ex);
+            logger.error("No se pudo revertir la migración del usuario; sigue en curso y puede reanudarse.", ex);
+        }
+    }
+
+    // The source keeps the user's row with write_fenced_at set, so writes routed there by a stale
+    // cache keep being rejected.
+    private void cleanUp(UUID userId, String shardId) {
+        JdbcTemplate source = new JdbcTemplate(topology.dataSource(shardId));
+        transaction(shardId).executeWithoutResult(status -> deleteUserRows(source, userId));
+        directory.finishCleanup(userId, shardId);
+    }
+
+    private void deleteUserRows(JdbcTemplate jdbcTemplate, UUID userId) {
+        // Before the accounts: deleting them cascades to the transactions these ids come from.
+        jdbcTemplate.update("DELETE FROM expenses WHERE id IN (" + USER_TRANSACTION_IDS + ")", userId);
+        jdbcTemplate.update("DELETE FROM accounts WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM tags WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE user_id = ?", userId);
+    }
+
+    private TransactionTemplate transaction(String shardId) {
+        return new TransactionTemplate(new DataSourceTransactionManager(topology.dataSource(shardId)));
+    }
+}
@@ -0,0 +1,24 @@
+package com.planifi.backend.infrastructure.persistence.sharding;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ShardTopology topology;
+
+    public ShardRoutingDataSource(ShardTopology topology) {
+        this.topology = topology;
+        setTargetDataSources(new HashMap<>(Map.copyOf(topology.dataSources())));
+        setDefaultTargetDataSource(topology.dataSource(topology.homeShardId()));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String shardId = ShardContext.current();
+        return shardId == null ? topology.homeShardId() : shardId;
+    }
+}
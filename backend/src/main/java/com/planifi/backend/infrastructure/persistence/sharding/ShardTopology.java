@@ -0,0 +1,47 @@
+package com.planifi.backend.infrastructure.persistence.sharding;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+
+public class ShardTopology {
+
+    private final String homeShardId;
+    private final Map<String, DataSource> shards;
+
+    public ShardTopology(String homeShardId, Map<String, DataSource> shards) {
+        if (!shards.containsKey(homeShardId)) {
+            throw new IllegalArgumentException("El shard principal no está configurado: " + homeShardId);
+        }
+        this.homeShardId = homeShardId;
+        this.shards = Collections.unmodifiableMap(new LinkedHashMap<>(shards));
+    }
+
+    public String homeShardId() {
+        return homeShardId;
+    }
+
+    public Set<String> shardIds() {
+        return shards.keySet();
+    }
+
+    public DataSource dataSource(String shardId) {
+        DataSource dataSource = shards.get(shardId);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Shard desconocido: " + shardId);
+        }
+        return dataSource;
+    }
+
+    public Map<String, DataSource> dataSources() {
+        return shards;
+    }
+
+    public void forEachShard(Runnable action) {
+        for (String shardId : shards.keySet()) {
+            ShardContext.runOn(shardId, action);
+        }
+    }
+}
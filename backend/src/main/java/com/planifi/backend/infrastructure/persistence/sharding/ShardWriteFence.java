@@ -0,0 +1,30 @@
+package com.planifi.backend.infrastructure.persistence.sharding;
+
+import com.planifi.backend.application.ShardMigrationInProgressException;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// Checked inside every shard-local write transaction. The user's row is locked until commit, so
+// ShardRebalancer setting write_fenced_at waits for writes already running and every later write
+// on that shard is rejected. A shard without the user's row never holds their data either, which
+// only happens when a stale directory cache routes the write there.
+public class ShardWriteFence {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ShardWriteFence(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public void check(UUID userId) {
+        List<Boolean> fenced = jdbcTemplate.query(
+                "SELECT write_fenced_at FROM users WHERE id = ? FOR UPDATE",
+                (rs, rowNum) -> rs.getTimestamp("write_fenced_at") != null,
+                userId);
+        if (fenced.isEmpty() || fenced.getFirst()) {
+            throw new ShardMigrationInProgressException();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.planifi.backend.infrastructure.persistence.timing;
+
+import com.planifi.backend.observability.RequestPhase;
+import com.planifi.backend.observability.RequestTimings;
+import java.sql.Connection;
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.lifecycle.JdbcLifecycleEventListenerAdapter;
+
+// Pool wait, connection hold and statement time for the current request. Every execute call counts once (a JDBC
+// batch is one round trip). Statements outside a request, such as schedulers, find no timings.
+public class RequestTimingJdbcListener extends JdbcLifecycleEventListenerAdapter {
+
+    @Override
+    public void beforeGetConnection(MethodExecutionContext executionContext) {
+        RequestTimings.open(RequestPhase.DB_CONNECTION);
+    }
+
+    @Override
+    public void afterGetConnection(MethodExecutionContext executionContext) {
+        RequestTimings.close(RequestPhase.DB_CONNECTION);
+        if (executionContext.getThrown() == null) {
+            RequestTimings.enter(RequestPhase.DB_HOLD);
+        }
+    }
+
+    // Statements and result sets share the close callback; only the connection ends the hold.
+    @Override
+    public void afterClose(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof Connection) {
+            RequestTimings.exit(RequestPhase.DB_HOLD);
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestTimings.open(RequestPhase.DB);
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestTimings.close(RequestPhase.DB);
+    }
+}
@@ -0,0 +1,59 @@
+package com.planifi.backend.infrastructure.ratelimit;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+// Seeded 64-bit hash so client keys never need to be materialized as strings or stored.
+// Replicas sharing a bucket store must derive the same seed (see fromSecret); the random seed
+// is only for the local store and benchmarks.
+public final class ClientKeyHasher {
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long seed;
+
+    public ClientKeyHasher() {
+        this(new SecureRandom().nextLong());
+    }
+
+    public ClientKeyHasher(long seed) {
+        this.seed = seed;
+    }
+
+    public static ClientKeyHasher fromSecret(String secret) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(("rate-limit:" + secret).getBytes(StandardCharsets.UTF_8));
+            return new ClientKeyHasher(ByteBuffer.wrap(digest).getLong());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 algorithm not available", ex);
+        }
+    }
+
+    public long hash(char kind, CharSequence value) {
+        long hash = (seed ^ kind) * FNV_PRIME;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return mix(hash ^ value.length());
+    }
+
+    public long hash(char kind, long mostSignificantBits, long leastSignificantBits) {
+        long hash = (seed ^ kind) * FNV_PRIME;
+        hash = mix(hash ^ mostSignificantBits);
+        return mix(hash ^ leastSignificantBits);
+    }
+
+    private static long mix(long value) {
+        long mixed = value;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xff51afd7ed558ccdL;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xc4ceb9fe1a85ec53L;
+        mixed ^= mixed >>> 33;
+        return mixed;
+    }
+}
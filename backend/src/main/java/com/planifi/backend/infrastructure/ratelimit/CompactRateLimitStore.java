@@ -0,0 +1,285 @@
+package com.planifi.backend.infrastructure.ratelimit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// Open-addressing table over primitive arrays: no object per client key, so a burst of millions of
+// keys costs three flat arrays instead of millions of map entries for the collector to trace.
+// Each slot holds the hashed key and one packed long (16-bit key fingerprint + 48-bit GCRA
+// theoretical arrival time in micros), updated with CAS. Idle slots are released by a hashed
+// timing wheel that only visits the slots due in the current tick, and a key that finds its probe
+// window full takes over any slot whose bucket has already refilled.
+public class CompactRateLimitStore implements RateLimitStore {
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private static final long EMPTY = 0L;
+    private static final long TOMBSTONE = Long.MIN_VALUE;
+    private static final int MAX_PROBES = 32;
+    private static final int CLAIM_ATTEMPTS = 4;
+    private static final long TAT_MASK = (1L << 48) - 1;
+    private static final int OVERFLOW_STRIPES = 64;
+
+    private final long[] keys;
+    private final long[] states;
+    private final int[] scheduledTicks;
+    private final int mask;
+    private final long ttlMicros;
+    private final long tickMicros;
+    private final WheelBucket[] wheel;
+    private final AtomicLong processedTick;
+    private final LongSupplier nanoClock;
+    private final long originNanos;
+    private final AtomicInteger size = new AtomicInteger();
+    // Only keys whose whole probe window is busy draining land here, striped by key hash so one
+    // busy window does not lock out every other client that overflows.
+    private final AtomicLongArray overflowTats = new AtomicLongArray(OVERFLOW_STRIPES);
+    private final LongAdder overflowHits = new LongAdder();
+
+    public CompactRateLimitStore(int maxKeys, Duration ttl, Duration tick) {
+        this(maxKeys, ttl, tick, System::nanoTime);
+    }
+
+    public CompactRateLimitStore(int maxKeys, Duration ttl, Duration tick, LongSupplier nanoClock) {
+        if (maxKeys < 1 || ttl.isNegative() || ttl.isZero() || tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("maxKeys, ttl and tick must be positive");
+        }
+        int tableSize = Integer.highestOneBit(Math.max(16, Math.min(maxKeys, 1 << 29) * 2 - 1)) << 1;
+        this.keys = new long[tableSize];
+        this.states = new long[tableSize];
+        this.scheduledTicks = new int[tableSize];
+        this.mask = tableSize - 1;
+        this.ttlMicros = ttl.toNanos() / 1_000;
+        this.tickMicros = Math.max(1, tick.toNanos() / 1_000);
+        this.wheel = new WheelBucket[(int) Math.min(1 << 16, ttlMicros / tickMicros + 3)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new WheelBucket();
+        }
+        this.nanoClock = nanoClock;
+        this.originNanos = nanoClock.getAsLong();
+        this.processedTick = new AtomicLong(0);
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(long key, RateLimitPolicy policy, int cost) {
+        long now = nowMicros();
+        advanceWheel(now);
+        long normalized = normalize(key);
+        int slot = findOrClaim(normalized, now);
+        long increment = cost * policy.emissionIntervalMicros();
+        if (slot < 0) {
+            overflowHits.increment();
+            return consumeOverflow(overflowStripe(normalized), now, policy, increment);
+        }
+        int fingerprint = fingerprint(normalized);
+        while (true) {
+            long state = (long) LONGS.getVolatile(states, slot);
+            long newTat = Math.max(tat(state, fingerprint), now) + increment;
+            long excess = newTat - now - policy.burstWindowMicros();
+            if (excess > 0) {
+                return RateLimitDecision.rejected(ceilMillis(excess));
+            }
+            if (LONGS.compareAndSet(states, slot, state, pack(fingerprint, newTat))) {
+                return RateLimitDecision.allowed(remaining(newTat, now, policy));
+            }
+        }
+    }
+
+    @Override
+    public void charge(long key, RateLimitPolicy policy, int cost) {
+        long now = nowMicros();
+        long normalized = normalize(key);
+        int slot = findOrClaim(normalized, now);
+        long increment = cost * policy.emissionIntervalMicros();
+        long ceiling = now + 2 * policy.burstWindowMicros();
+        if (slot < 0) {
+            overflowTats.getAndUpdate(overflowStripe(normalized),
+                    tat -> Math.min(Math.max(tat, now) + increment, ceiling));
+            return;
+        }
+        int fingerprint = fingerprint(normalized);
+        while (true) {
+            long state = (long) LONGS.getVolatile(states, slot);
+            long newTat = Math.min(Math.max(tat(state, fingerprint), now) + increment, ceiling);
+            if (LONGS.compareAndSet(states, slot, state, pack(fingerprint, newTat))) {
+                return;
+            }
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public long overflowHits() {
+        return overflowHits.sum();
+    }
+
+    private int findOrClaim(long key, long now) {
+        int start = (int) (key ^ (key >>> 32)) & mask;
+        for (int attempt = 0; attempt < CLAIM_ATTEMPTS; attempt++) {
+            int free = -1;
+            long freeKey = EMPTY;
+            for (int probe = 0; probe < MAX_PROBES; probe++) {
+                int slot = (start + probe) & mask;
+                long current = (long) LONGS.getVolatile(keys, slot);
+                if (current == key) {
+                    return slot;
+                }
+                if (current == EMPTY) {
+                    if (free < 0) {
+                        free = slot;
+                        freeKey = EMPTY;
+                    }
+                    break;
+                }
+                if (free < 0 && (current == TOMBSTONE || refilled(current, slot, now))) {
+                    free = slot;
+                    freeKey = current;
+                }
+            }
+            if (free < 0) {
+                return -1;
+            }
+            if (LONGS.compareAndSet(keys, free, freeKey, key)) {
+                if (freeKey == EMPTY || freeKey == TOMBSTONE) {
+                    size.incrementAndGet();
+                }
+                schedule(free, now + ttlMicros);
+                return free;
+            }
+        }
+        return -1;
+    }
+
+    // A refilled bucket holds nothing a fresh entry would not, so its key can be evicted before
+    // the wheel gets to it without giving that client any extra permits. A leftover state whose
+    // fingerprint does not match reads as refilled, and the new key ignores it the same way.
+    private boolean refilled(long key, int slot, long now) {
+        return tat((long) LONGS.getVolatile(states, slot), fingerprint(key)) <= now;
+    }
+
+    private RateLimitDecision consumeOverflow(int stripe, long now, RateLimitPolicy policy, long increment) {
+        while (true) {
+            long tat = overflowTats.get(stripe);
+            long newTat = Math.max(tat, now) + increment;
+            long excess = newTat - now - policy.burstWindowMicros();
+            if (excess > 0) {
+                return RateLimitDecision.rejected(ceilMillis(excess));
+            }
+            if (overflowTats.compareAndSet(stripe, tat, newTat)) {
+                return RateLimitDecision.allowed(remaining(newTat, now, policy));
+            }
+        }
+    }
+
+    private void advanceWheel(long now) {
+        long currentTick = now / tickMicros;
+        long lastTick = processedTick.get();
+        if (currentTick <= lastTick || !processedTick.compareAndSet(lastTick, currentTick)) {
+            return;
+        }
+        for (long tick = Math.max(lastTick + 1, currentTick - wheel.length + 1); tick <= currentTick; tick++) {
+            expire(tick, now);
+        }
+    }
+
+    private void expire(long tick, long now) {
+        WheelBucket bucket = wheel[(int) (tick % wheel.length)];
+        int[] due = bucket.drain();
+        for (int slot : due) {
+            int scheduled = (int) INTS.getAcquire(scheduledTicks, slot);
+            if (scheduled > (int) tick) {
+                // Only keep it when this bucket still holds the live entry; otherwise it is a leftover
+                // from an earlier occupant and the slot is already queued elsewhere.
+                if (scheduled % wheel.length == tick % wheel.length) {
+                    bucket.add(slot);
+                }
+                continue;
+            }
+            long key = (long) LONGS.getVolatile(keys, slot);
+            if (key == EMPTY || key == TOMBSTONE) {
+                continue;
+            }
+            long tat = tat((long) LONGS.getVolatile(states, slot), fingerprint(key));
+            if (tat + ttlMicros > now) {
+                schedule(slot, tat + ttlMicros);
+            } else if (LONGS.compareAndSet(keys, slot, key, TOMBSTONE)) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    private void schedule(int slot, long dueMicros) {
+        long processed = processedTick.get();
+        long tick = Math.min(Math.max(dueMicros / tickMicros + 1, processed + 1), processed + wheel.length - 1);
+        INTS.setRelease(scheduledTicks, slot, (int) tick);
+        wheel[(int) (tick % wheel.length)].add(slot);
+    }
+
+    private long nowMicros() {
+        return (nanoClock.getAsLong() - originNanos) / 1_000;
+    }
+
+    private static int overflowStripe(long key) {
+        return (int) (key >>> 32) & (OVERFLOW_STRIPES - 1);
+    }
+
+    private static long normalize(long key) {
+        return key == EMPTY || key == TOMBSTONE ? key + 1 : key;
+    }
+
+    // The state only belongs to this key while its fingerprint matches; otherwise the slot holds a
+    // previous occupant's leftovers and the key starts with a full bucket.
+    private static long tat(long state, int fingerprint) {
+        return (int) (state >>> 48) == fingerprint ? state & TAT_MASK : 0;
+    }
+
+    private static long pack(int fingerprint, long tat) {
+        return ((long) fingerprint << 48) | (tat & TAT_MASK);
+    }
+
+    private static int fingerprint(long key) {
+        int fingerprint = (int) (key >>> 48);
+        return fingerprint == 0 ? 1 : fingerprint;
+    }
+
+    private static long remaining(long newTat, long now, RateLimitPolicy policy) {
+        return (policy.burstWindowMicros() - (newTat - now)) / policy.emissionIntervalMicros();
+    }
+
+    private static long ceilMillis(long micros) {
+        return (micros + 999) / 1_000;
+    }
+
+    private static final class WheelBucket {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private int[] slots = new int[INITIAL_CAPACITY];
+        private int count;
+
+        private synchronized void add(int slot) {
+            if (count == slots.length) {
+                int[] grown = new int[slots.length * 2];
+                System.arraycopy(slots, 0, grown, 0, count);
+                slots = grown;
+            }
+            slots[count++] = slot;
+        }
+
+        private synchronized int[] drain() {
+            int[] drained = new int[count];
+            System.arraycopy(slots, 0, drained, 0, count);
+            slots = new int[INITIAL_CAPACITY];
+            count = 0;
+            return drained;
+        }
+    }
+}
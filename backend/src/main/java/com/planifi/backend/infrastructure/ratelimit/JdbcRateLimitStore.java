@@ -0,0 +1,321 @@
+package com.planifi.backend.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Buckets shared by every replica through Postgres. Each trip to the database leases a few
+// permits for the key, so a busy client only touches the row once per lease. Leased permits are
+// already taken from the shared bucket, so the cluster-wide limit holds no matter how many pods
+// serve the traffic. When the database is slow or down the local store answers for a while.
+// Deferred charges are merged per key in a bounded buffer and written in one transaction per
+// flush, so a spray of distinct keys costs one trip to the database instead of one per key.
+public class JdbcRateLimitStore implements RateLimitStore, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcRateLimitStore.class);
+
+    private static final String SELECT_SQL =
+            "SELECT tat_micros FROM rate_limit_buckets WHERE bucket_key = ? FOR UPDATE";
+    private static final String INSERT_SQL =
+            "INSERT INTO rate_limit_buckets (bucket_key, tat_micros, expires_at) VALUES (?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE rate_limit_buckets SET tat_micros = ?, expires_at = ? WHERE bucket_key = ?";
+    private static final String PURGE_SQL = "DELETE FROM rate_limit_buckets WHERE expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RateLimitStore fallback;
+    private final ExecutorService executor;
+    private final Clock clock;
+    private final int leaseSize;
+    private final long leaseTtlNanos;
+    private final long timeoutMillis;
+    private final long fallbackNanos;
+    private final Duration bucketTtl;
+    private final int maxPendingCharges;
+    private final Counter fallbackCounter;
+    private final Map<Long, PendingCharge> pendingCharges = new ConcurrentHashMap<>();
+    // Two generations rotated every lease TTL: expired leases are dropped wholesale, never scanned.
+    private volatile Map<Long, Lease> currentLeases = new ConcurrentHashMap<>();
+    private volatile Map<Long, Lease> previousLeases = new ConcurrentHashMap<>();
+    private final AtomicLong generationStartedNanos = new AtomicLong(System.nanoTime());
+    private volatile long degradedUntilNanos = System.nanoTime();
+
+    public JdbcRateLimitStore(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              RateLimitStore fallback,
+                              ExecutorService executor,
+                              Clock clock,
+                              int leaseSize,
+                              Duration leaseTtl,
+                              Duration timeout,
+                              Duration fallbackPeriod,
+                              Duration bucketTtl,
+                              int maxPendingCharges,
+                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fallback = fallback;
+        this.executor = executor;
+        this.clock = clock;
+        this.leaseSize = leaseSize;
+        this.leaseTtlNanos = leaseTtl.toNanos();
+        this.timeoutMillis = timeout.toMillis();
+        this.fallbackNanos = fallbackPeriod.toNanos();
+        this.bucketTtl = bucketTtl;
+        this.maxPendingCharges = maxPendingCharges;
+        this.fallbackCounter = Counter.builder("planifi.ratelimit.fallbacks")
+                .description("Decisiones de rate limit tomadas con el store local por falla de la base")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(long key, RateLimitPolicy policy, int cost) {
+        long nanos = System.nanoTime();
+        rotateLeases(nanos);
+        Lease lease = lease(key);
+        if (lease != null && lease.expiresAtNanos - nanos > 0) {
+            int left = lease.take(cost);
+            if (left >= 0) {
+                return RateLimitDecision.allowed(lease.sharedRemaining + left);
+            }
+        }
+        if (nanos - degradedUntilNanos < 0) {
+            fallbackCounter.increment();
+            return fallback.tryConsume(key, policy, cost);
+        }
+
+        Grant grant;
+        Future<Grant> pending = null;
+        try {
+            pending = executor.submit(() -> acquire(key, policy, cost));
+            grant = pending.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return degrade(key, policy, cost, nanos, pending, ex);
+        } catch (RejectedExecutionException ex) {
+            // The pool is saturated, not the database: only this request is answered locally.
+            fallbackCounter.increment();
+            return fallback.tryConsume(key, policy, cost);
+        } catch (ExecutionException | TimeoutException ex) {
+            return degrade(key, policy, cost, nanos, pending, ex);
+        }
+
+        if (grant.permits() == 0) {
+            return RateLimitDecision.rejected(grant.retryAfterMillis());
+        }
+        int leased = grant.permits() - cost;
+        if (leased > 0) {
+            currentLeases.put(key, new Lease(leased, grant.sharedRemaining(), nanos + leaseTtlNanos));
+        }
+        return RateLimitDecision.allowed(grant.sharedRemaining() + leased);
+    }
+
+    // Fire-and-forget: the response is already on its way, so a slow database must not hold it.
+    @Override
+    public void charge(long key, RateLimitPolicy policy, int cost) {
+        Lease lease = lease(key);
+        if (lease != null && lease.expiresAtNanos - System.nanoTime() > 0 && lease.take(cost) >= 0) {
+            return;
+        }
+        if (System.nanoTime() - degradedUntilNanos < 0) {
+            fallback.charge(key, policy, cost);
+            return;
+        }
+        // The size check races with other writers, so the buffer may overshoot by a few keys.
+        if (pendingCharges.size() >= maxPendingCharges && !pendingCharges.containsKey(key)) {
+            fallback.charge(key, policy, cost);
+            return;
+        }
+        pendingCharges.merge(key, new PendingCharge(policy, cost), PendingCharge::plus);
+    }
+
+    @Scheduled(fixedDelayString = "${planifi.security.rate-limit.charge-flush-millis:200}")
+    public void flushCharges() {
+        if (pendingCharges.isEmpty()) {
+            return;
+        }
+        // Sorted, so replicas flushing overlapping keys lock the rows in the same order.
+        Map<Long, PendingCharge> batch = new LinkedHashMap<>();
+        pendingCharges.keySet().stream().sorted().forEach(key -> {
+            PendingCharge charge = pendingCharges.remove(key);
+            if (charge != null) {
+                batch.put(key, charge);
+            }
+        });
+        try {
+            executor.execute(() -> writeCharges(batch));
+        } catch (RejectedExecutionException ex) {
+            batch.forEach((key, charge) -> fallback.charge(key, charge.policy(), charge.cost()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "PT${planifi.security.rate-limit.cleanup-interval-seconds:60}S")
+    public void purgeExpired() {
+        try {
+            jdbcTemplate.update(PURGE_SQL, Timestamp.from(clock.instant()));
+        } catch (RuntimeException ex) {
+            logger.warn("No se pudieron depurar los buckets de rate limit vencidos.", ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        flushCharges();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeCharges(Map<Long, PendingCharge> batch) {
+        try {
+            try {
+                transactionTemplate.executeWithoutResult(status -> chargeAll(batch));
+            } catch (DuplicateKeyException ex) {
+                // Another node created one of the rows first; the retry finds it and takes the row lock.
+                transactionTemplate.executeWithoutResult(status -> chargeAll(batch));
+            }
+        } catch (RuntimeException ex) {
+            logger.debug("No se pudieron registrar los costos diferidos de rate limit.", ex);
+        }
+    }
+
+    private void chargeAll(Map<Long, PendingCharge> batch) {
+        batch.forEach((key, charge) -> lockAndCharge(key, charge.policy(), charge.cost()));
+    }
+
+    private Grant acquire(long key, RateLimitPolicy policy, int cost) {
+        try {
+            return transactionTemplate.execute(status -> lockAndLease(key, policy, cost));
+        } catch (DuplicateKeyException ex) {
+            // Another node created the row first; the retry finds it and takes the row lock.
+            return transactionTemplate.execute(status -> lockAndLease(key, policy, cost));
+        }
+    }
+
+    private Grant lockAndLease(long key, RateLimitPolicy policy, int cost) {
+        Instant instant = clock.instant();
+        long now = ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+        List<Long> rows = jdbcTemplate.queryForList(SELECT_SQL, Long.class, key);
+        long tat = rows.isEmpty() ? now : Math.max(rows.get(0), now);
+        long interval = policy.emissionIntervalMicros();
+        long available = (policy.burstWindowMicros() - (tat - now)) / interval;
+        if (available < cost) {
+            long waitMicros = tat + cost * interval - now - policy.burstWindowMicros();
+            return new Grant(0, 0, (waitMicros + 999) / 1_000);
+        }
+        int permits = (int) Math.max(cost, Math.min(leaseSize, available));
+        store(key, rows.isEmpty(), instant, now, tat + permits * interval);
+        return new Grant(permits, available - permits, 0);
+    }
+
+    private void lockAndCharge(long key, RateLimitPolicy policy, int cost) {
+        Instant instant = clock.instant();
+        long now = ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+        List<Long> rows = jdbcTemplate.queryForList(SELECT_SQL, Long.class, key);
+        long tat = rows.isEmpty() ? now : Math.max(rows.get(0), now);
+        long newTat = Math.min(tat + cost * policy.emissionIntervalMicros(), now + 2 * policy.burstWindowMicros());
+        store(key, rows.isEmpty(), instant, now, newTat);
+    }
+
+    private void store(long key, boolean insert, Instant instant, long now, long newTat) {
+        Timestamp expiresAt = Timestamp.from(instant.plus(newTat - now, ChronoUnit.MICROS).plus(bucketTtl));
+        if (insert) {
+            jdbcTemplate.update(INSERT_SQL, key, newTat, expiresAt);
+        } else {
+            jdbcTemplate.update(UPDATE_SQL, newTat, expiresAt, key);
+        }
+    }
+
+    private RateLimitDecision degrade(long key, RateLimitPolicy policy, int cost, long nanos,
+                                      Future<Grant> pending, Exception cause) {
+        if (pending != null) {
+            pending.cancel(true);
+        }
+        long previous = degradedUntilNanos;
+        degradedUntilNanos = nanos + fallbackNanos;
+        if (nanos - previous >= 0) {
+            logger.warn("El store de rate limit en base de datos no respondió a tiempo; se usará el "
+                    + "límite local durante {} ms.", TimeUnit.NANOSECONDS.toMillis(fallbackNanos), cause);
+        }
+        fallbackCounter.increment();
+        return fallback.tryConsume(key, policy, cost);
+    }
+
+    private Lease lease(long key) {
+        Lease lease = currentLeases.get(key);
+        return lease != null ? lease : previousLeases.get(key);
+    }
+
+    private void rotateLeases(long nanos) {
+        long started = generationStartedNanos.get();
+        if (nanos - started < leaseTtlNanos || !generationStartedNanos.compareAndSet(started, nanos)) {
+            return;
+        }
+        previousLeases = currentLeases;
+        currentLeases = new ConcurrentHashMap<>();
+    }
+
+    private record Grant(int permits, long sharedRemaining, long retryAfterMillis) {
+    }
+
+    private record PendingCharge(RateLimitPolicy policy, int cost) {
+        private PendingCharge plus(PendingCharge other) {
+            return new PendingCharge(other.policy, cost + other.cost);
+        }
+    }
+
+    private static final class Lease {
+        private final AtomicInteger permits;
+        private final long sharedRemaining;
+        private final long expiresAtNanos;
+
+        private Lease(int permits, long sharedRemaining, long expiresAtNanos) {
+            this.permits = new AtomicInteger(permits);
+            this.sharedRemaining = sharedRemaining;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        // Returns the permits left after taking cost, or -1 when the lease cannot cover it.
+        private int take(int cost) {
+            while (true) {
+                int current = permits.get();
+                if (current < cost) {
+                    return -1;
+                }
+                if (permits.compareAndSet(current, current - cost)) {
+                    return current - cost;
+                }
+            }
+        }
+    }
+}
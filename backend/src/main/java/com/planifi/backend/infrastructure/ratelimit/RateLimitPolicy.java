@@ -0,0 +1,20 @@
+package com.planifi.backend.infrastructure.ratelimit;
+
+// Token bucket expressed as GCRA: one permit every emissionIntervalMicros, up to capacity at once.
+public record RateLimitPolicy(long capacity, long emissionIntervalMicros) {
+
+    public RateLimitPolicy {
+        if (capacity < 1 || emissionIntervalMicros < 1) {
+            throw new IllegalArgumentException("capacity and emission interval must be positive");
+        }
+    }
+
+    public static RateLimitPolicy perMinute(int requestsPerMinute, int burst) {
+        return new RateLimitPolicy((long) requestsPerMinute + burst,
+                Math.max(1, 60_000_000L / requestsPerMinute));
+    }
+
+    public long burstWindowMicros() {
+        return capacity * emissionIntervalMicros;
+    }
+}
@@ -0,0 +1,14 @@
+package com.planifi.backend.infrastructure.ratelimit;
+
+public interface RateLimitStore {
+
+    default RateLimitDecision tryConsume(long key, RateLimitPolicy policy) {
+        return tryConsume(key, policy, 1);
+    }
+
+    RateLimitDecision tryConsume(long key, RateLimitPolicy policy, int cost);
+
+    // Charges tokens after the fact, once the real cost of a request is known. Never rejects; the
+    // bucket may go into debt (bounded by one burst window) and later requests wait it out.
+    void charge(long key, RateLimitPolicy policy, int cost);
+}
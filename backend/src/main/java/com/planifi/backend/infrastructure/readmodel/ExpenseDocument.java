@@ -0,0 +1,97 @@
+package com.planifi.backend.infrastructure.readmodel;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+@Document(collection = "expense_views")
+public class ExpenseDocument {
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private String accountId;
+
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal amount;
+
+    private LocalDate occurredOn;
+
+    private String description;
+
+    private Instant createdAt;
+
+    private List<TagEntry> tags;
+
+    private Instant projectedAt;
+
+    protected ExpenseDocument() {
+        // Mongo only
+    }
+
+    public ExpenseDocument(String id,
+                           String userId,
+                           String accountId,
+                           BigDecimal amount,
+                           LocalDate occurredOn,
+                           String description,
+                           Instant createdAt,
+                           List<TagEntry> tags,
+                           Instant projectedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.accountId = accountId;
+        this.amount = amount;
+        this.occurredOn = occurredOn;
+        this.description = description;
+        this.createdAt = createdAt;
+        this.tags = tags;
+        this.projectedAt = projectedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getAccountId() {
+        return accountId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public LocalDate getOccurredOn() {
+        return occurredOn;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public List<TagEntry> getTags() {
+        return tags;
+    }
+
+    public Instant getProjectedAt() {
+        return projectedAt;
+    }
+
+    public record TagEntry(String id, String name, String normalizedName, Instant createdAt) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.planifi.backend.infrastructure.readmodel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.application.TransactionResult;
+import com.planifi.backend.domain.ExpenseView;
+import com.planifi.backend.domain.OutboxEvent;
+import com.planifi.backend.infrastructure.outbox.OutboxEventSink;
+import java.time.Clock;
+import java.util.List;
+
+public class ExpenseProjection implements OutboxEventSink {
+
+    private final ExpenseReadModelStore store;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public ExpenseProjection(ExpenseReadModelStore store, ObjectMapper objectMapper, Clock clock) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            switch (event.getEventType()) {
+                case TRANSACTION_CREATED -> {
+                    TransactionResult result = readPayload(event);
+                    store.upsert(event.getUserId(),
+                            List.of(ExpenseView.of(result.transaction(), result.tags())),
+                            clock.instant());
+                }
+                case ACCOUNT_DISABLED -> store.removeByAccount(event.getAggregateId());
+                default -> {
+                }
+            }
+        }
+    }
+
+    private TransactionResult readPayload(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), TransactionResult.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to read outbox event " + event.getId(), ex);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.planifi.backend.infrastructure.readmodel;
+
+import com.planifi.backend.application.ExpenseReadModelRebuild;
+import com.planifi.backend.application.ExpenseReadModelService;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+@Endpoint(id = "expensereadmodel")
+public class ExpenseReadModelEndpoint {
+
+    private final ExpenseReadModelService readModelService;
+
+    public ExpenseReadModelEndpoint(ExpenseReadModelService readModelService) {
+        this.readModelService = readModelService;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("ready", readModelService.isReady());
+        status.put("rebuilding", readModelService.isRebuilding());
+        status.put("lastRebuildAt", readModelService.getLastRebuildAt());
+        status.put("outboxLagMillis", readModelService.currentLagMillis());
+        status.put("maxLagMillis", readModelService.getMaxLagMillis());
+        return status;
+    }
+
+    @WriteOperation
+    public ExpenseReadModelRebuild rebuild() {
+        return readModelService.rebuild();
+    }
+}
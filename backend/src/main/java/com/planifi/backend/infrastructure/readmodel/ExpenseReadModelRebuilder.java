@@ -0,0 +1,67 @@
+package com.planifi.backend.infrastructure.readmodel;
+
+import com.planifi.backend.application.ExpenseReadModelService;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+// Runs the startup rebuild in the background, so a large rebuild never holds back readiness;
+// reads go to Postgres until it finishes. Stopping interrupts it before the data sources close.
+public class ExpenseReadModelRebuilder implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExpenseReadModelRebuilder.class);
+
+    private final ExpenseReadModelService readModelService;
+    private final Duration shutdownTimeout;
+    private volatile ExecutorService executor;
+
+    public ExpenseReadModelRebuilder(ExpenseReadModelService readModelService, Duration shutdownTimeout) {
+        this.readModelService = readModelService;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "expense-read-model-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(() -> {
+            try {
+                readModelService.rebuild();
+            } catch (RuntimeException ex) {
+                logger.warn("No se pudo reconstruir el read model de gastos al arrancar; "
+                        + "las lecturas seguirán en Postgres.", ex);
+            }
+        });
+        // No more work is accepted; the thread ends with the rebuild.
+        executor.shutdown();
+    }
+
+    @Override
+    public void stop() {
+        ExecutorService current = executor;
+        if (current == null) {
+            return;
+        }
+        current.shutdownNow();
+        try {
+            if (!current.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warn("La reconstrucción del read model de gastos no terminó en {}.", shutdownTimeout);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+}
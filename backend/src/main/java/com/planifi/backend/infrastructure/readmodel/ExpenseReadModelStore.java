@@ -0,0 +1,20 @@
+package com.planifi.backend.infrastructure.readmodel;
+
+import com.planifi.backend.application.ExpenseSearchCriteria;
+import com.planifi.backend.domain.ExpenseView;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface ExpenseReadModelStore {
+
+    void upsert(UUID userId, List<ExpenseView> expenses, Instant projectedAt);
+
+    void removeByAccount(UUID accountId);
+
+    long removeProjectedBefore(Instant cutoff);
+
+    List<ExpenseView> findByUser(UUID userId);
+
+    List<ExpenseView> search(UUID userId, ExpenseSearchCriteria criteria);
+}
@@ -0,0 +1,54 @@
+package com.planifi.backend.infrastructure.readmodel;
+
+import com.planifi.backend.application.ExpenseSearchCriteria;
+import com.planifi.backend.domain.ExpenseView;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryExpenseReadModelStore implements ExpenseReadModelStore {
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public void upsert(UUID userId, List<ExpenseView> expenses, Instant projectedAt) {
+        expenses.forEach(expense -> entries.put(expense.id(), new Entry(userId, expense, projectedAt)));
+    }
+
+    @Override
+    public void removeByAccount(UUID accountId) {
+        entries.values().removeIf(entry -> accountId.equals(entry.expense().accountId()));
+    }
+
+    @Override
+    public long removeProjectedBefore(Instant cutoff) {
+        long before = entries.size();
+        entries.values().removeIf(entry -> entry.projectedAt().isBefore(cutoff));
+        return before - entries.size();
+    }
+
+    @Override
+    public List<ExpenseView> findByUser(UUID userId) {
+        return entries.values().stream()
+                .filter(entry -> entry.userId().equals(userId))
+                .map(Entry::expense)
+                .sorted(ExpenseView.NEWEST_FIRST)
+                .toList();
+    }
+
+    @Override
+    public List<ExpenseView> search(UUID userId, ExpenseSearchCriteria criteria) {
+        return entries.values().stream()
+                .filter(entry -> entry.userId().equals(userId))
+                .map(Entry::expense)
+                .filter(criteria::matches)
+                .sorted(ExpenseView.NEWEST_FIRST)
+                .limit(criteria.limit())
+                .toList();
+    }
+
+    private record Entry(UUID userId, ExpenseView expense, Instant projectedAt) {
+    }
+}
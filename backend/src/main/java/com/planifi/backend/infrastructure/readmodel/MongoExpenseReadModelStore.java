@@ -0,0 +1,152 @@
+package com.planifi.backend.infrastructure.readmodel;
+
+import com.planifi.backend.application.ExpenseSearchCriteria;
+import com.planifi.backend.domain.ExpenseView;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+public class MongoExpenseReadModelStore implements ExpenseReadModelStore {
+
+    private static final Sort NEWEST_FIRST = Sort.by(
+            Sort.Order.desc("occurredOn"),
+            Sort.Order.desc("createdAt")
+    );
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoExpenseReadModelStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public void ensureIndexes() {
+        IndexOperations indexes = mongoTemplate.indexOps(ExpenseDocument.class);
+        indexes.ensureIndex(new Index()
+                .on("userId", Sort.Direction.ASC)
+                .on("occurredOn", Sort.Direction.DESC)
+                .on("createdAt", Sort.Direction.DESC)
+                .named("ix_user_occurred_on"));
+        indexes.ensureIndex(new Index()
+                .on("userId", Sort.Direction.ASC)
+                .on("tags.normalizedName", Sort.Direction.ASC)
+                .on("occurredOn", Sort.Direction.DESC)
+                .named("ix_user_tag_occurred_on"));
+        indexes.ensureIndex(new Index().on("accountId", Sort.Direction.ASC).named("ix_account"));
+        indexes.ensureIndex(new Index().on("projectedAt", Sort.Direction.ASC).named("ix_projected_at"));
+    }
+
+    @Override
+    public void upsert(UUID userId, List<ExpenseView> expenses, Instant projectedAt) {
+        if (expenses.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ExpenseDocument.class);
+        for (ExpenseView expense : expenses) {
+            ExpenseDocument document = toDocument(userId, expense, projectedAt);
+            bulk.replaceOne(Query.query(Criteria.where("_id").is(document.getId())), document,
+                    FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public void removeByAccount(UUID accountId) {
+        mongoTemplate.remove(Query.query(Criteria.where("accountId").is(accountId.toString())),
+                ExpenseDocument.class);
+    }
+
+    @Override
+    public long removeProjectedBefore(Instant cutoff) {
+        return mongoTemplate.remove(Query.query(Criteria.where("projectedAt").lt(cutoff)),
+                ExpenseDocument.class).getDeletedCount();
+    }
+
+    @Override
+    public List<ExpenseView> findByUser(UUID userId) {
+        Query query = Query.query(Criteria.where("userId").is(userId.toString())).with(NEWEST_FIRST);
+        return mongoTemplate.find(query, ExpenseDocument.class).stream()
+                .map(this::toView)
+                .toList();
+    }
+
+    @Override
+    public List<ExpenseView> search(UUID userId, ExpenseSearchCriteria criteria) {
+        Criteria where = Criteria.where("userId").is(userId.toString());
+        if (criteria.from() != null || criteria.to() != null) {
+            Criteria occurredOn = Criteria.where("occurredOn");
+            if (criteria.from() != null) {
+                occurredOn = occurredOn.gte(criteria.from());
+            }
+            if (criteria.to() != null) {
+                occurredOn = occurredOn.lte(criteria.to());
+            }
+            where = where.andOperator(occurredOn);
+        }
+        if (criteria.tag() != null && !criteria.tag().isBlank()) {
+            where = where.and("tags.normalizedName").is(normalize(criteria.tag()));
+        }
+        if (criteria.text() != null && !criteria.text().isBlank()) {
+            where = where.and("description").regex(Pattern.quote(criteria.text().trim()), "i");
+        }
+        Query query = Query.query(where).with(NEWEST_FIRST).limit(criteria.limit());
+        return mongoTemplate.find(query, ExpenseDocument.class).stream()
+                .map(this::toView)
+                .toList();
+    }
+
+    private ExpenseDocument toDocument(UUID userId, ExpenseView expense, Instant projectedAt) {
+        List<ExpenseDocument.TagEntry> tags = expense.tags().stream()
+                .map(tag -> new ExpenseDocument.TagEntry(
+                        tag.id().toString(),
+                        tag.name(),
+                        normalize(tag.name()),
+                        tag.createdAt() == null ? null : tag.createdAt().toInstant()))
+                .toList();
+        return new ExpenseDocument(
+                expense.id().toString(),
+                userId.toString(),
+                expense.accountId() == null ? null : expense.accountId().toString(),
+                expense.amount(),
+                expense.occurredOn(),
+                expense.description(),
+                expense.createdAt().toInstant(),
+                tags,
+                projectedAt
+        );
+    }
+
+    private ExpenseView toView(ExpenseDocument document) {
+        List<ExpenseView.TagView> tags = document.getTags() == null
+                ? List.of()
+                : document.getTags().stream()
+                        .map(tag -> new ExpenseView.TagView(
+                                UUID.fromString(tag.id()),
+                                tag.name(),
+                                tag.createdAt() == null ? null : tag.createdAt().atOffset(ZoneOffset.UTC)))
+                        .toList();
+        return new ExpenseView(
+                UUID.fromString(document.getId()),
+                document.getAccountId() == null ? null : UUID.fromString(document.getAccountId()),
+                document.getAmount(),
+                document.getOccurredOn(),
+                document.getDescription(),
+                document.getCreatedAt().atOffset(ZoneOffset.UTC),
+                tags
+        );
+    }
+
+    private String normalize(String tag) {
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,67 @@
+package com.planifi.backend.observability;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.appender.listener.AppenderListener;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+
+// The async appender drops events instead of blocking request threads when its ring buffer is
+// full; this counts those drops so a log gap shows up on a dashboard instead of going unnoticed.
+public class AsyncLogAppenderMetrics implements MeterBinder, AutoCloseable {
+
+    public static final String APPENDER_NAME = "ASYNC";
+
+    private final LoggingEventAsyncDisruptorAppender appender;
+    private AppenderListener<ILoggingEvent> listener;
+
+    public AsyncLogAppenderMetrics() {
+        this.appender = findAppender();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (appender == null) {
+            return;
+        }
+        Counter dropped = Counter.builder("planifi.logging.dropped")
+                .description("Eventos de log descartados por el buffer asíncrono lleno")
+                .register(registry);
+        Gauge.builder("planifi.logging.ring.size", appender, LoggingEventAsyncDisruptorAppender::getRingBufferSize)
+                .description("Capacidad del buffer asíncrono de logs")
+                .register(registry);
+        listener = new AppenderListener<>() {
+            @Override
+            public void eventAppendFailed(Appender<ILoggingEvent> source, ILoggingEvent event, Throwable reason) {
+                dropped.increment();
+            }
+        };
+        appender.addListener(listener);
+    }
+
+    @Override
+    public void close() {
+        if (appender != null && listener != null) {
+            appender.removeListener(listener);
+        }
+    }
+
+    private static LoggingEventAsyncDisruptorAppender findAppender() {
+        ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+        if (factory instanceof LoggerContext context) {
+            Appender<ILoggingEvent> candidate = context.getLogger(Logger.ROOT_LOGGER_NAME)
+                    .getAppender(APPENDER_NAME);
+            if (candidate instanceof LoggingEventAsyncDisruptorAppender async) {
+                return async;
+            }
+        }
+        return null;
+    }
+}
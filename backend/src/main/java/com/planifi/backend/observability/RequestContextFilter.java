@@ -2,6 +2,9 @@ package com.planifi.backend.observability;
 
 import com.planifi.backend.config.AuthenticatedApiKey;
 import com.planifi.backend.config.AuthenticatedUser;
+import com.planifi.backend.config.RouteClassifier;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,9 +13,10 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.time.Duration;
 import java.util.HexFormat;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import net.logstash.logback.argument.StructuredArguments;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +36,16 @@ public class RequestContextFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(RequestContextFilter.class);
 
+    private final RouteClassifier routeClassifier;
+    private final RequestSampler requestSampler;
+    private final Tracer tracer;
+
+    public RequestContextFilter(RouteClassifier routeClassifier, RequestSampler requestSampler, Tracer tracer) {
+        this.routeClassifier = routeClassifier;
+        this.requestSampler = requestSampler;
+        this.tracer = tracer;
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -49,22 +63,44 @@ public class RequestContextFilter extends OncePerRequestFilter {
         response.setHeader(CORRELATION_ID_HEADER, correlationId);
         response.setHeader(REQUEST_ID_HEADER, requestId);
 
+        boolean failed = false;
         try {
             filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException ex) {
+            failed = true;
+            throw ex;
         } finally {
             enrichUser(SecurityContextHolder.getContext().getAuthentication());
-            long latencyMs = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
-            logger.info("request.completed",
-                    StructuredArguments.keyValue("method", request.getMethod()),
-                    StructuredArguments.keyValue("path", request.getRequestURI()),
-                    StructuredArguments.keyValue("status", response.getStatus()),
-                    StructuredArguments.keyValue("latency_ms", latencyMs));
+            long elapsedNanos = System.nanoTime() - startNanos;
+            // Sampled-out requests skip building the structured arguments altogether.
+            if (logger.isInfoEnabled()
+                    && requestSampler.keep(traceId(),
+                            failed || requestSampler.isAlwaysKept(response.getStatus()), elapsedNanos)) {
+                logCompleted(request, response, elapsedNanos);
+            }
             MDC.remove(MDC_CORRELATION_ID);
             MDC.remove(MDC_REQUEST_ID);
             MDC.remove(MDC_USER_ID);
         }
     }
 
+    private void logCompleted(HttpServletRequest request, HttpServletResponse response, long elapsedNanos) {
+        RequestTimings timings = RequestTimings.current();
+        logger.info("request.completed",
+                StructuredArguments.keyValue("method", request.getMethod()),
+                StructuredArguments.keyValue("path", request.getRequestURI()),
+                StructuredArguments.keyValue("route_class",
+                        routeClassifier.classify(request).costClass()),
+                StructuredArguments.keyValue("status", response.getStatus()),
+                StructuredArguments.keyValue("latency_ms", TimeUnit.NANOSECONDS.toMillis(elapsedNanos)),
+                StructuredArguments.entries(timings != null ? timings.logFields() : Map.of()));
+    }
+
+    private String traceId() {
+        Span span = tracer.currentSpan();
+        return span != null ? span.context().traceId() : null;
+    }
+
     private String resolveOrGenerate(HttpServletRequest request, String headerName) {
         String headerValue = request.getHeader(headerName);
         if (StringUtils.hasText(headerValue)) {
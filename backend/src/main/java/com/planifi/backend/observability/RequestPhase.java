@@ -0,0 +1,22 @@
+package com.planifi.backend.observability;
+
+// Phases reported in Server-Timing, logs and metrics. The names are Server-Timing tokens.
+public enum RequestPhase {
+    AUTH("auth"),
+    PASSWORD("password"),
+    RATE_LIMIT("ratelimit"),
+    DB_CONNECTION("db-conn"),
+    DB_HOLD("db-hold"),
+    DB("db"),
+    SERIALIZATION("serialize");
+
+    private final String metricName;
+
+    RequestPhase(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+}
@@ -0,0 +1,59 @@
+package com.planifi.backend.observability;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+// One keep/drop rule for request logs and exported traces. Always kept: thrown exceptions, 5xx,
+// the 4xx that point at abuse or misconfigured clients (401, 403, 429) and slow requests. Other
+// 4xx and the rest are sampled on the low 64 bits of the trace id. Traces are decided once, on
+// their local root span (TraceSamplingSpanExporter), so a kept log line has its whole trace
+// exported.
+public final class RequestSampler {
+
+    private static final int TRACE_ID_RANDOM_HEX = 16;
+
+    private final double ratio;
+    private final long bound;
+    private final long slowThresholdNanos;
+
+    public RequestSampler(double ratio, Duration slowThreshold) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("La proporción de muestreo debe estar entre 0 y 1: " + ratio);
+        }
+        this.ratio = ratio;
+        this.bound = (long) (ratio * Long.MAX_VALUE);
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    public boolean keep(String traceId, boolean failed, long elapsedNanos) {
+        return failed || isSlow(elapsedNanos) || sampled(traceId);
+    }
+
+    public boolean isAlwaysKept(int status) {
+        return status >= 500 || status == 401 || status == 403 || status == 429;
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= slowThresholdNanos;
+    }
+
+    public boolean sampled(String traceId) {
+        if (ratio >= 1) {
+            return true;
+        }
+        if (ratio <= 0) {
+            return false;
+        }
+        if (traceId == null || traceId.length() < TRACE_ID_RANDOM_HEX) {
+            return ThreadLocalRandom.current().nextDouble() < ratio;
+        }
+        long random;
+        try {
+            random = Long.parseUnsignedLong(traceId, traceId.length() - TRACE_ID_RANDOM_HEX,
+                    traceId.length(), 16);
+        } catch (NumberFormatException ex) {
+            return ThreadLocalRandom.current().nextDouble() < ratio;
+        }
+        return (random >>> 1) < bound;
+    }
+}
@@ -0,0 +1,123 @@
+package com.planifi.backend.observability;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Per-request phase clock: a few primitive arrays bound to the serving thread while the filter
+// chain runs, so instrumented code pays one nanoTime and one thread-local read per span. Work handed
+// to other executors is only counted where the request thread waits for it.
+public final class RequestTimings {
+
+    public static final String REQUEST_ATTRIBUTE = RequestTimings.class.getName();
+
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startedNanos = System.nanoTime();
+    private final long[] elapsedNanos = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private final long[] openedNanos = new long[PHASES.length];
+    private final int[] depth = new int[PHASES.length];
+
+    public static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    // For code that brackets its own work: take System.nanoTime() before, call this in a finally.
+    public static void record(RequestPhase phase, long startedNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.add(phase, System.nanoTime() - startedNanos);
+        }
+    }
+
+    // For before/after callbacks that cannot share a local, such as the JDBC listeners.
+    public static void open(RequestPhase phase) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.openedNanos[phase.ordinal()] = System.nanoTime();
+        }
+    }
+
+    public static void close(RequestPhase phase) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.add(phase, System.nanoTime() - timings.openedNanos[phase.ordinal()]);
+        }
+    }
+
+    // For intervals that can overlap, such as two connections held at once: the phase counts wall
+    // time while at least one is open, and one occurrence per stretch.
+    public static void enter(RequestPhase phase) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null && timings.depth[phase.ordinal()]++ == 0) {
+            timings.openedNanos[phase.ordinal()] = System.nanoTime();
+        }
+    }
+
+    public static void exit(RequestPhase phase) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null && timings.depth[phase.ordinal()] > 0 && --timings.depth[phase.ordinal()] == 0) {
+            timings.add(phase, System.nanoTime() - timings.openedNanos[phase.ordinal()]);
+        }
+    }
+
+    public long elapsedNanos(RequestPhase phase) {
+        return elapsedNanos[phase.ordinal()];
+    }
+
+    public int count(RequestPhase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    public long totalNanos() {
+        return System.nanoTime() - startedNanos;
+    }
+
+    public String serverTiming() {
+        StringBuilder header = new StringBuilder(128);
+        for (RequestPhase phase : PHASES) {
+            int count = counts[phase.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            header.append(phase.metricName()).append(";dur=").append(millis(elapsedNanos[phase.ordinal()]));
+            if (phase == RequestPhase.DB) {
+                header.append(";desc=\"").append(count).append(" statements\"");
+            }
+            header.append(", ");
+        }
+        return header.append("total;dur=").append(millis(totalNanos())).toString();
+    }
+
+    public Map<String, Object> logFields() {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (RequestPhase phase : PHASES) {
+            if (counts[phase.ordinal()] > 0) {
+                fields.put(phase.metricName().replace('-', '_') + "_ms", millis(elapsedNanos[phase.ordinal()]));
+            }
+        }
+        fields.put("db_statements", counts[RequestPhase.DB.ordinal()]);
+        return fields;
+    }
+
+    private void add(RequestPhase phase, long nanos) {
+        counts[phase.ordinal()]++;
+        elapsedNanos[phase.ordinal()] += nanos;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
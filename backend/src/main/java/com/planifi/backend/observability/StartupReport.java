@@ -0,0 +1,60 @@
+package com.planifi.backend.observability;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.StartupStep;
+
+// Condenses the ApplicationStartup timeline (the same steps /actuator/startup returns) into the
+// few steps that dominate startup, named after the bean or phase they belong to. Steps nest, so
+// a parent's duration includes its children's; the list shows where time went, not a sum.
+public final class StartupReport {
+
+    private final Duration jvmToReady;
+    private final List<Step> slowest;
+
+    private StartupReport(Duration jvmToReady, List<Step> slowest) {
+        this.jvmToReady = jvmToReady;
+        this.slowest = slowest;
+    }
+
+    public static StartupReport of(Duration jvmToReady, StartupTimeline timeline, int limit) {
+        List<Step> steps = new ArrayList<>();
+        if (timeline != null) {
+            for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+                steps.add(new Step(describe(event.getStartupStep()), event.getDuration()));
+            }
+        }
+        steps.sort(Comparator.comparing(Step::duration).reversed());
+        return new StartupReport(jvmToReady, List.copyOf(steps.subList(0, Math.min(limit, steps.size()))));
+    }
+
+    public Duration jvmToReady() {
+        return jvmToReady;
+    }
+
+    public List<Step> slowest() {
+        return slowest;
+    }
+
+    public String summary() {
+        StringJoiner joiner = new StringJoiner(", ");
+        slowest.forEach(step -> joiner.add(step.name() + " " + step.duration().toMillis() + " ms"));
+        return joiner.toString();
+    }
+
+    private static String describe(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return step.getName() + "[" + tag.getValue() + "]";
+            }
+        }
+        return step.getName();
+    }
+
+    public record Step(String name, Duration duration) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.planifi.backend.observability;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Applies RequestSampler once per trace instead of once per span. Spans of a trace are held
+// until its local root ends (children always end first), then the root's error, status and
+// duration decide whether the whole trace is exported. Late spans of a decided trace follow
+// the recorded decision. Both maps are bounded: traces whose root never shows up are dropped
+// oldest first.
+public final class TraceSamplingSpanExporter implements SpanExporter {
+
+    private static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("outcome");
+    private static final AttributeKey<String> STATUS = AttributeKey.stringKey("status");
+    private static final AttributeKey<Long> HTTP_STATUS_CODE =
+            AttributeKey.longKey("http.response.status_code");
+
+    private final SpanExporter delegate;
+    private final RequestSampler requestSampler;
+    private final int maxTraces;
+    private final Map<String, List<SpanData>> pending = new LinkedHashMap<>();
+    private final Map<String, Boolean> decided;
+
+    public TraceSamplingSpanExporter(SpanExporter delegate, RequestSampler requestSampler, int maxTraces) {
+        if (maxTraces < 1) {
+            throw new IllegalArgumentException("El máximo de trazas pendientes debe ser positivo: " + maxTraces);
+        }
+        this.delegate = delegate;
+        this.requestSampler = requestSampler;
+        this.maxTraces = maxTraces;
+        this.decided = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > TraceSamplingSpanExporter.this.maxTraces;
+            }
+        };
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        List<SpanData> kept = new ArrayList<>();
+        synchronized (this) {
+            for (SpanData span : spans) {
+                String traceId = span.getTraceId();
+                Boolean decision = decided.get(traceId);
+                if (decision != null) {
+                    if (decision) {
+                        kept.add(span);
+                    }
+                    continue;
+                }
+                List<SpanData> trace = pending.remove(traceId);
+                if (trace == null) {
+                    trace = new ArrayList<>();
+                }
+                trace.add(span);
+                if (!isLocalRoot(span)) {
+                    pending.put(traceId, trace);
+                    evictOldestPending();
+                    continue;
+                }
+                boolean keep = requestSampler.keep(traceId, failed(span),
+                        span.getEndEpochNanos() - span.getStartEpochNanos());
+                decided.put(traceId, keep);
+                if (keep) {
+                    kept.addAll(trace);
+                }
+            }
+        }
+        return kept.isEmpty() ? CompletableResultCode.ofSuccess() : delegate.export(kept);
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return delegate.flush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        synchronized (this) {
+            pending.clear();
+            decided.clear();
+        }
+        return delegate.shutdown();
+    }
+
+    synchronized int pendingTraces() {
+        return pending.size();
+    }
+
+    private void evictOldestPending() {
+        Iterator<String> oldest = pending.keySet().iterator();
+        while (pending.size() > maxTraces && oldest.hasNext()) {
+            oldest.next();
+            oldest.remove();
+        }
+    }
+
+    private static boolean isLocalRoot(SpanData span) {
+        SpanContext parent = span.getParentSpanContext();
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    private boolean failed(SpanData span) {
+        if (span.getStatus().getStatusCode() == StatusCode.ERROR
+                || "SERVER_ERROR".equals(span.getAttributes().get(OUTCOME))) {
+            return true;
+        }
+        Long statusCode = span.getAttributes().get(HTTP_STATUS_CODE);
+        if (statusCode != null) {
+            return requestSampler.isAlwaysKept(statusCode.intValue());
+        }
+        String status = span.getAttributes().get(STATUS);
+        if (status == null) {
+            return false;
+        }
+        try {
+            return requestSampler.isAlwaysKept(Integer.parseInt(status));
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.planifi.backend.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// API keys are not cached in memory, so every key that is not a static key costs a trip to the
+// store; each of those trips is one event.
+@Name(ApiKeyLookupEvent.NAME)
+@Label("API Key Store Lookup")
+@Category({"Planifi", "Security"})
+@Description("API key resolved against the database")
+@StackTrace(false)
+public class ApiKeyLookupEvent extends Event {
+
+    public static final String NAME = "com.planifi.ApiKeyLookup";
+
+    @Label("Found")
+    boolean found;
+
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+}
@@ -0,0 +1,36 @@
+package com.planifi.backend.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(IdempotencyEvent.NAME)
+@Label("Idempotency Key Check")
+@Category({"Planifi", "Requests"})
+@Description("Outcome of an Idempotency-Key lookup on a write")
+@StackTrace(false)
+public class IdempotencyEvent extends Event {
+
+    public static final String NAME = "com.planifi.Idempotency";
+    public static final String REPLAY = "replay";
+    public static final String MISS = "miss";
+    public static final String CONFLICT = "conflict";
+
+    @Label("Service")
+    String service;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static void emit(String service, String outcome) {
+        IdempotencyEvent event = new IdempotencyEvent();
+        if (event.isEnabled()) {
+            event.service = service;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.planifi.backend.observability.jfr;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+// Streams the application's own JFR events in-process and turns them into meters. The stream
+// only enables these events, so it does not pay for the JDK's sampling or allocation events;
+// meters lag the events by the stream's flush interval (about a second). With virtual threads on
+// it also follows the JDK's jdk.VirtualThreadPinned event, the one place it asks for stacks.
+public class JfrMetricsBridge implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JfrMetricsBridge.class);
+    private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+    private static final int MAX_PINNED_SITES = 256;
+    private static final List<String> JDK_PACKAGES = List.of("java.", "jdk.", "sun.");
+
+    private final MeterRegistry meterRegistry;
+    private final Duration repositoryThreshold;
+    private final Duration pinnedThreshold;
+    private final Set<String> pinnedSites = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+
+    public JfrMetricsBridge(MeterRegistry meterRegistry, Duration repositoryThreshold) {
+        this(meterRegistry, repositoryThreshold, null);
+    }
+
+    // A null pinnedThreshold leaves pinning untracked.
+    public JfrMetricsBridge(MeterRegistry meterRegistry, Duration repositoryThreshold, Duration pinnedThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repositoryThreshold = repositoryThreshold;
+        this.pinnedThreshold = pinnedThreshold;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        RecordingStream recordingStream = new RecordingStream();
+        recordingStream.setMaxAge(Duration.ofSeconds(10));
+        recordingStream.enable(IdempotencyEvent.NAME);
+        recordingStream.enable(TagResolutionEvent.NAME);
+        recordingStream.enable(RateLimitRejectionEvent.NAME);
+        recordingStream.enable(ApiKeyLookupEvent.NAME);
+        recordingStream.enable(RepositoryCallEvent.NAME).withThreshold(repositoryThreshold).withoutStackTrace();
+        recordingStream.onEvent(IdempotencyEvent.NAME, this::onIdempotency);
+        recordingStream.onEvent(TagResolutionEvent.NAME, this::onTagResolution);
+        recordingStream.onEvent(RateLimitRejectionEvent.NAME, this::onRateLimitRejection);
+        recordingStream.onEvent(ApiKeyLookupEvent.NAME, this::onApiKeyLookup);
+        recordingStream.onEvent(RepositoryCallEvent.NAME, this::onRepositoryCall);
+        if (pinnedThreshold != null) {
+            recordingStream.enable(VIRTUAL_THREAD_PINNED).withThreshold(pinnedThreshold).withStackTrace();
+            recordingStream.onEvent(VIRTUAL_THREAD_PINNED, this::onVirtualThreadPinned);
+        }
+        recordingStream.startAsync();
+        stream = recordingStream;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onIdempotency(RecordedEvent event) {
+        Counter.builder("planifi.idempotency.checks")
+                .description("Consultas de Idempotency-Key por resultado")
+                .tag("service", event.getString("service"))
+                .tag("outcome", event.getString("outcome"))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void onTagResolution(RecordedEvent event) {
+        Timer.builder("planifi.tags.resolution")
+                .description("Resolución de etiquetas de una transacción")
+                .register(meterRegistry)
+                .record(event.getDuration());
+        Counter.builder("planifi.tags.created")
+                .description("Etiquetas creadas al registrar transacciones")
+                .register(meterRegistry)
+                .increment(event.getInt("created"));
+    }
+
+    private void onRateLimitRejection(RecordedEvent event) {
+        Counter.builder("planifi.ratelimit.rejected")
+                .description("Solicitudes rechazadas por rate limit")
+                .tag("limiter", event.getString("limiter"))
+                .tag("cost_class", event.getString("costClass"))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void onApiKeyLookup(RecordedEvent event) {
+        Timer.builder("planifi.apikey.lookups")
+                .description("Búsquedas de API keys en la base de datos")
+                .tag("found", String.valueOf(event.getBoolean("found")))
+                .register(meterRegistry)
+                .record(event.getDuration());
+    }
+
+    private void onRepositoryCall(RecordedEvent event) {
+        Timer.builder("planifi.repository.slow")
+                .description("Llamadas a repositorios que superaron el umbral")
+                .tag("repository", event.getString("repository"))
+                .tag("method", event.getString("method"))
+                .register(meterRegistry)
+                .record(event.getDuration());
+    }
+
+    private void onVirtualThreadPinned(RecordedEvent event) {
+        String site = pinnedSite(event.getStackTrace());
+        Timer.builder("planifi.threads.pinned")
+                .description("Tiempo que un hilo virtual bloqueó su carrier")
+                .register(meterRegistry)
+                .record(event.getDuration());
+        // Each site is logged once with its stack: the sites are code locations, so the set stays
+        // small unless something is badly wrong, and the cap keeps it bounded even then.
+        if (pinnedSites.size() < MAX_PINNED_SITES && pinnedSites.add(site)) {
+            LOGGER.warn("Hilo virtual fijado a su carrier {} ms en {}\n{}",
+                    event.getDuration().toMillis(), site, stack(event.getStackTrace()));
+        }
+    }
+
+    // The first frame outside the JDK is where the application or a library blocked while pinned
+    // (a synchronized block in a JDBC driver, an appender...); the frames above it are the park.
+    static String pinnedSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "desconocido";
+        }
+        RecordedFrame first = stackTrace.getFrames().get(0);
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (JDK_PACKAGES.stream().noneMatch(type::startsWith)) {
+                return frameName(frame);
+            }
+        }
+        return frameName(first);
+    }
+
+    private static String stack(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            builder.append("\tat ").append(frameName(frame)).append('\n');
+        }
+        return builder.toString();
+    }
+
+    private static String frameName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+    }
+}
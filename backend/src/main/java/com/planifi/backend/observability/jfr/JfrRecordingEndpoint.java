@@ -0,0 +1,132 @@
+package com.planifi.backend.observability.jfr;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+// One rolling recording at a time, bounded by age and size, using the JDK's "default" (about 1%
+// overhead) or "profile" settings plus the application events. The file is dumped on demand and
+// deleted once the response has been streamed.
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    public static final String RECORDING_NAME = "planifi-continuous";
+
+    private final String defaultSettings;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final Duration repositoryThreshold;
+    private Recording recording;
+
+    public JfrRecordingEndpoint(String defaultSettings, Duration maxAge, long maxSizeBytes,
+                                Duration repositoryThreshold) {
+        this.defaultSettings = defaultSettings;
+        this.maxAge = maxAge;
+        this.maxSizeBytes = maxSizeBytes;
+        this.repositoryThreshold = repositoryThreshold;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("name", RECORDING_NAME);
+        status.put("state", recording == null ? "NONE" : recording.getState().name());
+        if (recording != null) {
+            status.put("startTime", recording.getStartTime());
+            status.put("size", recording.getSize());
+            status.put("maxAge", recording.getMaxAge());
+            status.put("maxSize", recording.getMaxSize());
+        }
+        return status;
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable String settings) {
+        String name = settings == null ? defaultSettings : settings;
+        if (!"default".equals(name) && !"profile".equals(name)) {
+            throw new InvalidEndpointRequestException("Configuración JFR no soportada: " + name,
+                    "settings must be default or profile");
+        }
+        if (recording != null) {
+            recording.close();
+        }
+        Map<String, String> values;
+        try {
+            values = new LinkedHashMap<>(Configuration.getConfiguration(name).getSettings());
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("No se pudo cargar la configuración JFR " + name, ex);
+        }
+        values.put(RepositoryCallEvent.NAME + "#threshold", repositoryThreshold.toMillis() + " ms");
+        Recording started = new Recording(values);
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxAge(maxAge);
+        started.setMaxSize(maxSizeBytes);
+        started.start();
+        recording = started;
+        return status();
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        return status();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized Resource dump(@Selector String name) {
+        if (recording == null || !RECORDING_NAME.equals(name)) {
+            return null;
+        }
+        try {
+            Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            recording.dump(file);
+            return new InputStreamResource(new DeletingInputStream(file));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo volcar la grabación JFR", ex);
+        }
+    }
+
+    public synchronized void close() {
+        stop();
+    }
+
+    private static final class DeletingInputStream extends FilterInputStream {
+
+        private final Path file;
+
+        private DeletingInputStream(Path file) throws IOException {
+            super(Files.newInputStream(file));
+            this.file = file;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
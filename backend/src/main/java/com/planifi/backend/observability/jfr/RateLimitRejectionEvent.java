@@ -0,0 +1,37 @@
+package com.planifi.backend.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name(RateLimitRejectionEvent.NAME)
+@Label("Rate Limit Rejection")
+@Category({"Planifi", "Requests"})
+@StackTrace(false)
+public class RateLimitRejectionEvent extends Event {
+
+    public static final String NAME = "com.planifi.RateLimitRejection";
+
+    @Label("Limiter")
+    String limiter;
+
+    @Label("Cost Class")
+    String costClass;
+
+    @Label("Retry After")
+    @Timespan(Timespan.MILLISECONDS)
+    long retryAfter;
+
+    public static void emit(String limiter, String costClass, long retryAfterMillis) {
+        RateLimitRejectionEvent event = new RateLimitRejectionEvent();
+        if (event.isEnabled()) {
+            event.limiter = limiter;
+            event.costClass = costClass;
+            event.retryAfter = retryAfterMillis;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.planifi.backend.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+// Only calls above the threshold are written; recordings and the metrics stream can lower it.
+@Name(RepositoryCallEvent.NAME)
+@Label("Slow Repository Call")
+@Category({"Planifi", "Persistence"})
+@Description("Spring Data repository method that ran longer than the threshold")
+@Threshold("20 ms")
+public class RepositoryCallEvent extends Event {
+
+    public static final String NAME = "com.planifi.RepositoryCall";
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    public void set(String repository, String method) {
+        this.repository = repository;
+        this.method = method;
+    }
+}
@@ -0,0 +1,42 @@
+package com.planifi.backend.observability.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.repository.Repository;
+
+// Brackets every repository call in a RepositoryCallEvent. While no recording has the event
+// enabled this is one isEnabled() check; JFR drops calls under the threshold at commit time.
+public class RepositoryCallInterceptor implements MethodInterceptor {
+
+    private static final ClassValue<String> REPOSITORY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (Repository.class.isAssignableFrom(candidate)) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        }
+    };
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.begin();
+        try {
+            return invocation.proceed();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Object target = invocation.getThis();
+                event.set(target != null ? REPOSITORY_NAMES.get(target.getClass()) : "unknown",
+                        invocation.getMethod().getName());
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.planifi.backend.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(TagResolutionEvent.NAME)
+@Label("Tag Resolution")
+@Category({"Planifi", "Domain"})
+@Description("Tag names resolved for a transaction, and how many had to be created")
+@StackTrace(false)
+public class TagResolutionEvent extends Event {
+
+    public static final String NAME = "com.planifi.TagResolution";
+
+    @Label("Names")
+    String names;
+
+    @Label("Requested")
+    int requested;
+
+    @Label("Created")
+    int created;
+
+    public void set(String names, int requested, int created) {
+        this.names = names;
+        this.requested = requested;
+        this.created = created;
+    }
+}
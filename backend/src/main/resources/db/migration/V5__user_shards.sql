@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS user_shards (
+    user_id UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    shard_id VARCHAR(64) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_shards_shard_id
+    ON user_shards (shard_id);
@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_outbox_events_user_pending
+    ON outbox_events (user_id, published_at);
@@ -0,0 +1,17 @@
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS write_fenced_at TIMESTAMP WITH TIME ZONE;
+
+ALTER TABLE user_shards
+    ADD COLUMN IF NOT EXISTS target_shard_id VARCHAR(64);
+
+ALTER TABLE user_shards
+    ADD COLUMN IF NOT EXISTS cleanup_shard_id VARCHAR(64);
+
+CREATE INDEX IF NOT EXISTS idx_user_shards_cleanup_shard_id
+    ON user_shards (cleanup_shard_id);
+
+ALTER TABLE idempotency_keys
+    ADD COLUMN IF NOT EXISTS user_id UUID;
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_user_id
+    ON idempotency_keys (user_id);
@@ -0,0 +1,134 @@
+package com.planifi.backend.api;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.planifi.backend.config.AuthenticatedUser;
+import com.planifi.backend.domain.Account;
+import com.planifi.backend.domain.AccountType;
+import com.planifi.backend.domain.User;
+import com.planifi.backend.infrastructure.persistence.AccountRepository;
+import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
+import com.planifi.backend.infrastructure.persistence.UserRepository;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "planifi.security.enabled=true",
+        "planifi.security.static-keys=static-test-key",
+        "planifi.security.rate-limit.enabled=true",
+        "planifi.security.rate-limit.sensitive-paths=/api/v1/auth/login",
+        "planifi.security.rate-limit.api.dynamic-cost=rows",
+        "planifi.security.rate-limit.api.rows-per-token=1",
+        "planifi.security.rate-limit.api.user.requests-per-minute=1",
+        "planifi.security.rate-limit.api.user.burst=1",
+        "planifi.security.rate-limit.api.static-key.requests-per-minute=1",
+        "planifi.security.rate-limit.api.static-key.burst=4",
+        "planifi.security.rate-limit.api.routes[0].pattern=/api/v1/expenses/search",
+        "planifi.security.rate-limit.api.routes[0].cost=2"
+})
+class ApiRateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        userRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM rate_limit_buckets");
+
+        userId = UUID.randomUUID();
+        userRepository.save(new User(userId, "api-limit@planifi.app", "password-hash", "Api Limit",
+                OffsetDateTime.now()));
+        authentication = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(userId, "api-limit@planifi.app"), null, List.of());
+    }
+
+    @Test
+    void heavyReadsDoNotStarveWrites() throws Exception {
+        mockMvc.perform(get("/api/v1/accounts").with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-RateLimit-Limit", "2"))
+                .andExpect(header().string("X-RateLimit-Remaining", "1"));
+        mockMvc.perform(get("/api/v1/accounts").with(authentication(authentication)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/accounts").with(authentication(authentication)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.errorCode").value("RATE_LIMIT_EXCEEDED"));
+
+        mockMvc.perform(post("/api/v1/accounts")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-api-limit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Cheques\",\"type\":\"BANK\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void weightedRoutesAndReturnedRowsConsumeExtraTokens() throws Exception {
+        mockMvc.perform(get("/api/v1/expenses/search").with(authentication(authentication)))
+                .andExpect(header().string("X-RateLimit-Remaining", "0"));
+        mockMvc.perform(get("/api/v1/expenses").with(authentication(authentication)))
+                .andExpect(status().isTooManyRequests());
+
+        jdbcTemplate.update("DELETE FROM rate_limit_buckets");
+        UUID otherUser = UUID.randomUUID();
+        userRepository.save(new User(otherUser, "rows@planifi.app", "password-hash", "Rows",
+                OffsetDateTime.now()));
+        accountRepository.save(new Account(UUID.randomUUID(), otherUser, "Cheques", AccountType.BANK, "MXN",
+                OffsetDateTime.now(), null));
+        Authentication rowsUser = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(otherUser, "rows@planifi.app"), null, List.of());
+
+        // One token for the request plus one for the single row it returned.
+        mockMvc.perform(get("/api/v1/accounts").with(authentication(rowsUser)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-RateLimit-Remaining", "1"));
+        mockMvc.perform(get("/api/v1/accounts").with(authentication(rowsUser)))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void staticKeysGetTheirOwnTier() throws Exception {
+        mockMvc.perform(get("/api/v1/accounts").header("X-MCP-API-Key", "static-test-key"))
+                .andExpect(header().string("X-RateLimit-Limit", "5"))
+                .andExpect(header().string("X-RateLimit-Remaining", "4"));
+    }
+}
@@ -0,0 +1,171 @@
+package com.planifi.backend.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.api.dto.CreateTagRequest;
+import com.planifi.backend.api.dto.CreateTransactionRequest;
+import com.planifi.backend.config.AuthenticatedUser;
+import com.planifi.backend.domain.Account;
+import com.planifi.backend.domain.AccountType;
+import com.planifi.backend.domain.User;
+import com.planifi.backend.infrastructure.persistence.AccountRepository;
+import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
+import com.planifi.backend.infrastructure.persistence.TagRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionTagRepository;
+import com.planifi.backend.infrastructure.persistence.UserRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "planifi.http.conditional-get.enabled=true")
+class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TransactionTagRepository transactionTagRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Authentication authentication;
+    private Account checking;
+    private Account savings;
+
+    @BeforeEach
+    void setUp() {
+        transactionTagRepository.deleteAll();
+        transactionRepository.deleteAll();
+        tagRepository.deleteAll();
+        accountRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        userRepository.deleteAll();
+
+        UUID userId = UUID.randomUUID();
+        userRepository.save(new User(
+                userId,
+                "etag@planifi.app",
+                "password-hash",
+                "ETag Tester",
+                OffsetDateTime.now()
+        ));
+        checking = accountRepository.save(new Account(
+                UUID.randomUUID(), userId, "Cheques", AccountType.BANK, "MXN", OffsetDateTime.now(), null));
+        savings = accountRepository.save(new Account(
+                UUID.randomUUID(), userId, "Ahorro", AccountType.BANK, "MXN", OffsetDateTime.now(), null));
+        authentication = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(userId, "etag@planifi.app"),
+                null,
+                List.of()
+        );
+    }
+
+    @Test
+    void listReturnsNotModifiedUntilUserDataChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/tags").with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/");
+
+        mockMvc.perform(get("/api/v1/tags")
+                        .with(authentication(authentication))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/v1/tags")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-etag-tag")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTagRequest("Viajes"))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/v1/tags")
+                        .with(authentication(authentication))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void transactionListsAreVersionedPerAccount() throws Exception {
+        String checkingEtag = etag(transactions(checking));
+        String savingsEtag = etag(transactions(savings));
+
+        mockMvc.perform(post("/api/v1/transactions")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-etag-transaction")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTransactionRequest(
+                                checking.getId(),
+                                new BigDecimal("120.00"),
+                                LocalDate.of(2024, 12, 5),
+                                "Despensa",
+                                List.of(),
+                                false))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(transactions(checking).header(HttpHeaders.IF_NONE_MATCH, checkingEtag))
+                .andExpect(status().isOk());
+        mockMvc.perform(transactions(savings).header(HttpHeaders.IF_NONE_MATCH, savingsEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    private MockHttpServletRequestBuilder transactions(Account account) {
+        return get("/api/v1/transactions")
+                .with(authentication(authentication))
+                .param("accountId", account.getId().toString())
+                .param("from", "2024-12-01")
+                .param("to", "2024-12-31");
+    }
+
+    private String etag(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,224 @@
+package com.planifi.backend.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.api.dto.CreateTagRequest;
+import com.planifi.backend.api.dto.CreateTransactionRequest;
+import com.planifi.backend.api.dto.ErrorResponse;
+import com.planifi.backend.api.dto.TagResponse;
+import com.planifi.backend.api.dto.TransactionPageResponse;
+import com.planifi.backend.config.AuthenticatedUser;
+import com.planifi.backend.config.ContentNegotiationConfig;
+import com.planifi.backend.domain.Account;
+import com.planifi.backend.domain.AccountType;
+import com.planifi.backend.domain.User;
+import com.planifi.backend.infrastructure.persistence.AccountRepository;
+import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
+import com.planifi.backend.infrastructure.persistence.TagRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionTagRepository;
+import com.planifi.backend.infrastructure.persistence.UserRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class ContentNegotiationIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TransactionTagRepository transactionTagRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    private Authentication authentication;
+    private Account account;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        transactionTagRepository.deleteAll();
+        transactionRepository.deleteAll();
+        tagRepository.deleteAll();
+        accountRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        userRepository.deleteAll();
+
+        UUID userId = UUID.randomUUID();
+        userRepository.save(new User(
+                userId,
+                "binary@planifi.app",
+                "password-hash",
+                "Binary Tester",
+                OffsetDateTime.now()
+        ));
+        account = accountRepository.save(new Account(
+                UUID.randomUUID(), userId, "Cheques", AccountType.BANK, "MXN", OffsetDateTime.now(), null));
+        authentication = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(userId, "binary@planifi.app"),
+                null,
+                List.of()
+        );
+
+        for (int i = 0; i < 20; i++) {
+            mockMvc.perform(post("/api/v1/transactions")
+                            .with(authentication(authentication))
+                            .header("Idempotency-Key", "idem-binary-" + i)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CreateTransactionRequest(
+                                    account.getId(),
+                                    new BigDecimal("150.25").add(BigDecimal.valueOf(i)),
+                                    LocalDate.of(2024, 12, 1).plusDays(i),
+                                    "Compra en supermercado " + i,
+                                    List.of(),
+                                    false))))
+                    .andExpect(status().isCreated());
+        }
+    }
+
+    @Test
+    void jsonStaysTheDefaultRepresentation() throws Exception {
+        mockMvc.perform(transactions())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+
+        mockMvc.perform(transactions().accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void binaryRepresentationsCarryTheSamePageInFewerBytes() throws Exception {
+        byte[] json = body(transactions().accept(MediaType.APPLICATION_JSON),
+                MediaType.APPLICATION_JSON);
+        byte[] cbor = body(transactions().accept(MediaType.APPLICATION_CBOR),
+                MediaType.APPLICATION_CBOR);
+        byte[] smile = body(transactions().accept(ContentNegotiationConfig.APPLICATION_SMILE),
+                ContentNegotiationConfig.APPLICATION_SMILE);
+
+        TransactionPageResponse expected = objectMapper.readValue(json, TransactionPageResponse.class);
+        assertThat(expected.items()).hasSize(20);
+        assertThat(cborConverter.getObjectMapper().readValue(cbor, TransactionPageResponse.class))
+                .isEqualTo(expected);
+        assertThat(smileConverter.getObjectMapper().readValue(smile, TransactionPageResponse.class))
+                .isEqualTo(expected);
+        assertThat(cbor.length).isLessThan(json.length);
+        assertThat(smile.length).isLessThan(json.length);
+    }
+
+    @Test
+    void requestBodiesCanBeSentAsCbor() throws Exception {
+        byte[] request = cborConverter.getObjectMapper().writeValueAsBytes(new CreateTagRequest("Viajes"));
+
+        byte[] response = mockMvc.perform(post("/api/v1/tags")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-binary-tag")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(request))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        assertThat(cborConverter.getObjectMapper().readValue(response, TagResponse.class).name())
+                .isEqualTo("Viajes");
+    }
+
+    @Test
+    void errorBodiesFollowTheAcceptHeader() throws Exception {
+        byte[] filterError = mockMvc.perform(get("/api/v1/accounts")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer not-a-jwt")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        assertThat(cborConverter.getObjectMapper().readValue(filterError, ErrorResponse.class).errorCode())
+                .isEqualTo("AUTH_INVALID_TOKEN");
+
+        byte[] validationError = mockMvc.perform(post("/api/v1/tags")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-binary-invalid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(ContentNegotiationConfig.APPLICATION_SMILE)
+                        .content(objectMapper.writeValueAsString(new CreateTagRequest(""))))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(ContentNegotiationConfig.APPLICATION_SMILE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        assertThat(smileConverter.getObjectMapper().readValue(validationError, ErrorResponse.class)
+                .errorCode()).isEqualTo("VALIDATION_ERROR");
+
+        mockMvc.perform(get("/api/v1/accounts").header(HttpHeaders.AUTHORIZATION, "Bearer not-a-jwt"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    private MockHttpServletRequestBuilder transactions() {
+        return get("/api/v1/transactions")
+                .with(authentication(authentication))
+                .param("accountId", account.getId().toString())
+                .param("from", "2024-12-01")
+                .param("to", "2024-12-31");
+    }
+
+    private byte[] body(MockHttpServletRequestBuilder request, MediaType expected) throws Exception {
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(expected))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+    }
+}
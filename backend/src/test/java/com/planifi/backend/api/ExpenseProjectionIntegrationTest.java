@@ -0,0 +1,205 @@
+package com.planifi.backend.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.api.dto.CreateExpenseRequest;
+import com.planifi.backend.application.ExpenseReadModelService;
+import com.planifi.backend.config.AuthenticatedUser;
+import com.planifi.backend.domain.Account;
+import com.planifi.backend.domain.AccountType;
+import com.planifi.backend.domain.User;
+import com.planifi.backend.infrastructure.persistence.AccountRepository;
+import com.planifi.backend.infrastructure.persistence.ExpenseRepository;
+import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
+import com.planifi.backend.infrastructure.persistence.OutboxEventRepository;
+import com.planifi.backend.infrastructure.persistence.TagRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionTagRepository;
+import com.planifi.backend.infrastructure.persistence.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+// Unlike ExpenseReadModelIntegrationTest, nothing here calls the relay: the scheduled relay and
+// the startup rebuild carry writes into the read model on their own. The context is closed
+// afterwards so its fast-polling relay does not publish the outbox of other test classes.
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestPropertySource(properties = {
+        "planifi.outbox.relay-enabled=true",
+        "planifi.outbox.poll-interval-millis=50",
+        "planifi.read-model.expenses.enabled=true",
+        "planifi.read-model.expenses.store=memory",
+        "planifi.read-model.expenses.rebuild-on-startup=true",
+        "planifi.read-coalescing.result-ttl-millis=0"
+})
+class ExpenseProjectionIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(15);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExpenseReadModelService expenseReadModelService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionTagRepository transactionTagRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Authentication authentication;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        transactionTagRepository.deleteAll();
+        transactionRepository.deleteAll();
+        tagRepository.deleteAll();
+        expenseRepository.deleteAll();
+        accountRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        userRepository.deleteAll();
+
+        UUID userId = UUID.randomUUID();
+        userRepository.save(new User(
+                userId,
+                "projection@planifi.app",
+                "password-hash",
+                "Projection Tester",
+                OffsetDateTime.now()
+        ));
+        account = accountRepository.save(new Account(
+                UUID.randomUUID(),
+                userId,
+                "Cuenta proyectada",
+                AccountType.CASH,
+                "MXN",
+                OffsetDateTime.now(),
+                null
+        ));
+        authentication = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(userId, "projection@planifi.app"),
+                null,
+                List.of()
+        );
+    }
+
+    @Test
+    void scheduledRelayProjectsWritesIntoTheReadModel() throws Exception {
+        awaitReady();
+        CreateExpenseRequest request = new CreateExpenseRequest(
+                account.getId(),
+                new BigDecimal("15.50"),
+                LocalDate.of(2024, 9, 20),
+                "Team lunch",
+                List.of("Comida"),
+                true
+        );
+        mockMvc.perform(post("/api/v1/expenses")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-projection-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        double readModelReads = reads();
+        List<JsonNode> listed = awaitListing(expenses -> expenses.size() == 1 && reads() > readModelReads);
+
+        assertThat(listed.getFirst().get("description").asText()).isEqualTo("Team lunch");
+        assertThat(listed.getFirst().get("tags").get(0).get("name").asText()).isEqualTo("Comida");
+
+        mockMvc.perform(post("/api/v1/accounts/{accountId}/disable", account.getId())
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-projection-disable"))
+                .andExpect(status().is2xxSuccessful());
+
+        double readsBeforeRemoval = reads();
+        assertThat(awaitListing(expenses -> expenses.isEmpty() && reads() > readsBeforeRemoval)).isEmpty();
+    }
+
+    private void awaitReady() throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!expenseReadModelService.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(expenseReadModelService.isReady()).isTrue();
+    }
+
+    // Reads through the API until the account's expenses come from the read model in the expected
+    // shape. Legacy rows other test classes left in the database may show up in the listing too.
+    private List<JsonNode> awaitListing(Predicate<List<JsonNode>> expected) throws Exception {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        List<JsonNode> expenses;
+        do {
+            JsonNode listing = objectMapper.readTree(mockMvc.perform(get("/api/v1/expenses")
+                            .with(authentication(authentication)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            expenses = StreamSupport.stream(listing.spliterator(), false)
+                    .filter(expense -> account.getId().toString().equals(expense.get("accountId").asText()))
+                    .toList();
+            if (expected.test(expenses)) {
+                return expenses;
+            }
+            Thread.sleep(50);
+        } while (System.nanoTime() < deadline);
+        throw new AssertionError("El read model no reflejó la escritura a tiempo: " + expenses);
+    }
+
+    private double reads() {
+        return meterRegistry.get("planifi.expenses.reads").tag("source", "read-model").counter().count();
+    }
+}
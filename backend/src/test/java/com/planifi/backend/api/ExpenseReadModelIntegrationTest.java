@@ -0,0 +1,285 @@
+package com.planifi.backend.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.api.dto.CreateExpenseRequest;
+import com.planifi.backend.application.ExpenseReadModelService;
+import com.planifi.backend.config.AuthenticatedUser;
+import com.planifi.backend.domain.Account;
+import com.planifi.backend.domain.AccountType;
+import com.planifi.backend.domain.Expense;
+import com.planifi.backend.domain.Transaction;
+import com.planifi.backend.domain.User;
+import com.planifi.backend.infrastructure.outbox.OutboxRelay;
+import com.planifi.backend.infrastructure.persistence.AccountRepository;
+import com.planifi.backend.infrastructure.persistence.ExpenseRepository;
+import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
+import com.planifi.backend.infrastructure.persistence.OutboxEventRepository;
+import com.planifi.backend.infrastructure.persistence.TagRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionTagRepository;
+import com.planifi.backend.infrastructure.persistence.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "planifi.outbox.relay-enabled=true",
+        "planifi.outbox.poll-interval-millis=3600000",
+        "planifi.read-model.expenses.enabled=true",
+        "planifi.read-model.expenses.store=memory",
+        "planifi.read-model.expenses.rebuild-on-startup=false",
+        "planifi.read-coalescing.result-ttl-millis=0",
+        "planifi.http.conditional-get.enabled=true"
+})
+class ExpenseReadModelIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private ExpenseReadModelService expenseReadModelService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionTagRepository transactionTagRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @SpyBean
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @SpyBean
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Authentication authentication;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        transactionTagRepository.deleteAll();
+        transactionRepository.deleteAll();
+        tagRepository.deleteAll();
+        expenseRepository.deleteAll();
+        accountRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        userRepository.deleteAll();
+
+        UUID userId = UUID.randomUUID();
+        userRepository.save(new User(
+                userId,
+                "readmodel@planifi.app",
+                "password-hash",
+                "Read Model Tester",
+                OffsetDateTime.now()
+        ));
+        account = accountRepository.save(new Account(
+                UUID.randomUUID(),
+                userId,
+                "Cuenta gastos",
+                AccountType.CASH,
+                "MXN",
+                OffsetDateTime.now(),
+                null
+        ));
+        authentication = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(userId, "readmodel@planifi.app"),
+                null,
+                List.of()
+        );
+        expenseReadModelService.rebuild();
+    }
+
+    @Test
+    void listingFallsBackToDatabaseUntilProjectionCatchesUp() throws Exception {
+        createExpense("idem-read-model-1", "Team lunch", List.of("Comida"));
+        double databaseReads = reads("database");
+        double readModelReads = reads("read-model");
+
+        mockMvc.perform(get("/api/v1/expenses").with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].description").value("Team lunch"));
+        assertThat(reads("database")).isEqualTo(databaseReads + 1);
+
+        outboxRelay.relay();
+
+        mockMvc.perform(get("/api/v1/expenses").with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].description").value("Team lunch"))
+                .andExpect(jsonPath("$[0].accountId").value(account.getId().toString()))
+                .andExpect(jsonPath("$[0].tags[0].name").value("Comida"));
+        assertThat(reads("read-model")).isEqualTo(readModelReads + 1);
+    }
+
+    @Test
+    void projectedListingIncludesLegacyRowsWithoutQueryingPostgres() throws Exception {
+        createExpense("idem-read-model-5", "Team lunch", List.of());
+        expenseRepository.save(new Expense(
+                UUID.randomUUID(),
+                new BigDecimal("12.34"),
+                LocalDate.of(2024, 7, 15),
+                "Legacy entry",
+                OffsetDateTime.parse("2024-07-16T08:30:00+00:00")
+        ));
+        expenseReadModelService.rebuild();
+        outboxRelay.relay();
+        clearInvocations(expenseRepository, outboxEventRepository);
+
+        mockMvc.perform(get("/api/v1/expenses").with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].description").value("Team lunch"))
+                .andExpect(jsonPath("$[1].description").value("Legacy entry"));
+
+        verify(expenseRepository, never()).findUnlinked();
+        verify(outboxEventRepository, never()).existsByUserIdAndPublishedAtIsNull(any());
+    }
+
+    @Test
+    void searchFiltersProjectedExpenses() throws Exception {
+        createExpense("idem-read-model-2", "Team lunch", List.of("Comida"));
+        createExpense("idem-read-model-3", "Taxi al aeropuerto", List.of("Viajes"));
+        outboxRelay.relay();
+
+        mockMvc.perform(get("/api/v1/expenses/search")
+                        .with(authentication(authentication))
+                        .param("tag", "viajes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].description").value("Taxi al aeropuerto"));
+
+        mockMvc.perform(get("/api/v1/expenses/search")
+                        .with(authentication(authentication))
+                        .param("q", "LUNCH"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].description").value("Team lunch"));
+    }
+
+    @Test
+    void disablingAccountRemovesProjectedExpenses() throws Exception {
+        createExpense("idem-read-model-4", "Team lunch", List.of());
+        outboxRelay.relay();
+
+        mockMvc.perform(post("/api/v1/accounts/{accountId}/disable", account.getId())
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-read-model-disable"))
+                .andExpect(status().is2xxSuccessful());
+        outboxRelay.relay();
+
+        mockMvc.perform(get("/api/v1/expenses").with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void readModelRoutesGoWithoutAnEtag() throws Exception {
+        createExpense("idem-read-model-6", "Team lunch", List.of());
+        outboxRelay.relay();
+
+        mockMvc.perform(get("/api/v1/expenses").with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        mockMvc.perform(get("/api/v1/expenses/search").with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        mockMvc.perform(get("/api/v1/tags").with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void rebuildProjectsExistingTransactions() throws Exception {
+        transactionRepository.save(new Transaction(
+                UUID.randomUUID(),
+                account.getId(),
+                new BigDecimal("42.00"),
+                LocalDate.of(2024, 7, 1),
+                "Cargado antes del read model",
+                OffsetDateTime.now()
+        ));
+
+        assertThat(expenseReadModelService.rebuild().expenses()).isEqualTo(1);
+
+        mockMvc.perform(get("/api/v1/expenses/search")
+                        .with(authentication(authentication))
+                        .param("from", "2024-06-01")
+                        .param("to", "2024-07-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].description").value("Cargado antes del read model"));
+    }
+
+    private void createExpense(String idempotencyKey, String description, List<String> tags) throws Exception {
+        CreateExpenseRequest request = new CreateExpenseRequest(
+                account.getId(),
+                new BigDecimal("15.50"),
+                LocalDate.of(2024, 9, 20),
+                description,
+                tags,
+                true
+        );
+        mockMvc.perform(post("/api/v1/expenses")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+
+    private double reads(String source) {
+        return meterRegistry.get("planifi.expenses.reads").tag("source", source).counter().count();
+    }
+}
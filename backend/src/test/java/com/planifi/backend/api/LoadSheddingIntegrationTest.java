@@ -0,0 +1,53 @@
+package com.planifi.backend.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.planifi.backend.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import com.planifi.backend.infrastructure.concurrency.RequestPriority;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "planifi.concurrency-limit.initial-limit=2",
+        "planifi.concurrency-limit.min-limit=2",
+        "planifi.concurrency-limit.max-limit=2",
+        "planifi.concurrency-limit.retry-after-seconds=3"
+})
+class LoadSheddingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Test
+    void shedsListingsButKeepsProbesAndWritesFlowing() throws Exception {
+        assertThat(limiter.tryAcquire(RequestPriority.WRITE)).isTrue();
+        try {
+            mockMvc.perform(get("/api/v1/expenses"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "3"))
+                    .andExpect(jsonPath("$.errorCode").value("SERVICE_OVERLOADED"));
+            mockMvc.perform(get("/actuator/health"))
+                    .andExpect(status().isOk());
+            assertThat(limiter.tryAcquire(RequestPriority.WRITE)).isTrue();
+            limiter.release(0, false);
+        } finally {
+            limiter.release(0, false);
+        }
+        assertThat(limiter.inflight()).isZero();
+    }
+}
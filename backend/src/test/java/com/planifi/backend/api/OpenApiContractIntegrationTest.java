@@ -0,0 +1,105 @@
+package com.planifi.backend.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class OpenApiContractIntegrationTest {
+
+    private static final String API_PREFIX = "/api/v1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void servedContractMatchesTheControllers() throws Exception {
+        JsonNode contract = objectMapper.readTree(mockMvc.perform(get("/api/v1/openapi"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray());
+        JsonNode generated = objectMapper.readTree(mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray());
+
+        assertThat(contract.at("/servers/0/url").asText()).isEqualTo(API_PREFIX);
+        assertThat(operations(contract, "")).isEqualTo(operations(generated, API_PREFIX));
+    }
+
+    @Test
+    void servesGzipToClientsThatAcceptIt() throws Exception {
+        byte[] json = mockMvc.perform(get("/api/v1/openapi"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        MvcResult gzipped = mockMvc.perform(get("/api/v1/openapi")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        assertThat(gzipped.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gunzip(gzipped.getResponse().getContentAsByteArray())).isEqualTo(json);
+        assertThat(gzipped.getResponse().getContentAsByteArray().length).isLessThan(json.length);
+        mockMvc.perform(get("/api/v1/openapi").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void revalidationWithTheEtagReturnsNotModified() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/v1/openapi"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"");
+
+        mockMvc.perform(get("/api/v1/openapi").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        // The gzip bytes carry their own validator.
+        mockMvc.perform(get("/api/v1/openapi")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk());
+    }
+
+    private static Set<String> operations(JsonNode document, String prefix) {
+        Set<String> operations = new TreeSet<>();
+        Iterator<Map.Entry<String, JsonNode>> paths = document.path("paths").fields();
+        while (paths.hasNext()) {
+            Map.Entry<String, JsonNode> path = paths.next();
+            String route = path.getKey().startsWith(prefix) ? path.getKey().substring(prefix.length()) : path.getKey();
+            path.getValue().fieldNames().forEachRemaining(method -> operations.add(method.toUpperCase() + " " + route));
+        }
+        return operations;
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return input.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.planifi.backend.api;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.planifi.backend.config.AuthenticatedUser;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "planifi.security.enabled=true",
+        "planifi.security.static-keys=static-test-key",
+        "planifi.security.operator-keys=operator-test-key",
+        "management.endpoints.web.exposure.include=health,jfr,startup"
+})
+class OperatorEndpointsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void jfrEndpointRequiresAnOperatorKey() throws Exception {
+        mockMvc.perform(get("/actuator/jfr"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/jfr").header("X-MCP-API-Key", "static-test-key"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/jfr/planifi-continuous")
+                        .with(authentication(new UsernamePasswordAuthenticationToken(
+                                new AuthenticatedUser(UUID.randomUUID(), "user@planifi.app"), null,
+                                AuthorityUtils.createAuthorityList("ROLE_USER")))))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/jfr").header("X-MCP-API-Key", "operator-test-key"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("NONE"));
+    }
+
+    @Test
+    void startupReportRequiresAnOperatorKey() throws Exception {
+        mockMvc.perform(get("/actuator/startup"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/startup").header("X-MCP-API-Key", "static-test-key"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void expenseReadModelRebuildRequiresAnOperatorKey() throws Exception {
+        mockMvc.perform(post("/actuator/expensereadmodel"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/expensereadmodel").header("X-MCP-API-Key", "static-test-key"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shardMovesRequireAnOperatorKey() throws Exception {
+        mockMvc.perform(post("/actuator/shards/" + UUID.randomUUID()))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/shards").header("X-MCP-API-Key", "static-test-key"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/shards/" + UUID.randomUUID())
+                        .with(authentication(new UsernamePasswordAuthenticationToken(
+                                new AuthenticatedUser(UUID.randomUUID(), "user@planifi.app"), null,
+                                AuthorityUtils.createAuthorityList("ROLE_USER")))))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,39 @@
+package com.planifi.backend.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+// The test profile turns planifi.security off; operator endpoints must stay closed anyway.
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class OperatorEndpointsSecurityDisabledIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void operatorEndpointsStayClosedWithoutAnOperatorKey() throws Exception {
+        mockMvc.perform(post("/actuator/jfr"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/jfr/planifi-continuous").header("X-MCP-API-Key", "dev-default-api-key"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/startup"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/shards/" + UUID.randomUUID()))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/expensereadmodel"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/openapi"))
+                .andExpect(status().isOk());
+    }
+}
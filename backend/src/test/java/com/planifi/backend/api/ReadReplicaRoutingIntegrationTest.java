@@ -0,0 +1,107 @@
+package com.planifi.backend.api;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.api.dto.CreateTagRequest;
+import com.planifi.backend.config.AuthenticatedUser;
+import com.planifi.backend.config.ReadConsistencyFilter;
+import com.planifi.backend.domain.User;
+import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
+import com.planifi.backend.infrastructure.persistence.TagRepository;
+import com.planifi.backend.infrastructure.persistence.UserRepository;
+import com.planifi.backend.infrastructure.persistence.routing.ReplicaLagMonitor;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "planifi.datasource.replica.enabled=true",
+        "planifi.datasource.replica.url=jdbc:h2:mem:planifi;MODE=PostgreSQL;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "planifi.datasource.replica.username=sa",
+        "planifi.datasource.replica.password=password",
+        "planifi.datasource.replica.lag-query=SELECT 0"
+})
+class ReadReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        tagRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        userRepository.deleteAll();
+
+        UUID userId = UUID.randomUUID();
+        userRepository.save(new User(
+                userId,
+                "replica@planifi.app",
+                "password-hash",
+                "Replica Tester",
+                OffsetDateTime.now()
+        ));
+        authentication = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(userId, "replica@planifi.app"),
+                null,
+                List.of()
+        );
+        replicaLagMonitor.refresh();
+    }
+
+    @Test
+    void writesIssueConsistencyTokenAndReadsHonorIt() throws Exception {
+        String token = mockMvc.perform(post("/api/v1/tags")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-replica-tag")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTagRequest("Viajes"))))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists(ReadConsistencyFilter.CONSISTENCY_TOKEN_HEADER))
+                .andReturn()
+                .getResponse()
+                .getHeader(ReadConsistencyFilter.CONSISTENCY_TOKEN_HEADER);
+
+        mockMvc.perform(get("/api/v1/tags")
+                        .with(authentication(authentication))
+                        .header(ReadConsistencyFilter.CONSISTENCY_TOKEN_HEADER, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Viajes"));
+    }
+}
@@ -0,0 +1,315 @@
+package com.planifi.backend.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.api.dto.AccountResponse;
+import com.planifi.backend.api.dto.CreateAccountRequest;
+import com.planifi.backend.api.dto.CreateExpenseRequest;
+import com.planifi.backend.api.dto.CreateTagRequest;
+import com.planifi.backend.api.dto.RegisterUserRequest;
+import com.planifi.backend.config.AuthenticatedUser;
+import com.planifi.backend.api.dto.TagResponse;
+import com.planifi.backend.domain.AccountType;
+import com.planifi.backend.domain.Tag;
+import com.planifi.backend.domain.User;
+import com.planifi.backend.infrastructure.persistence.ExpenseRepository;
+import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
+import com.planifi.backend.infrastructure.persistence.TagRepository;
+import com.planifi.backend.infrastructure.persistence.UserRepository;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardDirectory;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardMoveResult;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardPlacement;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardPlacementStatus;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardRebalancer;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardTopology;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "planifi.datasource.sharding.enabled=true",
+        "planifi.datasource.sharding.directory-cache-ttl-millis=0",
+        "planifi.datasource.sharding.shards[0].id=shard-1",
+        "planifi.datasource.sharding.shards[0].url=jdbc:h2:mem:planifi-shard-1;MODE=PostgreSQL;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "planifi.datasource.sharding.shards[0].username=sa",
+        "planifi.datasource.sharding.shards[0].password=password"
+})
+class ShardRoutingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ShardTopology shardTopology;
+
+    @Autowired
+    private ShardDirectory shardDirectory;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private JdbcTemplate shardOne;
+    private UUID userId;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        shardOne = new JdbcTemplate(shardTopology.dataSource("shard-1"));
+        shardOne.update("DELETE FROM idempotency_keys");
+        shardOne.update("DELETE FROM expenses");
+        shardOne.update("DELETE FROM users");
+        tagRepository.deleteAll();
+        expenseRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userId = UUID.randomUUID();
+        userRepository.save(new User(
+                userId,
+                "shard@planifi.app",
+                "password-hash",
+                "Shard Tester",
+                OffsetDateTime.now()
+        ));
+        shardDirectory.ensureUserMirrored(userId, "shard-1");
+        shardDirectory.update(userId, "shard-1", ShardPlacementStatus.ACTIVE);
+        authentication = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(userId, "shard@planifi.app"),
+                null,
+                List.of()
+        );
+    }
+
+    @Test
+    void routesUserDataToAssignedShardAndMovesIt() throws Exception {
+        mockMvc.perform(post("/api/v1/tags")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-shard-tag")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTagRequest("Viajes"))))
+                .andExpect(status().isCreated());
+
+        assertThat(tagRepository.count()).isZero();
+        assertThat(countTags(shardOne)).isEqualTo(1);
+
+        ShardMoveResult result = shardRebalancer.moveUser(userId, "shard-0");
+
+        assertThat(result.copiedRows()).containsEntry("tags", 1);
+        assertThat(tagRepository.count()).isEqualTo(1);
+        assertThat(countTags(shardOne)).isZero();
+        mockMvc.perform(get("/api/v1/tags")
+                        .with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Viajes"));
+    }
+
+    @Test
+    void movesExpenseRowsWithTheirTransactions() throws Exception {
+        AccountResponse account = objectMapper.readValue(mockMvc.perform(post("/api/v1/accounts")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-shard-account")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateAccountRequest("Principal", AccountType.CASH))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(), AccountResponse.class);
+        mockMvc.perform(post("/api/v1/expenses")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-shard-expense")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateExpenseRequest(
+                                account.id(), new BigDecimal("42.00"), LocalDate.of(2024, 5, 1),
+                                "Cena", List.of(), false))))
+                .andExpect(status().isCreated());
+        Authentication neighbour = neighbourOnShardOne();
+
+        ShardMoveResult result = shardRebalancer.moveUser(userId, "shard-0");
+
+        assertThat(result.copiedRows()).containsEntry("expenses", 1);
+        assertThat(expenseRepository.count()).isEqualTo(1);
+        assertThat(shardOne.queryForObject("SELECT COUNT(*) FROM expenses", Integer.class)).isZero();
+        mockMvc.perform(get("/api/v1/expenses")
+                        .with(authentication(neighbour)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/api/v1/expenses")
+                        .with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].description").value("Cena"));
+    }
+
+    @Test
+    void rejectsRequestsWhileUserIsMigrating() throws Exception {
+        shardDirectory.update(userId, "shard-1", ShardPlacementStatus.MIGRATING);
+
+        mockMvc.perform(get("/api/v1/tags")
+                        .with(authentication(authentication)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.errorCode").value("SHARD_MIGRATION_IN_PROGRESS"));
+    }
+
+    @Test
+    void placesUsersWhenTheyRegister() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterUserRequest(
+                                "placed@planifi.app", "Sup3rS3cret!", "Placed Tester"))))
+                .andExpect(status().isCreated());
+        UUID registeredId = userRepository.findByEmail("placed@planifi.app").orElseThrow().getId();
+
+        ShardPlacement placement = shardDirectory.lookup(registeredId).orElseThrow();
+
+        assertThat(placement.status()).isEqualTo(ShardPlacementStatus.ACTIVE);
+        assertThat(new JdbcTemplate(shardTopology.dataSource(placement.shardId())).queryForObject(
+                "SELECT COUNT(*) FROM users WHERE id = ?", Integer.class, registeredId)).isEqualTo(1);
+    }
+
+    @Test
+    void resolvesUnplacedUsersToHomeWithoutWriting() {
+        UUID unplaced = UUID.randomUUID();
+
+        assertThat(shardDirectory.resolve(unplaced))
+                .isEqualTo(new ShardPlacement("shard-0", ShardPlacementStatus.ACTIVE));
+        assertThat(shardDirectory.lookup(unplaced)).isEmpty();
+    }
+
+    @Test
+    void rejectsWritesOnAFencedShard() throws Exception {
+        shardOne.update("UPDATE users SET write_fenced_at = CURRENT_TIMESTAMP WHERE id = ?", userId);
+
+        mockMvc.perform(post("/api/v1/tags")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-shard-fenced")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTagRequest("Viajes"))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.errorCode").value("SHARD_MIGRATION_IN_PROGRESS"));
+
+        assertThat(countTags(shardOne)).isZero();
+    }
+
+    @Test
+    void replaysIdempotentWritesAfterTheMove() throws Exception {
+        CreateTagRequest request = new CreateTagRequest("Viajes");
+        TagResponse created = objectMapper.readValue(mockMvc.perform(post("/api/v1/tags")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-shard-retry")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(), TagResponse.class);
+
+        ShardMoveResult result = shardRebalancer.moveUser(userId, "shard-0");
+
+        assertThat(result.copiedRows()).containsEntry("idempotency_keys", 1);
+        assertThat(shardOne.queryForObject("SELECT COUNT(*) FROM idempotency_keys", Integer.class)).isZero();
+        mockMvc.perform(post("/api/v1/tags")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-shard-retry")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(created.id().toString()));
+        assertThat(tagRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void rollsBackAMoveThatFailsBeforeTheFlip() throws Exception {
+        TagResponse created = objectMapper.readValue(mockMvc.perform(post("/api/v1/tags")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-shard-rollback")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTagRequest("Viajes"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(), TagResponse.class);
+        UUID otherUserId = UUID.randomUUID();
+        userRepository.save(new User(
+                otherUserId,
+                "other@planifi.app",
+                "password-hash",
+                "Other Tester",
+                OffsetDateTime.now()
+        ));
+        tagRepository.save(new Tag(created.id(), otherUserId, "Conflicto", OffsetDateTime.now()));
+
+        assertThatThrownBy(() -> shardRebalancer.moveUser(userId, "shard-0"))
+                .isInstanceOf(DataAccessException.class);
+
+        assertThat(shardDirectory.lookup(userId)).contains(new ShardPlacement("shard-1", ShardPlacementStatus.ACTIVE));
+        assertThat(tagRepository.count()).isEqualTo(1);
+        assertThat(countTags(shardOne)).isEqualTo(1);
+        mockMvc.perform(post("/api/v1/tags")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-shard-after-rollback")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTagRequest("Cenas"))))
+                .andExpect(status().isCreated());
+        assertThat(countTags(shardOne)).isEqualTo(2);
+    }
+
+    private Authentication neighbourOnShardOne() {
+        UUID neighbourId = UUID.randomUUID();
+        userRepository.save(new User(
+                neighbourId,
+                "neighbour@planifi.app",
+                "password-hash",
+                "Shard Neighbour",
+                OffsetDateTime.now()
+        ));
+        shardDirectory.ensureUserMirrored(neighbourId, "shard-1");
+        shardDirectory.update(neighbourId, "shard-1", ShardPlacementStatus.ACTIVE);
+        return new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(neighbourId, "neighbour@planifi.app"),
+                null,
+                List.of()
+        );
+    }
+
+    private int countTags(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags", Integer.class);
+    }
+}
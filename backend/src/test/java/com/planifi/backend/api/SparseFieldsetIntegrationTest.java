@@ -0,0 +1,203 @@
+package com.planifi.backend.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.api.dto.CreateTransactionRequest;
+import com.planifi.backend.config.AuthenticatedUser;
+import com.planifi.backend.domain.Account;
+import com.planifi.backend.domain.AccountType;
+import com.planifi.backend.domain.User;
+import com.planifi.backend.infrastructure.persistence.AccountRepository;
+import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
+import com.planifi.backend.infrastructure.persistence.TagRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionTagRepository;
+import com.planifi.backend.infrastructure.persistence.UserRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "planifi.http.conditional-get.enabled=true")
+class SparseFieldsetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private TransactionTagRepository transactionTagRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Authentication authentication;
+    private Account account;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        transactionTagRepository.deleteAll();
+        transactionRepository.deleteAll();
+        tagRepository.deleteAll();
+        accountRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        userRepository.deleteAll();
+
+        UUID userId = UUID.randomUUID();
+        userRepository.save(new User(
+                userId,
+                "fields@planifi.app",
+                "password-hash",
+                "Fields Tester",
+                OffsetDateTime.now()
+        ));
+        account = accountRepository.save(new Account(
+                UUID.randomUUID(), userId, "Cheques", AccountType.BANK, "MXN", OffsetDateTime.now(), null));
+        authentication = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(userId, "fields@planifi.app"),
+                null,
+                List.of()
+        );
+        mockMvc.perform(post("/api/v1/transactions")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-fields")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTransactionRequest(
+                                account.getId(),
+                                new BigDecimal("99.90"),
+                                LocalDate.of(2024, 12, 10),
+                                "Farmacia",
+                                List.of("Salud"),
+                                true))))
+                .andExpect(status().isCreated());
+        clearInvocations(transactionTagRepository);
+    }
+
+    @Test
+    void transactionListingsKeepOnlyRequestedFields() throws Exception {
+        JsonNode item = items(transactions().param("fields", "amount,occurredOn,tags.name")).get(0);
+
+        assertThat(fieldNames(item)).containsExactly("amount", "occurredOn", "tags");
+        assertThat(fieldNames(item.get("tags").get(0))).containsExactly("name");
+        assertThat(item.get("tags").get(0).get("name").asText()).isEqualTo("Salud");
+    }
+
+    @Test
+    void tagHydrationIsSkippedWhenTagsAreNotRequested() throws Exception {
+        JsonNode item = items(transactions().param("fields", "amount,description")).get(0);
+
+        assertThat(fieldNames(item)).containsExactly("amount", "description");
+        verify(transactionTagRepository, never()).findByIdTransactionIdIn(any());
+
+        items(transactions());
+        verify(transactionTagRepository).findByIdTransactionIdIn(any());
+    }
+
+    @Test
+    void otherListingsAcceptFieldsAndRejectUnknownOnes() throws Exception {
+        mockMvc.perform(get("/api/v1/accounts")
+                        .with(authentication(authentication))
+                        .param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Cheques"))
+                .andExpect(jsonPath("$[0].currency").doesNotExist());
+        mockMvc.perform(get("/api/v1/tags")
+                        .with(authentication(authentication))
+                        .param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Salud"))
+                .andExpect(jsonPath("$[0].id").doesNotExist());
+        mockMvc.perform(get("/api/v1/expenses")
+                        .with(authentication(authentication))
+                        .param("fields", "amount"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].amount").value(99.90))
+                .andExpect(jsonPath("$[0].tags").doesNotExist());
+
+        mockMvc.perform(transactions().param("fields", "amount,secret"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_FIELDS"));
+        mockMvc.perform(transactions().param("fields", "tags.color"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_FIELDS"));
+    }
+
+    @Test
+    void fieldsetsGetTheirOwnEtag() throws Exception {
+        String full = mockMvc.perform(transactions())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String sparse = mockMvc.perform(transactions().param("fields", "amount"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(sparse).isNotEqualTo(full);
+        mockMvc.perform(transactions().param("fields", "amount").header(HttpHeaders.IF_NONE_MATCH, sparse))
+                .andExpect(status().isNotModified());
+    }
+
+    private MockHttpServletRequestBuilder transactions() {
+        return get("/api/v1/transactions")
+                .with(authentication(authentication))
+                .param("accountId", account.getId().toString())
+                .param("from", "2024-12-01")
+                .param("to", "2024-12-31");
+    }
+
+    private JsonNode items(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(body).get("items");
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
@@ -0,0 +1,30 @@
+package com.planifi.backend.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.planifi.backend.observability.RequestPhase;
+import com.planifi.backend.observability.RequestTimings;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+// Statement budgets for MockMvc requests: pin the current count of an endpoint so an N+1 or an
+// extra round trip fails the build instead of showing up in production latency.
+public final class SqlStatementMatchers {
+
+    private SqlStatementMatchers() {
+    }
+
+    public static ResultMatcher statementsAtMost(int maxStatements) {
+        return result -> assertThat(statementCount(result))
+                .as("sentencias SQL de %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(maxStatements);
+    }
+
+    public static int statementCount(MvcResult result) {
+        Object timings = result.getRequest().getAttribute(RequestTimings.REQUEST_ATTRIBUTE);
+        assertThat(timings)
+                .as("la solicitud no pasó por RequestTimingFilter")
+                .isInstanceOf(RequestTimings.class);
+        return ((RequestTimings) timings).count(RequestPhase.DB);
+    }
+}
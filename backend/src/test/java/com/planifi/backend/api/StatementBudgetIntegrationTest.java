@@ -0,0 +1,180 @@
+package com.planifi.backend.api;
+
+import static com.planifi.backend.api.SqlStatementMatchers.statementCount;
+import static com.planifi.backend.api.SqlStatementMatchers.statementsAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.api.dto.CreateTransactionRequest;
+import com.planifi.backend.config.AuthenticatedUser;
+import com.planifi.backend.domain.Account;
+import com.planifi.backend.domain.AccountType;
+import com.planifi.backend.domain.User;
+import com.planifi.backend.infrastructure.persistence.AccountRepository;
+import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
+import com.planifi.backend.infrastructure.persistence.OutboxEventRepository;
+import com.planifi.backend.infrastructure.persistence.TagRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionTagRepository;
+import com.planifi.backend.infrastructure.persistence.UserRepository;
+import com.planifi.backend.observability.RequestPhase;
+import com.planifi.backend.observability.RequestTimings;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "planifi.read-coalescing.result-ttl-millis=0")
+class StatementBudgetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TransactionTagRepository transactionTagRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private Authentication authentication;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        transactionTagRepository.deleteAll();
+        transactionRepository.deleteAll();
+        tagRepository.deleteAll();
+        accountRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+        userRepository.deleteAll();
+
+        UUID userId = UUID.randomUUID();
+        userRepository.save(new User(userId, "budget@planifi.app", "password-hash", "Budget Tester",
+                OffsetDateTime.now()));
+        account = accountRepository.save(new Account(
+                UUID.randomUUID(), userId, "Cheques", AccountType.BANK, "MXN", OffsetDateTime.now(), null));
+        authentication = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(userId, "budget@planifi.app"), null, List.of());
+    }
+
+    // Budgets pin today's counts. Tags are still resolved one by one, so creation grows with the
+    // number of tags; lower these numbers when that changes, never raise them to make a test pass.
+    @Test
+    void createTransactionStaysWithinItsBudget() throws Exception {
+        mockMvc.perform(createTransaction("idem-budget-1", List.of()))
+                .andExpect(status().isCreated())
+                .andExpect(statementsAtMost(8));
+        mockMvc.perform(createTransaction("idem-budget-2", List.of("Súper", "Hogar", "Despensa")))
+                .andExpect(status().isCreated())
+                .andExpect(statementsAtMost(29));
+    }
+
+    @Test
+    void listingCostDoesNotGrowWithTheNumberOfRows() throws Exception {
+        mockMvc.perform(createTransaction("idem-budget-list", List.of("Súper", "Hogar")))
+                .andExpect(status().isCreated());
+        int single = statementCount(mockMvc.perform(transactions()).andExpect(status().isOk()).andReturn());
+
+        for (int i = 3; i < 13; i++) {
+            mockMvc.perform(createTransaction("idem-budget-list-" + i, List.of("Súper", "Tag " + i)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(transactions())
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(single));
+        assertThat(single).isLessThanOrEqualTo(4);
+        mockMvc.perform(get("/api/v1/expenses").with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(5));
+        mockMvc.perform(get("/api/v1/accounts").with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    void reportsPhasesInServerTimingHeader() throws Exception {
+        mockMvc.perform(get("/api/v1/accounts").with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", matchesPattern(
+                        ".*db;dur=\\d+\\.\\d{2};desc=\"\\d+ statements\", .*total;dur=\\d+\\.\\d{2}")));
+    }
+
+    @Test
+    void holdsConnectionsOnlyInsideTransactions() throws Exception {
+        MvcResult result = mockMvc.perform(transactions())
+                .andExpect(status().isOk())
+                .andReturn();
+
+        RequestTimings timings = (RequestTimings) result.getRequest()
+                .getAttribute(RequestTimings.REQUEST_ATTRIBUTE);
+        assertThat(timings.count(RequestPhase.DB_HOLD)).isPositive();
+        assertThat(applicationContext.getBeansOfType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    private MockHttpServletRequestBuilder createTransaction(String idempotencyKey, List<String> tags)
+            throws Exception {
+        return post("/api/v1/transactions")
+                .with(authentication(authentication))
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateTransactionRequest(
+                        account.getId(), new BigDecimal("120.50"), LocalDate.of(2024, 12, 10),
+                        "Compra", tags, true)));
+    }
+
+    private MockHttpServletRequestBuilder transactions() {
+        return get("/api/v1/transactions")
+                .with(authentication(authentication))
+                .param("accountId", account.getId().toString())
+                .param("from", "2024-12-01")
+                .param("to", "2024-12-31");
+    }
+}
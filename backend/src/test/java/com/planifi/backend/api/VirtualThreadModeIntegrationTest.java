@@ -0,0 +1,65 @@
+package com.planifi.backend.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.planifi.backend.infrastructure.persistence.admission.ConnectionAdmissionDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.hikari.maximum-pool-size=4"
+})
+class VirtualThreadModeIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    void admitsNoMoreBorrowersThanThePoolHasConnections() throws Exception {
+        ConnectionAdmissionDataSource admission = dataSource.unwrap(ConnectionAdmissionDataSource.class);
+
+        assertThat(admission.maxPermits()).isEqualTo(4);
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(admission.availablePermits()).isEqualTo(3);
+        }
+        assertThat(admission.availablePermits()).isEqualTo(4);
+        assertThat(meterRegistry.find("planifi.db.admission.waiting").gauge()).isNotNull();
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    @Test
+    void runsBackgroundWorkOnVirtualThreads() throws Exception {
+        CompletableFuture<Boolean> virtual = applicationTaskExecutor.submitCompletable(
+                () -> Thread.currentThread().isVirtual());
+
+        assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
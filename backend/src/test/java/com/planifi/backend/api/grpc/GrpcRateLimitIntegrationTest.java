@@ -0,0 +1,98 @@
+package com.planifi.backend.api.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import com.planifi.backend.api.grpc.v1.CreateTagRequest;
+import com.planifi.backend.api.grpc.v1.ListTagsRequest;
+import com.planifi.backend.api.grpc.v1.TagsGrpc;
+import com.planifi.backend.application.JwtService;
+import com.planifi.backend.config.GrpcServerLifecycle;
+import com.planifi.backend.domain.User;
+import com.planifi.backend.infrastructure.persistence.UserRepository;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.MetadataUtils;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "planifi.security.enabled=true",
+        "planifi.grpc.enabled=true",
+        "planifi.grpc.port=0",
+        "planifi.security.rate-limit.api.user.requests-per-minute=1",
+        "planifi.security.rate-limit.api.user.burst=1"
+})
+class GrpcRateLimitIntegrationTest {
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    @Autowired
+    private GrpcServerLifecycle grpcServerLifecycle;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private ManagedChannel channel;
+    private TagsGrpc.TagsBlockingStub tags;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User(
+                UUID.randomUUID(),
+                "grpc-" + UUID.randomUUID() + "@planifi.app",
+                "password-hash",
+                "gRPC Rate Limit",
+                OffsetDateTime.now()
+        ));
+        Metadata headers = new Metadata();
+        headers.put(AUTHORIZATION, "Bearer " + jwtService.issueToken(user).token());
+        channel = ManagedChannelBuilder.forAddress("127.0.0.1", grpcServerLifecycle.getPort())
+                .usePlaintext()
+                .build();
+        tags = TagsGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+    }
+
+    @Test
+    void callsDrawFromTheCallersApiBucket() {
+        tags.listTags(ListTagsRequest.getDefaultInstance()).hasNext();
+        tags.listTags(ListTagsRequest.getDefaultInstance()).hasNext();
+
+        StatusRuntimeException limited = catchThrowableOfType(
+                () -> tags.listTags(ListTagsRequest.getDefaultInstance()).hasNext(),
+                StatusRuntimeException.class);
+
+        assertThat(limited.getStatus().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+        assertThat(limited.getTrailers().get(GrpcErrors.ERROR_CODE)).isEqualTo("RATE_LIMIT_EXCEEDED");
+        assertThat(Long.parseLong(limited.getTrailers().get(GrpcRateLimitInterceptor.RETRY_AFTER)))
+                .isPositive();
+        // Writes have their own lane, as in REST.
+        assertThat(tags.createTag(CreateTagRequest.newBuilder()
+                        .setIdempotencyKey("grpc-limited-" + UUID.randomUUID())
+                        .setName("Viajes")
+                        .build())
+                .getName()).isEqualTo("Viajes");
+    }
+}
@@ -0,0 +1,253 @@
+package com.planifi.backend.api.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import com.planifi.backend.api.grpc.v1.CreateTagRequest;
+import com.planifi.backend.api.grpc.v1.CreateTransactionRequest;
+import com.planifi.backend.api.grpc.v1.ListTagsRequest;
+import com.planifi.backend.api.grpc.v1.ListTransactionsRequest;
+import com.planifi.backend.api.grpc.v1.Tag;
+import com.planifi.backend.api.grpc.v1.TagsGrpc;
+import com.planifi.backend.api.grpc.v1.Transaction;
+import com.planifi.backend.api.grpc.v1.TransactionsGrpc;
+import com.planifi.backend.application.JwtService;
+import com.planifi.backend.application.TransactionCursor;
+import com.planifi.backend.application.TransactionService;
+import com.planifi.backend.application.TransactionStreamPage;
+import com.planifi.backend.config.GrpcServerLifecycle;
+import com.planifi.backend.domain.Account;
+import com.planifi.backend.domain.AccountType;
+import com.planifi.backend.domain.User;
+import com.planifi.backend.infrastructure.persistence.AccountRepository;
+import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
+import com.planifi.backend.infrastructure.persistence.TagRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionTagRepository;
+import com.planifi.backend.infrastructure.persistence.UserRepository;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.MetadataUtils;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "planifi.grpc.enabled=true",
+        "planifi.grpc.port=0",
+        "planifi.grpc.stream-page-size=2"
+})
+class GrpcTransportIntegrationTest {
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    @Autowired
+    private GrpcServerLifecycle grpcServerLifecycle;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionTagRepository transactionTagRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private ManagedChannel channel;
+    private String token;
+    private User user;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        transactionTagRepository.deleteAll();
+        transactionRepository.deleteAll();
+        tagRepository.deleteAll();
+        accountRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        userRepository.deleteAll();
+
+        user = userRepository.save(new User(
+                UUID.randomUUID(),
+                "grpc@planifi.app",
+                "password-hash",
+                "gRPC Tester",
+                OffsetDateTime.now()
+        ));
+        account = accountRepository.save(new Account(
+                UUID.randomUUID(), user.getId(), "Cheques", AccountType.BANK, "MXN",
+                OffsetDateTime.now(), null));
+        token = jwtService.issueToken(user).token();
+        channel = ManagedChannelBuilder.forAddress("127.0.0.1", grpcServerLifecycle.getPort())
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+    }
+
+    @Test
+    void createsAndStreamsTransactionsThroughApplicationServices() {
+        TagsGrpc.TagsBlockingStub tags = TagsGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(bearer(token)));
+        TransactionsGrpc.TransactionsBlockingStub transactions = TransactionsGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(bearer(token)));
+
+        Tag tag = tags.createTag(CreateTagRequest.newBuilder()
+                .setIdempotencyKey("grpc-tag")
+                .setName("Hogar")
+                .build());
+        assertThat(tag.getName()).isEqualTo("Hogar");
+
+        Transaction first = transactions.createTransaction(transaction("grpc-tx-1", "120.50", "2024-12-03"));
+        Transaction replay = transactions.createTransaction(transaction("grpc-tx-1", "120.50", "2024-12-03"));
+        transactions.createTransaction(transaction("grpc-tx-2", "80.00", "2024-12-02"));
+        transactions.createTransaction(transaction("grpc-tx-3", "15.75", "2024-12-01"));
+        assertThat(replay.getId()).isEqualTo(first.getId());
+        assertThat(first.getAmount()).isEqualTo("120.50");
+        assertThat(first.getTagsList()).extracting(Tag::getName).containsExactly("Hogar");
+
+        List<Transaction> streamed = new ArrayList<>();
+        transactions.listTransactions(ListTransactionsRequest.newBuilder()
+                        .setAccountId(account.getId().toString())
+                        .setFrom("2024-12-01")
+                        .setTo("2024-12-31")
+                        .build())
+                .forEachRemaining(streamed::add);
+        assertThat(streamed).extracting(Transaction::getOccurredOn)
+                .containsExactly("2024-12-03", "2024-12-02", "2024-12-01");
+
+        List<Tag> streamedTags = new ArrayList<>();
+        tags.listTags(ListTagsRequest.getDefaultInstance()).forEachRemaining(streamedTags::add);
+        assertThat(streamedTags).extracting(Tag::getId).containsExactly(tag.getId());
+    }
+
+    @Test
+    void streamPagesNeitherSkipNorRepeatRowsWrittenMidStream() {
+        OffsetDateTime before = OffsetDateTime.now().minusMinutes(1);
+        saveTransaction("2024-12-03", before);
+        saveTransaction("2024-12-02", before);
+        saveTransaction("2024-12-01", before);
+        LocalDate from = LocalDate.parse("2024-12-01");
+        LocalDate to = LocalDate.parse("2024-12-31");
+
+        TransactionStreamPage first = transactionService.streamTransactions(user.getId(),
+                account.getId(), from, to, TransactionCursor.start(to, OffsetDateTime.now()), 2);
+        // Offset paging would repeat 2024-12-02 after the first insert and pick up the second one.
+        saveTransaction("2024-12-04", OffsetDateTime.now());
+        saveTransaction("2024-12-01", OffsetDateTime.now().plusSeconds(1));
+        TransactionStreamPage second = transactionService.streamTransactions(user.getId(),
+                account.getId(), from, to, first.next(), 2);
+
+        assertThat(first.items()).extracting(item -> item.transaction().getOccurredOn().toString())
+                .containsExactly("2024-12-03", "2024-12-02");
+        assertThat(second.items()).extracting(item -> item.transaction().getOccurredOn().toString())
+                .containsExactly("2024-12-01");
+        assertThat(second.next()).isNull();
+    }
+
+    @Test
+    void rejectsCallsWithoutValidCredentials() {
+        TagsGrpc.TagsBlockingStub anonymous = TagsGrpc.newBlockingStub(channel);
+        StatusRuntimeException missing = catchThrowableOfType(
+                () -> anonymous.listTags(ListTagsRequest.getDefaultInstance()).hasNext(),
+                StatusRuntimeException.class);
+        assertThat(missing.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED);
+
+        TagsGrpc.TagsBlockingStub forged = TagsGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(bearer("not-a-jwt")));
+        StatusRuntimeException invalid = catchThrowableOfType(
+                () -> forged.createTag(CreateTagRequest.newBuilder()
+                        .setIdempotencyKey("grpc-forged")
+                        .setName("Viajes")
+                        .build()),
+                StatusRuntimeException.class);
+        assertThat(invalid.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED);
+        assertThat(invalid.getTrailers().get(GrpcErrors.ERROR_CODE)).isEqualTo("AUTH_INVALID_TOKEN");
+    }
+
+    @Test
+    void mapsValidationAndDomainErrorsToStatusCodes() {
+        TransactionsGrpc.TransactionsBlockingStub transactions = TransactionsGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(bearer(token)));
+
+        StatusRuntimeException blank = catchThrowableOfType(
+                () -> transactions.createTransaction(transaction("grpc-invalid", "10.00", "2024-12-01")
+                        .toBuilder()
+                        .setDescription("")
+                        .build()),
+                StatusRuntimeException.class);
+        assertThat(blank.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+        assertThat(blank.getTrailers().get(GrpcErrors.ERROR_CODE)).isEqualTo("VALIDATION_ERROR");
+
+        StatusRuntimeException missingKey = catchThrowableOfType(
+                () -> transactions.createTransaction(transaction("", "10.00", "2024-12-01")),
+                StatusRuntimeException.class);
+        assertThat(missingKey.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+
+        StatusRuntimeException unknownAccount = catchThrowableOfType(
+                () -> transactions.createTransaction(transaction("grpc-unknown", "10.00", "2024-12-01")
+                        .toBuilder()
+                        .setAccountId(UUID.randomUUID().toString())
+                        .build()),
+                StatusRuntimeException.class);
+        assertThat(unknownAccount.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND);
+        assertThat(unknownAccount.getTrailers().get(GrpcErrors.ERROR_CODE)).isEqualTo("ACCOUNT_NOT_FOUND");
+    }
+
+    private CreateTransactionRequest transaction(String idempotencyKey, String amount, String occurredOn) {
+        return CreateTransactionRequest.newBuilder()
+                .setIdempotencyKey(idempotencyKey)
+                .setAccountId(account.getId().toString())
+                .setAmount(amount)
+                .setOccurredOn(occurredOn)
+                .setDescription("Compra " + occurredOn)
+                .addTags("Hogar")
+                .build();
+    }
+
+    private void saveTransaction(String occurredOn, OffsetDateTime createdAt) {
+        transactionRepository.save(new com.planifi.backend.domain.Transaction(UUID.randomUUID(),
+                account.getId(), new BigDecimal("10.00"), LocalDate.parse(occurredOn),
+                "Compra " + occurredOn, createdAt));
+    }
+
+    private static Metadata bearer(String value) {
+        Metadata headers = new Metadata();
+        headers.put(AUTHORIZATION, "Bearer " + value);
+        return headers;
+    }
+}
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.planifi.backend.domain.Account;
 import com.planifi.backend.domain.AccountType;
 import com.planifi.backend.domain.IdempotencyKey;
+import com.planifi.backend.domain.OutboxEventType;
 import com.planifi.backend.infrastructure.persistence.AccountRepository;
 import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
 import java.time.OffsetDateTime;
@@ -32,13 +33,20 @@ class AccountServiceTest {
     @Mock
     private IdempotencyKeyRepository idempotencyKeyRepository;
 
+    @Mock
+    private OutboxRecorder outboxRecorder;
+
+    @Mock
+    private DataVersionRegistry dataVersionRegistry;
+
     private AccountService accountService;
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper().findAndRegisterModules();
-        accountService = new AccountService(accountRepository, idempotencyKeyRepository, objectMapper);
+        accountService = new AccountService(accountRepository, idempotencyKeyRepository, outboxRecorder,
+                dataVersionRegistry, objectMapper);
     }
 
     @Test
@@ -59,6 +67,7 @@ class AccountServiceTest {
         assertThat(saved.getType()).isEqualTo(AccountType.BANK);
         assertThat(saved.getCurrency()).isEqualTo("MXN");
         assertThat(account.getId()).isNotNull();
+        verify(outboxRecorder).record(OutboxEventType.ACCOUNT_CREATED, saved.getId(), userId, saved);
     }
 
     @Test
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -12,15 +13,20 @@ import com.planifi.backend.api.dto.LoginRequest;
 import com.planifi.backend.api.dto.RegisterUserRequest;
 import com.planifi.backend.domain.User;
 import com.planifi.backend.infrastructure.persistence.UserRepository;
+import com.planifi.backend.infrastructure.persistence.sharding.ShardDirectory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,11 +41,22 @@ class AuthServiceTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private ObjectProvider<ShardDirectory> shardDirectory;
+
+    private PasswordHasher passwordHasher;
     private AuthService authService;
 
     @BeforeEach
     void setUp() {
-        authService = new AuthService(userRepository, passwordEncoder, jwtService);
+        passwordHasher = new PasswordHasher(passwordEncoder, 1, 4, Duration.ofSeconds(5),
+                new SimpleMeterRegistry());
+        authService = new AuthService(userRepository, passwordHasher, jwtService, shardDirectory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.close();
     }
 
     @Test
@@ -95,4 +112,45 @@ class AuthServiceTest {
                 new LoginRequest("user@example.com", "wrong")))
                 .isInstanceOf(InvalidCredentialsException.class);
     }
+
+    @Test
+    void loginRehashesPasswordsMadeWithAnOlderCost() {
+        User user = new User(
+                UUID.randomUUID(),
+                "user@example.com",
+                "old-hash",
+                "User",
+                OffsetDateTime.now()
+        );
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("Sup3rS3cret!", "old-hash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(true);
+        when(passwordEncoder.encode("Sup3rS3cret!")).thenReturn("new-hash");
+        when(jwtService.issueToken(any())).thenReturn(
+                new JwtToken("token", OffsetDateTime.now().plusMinutes(60)));
+
+        authService.login(new LoginRequest("user@example.com", "Sup3rS3cret!"));
+
+        assertThat(user.getPasswordHash()).isEqualTo("new-hash");
+        verify(userRepository).save(user);
+    }
+
+    @Test
+    void loginKeepsCurrentHashes() {
+        User user = new User(
+                UUID.randomUUID(),
+                "user@example.com",
+                "hash",
+                "User",
+                OffsetDateTime.now()
+        );
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("Sup3rS3cret!", "hash")).thenReturn(true);
+        when(jwtService.issueToken(any())).thenReturn(
+                new JwtToken("token", OffsetDateTime.now().plusMinutes(60)));
+
+        authService.login(new LoginRequest("user@example.com", "Sup3rS3cret!"));
+
+        verify(userRepository, never()).save(any());
+    }
 }
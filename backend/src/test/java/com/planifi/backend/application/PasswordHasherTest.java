@@ -0,0 +1,72 @@
+package com.planifi.backend.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void rejectsImmediatelyWhenTheQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (PasswordHasher hasher = new PasswordHasher(new BlockingEncoder(release), 1, 1,
+                Duration.ofSeconds(5), meterRegistry)) {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.hash("one"));
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.hash("two"));
+            while (meterRegistry.get("planifi.auth.password.queue").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+
+            long started = System.nanoTime();
+            assertThatThrownBy(() -> hasher.hash("three"))
+                    .isInstanceOf(PasswordHashingSaturatedException.class);
+            assertThat(System.nanoTime() - started).isLessThan(TimeUnit.SECONDS.toNanos(1));
+            assertThat(meterRegistry.get("planifi.auth.password.rejected").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:one");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:two");
+        }
+        assertThat(meterRegistry.get("planifi.auth.password.duration").tag("operation", "hash")
+                .timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void flagsHashesMadeWithALowerCost() {
+        String oldHash = new BCryptPasswordEncoder(4).encode("Sup3rS3cret!");
+        try (PasswordHasher hasher = new PasswordHasher(new BCryptPasswordEncoder(5), 1, 4,
+                Duration.ofSeconds(5), meterRegistry)) {
+            assertThat(hasher.matches("Sup3rS3cret!", oldHash)).isTrue();
+            assertThat(hasher.needsRehash(oldHash)).isTrue();
+            assertThat(hasher.needsRehash(hasher.hash("Sup3rS3cret!"))).isFalse();
+        }
+    }
+
+    private record BlockingEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.planifi.backend.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.planifi.backend.domain.Account;
+import com.planifi.backend.domain.AccountType;
+import com.planifi.backend.domain.AccountView;
+import com.planifi.backend.domain.TagView;
+import com.planifi.backend.domain.TransactionView;
+import com.planifi.backend.domain.User;
+import com.planifi.backend.infrastructure.persistence.AccountRepository;
+import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
+import com.planifi.backend.infrastructure.persistence.TagRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionTagRepository;
+import com.planifi.backend.infrastructure.persistence.UserRepository;
+import com.planifi.backend.infrastructure.persistence.routing.ReadConsistencyContext;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "planifi.read-coalescing.result-ttl-millis=60000")
+class ReadCoalescingIntegrationTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 12, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+
+    @SpyBean
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private TransactionTagRepository transactionTagRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UUID userId;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        transactionTagRepository.deleteAll();
+        transactionRepository.deleteAll();
+        tagRepository.deleteAll();
+        accountRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userId = UUID.randomUUID();
+        userRepository.save(new User(userId, "coalesce@planifi.app", "password-hash", "Coalesce",
+                OffsetDateTime.now()));
+        account = accountRepository.save(new Account(UUID.randomUUID(), userId, "Cheques", AccountType.BANK,
+                "MXN", OffsetDateTime.now(), null));
+        clearInvocations(transactionRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistencyContext.clear();
+    }
+
+    @Test
+    void duplicateReadsHitTheDatabaseOnceUntilTheUserWrites() {
+        TransactionPageResult first = list();
+        TransactionPageResult second = list();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.totalItems()).isEqualTo(first.totalItems());
+        verify(transactionRepository, times(1)).findByAccountIdAndOccurredOnBetween(any(), any(), any(), any());
+
+        transactionService.createTransaction(userId, account.getId(), new BigDecimal("12.50"),
+                LocalDate.of(2024, 12, 5), "Cafe", List.of(), false, "idem-coalesce");
+
+        assertThat(list().items()).hasSize(1);
+        verify(transactionRepository, times(2)).findByAccountIdAndOccurredOnBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    void sharedResultsAreCopiesOfTheViews() {
+        tagService.createTag(userId, "Comida", "idem-coalesce-tag");
+        transactionService.createTransaction(userId, account.getId(), new BigDecimal("8.00"),
+                LocalDate.of(2024, 12, 7), "Pan", List.of("Comida"), false, "idem-coalesce-tx");
+
+        List<AccountView> accounts = accountService.listActiveAccounts(userId);
+        List<AccountView> sharedAccounts = accountService.listActiveAccounts(userId);
+        List<TagView> tags = tagService.listTags(userId);
+        List<TagView> sharedTags = tagService.listTags(userId);
+        TransactionView item = list().items().getFirst();
+        TransactionView sharedItem = list().items().getFirst();
+
+        assertThat(sharedAccounts.getFirst()).isNotSameAs(accounts.getFirst());
+        assertThat(sharedAccounts.getFirst().name()).isEqualTo("Cheques");
+        assertThat(sharedTags.getFirst()).isNotSameAs(tags.getFirst());
+        assertThat(sharedTags.getFirst().id()).isEqualTo(tags.getFirst().id());
+        assertThat(sharedItem).isNotSameAs(item);
+        assertThat(sharedItem.amount()).isEqualByComparingTo("8.00");
+        assertThat(sharedItem.tags()).extracting(TagView::name).containsExactly("Comida");
+        verify(transactionRepository, times(1)).findByAccountIdAndOccurredOnBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    void readsWithAConsistencyRequirementDoNotReuseResultsReadWithoutIt() {
+        list();
+
+        // A token for a write committed on another instance: the local data version has not moved.
+        ReadConsistencyContext.set(System.currentTimeMillis(), false);
+        list();
+        list();
+        verify(transactionRepository, times(2)).findByAccountIdAndOccurredOnBetween(any(), any(), any(), any());
+
+        ReadConsistencyContext.set(null, true);
+        list();
+        verify(transactionRepository, times(3)).findByAccountIdAndOccurredOnBetween(any(), any(), any(), any());
+    }
+
+    private TransactionPageResult list() {
+        return transactionService.listTransactions(userId, account.getId(), FROM, TO, 0, 50, true);
+    }
+}
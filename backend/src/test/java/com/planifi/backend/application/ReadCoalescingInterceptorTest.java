@@ -0,0 +1,91 @@
+package com.planifi.backend.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.planifi.backend.domain.AccountType;
+import com.planifi.backend.domain.AccountView;
+import com.planifi.backend.infrastructure.coalescing.ReadCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class ReadCoalescingInterceptorTest {
+
+    private static final UUID USER_ID = UUID.fromString("1d8a3c9e-52f4-4b57-9d0e-7c1a2b3c4d5e");
+
+    private final ObjectMapper objectMapper = spy(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @Mock
+    private MethodInvocation invocation;
+
+    @Mock
+    private ObjectProvider<ReadCoalescer> coalescerProvider;
+
+    @Mock
+    private ObjectProvider<DataVersionRegistry> dataVersionProvider;
+
+    @Mock
+    private ObjectProvider<ObjectMapper> objectMapperProvider;
+
+    @Test
+    void aReadNobodyJoinsIsNeverSerialized() throws Throwable {
+        ReadCoalescingInterceptor interceptor = interceptor(Duration.ZERO);
+        List<AccountView> accounts = List.of(account());
+        when(invocation.proceed()).thenReturn(accounts);
+
+        assertThat(interceptor.invoke(invocation)).isSameAs(accounts);
+        assertThat(interceptor.invoke(invocation)).isSameAs(accounts);
+
+        verify(objectMapper, never()).writeValueAsBytes(any());
+    }
+
+    @Test
+    void joinersGetTheirOwnCopySerializedOnce() throws Throwable {
+        ReadCoalescingInterceptor interceptor = interceptor(Duration.ofMinutes(1));
+        List<AccountView> accounts = List.of(account());
+        when(invocation.proceed()).thenReturn(accounts);
+
+        Object leader = interceptor.invoke(invocation);
+        Object firstJoiner = interceptor.invoke(invocation);
+        Object secondJoiner = interceptor.invoke(invocation);
+
+        assertThat(leader).isSameAs(accounts);
+        assertThat(firstJoiner).isNotSameAs(accounts).isEqualTo(accounts);
+        assertThat(secondJoiner).isNotSameAs(firstJoiner).isEqualTo(accounts);
+        verify(invocation, times(1)).proceed();
+        verify(objectMapper, times(1)).writeValueAsBytes(any());
+    }
+
+    private ReadCoalescingInterceptor interceptor(Duration resultTtl) throws NoSuchMethodException {
+        when(coalescerProvider.getObject())
+                .thenReturn(new ReadCoalescer(resultTtl.toNanos(), 16, new SimpleMeterRegistry()));
+        when(dataVersionProvider.getObject()).thenReturn(new DataVersionRegistry());
+        when(objectMapperProvider.getObject()).thenReturn(objectMapper);
+        when(invocation.getArguments()).thenReturn(new Object[] {USER_ID});
+        when(invocation.getMethod()).thenReturn(AccountService.class.getMethod("listActiveAccounts", UUID.class));
+        return new ReadCoalescingInterceptor(coalescerProvider, dataVersionProvider, objectMapperProvider);
+    }
+
+    private static AccountView account() {
+        return new AccountView(UUID.randomUUID(), "Cheques", AccountType.BANK, "MXN",
+                OffsetDateTime.of(2024, 12, 1, 9, 0, 0, 0, ZoneOffset.UTC));
+    }
+}
@@ -2,6 +2,7 @@ package com.planifi.backend.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -9,6 +10,7 @@ import static org.mockito.Mockito.when;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.planifi.backend.domain.IdempotencyKey;
+import com.planifi.backend.domain.OutboxEventType;
 import com.planifi.backend.domain.Tag;
 import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
 import com.planifi.backend.infrastructure.persistence.TagRepository;
@@ -32,13 +34,20 @@ class TagServiceTest {
     @Mock
     private IdempotencyKeyRepository idempotencyKeyRepository;
 
+    @Mock
+    private OutboxRecorder outboxRecorder;
+
+    @Mock
+    private DataVersionRegistry dataVersionRegistry;
+
     private TagService tagService;
 
     @BeforeEach
     void setUp() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
-        tagService = new TagService(tagRepository, idempotencyKeyRepository, objectMapper);
+        tagService = new TagService(tagRepository, idempotencyKeyRepository, outboxRecorder,
+                dataVersionRegistry, objectMapper);
     }
 
     @Test
@@ -63,6 +72,48 @@ class TagServiceTest {
         verify(tagRepository, times(2)).findByUserIdAndNameIgnoreCase(userId, name);
         verify(tagRepository).saveAndFlush(any(Tag.class));
         verify(idempotencyKeyRepository).save(any(IdempotencyKey.class));
+        verify(outboxRecorder, never()).record(any(), any(), any(), any());
+    }
+
+    @Test
+    void createTagRecordsOneDataChange() {
+        UUID userId = UUID.randomUUID();
+        String idempotencyKey = "idem-456";
+
+        when(idempotencyKeyRepository.findByIdempotencyKey(idempotencyKey))
+                .thenReturn(Optional.empty());
+        when(tagRepository.findByUserIdAndNameIgnoreCase(userId, "Travel"))
+                .thenReturn(Optional.empty());
+        when(tagRepository.saveAndFlush(any(Tag.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(idempotencyKeyRepository.save(any(IdempotencyKey.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        Tag result = tagService.createTag(userId, "Travel", idempotencyKey);
+
+        assertThat(result.getName()).isEqualTo("Travel");
+        verify(outboxRecorder).record(OutboxEventType.TAG_CREATED, result.getId(), userId, result);
+        verify(dataVersionRegistry).recordChange(userId, null);
+    }
+
+    @Test
+    void resolveTagsRecordsEachCreatedTag() {
+        UUID userId = UUID.randomUUID();
+        Tag existing = new Tag(UUID.randomUUID(), userId, "Travel", OffsetDateTime.now());
+
+        when(tagRepository.findByUserIdAndNameIgnoreCase(userId, "Travel"))
+                .thenReturn(Optional.of(existing));
+        when(tagRepository.findByUserIdAndNameIgnoreCase(userId, "Food"))
+                .thenReturn(Optional.empty());
+        when(tagRepository.saveAndFlush(any(Tag.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Tag> result = tagService.resolveTags(userId, List.of("Travel", "Food"), true);
+
+        Tag created = result.get(1);
+        assertThat(created.getName()).isEqualTo("Food");
+        verify(outboxRecorder).record(OutboxEventType.TAG_CREATED, created.getId(), userId, created);
+        verify(outboxRecorder, times(1)).record(any(), any(), any(), any());
     }
 
     @Test
@@ -81,5 +132,6 @@ class TagServiceTest {
         assertThat(result).containsExactly(existing);
         verify(tagRepository, times(2)).findByUserIdAndNameIgnoreCase(userId, name);
         verify(tagRepository).saveAndFlush(any(Tag.class));
+        verify(outboxRecorder, never()).record(any(), any(), any(), any());
     }
 }
@@ -0,0 +1,104 @@
+package com.planifi.backend.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.domain.Account;
+import com.planifi.backend.domain.AccountType;
+import com.planifi.backend.domain.OutboxEventType;
+import com.planifi.backend.domain.Tag;
+import com.planifi.backend.domain.Transaction;
+import com.planifi.backend.infrastructure.persistence.AccountRepository;
+import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
+import com.planifi.backend.infrastructure.persistence.TagRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionRepository;
+import com.planifi.backend.infrastructure.persistence.TransactionTagRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionTagRepository transactionTagRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TagService tagService;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Mock
+    private OutboxRecorder outboxRecorder;
+
+    @Mock
+    private DataVersionRegistry dataVersionRegistry;
+
+    private TransactionService transactionService;
+
+    @BeforeEach
+    void setUp() {
+        transactionService = new TransactionService(transactionRepository, transactionTagRepository,
+                accountRepository, tagService, tagRepository, idempotencyKeyRepository, outboxRecorder,
+                dataVersionRegistry, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void createTransactionRecordsTheCreatedEvent() {
+        UUID userId = UUID.randomUUID();
+        Account account = new Account(UUID.randomUUID(), userId, "Cheques", AccountType.BANK, "MXN",
+                OffsetDateTime.now(), null);
+        Tag tag = new Tag(UUID.randomUUID(), userId, "Comida", OffsetDateTime.now());
+        when(idempotencyKeyRepository.findByIdempotencyKey("idem-tx")).thenReturn(Optional.empty());
+        when(accountRepository.findByIdAndUserId(account.getId(), userId)).thenReturn(Optional.of(account));
+        when(tagService.resolveTags(userId, List.of("Comida"), false)).thenReturn(List.of(tag));
+        when(transactionRepository.save(any(Transaction.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionResult result = transactionService.createTransaction(userId, account.getId(),
+                new BigDecimal("12.50"), LocalDate.of(2024, 12, 5), "Cafe", List.of("Comida"), false,
+                "idem-tx");
+
+        assertThat(result.tags()).containsExactly(tag);
+        verify(outboxRecorder).record(OutboxEventType.TRANSACTION_CREATED, result.transaction().getId(),
+                userId, result);
+        verify(dataVersionRegistry).recordChange(userId, account.getId());
+    }
+
+    @Test
+    void createTransactionOnAnotherUsersAccountRecordsNothing() {
+        UUID userId = UUID.randomUUID();
+        UUID accountId = UUID.randomUUID();
+        when(idempotencyKeyRepository.findByIdempotencyKey("idem-tx")).thenReturn(Optional.empty());
+        when(accountRepository.findByIdAndUserId(accountId, userId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> transactionService.createTransaction(userId, accountId,
+                new BigDecimal("12.50"), LocalDate.of(2024, 12, 5), "Cafe", List.of(), false, "idem-tx"))
+                .isInstanceOf(AccountNotFoundException.class);
+
+        verify(outboxRecorder, never()).record(any(), any(), any(), any());
+    }
+}
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.application.PasswordHasher;
 import com.planifi.backend.domain.Account;
 import com.planifi.backend.domain.AccountType;
 import com.planifi.backend.domain.SystemSetting;
@@ -15,6 +16,8 @@ import com.planifi.backend.domain.User;
 import com.planifi.backend.infrastructure.persistence.AccountRepository;
 import com.planifi.backend.infrastructure.persistence.SystemSettingRepository;
 import com.planifi.backend.infrastructure.persistence.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -70,7 +73,7 @@ class BootstrapServiceTest {
                 userRepository,
                 accountRepository,
                 systemSettingRepository,
-                passwordEncoder,
+                new PasswordHasher(passwordEncoder, 1, 4, Duration.ofSeconds(5), new SimpleMeterRegistry()),
                 new ObjectMapper().findAndRegisterModules());
 
         service.apply(config);
@@ -125,7 +128,7 @@ class BootstrapServiceTest {
                 userRepository,
                 accountRepository,
                 systemSettingRepository,
-                passwordEncoder,
+                new PasswordHasher(passwordEncoder, 1, 4, Duration.ofSeconds(5), new SimpleMeterRegistry()),
                 new ObjectMapper().findAndRegisterModules());
 
         service.apply(config);
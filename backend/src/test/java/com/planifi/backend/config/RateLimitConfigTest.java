@@ -0,0 +1,41 @@
+package com.planifi.backend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.planifi.backend.infrastructure.ratelimit.ClientKeyHasher;
+import org.junit.jupiter.api.Test;
+
+class RateLimitConfigTest {
+
+    private final RateLimitConfig config = new RateLimitConfig();
+
+    @Test
+    void sharedStoreRefusesToStartWithoutAHashSeed() {
+        SecurityProperties properties = properties(RateLimitProperties.Store.JDBC, " ");
+
+        assertThatThrownBy(() -> config.rateLimitKeyHasher(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("hash-seed");
+    }
+
+    @Test
+    void replicasWithTheSameSeedHashClientsAlike() {
+        ClientKeyHasher first = config.rateLimitKeyHasher(properties(RateLimitProperties.Store.JDBC, "seed"));
+        ClientKeyHasher second = config.rateLimitKeyHasher(properties(RateLimitProperties.Store.JDBC, "seed"));
+
+        assertThat(first.hash('i', "203.0.113.7")).isEqualTo(second.hash('i', "203.0.113.7"));
+    }
+
+    @Test
+    void localStoreStartsWithoutASeed() {
+        assertThat(config.rateLimitKeyHasher(properties(RateLimitProperties.Store.LOCAL, null))).isNotNull();
+    }
+
+    private static SecurityProperties properties(RateLimitProperties.Store store, String hashSeed) {
+        SecurityProperties properties = new SecurityProperties();
+        properties.getRateLimit().setStore(store);
+        properties.getRateLimit().setHashSeed(hashSeed);
+        return properties;
+    }
+}
@@ -0,0 +1,75 @@
+package com.planifi.backend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class RouteClassifierTest {
+
+    private final RouteClassifier classifier = RouteClassifier.builder()
+            .authBypass(List.of("/api/v1/auth/**", "/swagger-ui.html", "/actuator/health/**"))
+            .rateLimited(List.of("/api/v1/auth/**", "/api/v1/accounts/*/disable"))
+            .shardGlobal(List.of("/api/v1/auth/**"))
+            .apiLimited(List.of("/api/v1/**"))
+            .probe(List.of("/actuator/health/**"))
+            .sheddable(List.of("/api/v1/expenses"))
+            .costClass("/api/v1/**", "api")
+            .costClass("/api/v1/expenses", "listing", 10)
+            .costClass("/api/v1/auth/**", "sensitive")
+            .costClass("/api/v1/auth/login", "login")
+            .build();
+
+    @Test
+    void matchesLiteralWildcardAndRemainderSegments() {
+        assertThat(classifier.classify("/api/v1/auth/login"))
+                .isEqualTo(new RouteClassification(true, true, true, true, false, false, "login", 1));
+        assertThat(classifier.classify("/api/v1/auth"))
+                .isEqualTo(new RouteClassification(true, true, true, true, false, false, "sensitive", 1));
+        assertThat(classifier.classify("/api/v1/accounts/8d1f/disable"))
+                .isEqualTo(new RouteClassification(false, true, false, true, false, false, "api", 1));
+        assertThat(classifier.classify("/swagger-ui.html").authBypass()).isTrue();
+        assertThat(classifier.classify("/actuator/health/liveness").authBypass()).isTrue();
+        assertThat(classifier.classify("/actuator/health/liveness").probe()).isTrue();
+        assertThat(classifier.classify("/api/v1/expenses").sheddable()).isTrue();
+        assertThat(classifier.classify("/api/v1/expenses/8d1f").sheddable()).isFalse();
+    }
+
+    @Test
+    void leavesUnmatchedPathsWithDefaults() {
+        assertThat(classifier.classify("/api/v1/authx").authBypass()).isFalse();
+        assertThat(classifier.classify("/api/v1/accounts/8d1f").rateLimited()).isFalse();
+        assertThat(classifier.classify("/actuator/metrics"))
+                .isEqualTo(new RouteClassification(false, false, false, false, false, false,
+                        RouteClassifier.DEFAULT_COST_CLASS, RouteClassifier.DEFAULT_COST));
+    }
+
+    @Test
+    void takesTokenCostFromTheMostSpecificPattern() {
+        assertThat(classifier.classify("/api/v1/expenses").cost()).isEqualTo(10);
+        assertThat(classifier.classify("/api/v1/expenses").costClass()).isEqualTo("listing");
+        assertThat(classifier.classify("/api/v1/expenses/search").cost()).isEqualTo(1);
+        assertThatThrownBy(() -> RouteClassifier.builder().costClass("/api/v1/tags", "cheap", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cachesClassificationOnTheRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+
+        RouteClassification first = classifier.classify(request);
+
+        assertThat(request.getAttribute(RouteClassifier.REQUEST_ATTRIBUTE)).isSameAs(first);
+        assertThat(classifier.classify(request)).isSameAs(first);
+    }
+
+    @Test
+    void rejectsPatternsTheTrieCannotRepresent() {
+        assertThatThrownBy(() -> RouteClassifier.builder().rateLimited(List.of("/api/**/login")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RouteClassifier.builder().rateLimited(List.of("/api/v1/tx-*")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,38 @@
+package com.planifi.backend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadReadinessCheckTest {
+
+    @Test
+    void flagsDriversPoolsAndAppendersThatPinOnOlderJdks() {
+        assertThat(VirtualThreadReadinessCheck.warnings(21, "PostgreSQL JDBC Driver", "42.5.4", "5.0.1",
+                List.of("CONSOLE")))
+                .hasSize(3)
+                .anySatisfy(warning -> assertThat(warning).contains("42.5.4"))
+                .anySatisfy(warning -> assertThat(warning).contains("HikariCP 5.0.1"))
+                .anySatisfy(warning -> assertThat(warning).contains("CONSOLE"));
+        assertThat(VirtualThreadReadinessCheck.warnings(21, "H2 JDBC Driver", "2.2.224 (2023-09-17)", "5.1.0",
+                List.of())).singleElement().asString().contains("H2");
+    }
+
+    @Test
+    void acceptsCurrentDependenciesAndJdksWithoutSynchronizedPinning() {
+        assertThat(VirtualThreadReadinessCheck.warnings(21, "PostgreSQL JDBC Driver", "42.7.4", "5.1.0",
+                List.of())).isEmpty();
+        assertThat(VirtualThreadReadinessCheck.warnings(24, "H2 JDBC Driver", "2.2.224", "4.0.3",
+                List.of("CONSOLE"))).isEmpty();
+    }
+
+    @Test
+    void comparesMajorAndMinorVersions() {
+        assertThat(VirtualThreadReadinessCheck.atLeast("42.6.0", 42, 6)).isTrue();
+        assertThat(VirtualThreadReadinessCheck.atLeast("43.0", 42, 6)).isTrue();
+        assertThat(VirtualThreadReadinessCheck.atLeast("42.5.99", 42, 6)).isFalse();
+        assertThat(VirtualThreadReadinessCheck.atLeast("desconocida", 42, 6)).isFalse();
+        assertThat(VirtualThreadReadinessCheck.atLeast(null, 42, 6)).isFalse();
+    }
+}
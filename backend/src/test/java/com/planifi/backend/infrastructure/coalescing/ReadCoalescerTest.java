@@ -0,0 +1,82 @@
+package com.planifi.backend.infrastructure.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ReadCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void concurrentDuplicatesShareOneComputation() throws Exception {
+        ReadCoalescer coalescer = new ReadCoalescer(0, 100, meterRegistry);
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    try {
+                        return coalescer.execute("same", () -> {
+                            computations.incrementAndGet();
+                            release.await();
+                            return "rows";
+                        });
+                    } catch (Throwable ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }));
+            }
+            while (meterRegistry.get("planifi.coalescing.calls").tag("outcome", "shared").counter().count()
+                    + computations.get() < 8) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            for (Future<Object> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("rows");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(computations).hasValue(1);
+        assertThat(coalescer.size()).isZero();
+    }
+
+    @Test
+    void reusesFinishedResultsOnlyWithinTtl() throws Throwable {
+        ReadCoalescer coalescer = new ReadCoalescer(TimeUnit.MILLISECONDS.toNanos(50), 100, meterRegistry);
+        AtomicInteger computations = new AtomicInteger();
+
+        coalescer.execute("key", computations::incrementAndGet);
+        coalescer.execute("key", computations::incrementAndGet);
+        coalescer.execute("other", computations::incrementAndGet);
+        assertThat(computations).hasValue(2);
+
+        Thread.sleep(80);
+        assertThat(coalescer.execute("key", computations::incrementAndGet)).isEqualTo(3);
+    }
+
+    @Test
+    void neverKeepsFailures() throws Throwable {
+        ReadCoalescer coalescer = new ReadCoalescer(TimeUnit.SECONDS.toNanos(60), 100, meterRegistry);
+
+        assertThatThrownBy(() -> coalescer.execute("key", () -> {
+            throw new IllegalArgumentException("boom");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(coalescer.execute("key", () -> "ok")).isEqualTo("ok");
+    }
+}
@@ -0,0 +1,85 @@
+package com.planifi.backend.infrastructure.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Map<RequestPriority, Double> SHARES = Map.of(
+            RequestPriority.WRITE, 1.0,
+            RequestPriority.READ, 0.9,
+            RequestPriority.SHEDDABLE, 0.5
+    );
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shedsLowerPrioritiesFirst() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 10, 10);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.WRITE)).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire(RequestPriority.SHEDDABLE)).isFalse();
+        assertThat(limiter.tryAcquire(RequestPriority.READ)).isTrue();
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.WRITE)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(RequestPriority.WRITE)).isFalse();
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isTrue();
+        assertThat(limiter.inflight()).isEqualTo(11);
+        assertThat(meterRegistry.get("planifi.concurrency.rejected").tag("priority", "sheddable")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("planifi.concurrency.limit").gauge().value()).isEqualTo(10);
+    }
+
+    @Test
+    void growsWhileLatencyHoldsAndShrinksWhenItClimbs() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 4, 200);
+
+        for (int round = 0; round < 20; round++) {
+            saturate(limiter, 10);
+        }
+        int grown = limiter.limit();
+        assertThat(grown).isGreaterThan(20);
+
+        saturate(limiter, 80);
+        assertThat(limiter.limit()).isLessThan(grown / 2);
+        assertThat(limiter.inflight()).isZero();
+    }
+
+    @Test
+    void doesNotGrowWhileMostlyIdle() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 4, 200);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(RequestPriority.READ);
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(20);
+    }
+
+    private void saturate(AdaptiveConcurrencyLimiter limiter, long rttMillis) {
+        int acquired = 0;
+        while (limiter.tryAcquire(RequestPriority.WRITE)) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMillis), false);
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimiter(initial, min, max, 1.5, 0.2, 100,
+                TimeUnit.MILLISECONDS.toNanos(5), 5, SHARES, meterRegistry, clock::get);
+    }
+}
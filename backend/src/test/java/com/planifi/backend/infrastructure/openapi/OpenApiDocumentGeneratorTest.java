@@ -0,0 +1,82 @@
+package com.planifi.backend.infrastructure.openapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OpenApiDocumentGeneratorTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void writesMinifiedJsonAndItsGzip() throws IOException {
+        Path source = contract("""
+                openapi: 3.0.3
+                info:
+                  title: Prueba
+                  version: v1
+                paths:
+                  /tags:
+                    get:
+                      responses:
+                        "200":
+                          $ref: "#/components/responses/Ok"
+                components:
+                  responses:
+                    Ok:
+                      description: ok
+                """);
+
+        OpenApiDocumentGenerator.main(new String[] {source.toString(), directory.resolve("out").toString()});
+
+        byte[] json = Files.readAllBytes(directory.resolve("out/contrato.json"));
+        assertThat(new String(json)).doesNotContain("\n");
+        assertThat(new ObjectMapper().readTree(json).at("/paths/~1tags/get/responses/200/$ref").asText())
+                .isEqualTo("#/components/responses/Ok");
+        try (InputStream gzip = new GZIPInputStream(Files.newInputStream(directory.resolve("out/contrato.json.gz")))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(json);
+        }
+    }
+
+    @Test
+    void rejectsDanglingReferences() throws IOException {
+        Path source = contract("""
+                openapi: 3.0.3
+                paths:
+                  /tags:
+                    get:
+                      responses:
+                        "200":
+                          $ref: "#/components/responses/NoExiste"
+                """);
+
+        assertThatThrownBy(() -> OpenApiDocumentGenerator.generate(source))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("#/components/responses/NoExiste");
+    }
+
+    @Test
+    void rejectsDocumentsThatAreNotOpenApi3() throws IOException {
+        Path source = contract("""
+                swagger: "2.0"
+                paths: {}
+                """);
+
+        assertThatThrownBy(() -> OpenApiDocumentGenerator.generate(source))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("openapi: 3.x");
+    }
+
+    private Path contract(String yaml) throws IOException {
+        return Files.writeString(directory.resolve("contrato.yaml"), yaml);
+    }
+}
@@ -0,0 +1,184 @@
+package com.planifi.backend.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planifi.backend.api.dto.CreateAccountRequest;
+import com.planifi.backend.api.dto.CreateTagRequest;
+import com.planifi.backend.config.AuthenticatedUser;
+import com.planifi.backend.domain.AccountType;
+import com.planifi.backend.domain.OutboxEvent;
+import com.planifi.backend.domain.OutboxEventType;
+import com.planifi.backend.domain.User;
+import com.planifi.backend.infrastructure.persistence.AccountRepository;
+import com.planifi.backend.infrastructure.persistence.IdempotencyKeyRepository;
+import com.planifi.backend.infrastructure.persistence.OutboxEventRepository;
+import com.planifi.backend.infrastructure.persistence.TagRepository;
+import com.planifi.backend.infrastructure.persistence.UserRepository;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "planifi.outbox.relay-enabled=true",
+        "planifi.outbox.poll-interval-millis=3600000"
+})
+class OutboxRelayIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private RecordingSink recordingSink;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+        accountRepository.deleteAll();
+        tagRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        userRepository.deleteAll();
+        recordingSink.reset();
+
+        UUID userId = UUID.randomUUID();
+        userRepository.save(new User(
+                userId,
+                "outbox@planifi.app",
+                "password-hash",
+                "Outbox Tester",
+                OffsetDateTime.now()
+        ));
+        authentication = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(userId, "outbox@planifi.app"),
+                null,
+                List.of()
+        );
+    }
+
+    @Test
+    void mutationsRecordEventsThatRelayPublishesOnce() throws Exception {
+        createAccount("idem-outbox-account");
+        createAccount("idem-outbox-account");
+        mockMvc.perform(post("/api/v1/tags")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", "idem-outbox-tag")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTagRequest("Viajes"))))
+                .andExpect(status().isCreated());
+
+        assertThat(outboxEventRepository.count()).isEqualTo(2);
+
+        outboxRelay.relay();
+
+        assertThat(recordingSink.events)
+                .extracting(OutboxEvent::getEventType)
+                .containsExactly(OutboxEventType.ACCOUNT_CREATED, OutboxEventType.TAG_CREATED);
+        assertThat(outboxEventRepository.countByPublishedAtIsNull()).isZero();
+        assertThat(outboxRelay.currentLagMillis()).isZero();
+
+        outboxRelay.relay();
+
+        assertThat(recordingSink.events).hasSize(2);
+    }
+
+    @Test
+    void failedPublicationKeepsEventsPending() throws Exception {
+        recordingSink.failing = true;
+        createAccount("idem-outbox-failure");
+        long drainedBefore = outboxRelay.drainedAtEpochMillis();
+
+        outboxRelay.relay();
+
+        assertThat(outboxEventRepository.countByPublishedAtIsNull()).isEqualTo(1);
+        assertThat(outboxRelay.drainedAtEpochMillis()).isEqualTo(drainedBefore);
+
+        recordingSink.failing = false;
+        long beforeDrain = System.currentTimeMillis();
+        outboxRelay.relay();
+
+        assertThat(recordingSink.events).hasSize(1);
+        assertThat(outboxEventRepository.countByPublishedAtIsNull()).isZero();
+        assertThat(outboxRelay.drainedAtEpochMillis()).isGreaterThanOrEqualTo(beforeDrain);
+    }
+
+    private void createAccount(String idempotencyKey) throws Exception {
+        mockMvc.perform(post("/api/v1/accounts")
+                        .with(authentication(authentication))
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateAccountRequest("Cuenta nómina", AccountType.BANK))))
+                .andExpect(status().isCreated());
+    }
+
+    @TestConfiguration
+    static class RecordingSinkConfig {
+
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+    }
+
+    static class RecordingSink implements OutboxEventSink {
+
+        private final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+
+        @Override
+        public void publish(List<OutboxEvent> batch) {
+            if (failing) {
+                throw new IllegalStateException("broker unavailable");
+            }
+            events.addAll(batch);
+        }
+
+        void reset() {
+            events.clear();
+            failing = false;
+        }
+    }
+}
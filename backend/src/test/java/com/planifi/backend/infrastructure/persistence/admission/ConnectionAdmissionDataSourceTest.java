@@ -0,0 +1,90 @@
+package com.planifi.backend.infrastructure.persistence.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConnectionAdmissionDataSourceTest {
+
+    private DataSource pool;
+    private ConnectionAdmissionDataSource admission;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        pool = mock(DataSource.class);
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        admission = new ConnectionAdmissionDataSource(pool, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    void holdsAPermitUntilTheConnectionIsClosed() throws SQLException {
+        Connection first = admission.getConnection();
+        Connection second = admission.getConnection();
+
+        assertThat(admission.availablePermits()).isZero();
+        assertThatThrownBy(admission::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close();
+        assertThat(admission.availablePermits()).isEqualTo(1);
+        admission.getConnection().close();
+        second.close();
+        assertThat(admission.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void waitersAreAdmittedAsConnectionsReturn() throws Exception {
+        ConnectionAdmissionDataSource single = new ConnectionAdmissionDataSource(pool, 1, Duration.ofSeconds(5));
+        Connection first = single.getConnection();
+
+        CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return single.getConnection();
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (single.waiting() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(single.waiting()).isEqualTo(1);
+
+        first.close();
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(single.availablePermits()).isZero();
+    }
+
+    @Test
+    void releasesThePermitWhenThePoolFails() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLTransientConnectionException("pool agotado"));
+
+        assertThatThrownBy(admission::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(admission.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void passesOtherCallsToThePooledConnection() throws SQLException {
+        Connection pooled = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(pooled);
+        when(pooled.getAutoCommit()).thenReturn(true);
+
+        try (Connection connection = admission.getConnection()) {
+            assertThat(connection.getAutoCommit()).isTrue();
+            assertThat(connection).isEqualTo(connection).isNotEqualTo(pooled);
+        }
+        verify(pooled).close();
+    }
+}
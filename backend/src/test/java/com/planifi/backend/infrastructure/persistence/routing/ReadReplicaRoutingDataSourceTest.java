@@ -0,0 +1,100 @@
+package com.planifi.backend.infrastructure.persistence.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.planifi.backend.config.ReadReplicaProperties;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private ReplicaLagMonitor lagMonitor;
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setMaxLagMillis(1000);
+        properties.setLagCheckIntervalMillis(2000);
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+        lagMonitor = new ReplicaLagMonitor(mock(DataSource.class), properties, clock);
+        routingDataSource = new ReadReplicaRoutingDataSource(
+                mock(DataSource.class), mock(DataSource.class), lagMonitor);
+        lagMonitor.recordLag(200, NOW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadConsistencyContext.clear();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        beginTransaction(true);
+
+        assertThat(routingDataSource.resolveRole()).isEqualTo(DataSourceRole.REPLICA);
+    }
+
+    @Test
+    void readWriteTransactionsUsePrimary() {
+        beginTransaction(false);
+
+        assertThat(routingDataSource.resolveRole()).isEqualTo(DataSourceRole.PRIMARY);
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        beginTransaction(true);
+        lagMonitor.recordLag(5000, NOW);
+
+        assertThat(routingDataSource.resolveRole()).isEqualTo(DataSourceRole.PRIMARY);
+    }
+
+    @Test
+    void unhealthyReplicaFallsBackToPrimary() {
+        beginTransaction(true);
+        lagMonitor.recordFailure(NOW);
+
+        assertThat(routingDataSource.resolveRole()).isEqualTo(DataSourceRole.PRIMARY);
+    }
+
+    @Test
+    void consistencyTokenNewerThanReplicaUsesPrimary() {
+        beginTransaction(true);
+        ReadConsistencyContext.set(NOW - 100, false);
+
+        assertThat(routingDataSource.resolveRole()).isEqualTo(DataSourceRole.PRIMARY);
+    }
+
+    @Test
+    void consistencyTokenAlreadyReplayedUsesReplica() {
+        beginTransaction(true);
+        ReadConsistencyContext.set(NOW - 500, false);
+
+        assertThat(routingDataSource.resolveRole()).isEqualTo(DataSourceRole.REPLICA);
+    }
+
+    @Test
+    void strongConsistencyUsesPrimary() {
+        beginTransaction(true);
+        ReadConsistencyContext.set(null, true);
+
+        assertThat(routingDataSource.resolveRole()).isEqualTo(DataSourceRole.PRIMARY);
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,53 @@
+package com.planifi.backend.infrastructure.persistence.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+    @Test
+    void assignsUserToSameShardEveryTime() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("shard-0", "shard-1"), 64);
+        UUID userId = UUID.randomUUID();
+
+        assertThat(ring.shardFor(userId)).isEqualTo(ring.shardFor(userId));
+    }
+
+    @Test
+    void spreadsUsersAcrossShards() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("shard-0", "shard-1", "shard-2"), 64);
+        Map<String, Integer> counts = new HashMap<>();
+
+        IntStream.range(0, 3000).forEach(i ->
+                counts.merge(ring.shardFor(UUID.randomUUID()), 1, Integer::sum));
+
+        assertThat(counts).containsOnlyKeys("shard-0", "shard-1", "shard-2");
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(600, 1400));
+    }
+
+    @Test
+    void addingShardOnlyMovesUsersToNewShard() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("shard-0", "shard-1"), 64);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("shard-0", "shard-1", "shard-2"), 64);
+
+        IntStream.range(0, 1000).mapToObj(i -> UUID.randomUUID()).forEach(userId -> {
+            String moved = after.shardFor(userId);
+            if (!moved.equals(before.shardFor(userId))) {
+                assertThat(moved).isEqualTo("shard-2");
+            }
+        });
+    }
+
+    @Test
+    void rejectsEmptyTopology() {
+        assertThatThrownBy(() -> new ConsistentHashRing(List.of(), 64))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
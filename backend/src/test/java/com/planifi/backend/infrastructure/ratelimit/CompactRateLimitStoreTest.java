@@ -0,0 +1,155 @@
+package com.planifi.backend.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class CompactRateLimitStoreTest {
+
+    private static final RateLimitPolicy POLICY = RateLimitPolicy.perMinute(60, 2);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final ClientKeyHasher keyHasher = new ClientKeyHasher(42L);
+
+    @Test
+    void allowsCapacityThenRejectsUntilRefill() {
+        CompactRateLimitStore store = store(1024);
+        long key = keyHasher.hash('i', "10.0.0.1");
+
+        List<Long> remaining = IntStream.range(0, 62)
+                .mapToObj(i -> store.tryConsume(key, POLICY))
+                .map(RateLimitDecision::remaining)
+                .toList();
+        RateLimitDecision rejected = store.tryConsume(key, POLICY);
+
+        assertThat(remaining.get(0)).isEqualTo(61);
+        assertThat(remaining.get(61)).isZero();
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterMillis()).isEqualTo(1_000);
+
+        advance(Duration.ofSeconds(1));
+        assertThat(store.tryConsume(key, POLICY).allowed()).isTrue();
+        assertThat(store.tryConsume(key, POLICY).allowed()).isFalse();
+    }
+
+    @Test
+    void weightedRequestsAndDeferredChargesDrainTheSameBucket() {
+        CompactRateLimitStore store = store(1024);
+        long key = keyHasher.hash('U', "listing");
+
+        assertThat(store.tryConsume(key, POLICY, 50).remaining()).isEqualTo(12);
+        assertThat(store.tryConsume(key, POLICY, 13).allowed()).isFalse();
+
+        store.charge(key, POLICY, 500);
+        RateLimitDecision rejected = store.tryConsume(key, POLICY);
+
+        // Debt is capped at one extra burst window, so a single huge charge cannot lock a client out.
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterMillis()).isEqualTo(63_000);
+    }
+
+    @Test
+    void keepsClientsIndependent() {
+        CompactRateLimitStore store = store(1024);
+        long first = keyHasher.hash('i', "10.0.0.1");
+        long second = keyHasher.hash('i', "10.0.0.2");
+
+        IntStream.range(0, 62).forEach(i -> store.tryConsume(first, POLICY));
+
+        assertThat(store.tryConsume(first, POLICY).allowed()).isFalse();
+        assertThat(store.tryConsume(second, POLICY).remaining()).isEqualTo(61);
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    void timingWheelReleasesIdleSlots() {
+        CompactRateLimitStore store = store(1024);
+        IntStream.range(0, 500).forEach(i -> store.tryConsume(keyHasher.hash('i', "10.0.1." + i), POLICY));
+        long active = keyHasher.hash('u', 7L, 7L);
+        assertThat(store.size()).isEqualTo(500);
+
+        for (int minute = 0; minute < 20; minute++) {
+            advance(Duration.ofMinutes(1));
+            store.tryConsume(active, POLICY);
+        }
+
+        assertThat(store.size()).isEqualTo(1);
+        IntStream.range(0, 500).forEach(i -> store.tryConsume(keyHasher.hash('i', "10.0.2." + i), POLICY));
+        assertThat(store.size()).isEqualTo(501);
+        assertThat(store.overflowHits()).isZero();
+    }
+
+    @Test
+    void newClientsTakeOverRefilledSlotsInsteadOfOverflowing() {
+        CompactRateLimitStore store = store(16);
+        IntStream.range(0, 1_000).forEach(i -> store.tryConsume(keyHasher.hash('i', "10.9." + i), POLICY));
+        long overflowed = store.overflowHits();
+        assertThat(overflowed).isPositive();
+
+        advance(Duration.ofSeconds(2));
+        long newcomer = keyHasher.hash('i', "10.10.0.1");
+        long allowed = IntStream.range(0, 62)
+                .filter(i -> store.tryConsume(newcomer, POLICY).allowed())
+                .count();
+
+        assertThat(allowed).isEqualTo(62);
+        assertThat(store.tryConsume(newcomer, POLICY).allowed()).isFalse();
+        assertThat(store.overflowHits()).isEqualTo(overflowed);
+    }
+
+    @Test
+    void clientsBeyondCapacityOverflowIntoStripedBuckets() {
+        CompactRateLimitStore store = store(16);
+
+        long allowed = IntStream.range(0, 1_000)
+                .mapToObj(i -> store.tryConsume(keyHasher.hash('i', "10.9." + i), POLICY))
+                .filter(RateLimitDecision::allowed)
+                .count();
+
+        assertThat(store.overflowHits()).isPositive();
+        // A single shared bucket would stop at one burst for every overflowing client together.
+        assertThat(allowed).isGreaterThan(store.size() + POLICY.capacity());
+        assertThat(allowed).isLessThanOrEqualTo(store.size() + 64 * POLICY.capacity());
+    }
+
+    @Test
+    void concurrentConsumersNeverExceedCapacity() throws Exception {
+        CompactRateLimitStore store = store(1024);
+        long key = keyHasher.hash('k', "pln_shared");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Integer>> workers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                workers.add(() -> (int) IntStream.range(0, 100)
+                        .filter(attempt -> store.tryConsume(key, POLICY).allowed())
+                        .count());
+            }
+            int allowed = 0;
+            for (Future<Integer> result : executor.invokeAll(workers)) {
+                allowed += result.get();
+            }
+            assertThat(allowed).isEqualTo(62);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private CompactRateLimitStore store(int maxKeys) {
+        return new CompactRateLimitStore(maxKeys, Duration.ofMinutes(15), Duration.ofMinutes(1), clock::get);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
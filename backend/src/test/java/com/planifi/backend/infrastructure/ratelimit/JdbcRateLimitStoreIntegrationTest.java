@@ -0,0 +1,224 @@
+package com.planifi.backend.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JdbcRateLimitStoreIntegrationTest {
+
+    private static final RateLimitPolicy POLICY = RateLimitPolicy.perMinute(60, 20);
+    private static final long KEY = 42L;
+    private static final long OTHER_KEY = 43L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<JdbcRateLimitStore> stores = new ArrayList<>();
+
+    @BeforeEach
+    void cleanDatabase() {
+        jdbcTemplate.update("DELETE FROM rate_limit_buckets");
+    }
+
+    @AfterEach
+    void closeStores() {
+        stores.forEach(JdbcRateLimitStore::close);
+    }
+
+    @Test
+    void replicasShareOneBucket() {
+        List<JdbcRateLimitStore> replicas = List.of(store(Duration.ofSeconds(1)), store(Duration.ofSeconds(1)),
+                store(Duration.ofSeconds(1)));
+
+        long allowed = IntStream.range(0, 150)
+                .filter(i -> replicas.get(i % replicas.size()).tryConsume(KEY, POLICY).allowed())
+                .count();
+
+        assertThat(allowed).isLessThanOrEqualTo(POLICY.capacity());
+        assertThat(allowed).isGreaterThanOrEqualTo(POLICY.capacity() - 2L * 5);
+    }
+
+    @Test
+    void leasedPermitsAreServedWithoutTheDatabase() {
+        JdbcRateLimitStore store = store(Duration.ofSeconds(1));
+
+        RateLimitDecision first = store.tryConsume(KEY, POLICY);
+        Long tatAfterLease = tat();
+        List<RateLimitDecision> leased = IntStream.range(0, 4)
+                .mapToObj(i -> store.tryConsume(KEY, POLICY))
+                .toList();
+
+        assertThat(first.remaining()).isEqualTo(79);
+        assertThat(leased).allMatch(RateLimitDecision::allowed);
+        assertThat(leased.get(3).remaining()).isEqualTo(75);
+        assertThat(tat()).isEqualTo(tatAfterLease);
+        store.tryConsume(KEY, POLICY);
+        assertThat(tat()).isGreaterThan(tatAfterLease);
+    }
+
+    @Test
+    void fallsBackToLocalLimitWhenTheRowIsLocked() throws Exception {
+        JdbcRateLimitStore store = store(Duration.ofSeconds(1));
+        store.tryConsume(KEY, new RateLimitPolicy(1, 60_000_000L));
+        double before = meterRegistry.counter("planifi.ratelimit.fallbacks").count();
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService holder = Executors.newSingleThreadExecutor();
+        try {
+            holder.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                jdbcTemplate.queryForList("SELECT tat_micros FROM rate_limit_buckets WHERE bucket_key = ? FOR UPDATE",
+                        Long.class, KEY);
+                locked.countDown();
+                awaitQuietly(release);
+            }));
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            RateLimitDecision decision = store.tryConsume(KEY, POLICY);
+
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.remaining()).isEqualTo(79);
+            assertThat(meterRegistry.counter("planifi.ratelimit.fallbacks").count()).isEqualTo(before + 1);
+        } finally {
+            release.countDown();
+            holder.shutdown();
+            holder.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void deferredChargesAreMergedIntoOneWritePerKey() throws Exception {
+        JdbcRateLimitStore store = store(Duration.ofSeconds(1));
+        long before = nowMicros();
+
+        store.charge(KEY, POLICY, 3);
+        store.charge(KEY, POLICY, 3);
+        assertThat(rows(KEY)).isZero();
+        store.flushCharges();
+
+        awaitRow(KEY);
+        assertThat(tat()).isBetween(before + 6 * POLICY.emissionIntervalMicros(),
+                nowMicros() + 1_000 + 6 * POLICY.emissionIntervalMicros());
+    }
+
+    @Test
+    void chargesBeyondTheBufferAreKeptLocally() throws Exception {
+        JdbcRateLimitStore store = store(Duration.ofSeconds(1), Executors.newFixedThreadPool(2), 1);
+
+        store.charge(KEY, POLICY, 1);
+        store.charge(OTHER_KEY, POLICY, 1);
+        store.flushCharges();
+
+        awaitRow(KEY);
+        assertThat(rows(OTHER_KEY)).isZero();
+    }
+
+    @Test
+    void aSaturatedPoolDoesNotSendOtherKeysToTheLocalLimit() throws Exception {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+        JdbcRateLimitStore store = store(Duration.ofSeconds(1), executor, 16);
+        double before = meterRegistry.counter("planifi.ratelimit.fallbacks").count();
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+
+        RateLimitDecision rejectedByThePool = store.tryConsume(KEY, POLICY);
+        release.countDown();
+        awaitIdle(executor);
+        RateLimitDecision afterwards = store.tryConsume(OTHER_KEY, POLICY);
+
+        assertThat(rejectedByThePool.allowed()).isTrue();
+        assertThat(rows(KEY)).isZero();
+        assertThat(afterwards.allowed()).isTrue();
+        assertThat(rows(OTHER_KEY)).isOne();
+        assertThat(meterRegistry.counter("planifi.ratelimit.fallbacks").count()).isEqualTo(before + 1);
+    }
+
+    private JdbcRateLimitStore store(Duration leaseTtl) {
+        return store(leaseTtl, Executors.newFixedThreadPool(2), 1024);
+    }
+
+    private JdbcRateLimitStore store(Duration leaseTtl, ExecutorService executor, int maxPendingCharges) {
+        JdbcRateLimitStore store = new JdbcRateLimitStore(
+                jdbcTemplate,
+                transactionManager,
+                new CompactRateLimitStore(1024, Duration.ofMinutes(15), Duration.ofMinutes(1)),
+                executor,
+                Clock.systemUTC(),
+                5,
+                leaseTtl,
+                Duration.ofMillis(200),
+                Duration.ofSeconds(10),
+                Duration.ofMinutes(15),
+                maxPendingCharges,
+                meterRegistry
+        );
+        stores.add(store);
+        return store;
+    }
+
+    private Long tat() {
+        return jdbcTemplate.queryForObject("SELECT tat_micros FROM rate_limit_buckets WHERE bucket_key = ?",
+                Long.class, KEY);
+    }
+
+    private int rows(long key) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rate_limit_buckets WHERE bucket_key = ?",
+                Integer.class, key);
+    }
+
+    private void awaitRow(long key) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (rows(key) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(rows(key)).isOne();
+    }
+
+    private static void awaitIdle(ThreadPoolExecutor executor) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getActiveCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static long nowMicros() {
+        return TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
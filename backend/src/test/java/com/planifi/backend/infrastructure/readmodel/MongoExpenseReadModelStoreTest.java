@@ -0,0 +1,155 @@
+package com.planifi.backend.infrastructure.readmodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.planifi.backend.application.ExpenseSearchCriteria;
+import com.planifi.backend.domain.ExpenseView;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+@ExtendWith(MockitoExtension.class)
+class MongoExpenseReadModelStoreTest {
+
+    private static final UUID USER_ID = UUID.fromString("6b1f1e0e-8d39-4a8e-9a59-0f4c2b7d1a10");
+    private static final UUID ACCOUNT_ID = UUID.fromString("0c8e5c55-1d0a-4b2f-8f5e-6a3d2f9e4b21");
+    private static final Instant PROJECTED_AT = Instant.parse("2024-09-21T10:00:00Z");
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private MongoExpenseReadModelStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new MongoExpenseReadModelStore(mongoTemplate);
+    }
+
+    @Test
+    void upsertReplacesEachExpenseInOneUnorderedBulk() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ExpenseDocument.class))
+                .thenReturn(bulkOperations);
+        ExpenseView lunch = expense("Team lunch", new ExpenseView.TagView(UUID.randomUUID(), " Comida ", null));
+        ExpenseView taxi = expense("Taxi", new ExpenseView.TagView(UUID.randomUUID(), "Viajes", null));
+
+        store.upsert(USER_ID, List.of(lunch, taxi), PROJECTED_AT);
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<ExpenseDocument> documents = ArgumentCaptor.forClass(ExpenseDocument.class);
+        verify(bulkOperations, times(2)).replaceOne(queries.capture(), documents.capture(),
+                any(FindAndReplaceOptions.class));
+        verify(bulkOperations).execute();
+        assertThat(queries.getAllValues().getFirst().getQueryObject())
+                .isEqualTo(new Document("_id", lunch.id().toString()));
+        ExpenseDocument document = documents.getAllValues().getFirst();
+        assertThat(document.getUserId()).isEqualTo(USER_ID.toString());
+        assertThat(document.getAccountId()).isEqualTo(ACCOUNT_ID.toString());
+        assertThat(document.getProjectedAt()).isEqualTo(PROJECTED_AT);
+        assertThat(document.getTags().getFirst().normalizedName()).isEqualTo("comida");
+    }
+
+    @Test
+    void upsertSkipsEmptyBatches() {
+        store.upsert(USER_ID, List.of(), PROJECTED_AT);
+
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(ExpenseDocument.class));
+    }
+
+    @Test
+    void searchCombinesDateRangeTagAndQuotedText() {
+        when(mongoTemplate.find(any(Query.class), eq(ExpenseDocument.class))).thenReturn(List.of());
+
+        store.search(USER_ID, new ExpenseSearchCriteria(" a+b ", " Viajes ",
+                LocalDate.of(2024, 6, 1), LocalDate.of(2024, 7, 31), 25));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(ExpenseDocument.class));
+        Document filter = query.getValue().getQueryObject();
+        assertThat(filter.get("userId")).isEqualTo(USER_ID.toString());
+        assertThat(filter.get("tags.normalizedName")).isEqualTo("viajes");
+        Pattern description = (Pattern) filter.get("description");
+        assertThat(description.pattern()).isEqualTo(Pattern.quote("a+b"));
+        assertThat(description.flags() & Pattern.CASE_INSENSITIVE).isNotZero();
+        assertThat(filter.getList("$and", Document.class).getFirst().get("occurredOn", Document.class))
+                .containsEntry("$gte", LocalDate.of(2024, 6, 1))
+                .containsEntry("$lte", LocalDate.of(2024, 7, 31));
+        assertThat(query.getValue().getLimit()).isEqualTo(25);
+        assertThat(query.getValue().getSortObject())
+                .isEqualTo(new Document("occurredOn", -1).append("createdAt", -1));
+    }
+
+    @Test
+    void findByUserMapsDocumentsBackToViews() {
+        UUID tagId = UUID.randomUUID();
+        ExpenseDocument document = new ExpenseDocument(
+                UUID.randomUUID().toString(),
+                USER_ID.toString(),
+                null,
+                new BigDecimal("12.34"),
+                LocalDate.of(2024, 7, 15),
+                "Legacy entry",
+                Instant.parse("2024-07-16T08:30:00Z"),
+                List.of(new ExpenseDocument.TagEntry(tagId.toString(), "Comida", "comida", null)),
+                PROJECTED_AT
+        );
+        when(mongoTemplate.find(any(Query.class), eq(ExpenseDocument.class))).thenReturn(List.of(document));
+
+        List<ExpenseView> views = store.findByUser(USER_ID);
+
+        assertThat(views).containsExactly(new ExpenseView(
+                UUID.fromString(document.getId()),
+                null,
+                new BigDecimal("12.34"),
+                LocalDate.of(2024, 7, 15),
+                "Legacy entry",
+                OffsetDateTime.of(2024, 7, 16, 8, 30, 0, 0, ZoneOffset.UTC),
+                List.of(new ExpenseView.TagView(tagId, "Comida", null))
+        ));
+    }
+
+    @Test
+    void removeByAccountFiltersOnTheAccountId() {
+        store.removeByAccount(ACCOUNT_ID);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(query.capture(), eq(ExpenseDocument.class));
+        assertThat(query.getValue().getQueryObject()).isEqualTo(new Document("accountId", ACCOUNT_ID.toString()));
+    }
+
+    private ExpenseView expense(String description, ExpenseView.TagView tag) {
+        return new ExpenseView(
+                UUID.randomUUID(),
+                ACCOUNT_ID,
+                new BigDecimal("15.50"),
+                LocalDate.of(2024, 9, 20),
+                description,
+                OffsetDateTime.of(2024, 9, 20, 12, 0, 0, 0, ZoneOffset.UTC),
+                List.of(tag)
+        );
+    }
+}
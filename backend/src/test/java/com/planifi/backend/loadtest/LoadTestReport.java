@@ -0,0 +1,52 @@
+package com.planifi.backend.loadtest;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+
+public record LoadTestReport(
+        int clients,
+        double durationSeconds,
+        long requests,
+        double requestsPerSecond,
+        long statements,
+        double statementsPerRequest,
+        List<OperationReport> operations,
+        RuntimeReport runtime
+) {
+
+    public void print(PrintStream out) {
+        out.printf("%n%-20s %9s %7s %9s %9s %9s %9s  %s%n",
+                "operación", "requests", "errores", "p50 ms", "p99 ms", "p999 ms", "max ms", "status");
+        for (OperationReport operation : operations) {
+            out.printf("%-20s %9d %7d %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    operation.operation(), operation.requests(), operation.errors(), operation.p50Millis(),
+                    operation.p99Millis(), operation.p999Millis(), operation.maxMillis(), operation.statuses());
+        }
+        out.printf("%n%d clientes, %.1f s: %d requests (%.1f req/s), %d sentencias SQL (%.2f por request)%n",
+                clients, durationSeconds, requests, requestsPerSecond, statements, statementsPerRequest);
+        out.printf("hilos %s: pico de %d hilos de plataforma, pico de heap %.1f MB, %d ms en GC%n",
+                runtime.threadMode(), runtime.peakPlatformThreads(), runtime.peakHeapMb(), runtime.gcMillis());
+    }
+
+    public record OperationReport(
+            String operation,
+            long requests,
+            long errors,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            Map<Integer, Long> statuses
+    ) {
+    }
+
+    // Sum of each heap pool's peak, so an upper bound on what was live at any one moment.
+    public record RuntimeReport(
+            String threadMode,
+            int peakPlatformThreads,
+            double peakHeapMb,
+            long gcMillis
+    ) {
+    }
+}
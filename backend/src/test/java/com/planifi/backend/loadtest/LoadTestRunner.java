@@ -0,0 +1,312 @@
+package com.planifi.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.planifi.backend.PlanifiBackendApplication;
+import com.planifi.backend.application.JwtService;
+import com.planifi.backend.domain.User;
+import com.planifi.backend.loadtest.LoadTestSeeder.SeededUser;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// Boots the whole application on the test profile (H2, no Mongo), seeds a synthetic dataset and
+// drives a mixed read/write workload over real HTTP from virtual-thread clients. Latencies go into
+// HdrHistograms per operation; SQL counts come from Hibernate statistics.
+//
+//   ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="users=200 clients=128 duration-seconds=60"
+public final class LoadTestRunner {
+
+    private static final Map<String, String> DEFAULT_PROPERTIES = Map.of(
+            "spring.profiles.active", "test",
+            "server.port", "0",
+            "spring.datasource.url", "jdbc:h2:mem:planifi-loadtest;MODE=PostgreSQL;DATABASE_TO_UPPER=false;"
+                    + "DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "spring.jpa.properties.hibernate.generate_statistics", "true",
+            "spring.main.banner-mode", "off",
+            "logging.level.root", "WARN",
+            "planifi.security.enabled", "true",
+            "planifi.security.rate-limit.enabled", "false",
+            "planifi.security.rate-limit.api.enabled", "false"
+    );
+
+    private final LoadTestSettings settings;
+
+    public LoadTestRunner(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.parse(args);
+        LoadTestReport report = new LoadTestRunner(settings).run();
+        report.print(System.out);
+        Path reportFile = Path.of(settings.reportFile());
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.println("Reporte JSON: " + reportFile.toAbsolutePath());
+    }
+
+    public LoadTestReport run() throws InterruptedException {
+        // Passed as command-line arguments so they outrank application.yml and the profile files.
+        Map<String, String> properties = new HashMap<>(DEFAULT_PROPERTIES);
+        properties.putAll(settings.applicationProperties());
+        String[] arguments = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PlanifiBackendApplication.class)
+                .run(arguments)) {
+            List<SeededUser> users = new LoadTestSeeder(context.getBean(JdbcTemplate.class)).seed(settings);
+            JwtService jwtService = context.getBean(JwtService.class);
+            List<Client> clients = new ArrayList<>(users.size());
+            for (SeededUser user : users) {
+                String token = jwtService.issueToken(
+                        new User(user.id(), user.email(), "load-test", "Carga", OffsetDateTime.now())).token();
+                clients.add(new Client(user, "Bearer " + token));
+            }
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            Statistics statistics = context.getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient http = HttpClient.newBuilder()
+                        .executor(executor)
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .build();
+                Workload workload = new Workload(http, baseUrl, clients);
+                workload.drive(executor, settings.clients(), Duration.ofSeconds(settings.warmupSeconds()));
+                workload.reset();
+                statistics.clear();
+                long gcBefore = resetRuntimePeaks();
+                long started = System.nanoTime();
+                workload.drive(executor, settings.clients(), Duration.ofSeconds(settings.durationSeconds()));
+                double seconds = (System.nanoTime() - started) / 1e9;
+                LoadTestReport.RuntimeReport runtime = runtimeReport(
+                        Threading.VIRTUAL.isActive(context.getEnvironment()) ? "virtual" : "platform", gcBefore);
+                return workload.report(settings.clients(), seconds, statistics.getPrepareStatementCount(), runtime);
+            }
+        }
+    }
+
+    // Returns the GC time so far. The load clients are virtual threads, so the peak thread count
+    // (platform threads only) is the server's own: Tomcat's pool in platform mode, carriers and
+    // helper threads in virtual mode.
+    private static long resetRuntimePeaks() {
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+        return gcMillis();
+    }
+
+    private static LoadTestReport.RuntimeReport runtimeReport(String threadMode, long gcBefore) {
+        long peakHeap = heapPools().stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return new LoadTestReport.RuntimeReport(threadMode,
+                ManagementFactory.getThreadMXBean().getPeakThreadCount(),
+                peakHeap / (1024.0 * 1024.0),
+                gcMillis() - gcBefore);
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .filter(time -> time >= 0)
+                .sum();
+    }
+
+    private record Client(SeededUser user, String authorization) {
+    }
+
+    // Weights approximate the app's traffic: mostly listings, a steady trickle of writes. Only routes
+    // the security rules open to JWT users are driven; /api/v1/tags is denied with security on.
+    enum Operation {
+        LIST_TRANSACTIONS(45),
+        LIST_EXPENSES(25),
+        LIST_ACCOUNTS(15),
+        CREATE_TRANSACTION(15);
+
+        private static final int TOTAL_WEIGHT = 100;
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        static Operation pick(int roll) {
+            for (Operation operation : values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            return LIST_TRANSACTIONS;
+        }
+    }
+
+    private static final class Workload {
+
+        private final HttpClient http;
+        private final String baseUrl;
+        private final List<Client> clients;
+        private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+        private final Map<Operation, Map<Integer, LongAdder>> statuses = new EnumMap<>(Operation.class);
+
+        private Workload(HttpClient http, String baseUrl, List<Client> clients) {
+            this.http = http;
+            this.baseUrl = baseUrl;
+            this.clients = clients;
+            for (Operation operation : Operation.values()) {
+                recorders.put(operation, new Recorder(3));
+                errors.put(operation, new LongAdder());
+                statuses.put(operation, new ConcurrentHashMap<>());
+            }
+        }
+
+        private void drive(ExecutorService executor, int concurrency, Duration duration) throws InterruptedException {
+            long deadline = System.nanoTime() + duration.toNanos();
+            List<Future<?>> running = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                running.add(executor.submit(() -> {
+                    while (System.nanoTime() - deadline < 0) {
+                        execute();
+                    }
+                }));
+            }
+            for (Future<?> future : running) {
+                try {
+                    future.get();
+                } catch (ExecutionException ex) {
+                    throw new IllegalStateException("Falló un cliente de carga", ex.getCause());
+                }
+            }
+        }
+
+        private void execute() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Operation operation = Operation.pick(random.nextInt(Operation.TOTAL_WEIGHT));
+            Client client = clients.get(random.nextInt(clients.size()));
+            HttpRequest request = request(operation, client, random);
+            long started = System.nanoTime();
+            int status;
+            try {
+                status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException ex) {
+                status = 0;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            recorders.get(operation).recordValue(Math.max(1, (System.nanoTime() - started) / 1_000));
+            statuses.get(operation).computeIfAbsent(status, ignored -> new LongAdder()).increment();
+            if (status == 0 || status >= 400) {
+                errors.get(operation).increment();
+            }
+        }
+
+        private HttpRequest request(Operation operation, Client client, ThreadLocalRandom random) {
+            SeededUser user = client.user();
+            UUID accountId = user.accountIds().get(random.nextInt(user.accountIds().size()));
+            String path = switch (operation) {
+                case LIST_TRANSACTIONS -> "/api/v1/transactions?accountId=" + accountId
+                        + "&from=" + LoadTestSeeder.FIRST_DAY
+                        + "&to=" + LoadTestSeeder.FIRST_DAY.plusDays(LoadTestSeeder.DAYS - 1)
+                        + "&page=" + random.nextInt(3) + "&size=50";
+                case LIST_EXPENSES -> "/api/v1/expenses";
+                case LIST_ACCOUNTS -> "/api/v1/accounts";
+                case CREATE_TRANSACTION -> "/api/v1/transactions";
+            };
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", client.authorization())
+                    .header("Accept", "application/json");
+            if (operation != Operation.CREATE_TRANSACTION) {
+                return builder.GET().build();
+            }
+            String tag = user.tagNames().isEmpty() ? null : user.tagNames().get(random.nextInt(user.tagNames().size()));
+            String body = "{\"accountId\":\"" + accountId + "\",\"amount\":" + (random.nextInt(100_000) + 1) / 100.0
+                    + ",\"occurredOn\":\"" + LoadTestSeeder.FIRST_DAY.plusDays(random.nextInt(LoadTestSeeder.DAYS))
+                    + "\",\"description\":\"Compra de carga\",\"tags\":" + (tag == null ? "[]" : "[\"" + tag + "\"]")
+                    + ",\"createMissingTags\":false}";
+            return builder.header("Content-Type", "application/json")
+                    .header("Idempotency-Key", UUID.randomUUID().toString())
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private void reset() {
+            recorders.values().forEach(Recorder::reset);
+            errors.values().forEach(LongAdder::reset);
+            statuses.values().forEach(Map::clear);
+        }
+
+        private LoadTestReport report(int concurrency, double seconds, long statementCount,
+                                      LoadTestReport.RuntimeReport runtime) {
+            List<LoadTestReport.OperationReport> operations = new ArrayList<>();
+            long total = 0;
+            for (Operation operation : Operation.values()) {
+                Histogram histogram = recorders.get(operation).getIntervalHistogram();
+                Map<Integer, Long> byStatus = new TreeMap<>();
+                statuses.get(operation).forEach((status, count) -> byStatus.put(status, count.sum()));
+                total += histogram.getTotalCount();
+                operations.add(new LoadTestReport.OperationReport(
+                        operation.name().toLowerCase(Locale.ROOT),
+                        histogram.getTotalCount(),
+                        errors.get(operation).sum(),
+                        millis(histogram.getValueAtPercentile(50)),
+                        millis(histogram.getValueAtPercentile(99)),
+                        millis(histogram.getValueAtPercentile(99.9)),
+                        millis(histogram.getMaxValue()),
+                        byStatus));
+            }
+            return new LoadTestReport(concurrency, seconds, total, total / seconds, statementCount,
+                    total == 0 ? 0 : (double) statementCount / total, operations, runtime);
+        }
+
+        private static double millis(long micros) {
+            return micros / 1_000.0;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.planifi.backend.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class LoadTestRunnerTest {
+
+    @Test
+    void tinyRunExercisesEveryOperationWithoutErrors() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.parse("users=3", "accounts-per-user=1",
+                "transactions-per-account=20", "clients=4", "warmup-seconds=0", "duration-seconds=2",
+                "spring.datasource.url=jdbc:h2:mem:planifi-loadtest-smoke;MODE=PostgreSQL;"
+                        + "DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+
+        LoadTestReport report = new LoadTestRunner(settings).run();
+
+        assertThat(report.requests()).isPositive();
+        assertThat(report.statements()).isPositive();
+        assertThat(report.operations()).hasSize(LoadTestRunner.Operation.values().length)
+                .allSatisfy(operation -> {
+                    assertThat(operation.requests()).isPositive();
+                    assertThat(operation.errors()).isZero();
+                });
+        assertThat(report.runtime().threadMode()).isEqualTo("platform");
+        assertThat(report.runtime().peakPlatformThreads()).isPositive();
+        assertThat(report.runtime().peakHeapMb()).isPositive();
+    }
+
+    @Test
+    void splitsApplicationPropertiesFromRunSettings() {
+        LoadTestSettings settings = LoadTestSettings.parse("users=10", "planifi.concurrency-limit.enabled=false");
+
+        assertThat(settings.users()).isEqualTo(10);
+        assertThat(settings.clients()).isEqualTo(64);
+        assertThat(settings.applicationProperties())
+                .containsEntry("planifi.concurrency-limit.enabled", "false");
+        assertThatThrownBy(() -> LoadTestSettings.parse("usuarios=10"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void comparisonGivesEachThreadModeItsOwnDatabase() {
+        LoadTestSettings settings = LoadTestSettings.parse("clients=400", "planifi.concurrency-limit.enabled=false");
+
+        LoadTestSettings platform = ThreadModeComparison.withMode(settings, "platform");
+        LoadTestSettings virtual = ThreadModeComparison.withMode(settings, "virtual");
+
+        assertThat(platform.clients()).isEqualTo(400);
+        assertThat(platform.applicationProperties())
+                .containsEntry("spring.threads.virtual.enabled", "false")
+                .containsEntry("planifi.concurrency-limit.enabled", "false");
+        assertThat(virtual.applicationProperties()).containsEntry("spring.threads.virtual.enabled", "true");
+        assertThat(virtual.applicationProperties().get("spring.datasource.url"))
+                .isNotEqualTo(platform.applicationProperties().get("spring.datasource.url"));
+    }
+}
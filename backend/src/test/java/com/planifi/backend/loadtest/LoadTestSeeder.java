@@ -0,0 +1,108 @@
+package com.planifi.backend.loadtest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// Bulk-inserts the synthetic dataset with JDBC batches; going through the API would spend the whole
+// setup on idempotency bookkeeping and outbox rows the run does not measure.
+final class LoadTestSeeder {
+
+    static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    static final int DAYS = 90;
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+
+    LoadTestSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    List<SeededUser> seed(LoadTestSettings settings) {
+        OffsetDateTime now = OffsetDateTime.now();
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        List<SeededUser> seeded = new ArrayList<>(settings.users());
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> accounts = new ArrayList<>();
+        List<Object[]> tags = new ArrayList<>();
+        for (int u = 0; u < settings.users(); u++) {
+            UUID userId = UUID.randomUUID();
+            String email = "load-" + run + "-" + u + "@planifi.app";
+            users.add(new Object[] {userId, email, "Usuario de carga " + u, "load-test", now});
+            List<UUID> accountIds = new ArrayList<>();
+            for (int a = 0; a < settings.accountsPerUser(); a++) {
+                UUID accountId = UUID.randomUUID();
+                accountIds.add(accountId);
+                accounts.add(new Object[] {accountId, userId, "Cuenta " + a, "MXN", "BANK", now});
+            }
+            List<UUID> tagIds = new ArrayList<>();
+            List<String> tagNames = new ArrayList<>();
+            for (int t = 0; t < settings.tagsPerUser(); t++) {
+                UUID tagId = UUID.randomUUID();
+                tagIds.add(tagId);
+                tagNames.add("etiqueta-" + t);
+                tags.add(new Object[] {tagId, userId, "etiqueta-" + t, now});
+            }
+            seeded.add(new SeededUser(userId, email, List.copyOf(accountIds), List.copyOf(tagIds),
+                    List.copyOf(tagNames)));
+        }
+        batch("INSERT INTO users (id, email, full_name, password_hash, created_at) VALUES (?, ?, ?, ?, ?)",
+                users);
+        batch("INSERT INTO accounts (id, user_id, name, currency, type, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                accounts);
+        batch("INSERT INTO tags (id, user_id, name, created_at) VALUES (?, ?, ?, ?)", tags);
+        seedTransactions(seeded, settings.transactionsPerAccount(), now);
+        return seeded;
+    }
+
+    private void seedTransactions(List<SeededUser> users, int perAccount, OffsetDateTime now) {
+        List<Object[]> transactions = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> mappings = new ArrayList<>(BATCH_SIZE * 2);
+        for (SeededUser user : users) {
+            for (UUID accountId : user.accountIds()) {
+                for (int i = 0; i < perAccount; i++) {
+                    UUID transactionId = UUID.randomUUID();
+                    transactions.add(new Object[] {transactionId, accountId,
+                            BigDecimal.valueOf(random.nextInt(500_000) + 1, 2),
+                            FIRST_DAY.plusDays(i % DAYS), "Compra sintética " + i, now});
+                    if (!user.tagIds().isEmpty()) {
+                        int first = random.nextInt(user.tagIds().size());
+                        mappings.add(new Object[] {transactionId, user.tagIds().get(first), now});
+                        int second = (first + 1) % user.tagIds().size();
+                        if (second != first && random.nextBoolean()) {
+                            mappings.add(new Object[] {transactionId, user.tagIds().get(second), now});
+                        }
+                    }
+                    if (transactions.size() == BATCH_SIZE) {
+                        flushTransactions(transactions, mappings);
+                    }
+                }
+            }
+        }
+        flushTransactions(transactions, mappings);
+    }
+
+    private void flushTransactions(List<Object[]> transactions, List<Object[]> mappings) {
+        batch("INSERT INTO transactions (id, account_id, amount, occurred_on, description, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", transactions);
+        batch("INSERT INTO transaction_tags (transaction_id, tag_id, created_at) VALUES (?, ?, ?)", mappings);
+        transactions.clear();
+        mappings.clear();
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int start = 0; start < rows.size(); start += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(start, Math.min(rows.size(), start + BATCH_SIZE)));
+        }
+    }
+
+    record SeededUser(UUID id, String email, List<UUID> accountIds, List<UUID> tagIds, List<String> tagNames) {
+    }
+}
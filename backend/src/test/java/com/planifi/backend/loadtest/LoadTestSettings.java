@@ -0,0 +1,63 @@
+package com.planifi.backend.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Scale and duration of a load-test run, read from "key=value" arguments. Keys containing a dot
+// (spring.*, planifi.*, server.*) are handed to the application as property overrides instead.
+public record LoadTestSettings(
+        int users,
+        int accountsPerUser,
+        int tagsPerUser,
+        int transactionsPerAccount,
+        int clients,
+        int warmupSeconds,
+        int durationSeconds,
+        String reportFile,
+        Map<String, String> applicationProperties
+) {
+
+    public static LoadTestSettings parse(String... args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        Map<String, String> applicationProperties = new LinkedHashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Argumento inválido, se esperaba clave=valor: " + arg);
+            }
+            String key = arg.substring(0, equals).trim();
+            String value = arg.substring(equals + 1).trim();
+            (key.contains(".") ? applicationProperties : values).put(key, value);
+        }
+        LoadTestSettings settings = new LoadTestSettings(
+                intValue(values, "users", 50),
+                intValue(values, "accounts-per-user", 2),
+                intValue(values, "tags-per-user", 8),
+                intValue(values, "transactions-per-account", 200),
+                intValue(values, "clients", 64),
+                intValue(values, "warmup-seconds", 10),
+                intValue(values, "duration-seconds", 30),
+                values.getOrDefault("report-file", "target/loadtest-report.json"),
+                Map.copyOf(applicationProperties)
+        );
+        values.keySet().removeAll(Set.of("users", "accounts-per-user", "tags-per-user",
+                "transactions-per-account", "clients", "warmup-seconds", "duration-seconds", "report-file"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Argumentos desconocidos: " + values.keySet());
+        }
+        return settings;
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        int parsed = Integer.parseInt(value);
+        if (parsed < 0 || (parsed == 0 && !key.equals("warmup-seconds"))) {
+            throw new IllegalArgumentException(key + " debe ser positivo: " + value);
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,175 @@
+package com.planifi.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+// Starts the application as a separate process several times and measures, from the moment the
+// process is spawned, how long it takes for the readiness probe to answer 200 and for a first
+// real request to complete. Whatever follows "--" is the command, so the same harness compares
+// a plain jar, the AOT build, the CDS archive or the Docker image; the database it points at must
+// already be up.
+//
+//   ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.main=com.planifi.backend.loadtest.StartupBenchmark \
+//     -Dloadtest.args="runs=5 -- java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -jar app.jar"
+public final class StartupBenchmark {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    private final Settings settings;
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(500))
+            .build();
+
+    public StartupBenchmark(Settings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.parse(args);
+        Report report = new StartupBenchmark(settings).run();
+        report.print();
+        Path reportFile = Path.of(settings.reportFile());
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.println("Reporte JSON: " + reportFile.toAbsolutePath());
+    }
+
+    public Report run() throws IOException, InterruptedException {
+        List<Run> runs = new ArrayList<>();
+        for (int i = 0; i < settings.runs(); i++) {
+            runs.add(runOnce());
+        }
+        return new Report(settings.command(), runs, Summary.of(runs, Run::readyMillis),
+                Summary.of(runs, Run::firstRequestMillis));
+    }
+
+    private Run runOnce() throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(settings.command())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = started + TimeUnit.SECONDS.toNanos(settings.timeoutSeconds());
+            awaitOk(process, settings.baseUrl() + "/actuator/health/readiness", deadline);
+            long ready = System.nanoTime();
+            awaitOk(process, settings.baseUrl() + settings.firstRequest(), deadline);
+            long firstRequest = System.nanoTime();
+            return new Run(millis(ready - started), millis(firstRequest - started));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    // Connection refused and 503 both mean "not yet"; anything else non-2xx is a failed run.
+    private void awaitOk(Process process, String url, long deadline) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(5)).GET().build();
+        while (System.nanoTime() - deadline < 0) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("El proceso terminó con código " + process.exitValue()
+                        + " antes de responder " + url);
+            }
+            try {
+                int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status >= 200 && status < 300) {
+                    return;
+                }
+                if (status != 503 && status != 404) {
+                    throw new IllegalStateException(url + " respondió " + status);
+                }
+            } catch (ConnectException | HttpTimeoutException ex) {
+                // Still starting.
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("Sin respuesta de " + url + " tras " + settings.timeoutSeconds() + " s");
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public record Settings(int runs, String baseUrl, String firstRequest, int timeoutSeconds, String reportFile,
+                           List<String> command) {
+
+        public static Settings parse(String... args) {
+            int separator = Arrays.asList(args).indexOf("--");
+            if (separator < 0 || separator == args.length - 1) {
+                throw new IllegalArgumentException("Falta el comando a medir después de \"--\"");
+            }
+            Map<String, String> values = new LinkedHashMap<>();
+            for (String arg : Arrays.copyOfRange(args, 0, separator)) {
+                int equals = arg.indexOf('=');
+                if (equals <= 0) {
+                    throw new IllegalArgumentException("Argumento inválido, se esperaba clave=valor: " + arg);
+                }
+                values.put(arg.substring(0, equals).trim(), arg.substring(equals + 1).trim());
+            }
+            Settings settings = new Settings(
+                    Integer.parseInt(values.getOrDefault("runs", "5")),
+                    values.getOrDefault("base-url", "http://localhost:8080"),
+                    values.getOrDefault("first-request", "/api/v1/openapi"),
+                    Integer.parseInt(values.getOrDefault("timeout-seconds", "120")),
+                    values.getOrDefault("report-file", "target/startup-report.json"),
+                    List.of(Arrays.copyOfRange(args, separator + 1, args.length)));
+            values.keySet().removeAll(List.of("runs", "base-url", "first-request", "timeout-seconds", "report-file"));
+            if (!values.isEmpty()) {
+                throw new IllegalArgumentException("Argumentos desconocidos: " + values.keySet());
+            }
+            if (settings.runs() <= 0 || settings.timeoutSeconds() <= 0) {
+                throw new IllegalArgumentException("runs y timeout-seconds deben ser positivos");
+            }
+            return settings;
+        }
+    }
+
+    public record Run(double readyMillis, double firstRequestMillis) {
+    }
+
+    public record Summary(double minMillis, double medianMillis, double maxMillis) {
+
+        static Summary of(List<Run> runs, ToDoubleFunction<Run> metric) {
+            double[] values = runs.stream().mapToDouble(metric).sorted().toArray();
+            if (values.length == 0) {
+                return new Summary(0, 0, 0);
+            }
+            int middle = values.length / 2;
+            double median = values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2;
+            return new Summary(values[0], median, values[values.length - 1]);
+        }
+    }
+
+    public record Report(List<String> command, List<Run> runs, Summary ready, Summary firstRequest) {
+
+        void print() {
+            System.out.printf("%n%s%n%-22s %10s %10s %10s%n", String.join(" ", command),
+                    "", "mín ms", "mediana ms", "máx ms");
+            System.out.printf("%-22s %10.0f %10.0f %10.0f%n", "listo (readiness)",
+                    ready.minMillis(), ready.medianMillis(), ready.maxMillis());
+            System.out.printf("%-22s %10.0f %10.0f %10.0f%n", "primera solicitud",
+                    firstRequest.minMillis(), firstRequest.medianMillis(), firstRequest.maxMillis());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.planifi.backend.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StartupBenchmarkTest {
+
+    @Test
+    void takesEverythingAfterTheSeparatorAsTheCommand() {
+        StartupBenchmark.Settings settings = StartupBenchmark.Settings.parse("runs=3", "first-request=/api/v1/openapi",
+                "--", "java", "-XX:SharedArchiveFile=app.jsa", "-Dspring.aot.enabled=true", "-jar", "app.jar");
+
+        assertThat(settings.runs()).isEqualTo(3);
+        assertThat(settings.baseUrl()).isEqualTo("http://localhost:8080");
+        assertThat(settings.command()).containsExactly(
+                "java", "-XX:SharedArchiveFile=app.jsa", "-Dspring.aot.enabled=true", "-jar", "app.jar");
+        assertThatThrownBy(() -> StartupBenchmark.Settings.parse("runs=3"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StartupBenchmark.Settings.parse("corridas=3", "--", "java"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void summarizesRunsWithTheirMedian() {
+        List<StartupBenchmark.Run> runs = List.of(
+                new StartupBenchmark.Run(900, 1400),
+                new StartupBenchmark.Run(700, 1000),
+                new StartupBenchmark.Run(800, 1100),
+                new StartupBenchmark.Run(1000, 1500));
+
+        assertThat(StartupBenchmark.Summary.of(runs, StartupBenchmark.Run::readyMillis))
+                .isEqualTo(new StartupBenchmark.Summary(700, 850, 1000));
+        assertThat(StartupBenchmark.Summary.of(runs.subList(0, 3), StartupBenchmark.Run::firstRequestMillis))
+                .isEqualTo(new StartupBenchmark.Summary(1000, 1100, 1400));
+    }
+}
@@ -0,0 +1,69 @@
+package com.planifi.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Runs the same workload twice in one JVM, first on Tomcat's platform-thread pool and then with
+// spring.threads.virtual.enabled, and prints throughput, tail latency, peak threads and heap side
+// by side. Each mode gets its own in-memory database; keep warmup-seconds above zero so the
+// second run does not win only because the JIT already warmed up on the first.
+//
+//   ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.main=com.planifi.backend.loadtest.ThreadModeComparison \
+//     -Dloadtest.args="clients=400 duration-seconds=60 spring.datasource.hikari.maximum-pool-size=20"
+public final class ThreadModeComparison {
+
+    private static final String VIRTUAL_PROPERTY = "spring.threads.virtual.enabled";
+
+    private ThreadModeComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.parse(args);
+        Map<String, LoadTestReport> reports = new LinkedHashMap<>();
+        for (String mode : new String[] {"platform", "virtual"}) {
+            LoadTestReport report = new LoadTestRunner(withMode(settings, mode)).run();
+            report.print(System.out);
+            reports.put(mode, report);
+        }
+        print(reports.get("platform"), reports.get("virtual"));
+
+        Path reportFile = Path.of(settings.reportFile());
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), reports);
+        System.out.println("Reporte JSON: " + reportFile.toAbsolutePath());
+    }
+
+    static LoadTestSettings withMode(LoadTestSettings settings, String mode) {
+        Map<String, String> properties = new HashMap<>(settings.applicationProperties());
+        properties.put(VIRTUAL_PROPERTY, String.valueOf("virtual".equals(mode)));
+        properties.put("spring.datasource.url", "jdbc:h2:mem:planifi-loadtest-" + mode
+                + ";MODE=PostgreSQL;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        return new LoadTestSettings(settings.users(), settings.accountsPerUser(), settings.tagsPerUser(),
+                settings.transactionsPerAccount(), settings.clients(), settings.warmupSeconds(),
+                settings.durationSeconds(), settings.reportFile(), Map.copyOf(properties));
+    }
+
+    private static void print(LoadTestReport platform, LoadTestReport virtual) {
+        System.out.printf("%n%-24s %12s %12s%n", "", "platform", "virtual");
+        System.out.printf("%-24s %12.1f %12.1f%n", "req/s",
+                platform.requestsPerSecond(), virtual.requestsPerSecond());
+        System.out.printf("%-24s %12.2f %12.2f%n", "p99 ms (peor operación)", worstP99(platform), worstP99(virtual));
+        System.out.printf("%-24s %12d %12d%n", "hilos de plataforma",
+                platform.runtime().peakPlatformThreads(), virtual.runtime().peakPlatformThreads());
+        System.out.printf("%-24s %12.1f %12.1f%n", "pico de heap MB",
+                platform.runtime().peakHeapMb(), virtual.runtime().peakHeapMb());
+        System.out.printf("%-24s %12d %12d%n", "GC ms",
+                platform.runtime().gcMillis(), virtual.runtime().gcMillis());
+    }
+
+    private static double worstP99(LoadTestReport report) {
+        return report.operations().stream().mapToDouble(LoadTestReport.OperationReport::p99Millis).max().orElse(0);
+    }
+}
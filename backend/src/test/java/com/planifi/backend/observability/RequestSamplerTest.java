@@ -0,0 +1,55 @@
+package com.planifi.backend.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class RequestSamplerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+
+    @Test
+    void alwaysKeepsFailedAndSlowRequests() {
+        RequestSampler sampler = new RequestSampler(0.0, Duration.ofMillis(500));
+
+        assertThat(sampler.keep("4bf92f3577b34da6a3ce929d0e0e4736", false, FAST)).isFalse();
+        assertThat(sampler.keep("4bf92f3577b34da6a3ce929d0e0e4736", true, FAST)).isTrue();
+        assertThat(sampler.keep("4bf92f3577b34da6a3ce929d0e0e4736", false,
+                TimeUnit.MILLISECONDS.toNanos(500))).isTrue();
+    }
+
+    @Test
+    void alwaysKeepsServerErrorsAndSecurityRelevantClientErrors() {
+        RequestSampler sampler = new RequestSampler(0.0, Duration.ofMillis(500));
+
+        assertThat(List.of(500, 503, 401, 403, 429)).allMatch(sampler::isAlwaysKept);
+        assertThat(List.of(200, 204, 400, 404, 409)).noneMatch(sampler::isAlwaysKept);
+    }
+
+    @Test
+    void decidesOnTheTraceIdSoLogsAndSpansAgree() {
+        RequestSampler sampler = new RequestSampler(0.25, Duration.ofMillis(500));
+
+        long kept = IntStream.range(0, 10_000)
+                .mapToObj(i -> String.format("%016x%016x", i, i * 0x9E3779B97F4A7C15L))
+                .filter(traceId -> {
+                    boolean first = sampler.keep(traceId, false, FAST);
+                    assertThat(sampler.keep(traceId, false, FAST)).isEqualTo(first);
+                    return first;
+                })
+                .count();
+
+        assertThat(kept).isBetween(2_200L, 2_800L);
+    }
+
+    @Test
+    void rejectsRatiosOutsideTheUnitInterval() {
+        assertThatThrownBy(() -> new RequestSampler(1.5, Duration.ofMillis(500)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
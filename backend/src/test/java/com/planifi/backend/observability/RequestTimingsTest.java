@@ -0,0 +1,43 @@
+package com.planifi.backend.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestTimingsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.stop();
+    }
+
+    @Test
+    void accumulatesPhasesOnTheCurrentThread() {
+        RequestTimings timings = RequestTimings.start();
+
+        RequestTimings.record(RequestPhase.AUTH, System.nanoTime());
+        RequestTimings.open(RequestPhase.DB);
+        RequestTimings.close(RequestPhase.DB);
+        RequestTimings.open(RequestPhase.DB);
+        RequestTimings.close(RequestPhase.DB);
+
+        assertThat(timings.count(RequestPhase.AUTH)).isEqualTo(1);
+        assertThat(timings.count(RequestPhase.DB)).isEqualTo(2);
+        assertThat(timings.count(RequestPhase.SERIALIZATION)).isZero();
+        assertThat(timings.serverTiming()).matches(
+                "auth;dur=\\d+\\.\\d{2}, db;dur=\\d+\\.\\d{2};desc=\"2 statements\", total;dur=\\d+\\.\\d{2}");
+        assertThat(timings.logFields())
+                .containsOnlyKeys("auth_ms", "db_ms", "db_statements")
+                .containsEntry("db_statements", 2);
+    }
+
+    @Test
+    void ignoresWorkOutsideARequest() {
+        RequestTimings.record(RequestPhase.PASSWORD, System.nanoTime());
+        RequestTimings.open(RequestPhase.DB_CONNECTION);
+        RequestTimings.close(RequestPhase.DB_CONNECTION);
+
+        assertThat(RequestTimings.current()).isNull();
+    }
+}
@@ -0,0 +1,34 @@
+package com.planifi.backend.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+class StartupReportTest {
+
+    @Test
+    void listsTheSlowestStepsNamedAfterTheirBean() throws InterruptedException {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(16);
+        StartupStep refresh = startup.start("spring.context.refresh");
+        StartupStep flyway = startup.start("spring.beans.instantiate").tag("beanName", "flywayInitializer");
+        Thread.sleep(30);
+        flyway.end();
+        startup.start("spring.beans.instantiate").tag("beanName", "clock").end();
+        refresh.end();
+
+        StartupReport report = StartupReport.of(Duration.ofSeconds(3), startup.getBufferedTimeline(), 2);
+
+        assertThat(report.slowest()).extracting(StartupReport.Step::name)
+                .containsExactly("spring.context.refresh", "spring.beans.instantiate[flywayInitializer]");
+        assertThat(report.summary()).startsWith("spring.context.refresh ");
+        assertThat(report.jvmToReady()).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void reportsNothingWithoutABufferedTimeline() {
+        assertThat(StartupReport.of(Duration.ofSeconds(1), null, 10).slowest()).isEmpty();
+    }
+}
@@ -0,0 +1,167 @@
+package com.planifi.backend.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TraceSamplingSpanExporterTest {
+
+    private final List<SpanData> exported = new CopyOnWriteArrayList<>();
+    private SdkTracerProvider tracerProvider;
+    private TraceSamplingSpanExporter exporter;
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.shutdown();
+    }
+
+    @Test
+    void slowRootExportsItsFastChildren() {
+        Tracer tracer = tracer(0.0, 100);
+        long start = System.nanoTime();
+
+        Span root = tracer.spanBuilder("http.server.requests")
+                .setStartTimestamp(start, TimeUnit.NANOSECONDS).startSpan();
+        Span jdbc = child(tracer, root, "jdbc", start);
+        jdbc.end(start + TimeUnit.MILLISECONDS.toNanos(2), TimeUnit.NANOSECONDS);
+        assertThat(exported).isEmpty();
+        root.end(start + TimeUnit.MILLISECONDS.toNanos(800), TimeUnit.NANOSECONDS);
+
+        assertThat(exported).extracting(SpanData::getName)
+                .containsExactly("jdbc", "http.server.requests");
+        assertThat(exporter.pendingTraces()).isZero();
+    }
+
+    @Test
+    void failedRootExportsTheWholeTraceAndLateSpansFollowIt() {
+        Tracer tracer = tracer(0.0, 100);
+        long start = System.nanoTime();
+
+        Span root = tracer.spanBuilder("http.server.requests")
+                .setStartTimestamp(start, TimeUnit.NANOSECONDS).startSpan();
+        Span client = child(tracer, root, "http.client.requests", start);
+        Span async = child(tracer, root, "outbox.publish", start);
+        client.end(start + 1_000, TimeUnit.NANOSECONDS);
+        root.setStatus(StatusCode.ERROR);
+        root.end(start + 2_000, TimeUnit.NANOSECONDS);
+        async.end(start + 3_000, TimeUnit.NANOSECONDS);
+
+        assertThat(exported).extracting(SpanData::getName)
+                .containsExactly("http.client.requests", "http.server.requests", "outbox.publish");
+    }
+
+    @Test
+    void throttledAndUnauthorizedRootsAreKept() {
+        Tracer tracer = tracer(0.0, 100);
+
+        for (String status : List.of("401", "403", "429", "404")) {
+            long start = System.nanoTime();
+            Span root = tracer.spanBuilder("http.server.requests " + status)
+                    .setStartTimestamp(start, TimeUnit.NANOSECONDS).startSpan();
+            root.setAttribute("status", status);
+            root.end(start + 1_000, TimeUnit.NANOSECONDS);
+        }
+
+        assertThat(exported).extracting(SpanData::getName).containsExactly(
+                "http.server.requests 401", "http.server.requests 403", "http.server.requests 429");
+    }
+
+    @Test
+    void fastSuccessfulTraceIsDroppedWhole() {
+        Tracer tracer = tracer(0.0, 100);
+        long start = System.nanoTime();
+
+        Span root = tracer.spanBuilder("http.server.requests")
+                .setStartTimestamp(start, TimeUnit.NANOSECONDS).startSpan();
+        Span failedChild = child(tracer, root, "jdbc", start);
+        failedChild.setStatus(StatusCode.ERROR);
+        failedChild.end(start + 1_000, TimeUnit.NANOSECONDS);
+        root.end(start + 2_000, TimeUnit.NANOSECONDS);
+
+        assertThat(exported).isEmpty();
+        assertThat(exporter.pendingTraces()).isZero();
+    }
+
+    @Test
+    void rootWithARemoteParentDecidesForTheLocalTrace() {
+        Tracer tracer = tracer(0.0, 100);
+        SpanContext remote = SpanContext.createFromRemoteParent("4bf92f3577b34da6a3ce929d0e0e4736",
+                "00f067aa0ba902b7", TraceFlags.getSampled(), TraceState.getDefault());
+        long start = System.nanoTime();
+
+        Span root = tracer.spanBuilder("grpc.server")
+                .setParent(Context.root().with(Span.wrap(remote)))
+                .setStartTimestamp(start, TimeUnit.NANOSECONDS).startSpan();
+        root.end(start + TimeUnit.SECONDS.toNanos(1), TimeUnit.NANOSECONDS);
+
+        assertThat(exported).extracting(SpanData::getName).containsExactly("grpc.server");
+    }
+
+    @Test
+    void tracesWithoutARootAreDroppedOldestFirst() {
+        Tracer tracer = tracer(1.0, 2);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < 3; i++) {
+            Span root = tracer.spanBuilder("root-" + i)
+                    .setStartTimestamp(start, TimeUnit.NANOSECONDS).startSpan();
+            child(tracer, root, "child-" + i, start).end(start + 1_000, TimeUnit.NANOSECONDS);
+        }
+
+        assertThat(exporter.pendingTraces()).isEqualTo(2);
+        assertThat(exported).isEmpty();
+    }
+
+    private Span child(Tracer tracer, Span parent, String name, long start) {
+        return tracer.spanBuilder(name)
+                .setParent(Context.root().with(parent))
+                .setStartTimestamp(start, TimeUnit.NANOSECONDS)
+                .startSpan();
+    }
+
+    private Tracer tracer(double ratio, int maxTraces) {
+        exporter = new TraceSamplingSpanExporter(new CapturingExporter(),
+                new RequestSampler(ratio, Duration.ofMillis(500)), maxTraces);
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        return tracerProvider.get("test");
+    }
+
+    private final class CapturingExporter implements SpanExporter {
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            exported.addAll(spans);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
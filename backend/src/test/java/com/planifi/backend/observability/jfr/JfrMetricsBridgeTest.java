@@ -0,0 +1,82 @@
+package com.planifi.backend.observability.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class JfrMetricsBridgeTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JfrMetricsBridge bridge = new JfrMetricsBridge(meterRegistry, Duration.ofMillis(20));
+
+    @AfterEach
+    void tearDown() {
+        bridge.stop();
+    }
+
+    @Test
+    void turnsApplicationEventsIntoMeters() throws InterruptedException {
+        bridge.start();
+
+        IdempotencyEvent.emit("tags", IdempotencyEvent.REPLAY);
+        RateLimitRejectionEvent.emit("api", "search", 1200);
+        TagResolutionEvent tagResolution = new TagResolutionEvent();
+        tagResolution.begin();
+        tagResolution.set("casa,viaje", 2, 1);
+        tagResolution.commit();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (meterRegistry.find("planifi.tags.created").counter() == null && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        Counter idempotency = meterRegistry.find("planifi.idempotency.checks")
+                .tags("service", "tags", "outcome", "replay").counter();
+        Counter rejections = meterRegistry.find("planifi.ratelimit.rejected")
+                .tags("limiter", "api", "cost_class", "search").counter();
+        assertThat(idempotency).isNotNull();
+        assertThat(idempotency.count()).isEqualTo(1.0);
+        assertThat(rejections).isNotNull();
+        assertThat(rejections.count()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("planifi.tags.created").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("planifi.tags.resolution").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsVirtualThreadsPinnedToTheirCarrier() throws InterruptedException {
+        JfrMetricsBridge pinningBridge = new JfrMetricsBridge(meterRegistry, Duration.ofMillis(20),
+                Duration.ofMillis(10));
+        pinningBridge.start();
+        try {
+            Object lock = new Object();
+            // Before JDK 24, parking inside synchronized keeps the carrier thread.
+            Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }).join();
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+            while (meterRegistry.find("planifi.threads.pinned").timer() == null && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+        } finally {
+            pinningBridge.stop();
+        }
+
+        Timer pinned = meterRegistry.find("planifi.threads.pinned").timer();
+        if (Runtime.version().feature() < 24) {
+            assertThat(pinned).isNotNull();
+            assertThat(pinned.count()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.planifi.backend.observability.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.core.io.Resource;
+
+class JfrRecordingEndpointTest {
+
+    private final JfrRecordingEndpoint endpoint = new JfrRecordingEndpoint("default", Duration.ofMinutes(5),
+            16 * 1024 * 1024, Duration.ofMillis(20));
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        endpoint.close();
+    }
+
+    @Test
+    void startsDumpsAndStopsTheRollingRecording() throws Exception {
+        assertThat(endpoint.status()).containsEntry("state", "NONE");
+
+        assertThat(endpoint.start(null)).containsEntry("state", "RUNNING")
+                .containsEntry("maxAge", Duration.ofMinutes(5));
+        IdempotencyEvent.emit("accounts", IdempotencyEvent.MISS);
+
+        Resource dump = endpoint.dump(JfrRecordingEndpoint.RECORDING_NAME);
+        Path copy = tempDir.resolve("dump.jfr");
+        try (InputStream in = dump.getInputStream()) {
+            Files.copy(in, copy);
+        }
+        assertThat(RecordingFile.readAllEvents(copy))
+                .anyMatch(event -> event.getEventType().getName().equals(IdempotencyEvent.NAME)
+                        && "accounts".equals(event.getString("service")));
+
+        assertThat(endpoint.stop()).containsEntry("state", "NONE");
+        assertThat(endpoint.dump(JfrRecordingEndpoint.RECORDING_NAME)).isNull();
+    }
+
+    @Test
+    void rejectsUnknownSettings() {
+        assertThatThrownBy(() -> endpoint.start("custom"))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+}